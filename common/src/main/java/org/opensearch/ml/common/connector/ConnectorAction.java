@@ -70,6 +70,9 @@ public class ConnectorAction implements ToXContentObject, Writeable {
     private String requestBody;
     private String preProcessFunction;
     private String postProcessFunction;
+    // parsed on first use, connector actions don't change once created
+    private transient volatile ParameterTemplate urlTemplate;
+    private transient volatile ParameterTemplate requestBodyTemplate;
 
     @Builder(toBuilder = true)
     public ConnectorAction(
@@ -118,6 +121,27 @@ public class ConnectorAction implements ToXContentObject, Writeable {
         }
     }
 
+    public ParameterTemplate getUrlTemplate() {
+        ParameterTemplate template = urlTemplate;
+        if (template == null) {
+            template = ParameterTemplate.compile(url, false);
+            urlTemplate = template;
+        }
+        return template;
+    }
+
+    /**
+     * @return the parsed request body, or null if the action has no request body
+     */
+    public ParameterTemplate getRequestBodyTemplate() {
+        ParameterTemplate template = requestBodyTemplate;
+        if (template == null && requestBody != null) {
+            template = ParameterTemplate.compile(requestBody, true);
+            requestBodyTemplate = template;
+        }
+        return template;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeEnum(actionType);
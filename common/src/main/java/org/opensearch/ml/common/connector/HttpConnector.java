@@ -24,12 +24,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
-import org.apache.commons.text.StringSubstitutor;
 import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.commons.authuser.User;
@@ -351,11 +348,8 @@ public class HttpConnector extends AbstractConnector {
     public <T> T createPayload(String action, Map<String, String> parameters) {
         Optional<ConnectorAction> connectorAction = findAction(action);
         if (connectorAction.isPresent() && connectorAction.get().getRequestBody() != null) {
-            String payload = connectorAction.get().getRequestBody();
-            payload = fillNullParameters(parameters, payload);
             parseParameters(parameters);
-            StringSubstitutor substitutor = new StringSubstitutor(parameters, "${parameters.", "}");
-            payload = substitutor.replace(payload);
+            String payload = connectorAction.get().getRequestBodyTemplate().render(parameters);
 
             if (!isJsonOrNdjson(payload)) {
                 throw new IllegalArgumentException("Invalid payload: " + payload);
@@ -396,30 +390,6 @@ public class HttpConnector extends AbstractConnector {
         }
     }
 
-    protected String fillNullParameters(Map<String, String> parameters, String payload) {
-        List<String> bodyParams = findStringParametersWithNullDefaultValue(payload);
-        String newPayload = payload;
-        for (String key : bodyParams) {
-            if (!parameters.containsKey(key) || parameters.get(key) == null) {
-                newPayload = newPayload.replace("\"${parameters." + key + ":-null}\"", "null");
-            }
-        }
-        return newPayload;
-    }
-
-    private List<String> findStringParametersWithNullDefaultValue(String input) {
-        String regex = "\"\\$\\{parameters\\.(\\w+):-null}\"";
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(input);
-
-        List<String> paramList = new ArrayList<>();
-        while (matcher.find()) {
-            String parameterValue = matcher.group(1);
-            paramList.add(parameterValue);
-        }
-        return paramList;
-    }
-
     @Override
     public Connector cloneConnector() {
         try (BytesStreamOutput bytesStreamOutput = new BytesStreamOutput()) {
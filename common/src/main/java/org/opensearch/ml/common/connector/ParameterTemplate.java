@@ -0,0 +1,200 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.apache.commons.text.StringSubstitutor;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A connector template with ${parameters.*} placeholders, like a request body or a url. The template is parsed once into
+ * literal and placeholder segments, so rendering it for a request doesn't scan the template again.
+ * <p>
+ * Rendering gives the same result as replacing the template with a {@link StringSubstitutor} over the parameters: a
+ * placeholder can have a default value after ":-", "$" escapes a placeholder, parameter values are substituted
+ * recursively and placeholders without value are kept as is, so they can be reported by
+ * {@link Connector#validatePayload(String)}. Request body templates also render a quoted placeholder with a null default,
+ * like "${parameters.key:-null}", as a JSON null if the parameter is missing.
+ * <p>
+ * Unlike the substitutor, a placeholder ends at its matching brace, so a default value can be another placeholder, like
+ * "${parameters.a:-${parameters.b}}".
+ * <p>
+ * Missing parameters can't be reported when the template is compiled: it's compiled once for the connector action and
+ * rendered with the parameters of every request, so they're still reported on the rendered template.
+ */
+public class ParameterTemplate {
+    public static final String PARAMETERS_PREFIX = "${parameters.";
+    private static final String SUFFIX = "}";
+    private static final String DEFAULT_VALUE_DELIMITER = ":-";
+    private static final char ESCAPE = '$';
+    private static final String NULL = "null";
+    private static final Pattern NULLABLE_PARAMETER_NAME = Pattern.compile("\\w+");
+
+    @Getter
+    private final String template;
+    // literals[i] comes before placeholders[i], the last literal comes after the last placeholder
+    private final String[] literals;
+    private final Placeholder[] placeholders;
+
+    @AllArgsConstructor
+    private static class Placeholder {
+        private final String name;
+        private final String defaultValue;
+        // the placeholder text, kept in the output if the parameter has no value
+        private final String expression;
+        // whether the placeholder is quoted, and renders as null without the quotes if the parameter is missing
+        private final boolean nullable;
+    }
+
+    private ParameterTemplate(String template, String[] literals, Placeholder[] placeholders) {
+        this.template = template;
+        this.literals = literals;
+        this.placeholders = placeholders;
+    }
+
+    /**
+     * Parse a template.
+     * @param template the template with ${parameters.*} placeholders
+     * @param fillNullParameters whether quoted placeholders with a null default render as JSON null
+     * @return the parsed template
+     */
+    public static ParameterTemplate compile(String template, boolean fillNullParameters) {
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        // start of the template text not copied to the output yet
+        int copyFrom = 0;
+        int searchFrom = 0;
+        int start;
+        while ((start = template.indexOf(PARAMETERS_PREFIX, searchFrom)) >= 0) {
+            if (start > copyFrom && template.charAt(start - 1) == ESCAPE) {
+                // escaped placeholder, drop the escape character and keep the placeholder as text
+                literal.append(template, copyFrom, start - 1);
+                copyFrom = start;
+                searchFrom = start + 1;
+                continue;
+            }
+            int end = indexOfClosingSuffix(template, start + PARAMETERS_PREFIX.length());
+            if (end < 0) {
+                break;
+            }
+            String expression = template.substring(start + PARAMETERS_PREFIX.length(), end);
+            String name = expression;
+            String defaultValue = null;
+            int delimiter = expression.indexOf(DEFAULT_VALUE_DELIMITER);
+            int nestedPrefix = expression.indexOf(PARAMETERS_PREFIX);
+            if (delimiter >= 0 && (nestedPrefix < 0 || delimiter < nestedPrefix)) {
+                name = expression.substring(0, delimiter);
+                defaultValue = expression.substring(delimiter + DEFAULT_VALUE_DELIMITER.length());
+            }
+            boolean nullable = fillNullParameters
+                && NULL.equals(defaultValue)
+                && NULLABLE_PARAMETER_NAME.matcher(name).matches()
+                && start > copyFrom
+                && template.charAt(start - 1) == '"'
+                && end + 1 < template.length()
+                && template.charAt(end + 1) == '"';
+            if (nullable) {
+                // the quotes are rendered by the placeholder
+                literal.append(template, copyFrom, start - 1);
+                copyFrom = end + 2;
+            } else {
+                literal.append(template, copyFrom, start);
+                copyFrom = end + 1;
+            }
+            searchFrom = copyFrom;
+            literals.add(literal.toString());
+            literal.setLength(0);
+            placeholders.add(new Placeholder(name, defaultValue, template.substring(start, end + 1), nullable));
+        }
+        literal.append(template, copyFrom, template.length());
+        literals.add(literal.toString());
+        return new ParameterTemplate(template, literals.toArray(new String[0]), placeholders.toArray(new Placeholder[0]));
+    }
+
+    // index of the suffix closing a placeholder, skipping the placeholders nested in its default value
+    private static int indexOfClosingSuffix(String template, int from) {
+        int depth = 0;
+        for (int i = from; i < template.length(); i++) {
+            if (template.startsWith(PARAMETERS_PREFIX, i)) {
+                depth++;
+                i += PARAMETERS_PREFIX.length() - 1;
+            } else if (template.startsWith(SUFFIX, i)) {
+                if (depth == 0) {
+                    return i;
+                }
+                depth--;
+            }
+        }
+        return -1;
+    }
+
+    public boolean hasPlaceholders() {
+        return placeholders.length > 0;
+    }
+
+    /**
+     * Render the template.
+     * @param parameters the parameters to fill in the placeholders
+     * @return the rendered template
+     */
+    public String render(Map<String, String> parameters) {
+        if (placeholders.length == 0) {
+            return literals[0];
+        }
+        StringBuilder builder = new StringBuilder(template.length() + 16 * placeholders.length);
+        for (int i = 0; i < placeholders.length; i++) {
+            builder.append(literals[i]);
+            Placeholder placeholder = placeholders[i];
+            if (!placeholder.nullable && literals[i].isEmpty() && endsWithEscape(builder)) {
+                // a value ending with the escape character escapes the next placeholder, like it does with the substitutor
+                builder.setLength(builder.length() - 1);
+                builder.append(placeholder.expression);
+                continue;
+            }
+            String value = parameters == null ? null : parameters.get(placeholder.name);
+            if (placeholder.nullable) {
+                if (value == null) {
+                    builder.append(NULL);
+                } else {
+                    builder.append('"');
+                    appendValue(builder, value, parameters);
+                    builder.append('"');
+                }
+                continue;
+            }
+            if (value == null) {
+                value = placeholder.defaultValue;
+            }
+            if (value == null) {
+                builder.append(placeholder.expression);
+            } else {
+                appendValue(builder, value, parameters);
+            }
+        }
+        builder.append(literals[placeholders.length]);
+        return builder.toString();
+    }
+
+    private static boolean endsWithEscape(StringBuilder builder) {
+        return builder.length() > 0 && builder.charAt(builder.length() - 1) == ESCAPE;
+    }
+
+    private static void appendValue(StringBuilder builder, String value, Map<String, String> parameters) {
+        if (value.contains(PARAMETERS_PREFIX)) {
+            // values referencing other parameters are rare, substitute them the same way the template used to be
+            builder.append(new StringSubstitutor(parameters, PARAMETERS_PREFIX, SUFFIX).replace(value));
+        } else {
+            builder.append(value);
+        }
+    }
+}
@@ -5,9 +5,6 @@
 
 package org.opensearch.ml.common.connector.functions.preprocess;
 
-import static org.opensearch.ml.common.utils.StringUtils.addDefaultMethod;
-
-import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
 import java.util.function.Function;
@@ -15,9 +12,8 @@ import java.util.function.Function;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
-import org.opensearch.script.Script;
+import org.opensearch.ml.common.utils.ScriptFactoryCache;
 import org.opensearch.script.ScriptService;
-import org.opensearch.script.ScriptType;
 import org.opensearch.script.TemplateScript;
 
 import lombok.extern.log4j.Log4j2;
@@ -86,8 +82,7 @@ public abstract class ConnectorPreProcessFunction implements Function<MLInput, R
     }
 
     protected String executeScript(ScriptService scriptService, String painlessScript, Map<String, Object> params) {
-        Script script = new Script(ScriptType.INLINE, "painless", addDefaultMethod(painlessScript), Collections.emptyMap());
-        TemplateScript templateScript = scriptService.compile(script, TemplateScript.CONTEXT).newInstance(params);
+        TemplateScript templateScript = ScriptFactoryCache.compile(scriptService, painlessScript, true).newInstance(params);
         return templateScript.execute();
     }
 
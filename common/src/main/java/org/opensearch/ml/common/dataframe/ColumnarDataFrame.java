@@ -0,0 +1,576 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.dataframe;
+
+import static org.opensearch.ml.common.CommonValue.VERSION_3_7_0;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * Data frame which stores every column in one primitive array plus a null bitmap, instead of one boxed {@link ColumnValue}
+ * per cell. Rows are only materialized when they are read through the row based {@link DataFrame} interface; algorithms can
+ * read numeric cells with {@link #getDouble(int, int)} or whole columns with the read only column views, without boxing.
+ * <p>
+ * Unlike {@link DefaultDataFrame}, a cell of any column can be null. Column views are only valid until the next row is
+ * appended, since appending may move the columns to bigger arrays.
+ */
+public class ColumnarDataFrame extends AbstractDataFrame {
+    private static final String COLUMN_META_FIELD = "column_metas";
+    private static final String ROWS_FIELD = "rows";
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final ColumnMeta[] columnMetas;
+    private final Column[] columns;
+    private int size;
+
+    public ColumnarDataFrame(final ColumnMeta[] columnMetas) {
+        this(columnMetas, DEFAULT_CAPACITY);
+    }
+
+    public ColumnarDataFrame(final ColumnMeta[] columnMetas, int initialCapacity) {
+        super(DataFrameType.COLUMNAR);
+        if (columnMetas == null || columnMetas.length == 0) {
+            throw new IllegalArgumentException("columnMetas array is null or empty");
+        }
+        this.columnMetas = columnMetas;
+        this.columns = new Column[columnMetas.length];
+        for (int i = 0; i < columnMetas.length; i++) {
+            columns[i] = new Column(columnMetas[i].getColumnType(), Math.max(initialCapacity, 1));
+        }
+        this.size = 0;
+    }
+
+    private ColumnarDataFrame(final ColumnMeta[] columnMetas, final Column[] columns, int size) {
+        super(DataFrameType.COLUMNAR);
+        this.columnMetas = columnMetas;
+        this.columns = columns;
+        this.size = size;
+    }
+
+    public ColumnarDataFrame(StreamInput streamInput) throws IOException {
+        super(DataFrameType.COLUMNAR);
+        this.columnMetas = streamInput.readArray(ColumnMeta::new, ColumnMeta[]::new);
+        this.size = streamInput.readVInt();
+        this.columns = new Column[columnMetas.length];
+        for (int i = 0; i < columnMetas.length; i++) {
+            columns[i] = Column.read(streamInput, columnMetas[i].getColumnType(), size);
+        }
+    }
+
+    @Override
+    public void appendRow(final Object[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("input values can't be null");
+        }
+        checkRowSize(values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null && ColumnType.from(values[i]) != columnMetas[i].getColumnType()) {
+                throw columnTypeMismatch(i, ColumnType.from(values[i]));
+            }
+        }
+        ensureCapacity(size + 1);
+        for (int i = 0; i < values.length; i++) {
+            columns[i].set(size, values[i]);
+        }
+        size++;
+    }
+
+    @Override
+    public void appendRow(final Row row) {
+        if (row == null) {
+            throw new IllegalArgumentException("input row can't be null");
+        }
+        checkRowSize(row.size());
+        for (int i = 0; i < row.size(); i++) {
+            ColumnType columnType = row.getValue(i).columnType();
+            if (columnType != ColumnType.NULL && columnType != columnMetas[i].getColumnType()) {
+                throw columnTypeMismatch(i, columnType);
+            }
+        }
+        ensureCapacity(size + 1);
+        for (int i = 0; i < row.size(); i++) {
+            ColumnValue value = row.getValue(i);
+            columns[i].set(size, value.columnType() == ColumnType.NULL ? null : value.getValue());
+        }
+        size++;
+    }
+
+    @Override
+    public Row getRow(int index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("index is out of scope, index:" + index + "; data frame size:" + size);
+        }
+        ColumnValue[] values = new ColumnValue[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            values[i] = columns[i].getColumnValue(index);
+        }
+        return new Row(values);
+    }
+
+    /**
+     * Read a numeric cell as double without boxing.
+     * @param rowIndex row index
+     * @param columnIndex column index
+     * @return cell value, NaN for null cells
+     */
+    public double getDouble(int rowIndex, int columnIndex) {
+        if (rowIndex < 0 || rowIndex >= size) {
+            throw new IllegalArgumentException("index is out of scope, index:" + rowIndex + "; data frame size:" + size);
+        }
+        return getColumn(columnIndex).getDouble(rowIndex);
+    }
+
+    /**
+     * @param rowIndex row index
+     * @param columnIndex column index
+     * @return true if the cell is null
+     */
+    public boolean isNull(int rowIndex, int columnIndex) {
+        return getColumn(columnIndex).nulls.get(rowIndex);
+    }
+
+    /**
+     * Read only view of a DOUBLE column, backed by the data frame. Null cells read as 0.
+     * @param columnIndex column index
+     * @return view of the first {@link #size()} values of the column
+     */
+    public DoubleBuffer doubleColumn(int columnIndex) {
+        return DoubleBuffer.wrap((double[]) getColumn(columnIndex, ColumnType.DOUBLE).values, 0, size).asReadOnlyBuffer();
+    }
+
+    /**
+     * Read only view of a FLOAT column, backed by the data frame. Null cells read as 0.
+     * @param columnIndex column index
+     * @return view of the first {@link #size()} values of the column
+     */
+    public FloatBuffer floatColumn(int columnIndex) {
+        return FloatBuffer.wrap((float[]) getColumn(columnIndex, ColumnType.FLOAT).values, 0, size).asReadOnlyBuffer();
+    }
+
+    /**
+     * Read only view of an INTEGER column, backed by the data frame. Null cells read as 0.
+     * @param columnIndex column index
+     * @return view of the first {@link #size()} values of the column
+     */
+    public IntBuffer intColumn(int columnIndex) {
+        return IntBuffer.wrap((int[]) getColumn(columnIndex, ColumnType.INTEGER).values, 0, size).asReadOnlyBuffer();
+    }
+
+    /**
+     * Read only view of a LONG column, backed by the data frame. Null cells read as 0.
+     * @param columnIndex column index
+     * @return view of the first {@link #size()} values of the column
+     */
+    public LongBuffer longColumn(int columnIndex) {
+        return LongBuffer.wrap((long[]) getColumn(columnIndex, ColumnType.LONG).values, 0, size).asReadOnlyBuffer();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public ColumnMeta[] columnMetas() {
+        return Arrays.copyOf(columnMetas, columnMetas.length);
+    }
+
+    @Override
+    public DataFrame remove(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= columnMetas.length) {
+            throw new IllegalArgumentException("columnIndex can't be negative or bigger than columns length:" + columnMetas.length);
+        }
+        int[] selectedColumns = new int[columnMetas.length - 1];
+        int index = 0;
+        for (int i = 0; i < columnMetas.length; i++) {
+            if (i != columnIndex) {
+                selectedColumns[index++] = i;
+            }
+        }
+        return copyColumns(selectedColumns);
+    }
+
+    @Override
+    public DataFrame select(int[] columns) {
+        if (columns == null || columns.length == 0) {
+            throw new IllegalArgumentException("columns can't be null or empty");
+        }
+        for (int col : columns) {
+            if (col < 0 || col >= columnMetas.length) {
+                throw new IllegalArgumentException("columnIndex can't be negative or bigger than columns length");
+            }
+        }
+        return copyColumns(columns);
+    }
+
+    @Override
+    public int getColumnIndex(String target) {
+        for (int i = 0; i < columnMetas.length; i++) {
+            if (columnMetas[i].getName().equals(target)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("No matched target when generating dataset from data frame.");
+    }
+
+    @Override
+    public Iterator<Row> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Row next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return getRow(next++);
+            }
+        };
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        if (out.getVersion().before(VERSION_3_7_0)) {
+            // older nodes can only read row based data frames
+            List<Row> rows = new ArrayList<>(size);
+            iterator().forEachRemaining(rows::add);
+            new DefaultDataFrame(columnMetas, rows).writeTo(out);
+            return;
+        }
+        super.writeTo(out);
+        out.writeArray(columnMetas);
+        out.writeVInt(size);
+        for (Column column : columns) {
+            column.writeTo(out, size);
+        }
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, ToXContent.Params params) throws IOException {
+        builder.startArray(COLUMN_META_FIELD);
+        for (ColumnMeta columnMeta : columnMetas) {
+            columnMeta.toXContent(builder, params);
+        }
+        builder.endArray();
+
+        builder.startArray(ROWS_FIELD);
+        for (Row row : this) {
+            row.toXContent(builder, params);
+        }
+        builder.endArray();
+        return builder;
+    }
+
+    private DataFrame copyColumns(int[] selectedColumns) {
+        ColumnMeta[] newColumnMetas = new ColumnMeta[selectedColumns.length];
+        Column[] newColumns = new Column[selectedColumns.length];
+        for (int i = 0; i < selectedColumns.length; i++) {
+            newColumnMetas[i] = columnMetas[selectedColumns[i]];
+            newColumns[i] = columns[selectedColumns[i]].copy(size);
+        }
+        return new ColumnarDataFrame(newColumnMetas, newColumns, size);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (columns.length == 0 || capacity <= columns[0].capacity()) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, columns[0].capacity() + (columns[0].capacity() >> 1) + 1);
+        for (Column column : columns) {
+            column.resize(newCapacity);
+        }
+    }
+
+    private void checkRowSize(int rowSize) {
+        if (rowSize != columnMetas.length) {
+            final String message = String
+                .format("the size is different between input row:%d " + "and column size in dataframe:%d", rowSize, columnMetas.length);
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private IllegalArgumentException columnTypeMismatch(int index, ColumnType columnType) {
+        final String message = String
+            .format(
+                "the column type is different in column meta:%s and input row:%s for index: %d",
+                columnMetas[index].getColumnType(),
+                columnType,
+                index
+            );
+        return new IllegalArgumentException(message);
+    }
+
+    private Column getColumn(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= columns.length) {
+            throw new IllegalArgumentException("columnIndex can't be negative or bigger than columns length:" + columns.length);
+        }
+        return columns[columnIndex];
+    }
+
+    private Column getColumn(int columnIndex, ColumnType columnType) {
+        Column column = getColumn(columnIndex);
+        if (column.type != columnType) {
+            throw new IllegalArgumentException("column " + columnIndex + " is " + column.type + " type, not " + columnType);
+        }
+        return column;
+    }
+
+    /**
+     * Values of one column. The backing array type depends on the column type: double[], float[], int[], long[], short[],
+     * boolean[] or String[]; NULL columns have no backing array.
+     */
+    private static class Column {
+        private final ColumnType type;
+        private final BitSet nulls;
+        private Object values;
+        private int capacity;
+
+        Column(ColumnType type, int capacity) {
+            this(type, newArray(type, capacity), new BitSet(), capacity);
+        }
+
+        private Column(ColumnType type, Object values, BitSet nulls, int capacity) {
+            this.type = type;
+            this.values = values;
+            this.nulls = nulls;
+            this.capacity = capacity;
+        }
+
+        int capacity() {
+            return capacity;
+        }
+
+        void resize(int newCapacity) {
+            values = copyOf(values, newCapacity);
+            capacity = newCapacity;
+        }
+
+        Column copy(int size) {
+            return new Column(type, copyOf(values, Math.max(size, 1)), nulls.get(0, size), Math.max(size, 1));
+        }
+
+        void set(int index, Object value) {
+            if (value == null) {
+                nulls.set(index);
+                return;
+            }
+            switch (type) {
+                case DOUBLE:
+                    ((double[]) values)[index] = (Double) value;
+                    break;
+                case FLOAT:
+                    ((float[]) values)[index] = (Float) value;
+                    break;
+                case INTEGER:
+                    ((int[]) values)[index] = (Integer) value;
+                    break;
+                case LONG:
+                    ((long[]) values)[index] = (Long) value;
+                    break;
+                case SHORT:
+                    ((short[]) values)[index] = (Short) value;
+                    break;
+                case BOOLEAN:
+                    ((boolean[]) values)[index] = (Boolean) value;
+                    break;
+                case STRING:
+                    ((String[]) values)[index] = (String) value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("unsupported type:" + type);
+            }
+        }
+
+        ColumnValue getColumnValue(int index) {
+            if (type == ColumnType.NULL || nulls.get(index)) {
+                return new NullValue();
+            }
+            switch (type) {
+                case DOUBLE:
+                    return new DoubleValue(((double[]) values)[index]);
+                case FLOAT:
+                    return new FloatValue(((float[]) values)[index]);
+                case INTEGER:
+                    return new IntValue(((int[]) values)[index]);
+                case LONG:
+                    return new LongValue(((long[]) values)[index]);
+                case SHORT:
+                    return new ShortValue(((short[]) values)[index]);
+                case BOOLEAN:
+                    return new BooleanValue(((boolean[]) values)[index]);
+                default:
+                    return new StringValue(((String[]) values)[index]);
+            }
+        }
+
+        double getDouble(int index) {
+            if (type == ColumnType.NULL || nulls.get(index)) {
+                return Double.NaN;
+            }
+            switch (type) {
+                case DOUBLE:
+                    return ((double[]) values)[index];
+                case FLOAT:
+                    return ((float[]) values)[index];
+                case INTEGER:
+                    return ((int[]) values)[index];
+                case LONG:
+                    return ((long[]) values)[index];
+                case SHORT:
+                    return ((short[]) values)[index];
+                default:
+                    throw new RuntimeException("the value isn't Double type");
+            }
+        }
+
+        void writeTo(StreamOutput out, int size) throws IOException {
+            out.writeLongArray(nulls.get(0, size).toLongArray());
+            switch (type) {
+                case DOUBLE:
+                    ByteBuffer doubleBytes = ByteBuffer.allocate(size * Double.BYTES);
+                    doubleBytes.asDoubleBuffer().put((double[]) values, 0, size);
+                    out.writeByteArray(doubleBytes.array());
+                    break;
+                case FLOAT:
+                    ByteBuffer floatBytes = ByteBuffer.allocate(size * Float.BYTES);
+                    floatBytes.asFloatBuffer().put((float[]) values, 0, size);
+                    out.writeByteArray(floatBytes.array());
+                    break;
+                case INTEGER:
+                    ByteBuffer intBytes = ByteBuffer.allocate(size * Integer.BYTES);
+                    intBytes.asIntBuffer().put((int[]) values, 0, size);
+                    out.writeByteArray(intBytes.array());
+                    break;
+                case LONG:
+                    ByteBuffer longBytes = ByteBuffer.allocate(size * Long.BYTES);
+                    longBytes.asLongBuffer().put((long[]) values, 0, size);
+                    out.writeByteArray(longBytes.array());
+                    break;
+                case SHORT:
+                    ByteBuffer shortBytes = ByteBuffer.allocate(size * Short.BYTES);
+                    shortBytes.asShortBuffer().put((short[]) values, 0, size);
+                    out.writeByteArray(shortBytes.array());
+                    break;
+                case BOOLEAN:
+                    BitSet booleans = new BitSet(size);
+                    boolean[] booleanValues = (boolean[]) values;
+                    for (int i = 0; i < size; i++) {
+                        booleans.set(i, booleanValues[i]);
+                    }
+                    out.writeLongArray(booleans.toLongArray());
+                    break;
+                case STRING:
+                    String[] stringValues = (String[]) values;
+                    for (int i = 0; i < size; i++) {
+                        out.writeOptionalString(stringValues[i]);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        static Column read(StreamInput in, ColumnType type, int size) throws IOException {
+            int capacity = Math.max(size, 1);
+            BitSet nulls = BitSet.valueOf(in.readLongArray());
+            Object values = newArray(type, capacity);
+            switch (type) {
+                case DOUBLE:
+                    ByteBuffer.wrap(in.readByteArray()).asDoubleBuffer().get((double[]) values, 0, size);
+                    break;
+                case FLOAT:
+                    ByteBuffer.wrap(in.readByteArray()).asFloatBuffer().get((float[]) values, 0, size);
+                    break;
+                case INTEGER:
+                    ByteBuffer.wrap(in.readByteArray()).asIntBuffer().get((int[]) values, 0, size);
+                    break;
+                case LONG:
+                    ByteBuffer.wrap(in.readByteArray()).asLongBuffer().get((long[]) values, 0, size);
+                    break;
+                case SHORT:
+                    ByteBuffer.wrap(in.readByteArray()).asShortBuffer().get((short[]) values, 0, size);
+                    break;
+                case BOOLEAN:
+                    BitSet booleans = BitSet.valueOf(in.readLongArray());
+                    boolean[] booleanValues = (boolean[]) values;
+                    for (int i = 0; i < size; i++) {
+                        booleanValues[i] = booleans.get(i);
+                    }
+                    break;
+                case STRING:
+                    String[] stringValues = (String[]) values;
+                    for (int i = 0; i < size; i++) {
+                        stringValues[i] = in.readOptionalString();
+                    }
+                    break;
+                default:
+                    break;
+            }
+            return new Column(type, values, nulls, capacity);
+        }
+
+        private static Object newArray(ColumnType type, int capacity) {
+            switch (type) {
+                case DOUBLE:
+                    return new double[capacity];
+                case FLOAT:
+                    return new float[capacity];
+                case INTEGER:
+                    return new int[capacity];
+                case LONG:
+                    return new long[capacity];
+                case SHORT:
+                    return new short[capacity];
+                case BOOLEAN:
+                    return new boolean[capacity];
+                case STRING:
+                    return new String[capacity];
+                default:
+                    return null;
+            }
+        }
+
+        private static Object copyOf(Object values, int length) {
+            if (values instanceof double[]) {
+                return Arrays.copyOf((double[]) values, length);
+            } else if (values instanceof float[]) {
+                return Arrays.copyOf((float[]) values, length);
+            } else if (values instanceof int[]) {
+                return Arrays.copyOf((int[]) values, length);
+            } else if (values instanceof long[]) {
+                return Arrays.copyOf((long[]) values, length);
+            } else if (values instanceof short[]) {
+                return Arrays.copyOf((short[]) values, length);
+            } else if (values instanceof boolean[]) {
+                return Arrays.copyOf((boolean[]) values, length);
+            } else if (values instanceof String[]) {
+                return Arrays.copyOf((String[]) values, length);
+            }
+            return null;
+        }
+    }
+}
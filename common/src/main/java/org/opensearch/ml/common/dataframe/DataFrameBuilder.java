@@ -30,6 +30,18 @@ public class DataFrameBuilder {
         return new DefaultDataFrame(columnMetas);
     }
 
+    /**
+     * Build empty data frame which stores values by column in primitive arrays. Prefer it for big numeric data frames.
+     * @param columnMetas column metas
+     * @return empty columnar data frame
+     */
+    public DataFrame emptyColumnarDataFrame(final ColumnMeta[] columnMetas) {
+        if (columnMetas == null || columnMetas.length == 0) {
+            throw new IllegalArgumentException("columnMetas array is null or empty");
+        }
+        return new ColumnarDataFrame(columnMetas);
+    }
+
     /**
      * Load data frame based on list of map objects. It will use the first object to build the ColumnMeta, and all of the
      * map objects should have same key set, other wise it will throw exception.
@@ -111,6 +123,8 @@ public class DataFrameBuilder {
         switch (dataFrameType) {
             case DEFAULT:
                 return new DefaultDataFrame(input);
+            case COLUMNAR:
+                return new ColumnarDataFrame(input);
             default:
                 throw new IllegalStateException("Unexpected value: " + dataFrameType);
         }
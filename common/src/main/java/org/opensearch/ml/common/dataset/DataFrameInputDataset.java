@@ -10,6 +10,7 @@ import java.io.IOException;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.ml.common.annotation.InputDataSet;
+import org.opensearch.ml.common.dataframe.ColumnarDataFrame;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.DataFrameType;
 import org.opensearch.ml.common.dataframe.DefaultDataFrame;
@@ -42,6 +43,9 @@ public class DataFrameInputDataset extends MLInputDataset {
             case DEFAULT:
                 this.dataFrame = new DefaultDataFrame(in);
                 break;
+            case COLUMNAR:
+                this.dataFrame = new ColumnarDataFrame(in);
+                break;
             default:
                 this.dataFrame = null;
                 break;
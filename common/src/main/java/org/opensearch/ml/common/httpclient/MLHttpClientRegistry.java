@@ -0,0 +1,282 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.httpclient;
+
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CONNECTOR_SHARED_MAX_CONNECTIONS;
+import static org.opensearch.secure_sm.AccessController.doPrivileged;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.extern.log4j.Log4j2;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+
+/**
+ * Node level registry of the async HTTP clients used by remote connectors. Connectors with the same timeouts and TLS settings
+ * share one client, so they share its event loop and its connection pool, which is kept per remote host by the client.
+ * <p>
+ * Connectors get a lease on the shared client, which limits the concurrent requests of the connector to its max connections
+ * and queues the requests above the limit, like its own client used to. As in the connection pool of that client, the queue
+ * is bounded, and a queued request fails once it waited longer than the connection acquire timeout. The shared client is
+ * closed when its last lease is closed.
+ */
+@Log4j2
+public class MLHttpClientRegistry {
+    private static final MLHttpClientRegistry INSTANCE = new MLHttpClientRegistry();
+
+    private final Map<ClientKey, SharedClient> clients = new HashMap<>();
+    private final int maxPendingRequests;
+    private final Duration acquireTimeout;
+    private volatile int sharedMaxConnections = ML_COMMONS_REMOTE_CONNECTOR_SHARED_MAX_CONNECTIONS.getDefault(Settings.EMPTY);
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class ClientKey {
+        private final Duration connectionTimeout;
+        private final Duration readTimeout;
+        private final boolean connectorPrivateIpEnabled;
+        private final boolean skipSslVerification;
+    }
+
+    private static class SharedClient {
+        private final SdkAsyncHttpClient client;
+        private final Set<Lease> leases = new HashSet<>();
+
+        private SharedClient(SdkAsyncHttpClient client) {
+            this.client = client;
+        }
+    }
+
+    @VisibleForTesting
+    public MLHttpClientRegistry() {
+        // the defaults of the connection pool of the client each connector used to have
+        this(
+            SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS.get(SdkHttpConfigurationOption.MAX_PENDING_CONNECTION_ACQUIRES),
+            SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS.get(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT)
+        );
+    }
+
+    @VisibleForTesting
+    MLHttpClientRegistry(int maxPendingRequests, Duration acquireTimeout) {
+        this.maxPendingRequests = maxPendingRequests;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    public static MLHttpClientRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    public void initialize(ClusterService clusterService, Settings settings) {
+        sharedMaxConnections = ML_COMMONS_REMOTE_CONNECTOR_SHARED_MAX_CONNECTIONS.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_REMOTE_CONNECTOR_SHARED_MAX_CONNECTIONS, it -> sharedMaxConnections = it);
+    }
+
+    /**
+     * Get a lease on the shared client with the given settings, the client is created if it doesn't exist yet.
+     * @param connectionTimeout connection timeout of the client
+     * @param readTimeout read timeout of the client
+     * @param maxConnections max concurrent requests of the lease
+     * @param connectorPrivateIpEnabled whether the client can send requests to private ip addresses
+     * @param skipSslVerification whether the client skips the SSL certificate verification
+     * @return the lease, to be closed when the connector doesn't need the client anymore
+     */
+    public synchronized SdkAsyncHttpClient acquire(
+        Duration connectionTimeout,
+        Duration readTimeout,
+        int maxConnections,
+        boolean connectorPrivateIpEnabled,
+        boolean skipSslVerification
+    ) {
+        ClientKey key = new ClientKey(connectionTimeout, readTimeout, connectorPrivateIpEnabled, skipSslVerification);
+        SharedClient sharedClient = clients.get(key);
+        if (sharedClient == null) {
+            SdkAsyncHttpClient client = MLHttpClientFactory
+                .getAsyncHttpClient(connectionTimeout, readTimeout, sharedMaxConnections, connectorPrivateIpEnabled, skipSslVerification);
+            log.info("Created shared HTTP client, connectionTimeout: {}, readTimeout: {}", connectionTimeout, readTimeout);
+            sharedClient = new SharedClient(client);
+            clients.put(key, sharedClient);
+        }
+        Lease lease = new Lease(key, sharedClient, maxConnections);
+        sharedClient.leases.add(lease);
+        return lease;
+    }
+
+    private synchronized void release(Lease lease) {
+        SharedClient sharedClient = clients.get(lease.key);
+        if (sharedClient == null || !sharedClient.leases.remove(lease) || !sharedClient.leases.isEmpty()) {
+            return;
+        }
+        clients.remove(lease.key);
+        sharedClient.client.close();
+    }
+
+    /**
+     * @return the number of shared clients
+     */
+    public synchronized int getClientCount() {
+        return clients.size();
+    }
+
+    /**
+     * @return the number of leases on the shared clients
+     */
+    public synchronized int getLeaseCount() {
+        return clients.values().stream().mapToInt(client -> client.leases.size()).sum();
+    }
+
+    /**
+     * @return the number of requests sent by the shared clients and not completed yet
+     */
+    public synchronized long getInFlightRequestCount() {
+        return clients.values().stream().flatMap(client -> client.leases.stream()).mapToLong(lease -> lease.inFlight.get()).sum();
+    }
+
+    /**
+     * @return the number of requests waiting for a connection quota of their connector
+     */
+    public synchronized long getQueuedRequestCount() {
+        return clients.values().stream().flatMap(client -> client.leases.stream()).mapToLong(lease -> lease.pending.size()).sum();
+    }
+
+    private class Lease implements SdkAsyncHttpClient {
+        private final ClientKey key;
+        private final SdkAsyncHttpClient delegate;
+        private final int maxConnections;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Queue<PendingRequest> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Lease(ClientKey key, SharedClient sharedClient, int maxConnections) {
+            this.key = key;
+            this.delegate = sharedClient.client;
+            this.maxConnections = maxConnections;
+        }
+
+        @Override
+        public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+            if (closed.get()) {
+                throw new IllegalStateException("The HTTP client is closed");
+            }
+            if (tryAcquire()) {
+                return send(request);
+            }
+            PendingRequest pendingRequest = new PendingRequest(request, new CompletableFuture<>());
+            if (pendingCount.incrementAndGet() > maxPendingRequests) {
+                pendingCount.decrementAndGet();
+                pendingRequest.fail(new IllegalStateException("Too many requests waiting for a connection, max: " + maxPendingRequests));
+                return pendingRequest.future;
+            }
+            pending.add(pendingRequest);
+            CompletableFuture.delayedExecutor(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS).execute(() -> expire(pendingRequest));
+            // a request may have completed since the quota was checked
+            drain();
+            return pendingRequest.future;
+        }
+
+        private void expire(PendingRequest pendingRequest) {
+            // the request is only removed here if it wasn't taken from the queue to be sent
+            if (pending.remove(pendingRequest)) {
+                pendingCount.decrementAndGet();
+                pendingRequest
+                    .fail(new TimeoutException("Timed out waiting for a connection after " + acquireTimeout.toMillis() + " milliseconds"));
+            }
+        }
+
+        private boolean tryAcquire() {
+            if (inFlight.incrementAndGet() <= maxConnections) {
+                return true;
+            }
+            inFlight.decrementAndGet();
+            return false;
+        }
+
+        private CompletableFuture<Void> send(AsyncExecuteRequest request) {
+            CompletableFuture<Void> future;
+            try {
+                future = delegate.execute(request);
+            } catch (RuntimeException e) {
+                releaseQuota();
+                throw e;
+            }
+            return future.whenComplete((r, e) -> releaseQuota());
+        }
+
+        private void releaseQuota() {
+            inFlight.decrementAndGet();
+            drain();
+        }
+
+        private void drain() {
+            while (!pending.isEmpty() && tryAcquire()) {
+                PendingRequest pendingRequest = pending.poll();
+                if (pendingRequest == null) {
+                    inFlight.decrementAndGet();
+                    continue;
+                }
+                pendingCount.decrementAndGet();
+                try {
+                    doPrivileged(() -> send(pendingRequest.request)).whenComplete((r, e) -> {
+                        if (e == null) {
+                            pendingRequest.future.complete(r);
+                        } else {
+                            pendingRequest.future.completeExceptionally(e);
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    pendingRequest.fail(e);
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            // requests already sent complete on the shared client
+            PendingRequest pendingRequest;
+            while ((pendingRequest = pending.poll()) != null) {
+                pendingCount.decrementAndGet();
+                pendingRequest.fail(new IllegalStateException("The HTTP client is closed"));
+            }
+            release(this);
+        }
+    }
+
+    @AllArgsConstructor
+    private static class PendingRequest {
+        private final AsyncExecuteRequest request;
+        private final CompletableFuture<Void> future;
+
+        private void fail(Exception e) {
+            log.error("Failed to send the queued request", e);
+            request.responseHandler().onError(e);
+            future.completeExceptionally(e);
+        }
+    }
+}
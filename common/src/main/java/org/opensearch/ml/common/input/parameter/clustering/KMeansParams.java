@@ -6,6 +6,7 @@
 package org.opensearch.ml.common.input.parameter.clustering;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_7_0;
 
 import java.io.IOException;
 
@@ -37,6 +38,7 @@ public class KMeansParams implements MLAlgoParams {
     public static final String CENTROIDS_FIELD = "centroids";
     public static final String ITERATIONS_FIELD = "iterations";
     public static final String DISTANCE_TYPE_FIELD = "distance_type";
+    public static final String BATCH_SIZE_FIELD = "batch_size";
 
     // The number of centroids to use.
     private Integer centroids;
@@ -44,13 +46,16 @@ public class KMeansParams implements MLAlgoParams {
     private Integer iterations;
     // The distance function.
     private DistanceType distanceType;
+    // The size of the mini-batches to train with, or null to train with the whole data at once.
+    private Integer batchSize;
     // TODO: expose number of thread and seed?
 
     @Builder(toBuilder = true)
-    public KMeansParams(Integer centroids, Integer iterations, DistanceType distanceType) {
+    public KMeansParams(Integer centroids, Integer iterations, DistanceType distanceType, Integer batchSize) {
         this.centroids = centroids;
         this.iterations = iterations;
         this.distanceType = distanceType;
+        this.batchSize = batchSize;
     }
 
     public KMeansParams(StreamInput in) throws IOException {
@@ -59,12 +64,16 @@ public class KMeansParams implements MLAlgoParams {
         if (in.readBoolean()) {
             this.distanceType = in.readEnum(DistanceType.class);
         }
+        if (in.getVersion().onOrAfter(VERSION_3_7_0)) {
+            this.batchSize = in.readOptionalInt();
+        }
     }
 
     public static MLAlgoParams parse(XContentParser parser) throws IOException {
         Integer k = null;
         Integer iterations = null;
         DistanceType distanceType = null;
+        Integer batchSize = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -81,12 +90,15 @@ public class KMeansParams implements MLAlgoParams {
                 case DISTANCE_TYPE_FIELD:
                     distanceType = DistanceType.from(parser.text());
                     break;
+                case BATCH_SIZE_FIELD:
+                    batchSize = parser.intValue(false);
+                    break;
                 default:
                     parser.skipChildren();
                     break;
             }
         }
-        return new KMeansParams(k, iterations, distanceType);
+        return new KMeansParams(k, iterations, distanceType, batchSize);
     }
 
     @Override
@@ -104,6 +116,9 @@ public class KMeansParams implements MLAlgoParams {
         } else {
             out.writeBoolean(false);
         }
+        if (out.getVersion().onOrAfter(VERSION_3_7_0)) {
+            out.writeOptionalInt(batchSize);
+        }
     }
 
     @Override
@@ -118,6 +133,9 @@ public class KMeansParams implements MLAlgoParams {
         if (distanceType != null) {
             builder.field(DISTANCE_TYPE_FIELD, distanceType.name());
         }
+        if (batchSize != null) {
+            builder.field(BATCH_SIZE_FIELD, batchSize);
+        }
         builder.endObject();
         return builder;
     }
@@ -15,16 +15,24 @@ import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.opensearch.action.LatchedActionListener;
+import org.opensearch.action.admin.indices.get.GetIndexRequest;
+import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
@@ -34,12 +42,15 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.client.SearchDataObjectRequest;
 import org.opensearch.remote.metadata.common.SdkClientUtils;
+import org.opensearch.search.SearchHit;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.transport.client.Client;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -52,6 +63,16 @@ import lombok.extern.log4j.Log4j2;
 public class LocalRegexGuardrail extends Guardrail {
     public static final String STOP_WORDS_FIELD = "stop_words";
     public static final String REGEX_FIELD = "regex";
+    // max number of percolator queries loaded from one stop words index into memory
+    public static final int MAX_STOP_WORDS_IN_MEMORY = 10000;
+    // how often the in-memory stop words are reloaded from the stop words index
+    public static final long STOP_WORDS_REFRESH_INTERVAL_MS = 60_000L;
+    private static final String PERCOLATOR_QUERY_FIELD = "query";
+    private static final String STANDARD_ANALYZER = "standard";
+    private static final List<String> ANALYZER_MAPPING_FIELDS = List.of("analyzer", "search_analyzer", "search_quote_analyzer");
+    // index analyzers replacing the standard analyzer of text fields without an explicit analyzer
+    private static final List<String> DEFAULT_ANALYZER_SETTINGS = List
+        .of("index.analysis.analyzer.default", "index.analysis.analyzer.default_search", "index.analysis.analyzer.standard");
 
     private List<StopWords> stopWords;
     private String[] regex;
@@ -61,6 +82,9 @@ public class LocalRegexGuardrail extends Guardrail {
     private Client client;
     private SdkClient sdkClient;
     private String tenantId;
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    private final Map<String, InMemoryStopWords> inMemoryStopWords = new ConcurrentHashMap<>();
 
     @Builder(toBuilder = true)
     public LocalRegexGuardrail(List<StopWords> stopWords, String[] regex) {
@@ -165,6 +189,12 @@ public class LocalRegexGuardrail extends Guardrail {
         stopWordsIndicesInput = stopWordsToMap();
         List<String> regexList = regex == null ? new ArrayList<>() : Arrays.asList(regex);
         regexPattern = regexList.stream().map(reg -> Pattern.compile(reg)).collect(Collectors.toList());
+        inMemoryStopWords.clear();
+        for (Map.Entry<String, List<String>> entry : stopWordsIndicesInput.entrySet()) {
+            InMemoryStopWords stopWordsOfIndex = new InMemoryStopWords();
+            inMemoryStopWords.put(entry.getKey(), stopWordsOfIndex);
+            loadStopWords(entry.getKey(), entry.getValue(), stopWordsOfIndex);
+        }
     }
 
     private Map<String, List<String>> stopWordsToMap() {
@@ -201,9 +231,254 @@ public class LocalRegexGuardrail extends Guardrail {
             return true;
         }
         for (Map.Entry entry : stopWordsIndices.entrySet()) {
-            if (!validateStopWordsSingleIndex(input, (String) entry.getKey(), (List<String>) entry.getValue())) {
+            String indexName = (String) entry.getKey();
+            List<String> fieldNames = (List<String>) entry.getValue();
+            StopWordsMatcher matcher = getStopWordsMatcher(indexName, fieldNames);
+            if (matcher != null) {
+                if (matcher.matches(input)) {
+                    return false;
+                }
+            } else if (!validateStopWordsSingleIndex(input, indexName, fieldNames)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the in-memory stop words of the index, and reload them in the background if they are stale.
+     * @param indexName the index containing stop words
+     * @param fieldNames a list of field names containing stop words
+     * @return the stop words matcher, or null if the stop words of the index are not loaded in memory
+     */
+    private StopWordsMatcher getStopWordsMatcher(String indexName, List<String> fieldNames) {
+        InMemoryStopWords stopWordsOfIndex = inMemoryStopWords.get(indexName);
+        if (stopWordsOfIndex == null) {
+            return null;
+        }
+        if (System.nanoTime() - stopWordsOfIndex.loadTime > TimeUnit.MILLISECONDS.toNanos(STOP_WORDS_REFRESH_INTERVAL_MS)) {
+            loadStopWords(indexName, fieldNames, stopWordsOfIndex);
+        }
+        return stopWordsOfIndex.matcher;
+    }
+
+    /**
+     * Load the percolator queries of the stop words index and build the stop words matcher asynchronously. The matcher is
+     * only built if the source fields are analyzed by the standard analyzer and all queries can be matched in memory,
+     * otherwise the stop words are validated by percolate search.
+     * Previously loaded stop words keep being used while reloading and if reloading fails.
+     */
+    private void loadStopWords(String indexName, List<String> fieldNames, InMemoryStopWords stopWordsOfIndex) {
+        if (sdkClient == null || !stopWordsOfIndex.loading.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            ActionListener<GetIndexResponse> listener = ActionListener.wrap(r -> {
+                if (hasStandardAnalyzer(r, fieldNames)) {
+                    searchStopWords(indexName, fieldNames, stopWordsOfIndex);
+                } else {
+                    log.info("Stop words fields of index {} are not analyzed by the standard analyzer, use percolate search", indexName);
+                    stopWordsOfIndex.matcher = null;
+                    loaded(stopWordsOfIndex);
+                }
+            }, e -> {
+                log.error("Failed to get mapping of stop words index {}", indexName, e);
+                loaded(stopWordsOfIndex);
+            });
+            try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+                GetIndexRequest getIndexRequest = new GetIndexRequest().indices(indexName);
+                client.admin().indices().getIndex(getIndexRequest, ActionListener.runBefore(listener, context::restore));
+            }
+        } catch (Exception e) {
+            log.error("Failed to load stop words of index {}", indexName, e);
+            loaded(stopWordsOfIndex);
+        }
+    }
+
+    private void searchStopWords(String indexName, List<String> fieldNames, InMemoryStopWords stopWordsOfIndex) {
+        try {
+            SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+                .query(QueryBuilders.matchAllQuery())
+                .size(MAX_STOP_WORDS_IN_MEMORY)
+                .trackTotalHits(true)
+                .fetchSource(PERCOLATOR_QUERY_FIELD, null);
+            SearchDataObjectRequest searchDataObjectRequest = SearchDataObjectRequest
+                .builder()
+                .indices(indexName)
+                .searchSourceBuilder(searchSourceBuilder)
+                .tenantId(tenantId)
+                .build();
+            ActionListener<SearchResponse> listener = ActionListener.wrap(r -> {
+                stopWordsOfIndex.matcher = buildStopWordsMatcher(indexName, fieldNames, r);
+                loaded(stopWordsOfIndex);
+            }, e -> {
+                log.error("Failed to load stop words of index {}", indexName, e);
+                loaded(stopWordsOfIndex);
+            });
+            try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+                sdkClient
+                    .searchDataObjectAsync(searchDataObjectRequest)
+                    .whenComplete(SdkClientUtils.wrapSearchCompletion(ActionListener.runBefore(listener, context::restore)));
+            }
+        } catch (Exception e) {
+            log.error("Failed to load stop words of index {}", indexName, e);
+            loaded(stopWordsOfIndex);
+        }
+    }
+
+    private static void loaded(InMemoryStopWords stopWordsOfIndex) {
+        stopWordsOfIndex.loadTime = System.nanoTime();
+        stopWordsOfIndex.loading.set(false);
+    }
+
+    /**
+     * The stop words matcher tokenizes like the standard analyzer, so it can only replace the percolate search if every
+     * source field is a text field analyzed by the standard analyzer, both when indexing the percolated document and when
+     * the percolator queries were parsed. Stemming, synonyms, folding or any other analysis would let the percolate search
+     * match text the matcher doesn't.
+     * @param response the index of the stop words, all concrete indices if it's an alias or pattern
+     * @param fieldNames a list of field names containing stop words
+     * @return true if all source fields of all indices use the standard analyzer
+     */
+    static boolean hasStandardAnalyzer(GetIndexResponse response, List<String> fieldNames) {
+        if (response == null || response.indices() == null || response.indices().length == 0) {
+            return false;
+        }
+        for (String index : response.indices()) {
+            MappingMetadata mapping = response.mappings().get(index);
+            if (mapping == null) {
                 return false;
             }
+            Settings settings = response.settings().get(index);
+            if (settings != null) {
+                for (String setting : DEFAULT_ANALYZER_SETTINGS) {
+                    if (!settings.getByPrefix(setting + ".").isEmpty()) {
+                        return false;
+                    }
+                }
+            }
+            Map<String, Object> mappingSource = mapping.sourceAsMap();
+            for (String fieldName : fieldNames) {
+                Map<?, ?> field = getFieldMapping(mappingSource, fieldName);
+                if (field == null || !"text".equals(field.get("type"))) {
+                    return false;
+                }
+                for (String analyzerField : ANALYZER_MAPPING_FIELDS) {
+                    Object analyzer = field.get(analyzerField);
+                    if (analyzer != null && !STANDARD_ANALYZER.equals(analyzer)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private static Map<?, ?> getFieldMapping(Map<String, Object> mappingSource, String fieldName) {
+        Object mapping = mappingSource;
+        for (String path : fieldName.split("\\.")) {
+            Object properties = mapping instanceof Map ? ((Map<?, ?>) mapping).get("properties") : null;
+            if (!(properties instanceof Map)) {
+                return null;
+            }
+            mapping = ((Map<?, ?>) properties).get(path);
+        }
+        return mapping instanceof Map ? (Map<?, ?>) mapping : null;
+    }
+
+    private StopWordsMatcher buildStopWordsMatcher(String indexName, List<String> fieldNames, SearchResponse response) {
+        if (response == null || response.getHits() == null) {
+            return null;
+        }
+        SearchHit[] hits = response.getHits().getHits();
+        if (response.getHits().getTotalHits() == null || response.getHits().getTotalHits().value() > hits.length) {
+            log.info("Too many stop words in index {} to load in memory, fall back to percolate search", indexName);
+            return null;
+        }
+        Set<String> stopWordsOfIndex = new HashSet<>();
+        for (SearchHit hit : hits) {
+            Map<String, Object> source = hit.getSourceAsMap();
+            if (source == null || !collectStopWords(source.get(PERCOLATOR_QUERY_FIELD), fieldNames, stopWordsOfIndex)) {
+                log
+                    .info(
+                        "Stop words query {} of index {} can't be matched in memory, fall back to percolate search",
+                        hit.getId(),
+                        indexName
+                    );
+                return null;
+            }
+        }
+        log.debug("Loaded {} stop words of index {} in memory", stopWordsOfIndex.size(), indexName);
+        return StopWordsMatcher.build(stopWordsOfIndex);
+    }
+
+    /**
+     * Collect the stop words of a percolator query. Only match_phrase, match with the default "or" operator, term and terms
+     * queries are supported. Queries on fields other than the source fields never match the percolated document, so they
+     * have no stop words.
+     * @param query the percolator query
+     * @param fieldNames a list of field names containing stop words
+     * @param stopWords the set to add stop words to
+     * @return true if the query is supported
+     */
+    static boolean collectStopWords(Object query, List<String> fieldNames, Set<String> stopWords) {
+        if (!(query instanceof Map) || ((Map<?, ?>) query).size() != 1) {
+            return false;
+        }
+        Map.Entry<?, ?> queryEntry = ((Map<?, ?>) query).entrySet().iterator().next();
+        if (!(queryEntry.getValue() instanceof Map) || ((Map<?, ?>) queryEntry.getValue()).size() != 1) {
+            return false;
+        }
+        Map.Entry<?, ?> fieldEntry = ((Map<?, ?>) queryEntry.getValue()).entrySet().iterator().next();
+        String queryType = (String) queryEntry.getKey();
+        Object value = fieldEntry.getValue();
+        if (value instanceof Map) {
+            Map<?, ?> params = (Map<?, ?>) value;
+            String valueField = "term".equals(queryType) ? "value" : "query";
+            if (params.size() != 1 || !params.containsKey(valueField)) {
+                return false;
+            }
+            value = params.get(valueField);
+        }
+        boolean sourceField = fieldNames.contains(fieldEntry.getKey());
+        switch (queryType) {
+            case "match_phrase":
+                if (!(value instanceof String)) {
+                    return false;
+                }
+                if (sourceField) {
+                    stopWords.add((String) value);
+                }
+                return true;
+            case "match":
+                if (!(value instanceof String)) {
+                    return false;
+                }
+                if (sourceField) {
+                    // any token of the match query matches
+                    stopWords.addAll(Arrays.asList(((String) value).split("[^\\p{L}\\p{N}]+")));
+                }
+                return true;
+            case "term":
+                return collectTerms(List.of(value), sourceField, stopWords);
+            case "terms":
+                return value instanceof List && collectTerms((List<?>) value, sourceField, stopWords);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Terms are not analyzed, so only lowercased single token terms can match the analyzed source field.
+     */
+    private static boolean collectTerms(List<?> terms, boolean sourceField, Set<String> stopWords) {
+        for (Object term : terms) {
+            if (!(term instanceof String) || !((String) term).matches("[\\p{Ll}\\p{Lo}\\p{N}]+")) {
+                return false;
+            }
+        }
+        if (sourceField) {
+            terms.forEach(term -> stopWords.add((String) term));
         }
         return true;
     }
@@ -265,4 +540,10 @@ public class LocalRegexGuardrail extends Guardrail {
 
         return SearchDataObjectRequest.builder().indices(indexName).searchSourceBuilder(searchSourceBuilder).tenantId(tenantId).build();
     }
+
+    private static class InMemoryStopWords {
+        private final AtomicBoolean loading = new AtomicBoolean(false);
+        private volatile StopWordsMatcher matcher;
+        private volatile long loadTime = System.nanoTime();
+    }
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+
+/**
+ * Aho-Corasick automaton matching a set of stop words in a single linear pass over the tokens of the text.
+ * <p>
+ * Both the stop words and the text are tokenized with the standard tokenizer and lowercased, the same as the standard
+ * analyzer of the percolate search, so a stop word only matches whole tokens: stop word "bad words" matches
+ * "Some BAD, words!" but not "badwords", and stop word "bad" doesn't match "bad_" or "bad's". The automaton is immutable
+ * once built and can be shared between threads.
+ */
+public final class StopWordsMatcher {
+    private static final int SEPARATOR = ' ';
+    private static final int ROOT = 0;
+    private static final String FIELD = "stop_words";
+    // reuses the token streams of each thread
+    private static final Analyzer ANALYZER = new Analyzer() {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new StandardTokenizer();
+            return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+        }
+    };
+
+    private final List<Map<Integer, Integer>> transitions;
+    private final int[] failures;
+    private final boolean[] terminals;
+    private final int size;
+
+    private StopWordsMatcher(List<Map<Integer, Integer>> transitions, int[] failures, boolean[] terminals, int size) {
+        this.transitions = transitions;
+        this.failures = failures;
+        this.terminals = terminals;
+        this.size = size;
+    }
+
+    /**
+     * Build the automaton of the given stop words. Stop words without any token are ignored.
+     * @param stopWords stop words, can be phrases of multiple tokens
+     * @return the automaton
+     */
+    public static StopWordsMatcher build(Collection<String> stopWords) {
+        List<Map<Integer, Integer>> transitions = new ArrayList<>();
+        List<Boolean> terminals = new ArrayList<>();
+        transitions.add(new HashMap<>());
+        terminals.add(false);
+        int size = 0;
+        for (String stopWord : stopWords) {
+            String normalized = normalize(stopWord);
+            if (normalized == null) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < normalized.length();) {
+                int codePoint = normalized.codePointAt(i);
+                i += Character.charCount(codePoint);
+                Integer next = transitions.get(state).get(codePoint);
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.get(state).put(codePoint, next);
+                    transitions.add(new HashMap<>());
+                    terminals.add(false);
+                }
+                state = next;
+            }
+            if (!terminals.get(state)) {
+                terminals.set(state, true);
+                size++;
+            }
+        }
+
+        // breadth first, so the failure state of the parent is always resolved before its children
+        int[] failures = new int[transitions.size()];
+        boolean[] terminalStates = new boolean[transitions.size()];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : transitions.get(ROOT).values()) {
+            failures[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            // a state also matches when any stop word ending with the same suffix matches
+            terminalStates[state] = terminals.get(state) || terminalStates[failures[state]];
+            for (Map.Entry<Integer, Integer> entry : transitions.get(state).entrySet()) {
+                int child = entry.getValue();
+                failures[child] = next(transitions, failures, failures[state], entry.getKey());
+                queue.add(child);
+            }
+        }
+        return new StopWordsMatcher(transitions, failures, terminalStates, size);
+    }
+
+    /**
+     * @return the number of distinct stop words in the automaton
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if the text contains any stop word.
+     * @param text the text to check
+     * @return true if any stop word is found in the text
+     */
+    public boolean matches(String text) {
+        if (text == null || size == 0) {
+            return false;
+        }
+        // tokens are separated by exactly one separator, and the text is wrapped by separators, the same as the stop words,
+        // so the automaton only matches whole tokens
+        int state = next(ROOT, SEPARATOR);
+        try (TokenStream tokens = ANALYZER.tokenStream(FIELD, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            boolean matched = false;
+            while (!matched && tokens.incrementToken()) {
+                for (int i = 0; i < term.length();) {
+                    int codePoint = Character.codePointAt(term.buffer(), i, term.length());
+                    i += Character.charCount(codePoint);
+                    state = next(state, codePoint);
+                }
+                state = next(state, SEPARATOR);
+                matched = terminals[state];
+            }
+            tokens.end();
+            return matched;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int next(int state, int codePoint) {
+        return next(transitions, failures, state, codePoint);
+    }
+
+    private static int next(List<Map<Integer, Integer>> transitions, int[] failures, int state, int codePoint) {
+        while (true) {
+            Integer next = transitions.get(state).get(codePoint);
+            if (next != null) {
+                return next;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failures[state];
+        }
+    }
+
+    /**
+     * Normalize the stop word into its lowercased tokens wrapped and separated by single separators.
+     */
+    private static String normalize(String stopWord) {
+        if (stopWord == null) {
+            return null;
+        }
+        StringBuilder builder = new StringBuilder().append((char) SEPARATOR);
+        try (TokenStream tokens = ANALYZER.tokenStream(FIELD, stopWord)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                builder.append(term.buffer(), 0, term.length()).append((char) SEPARATOR);
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return builder.length() > 1 ? builder.toString() : null;
+    }
+}
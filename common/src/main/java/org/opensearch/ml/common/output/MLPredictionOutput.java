@@ -12,6 +12,7 @@ import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ml.common.annotation.MLAlgoOutput;
+import org.opensearch.ml.common.dataframe.ColumnarDataFrame;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.DataFrameType;
 import org.opensearch.ml.common.dataframe.DefaultDataFrame;
@@ -64,6 +65,9 @@ public class MLPredictionOutput extends MLOutput {
         if (in.readBoolean()) {
             DataFrameType dataFrameType = in.readEnum(DataFrameType.class);
             switch (dataFrameType) {
+                case COLUMNAR:
+                    predictionResult = new ColumnarDataFrame(in);
+                    break;
                 default:
                     predictionResult = new DefaultDataFrame(in);
                     break;
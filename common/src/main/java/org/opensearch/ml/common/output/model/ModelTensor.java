@@ -6,6 +6,7 @@
 package org.opensearch.ml.common.output.model;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_7_0;
 import static org.opensearch.ml.common.utils.StringUtils.gson;
 
 import java.io.IOException;
@@ -29,6 +30,7 @@ import org.opensearch.core.xcontent.XContentParser;
 
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 
 @Data
 public class ModelTensor implements Writeable, ToXContentObject {
@@ -44,14 +46,17 @@ public class ModelTensor implements Writeable, ToXContentObject {
     public static final String DATA_AS_MAP_FIELD = "dataAsMap";
 
     private String name;
-    private Number[] data;
+    private Number[] data;// boxed data, null if float data or int data are set
+    @EqualsAndHashCode.Exclude
+    private float[] floatData;// primitive data of floating data type
+    @EqualsAndHashCode.Exclude
+    private int[] intData;// primitive data of integer or boolean data type
     private long[] shape;
     private MLResultDataType dataType;
     private ByteBuffer byteBuffer;// whole result in bytes
     private String result;// whole result in string
     private Map<String, ?> dataAsMap;// whole result in Map
 
-    @Builder
     public ModelTensor(
         String name,
         Number[] data,
@@ -61,11 +66,41 @@ public class ModelTensor implements Writeable, ToXContentObject {
         String result,
         Map<String, ?> dataAsMap
     ) {
-        if (data != null && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
+        this(name, data, null, null, shape, dataType, byteBuffer, result, dataAsMap);
+    }
+
+    /**
+     * Create model tensor. The data can be either boxed numbers, or primitive float data of floating data type, or primitive
+     * int data of integer and boolean data type. Primitive data are serialized in bulk and are only boxed on demand.
+     */
+    @Builder
+    private ModelTensor(
+        String name,
+        Number[] data,
+        float[] floatData,
+        int[] intData,
+        long[] shape,
+        MLResultDataType dataType,
+        ByteBuffer byteBuffer,
+        String result,
+        Map<String, ?> dataAsMap
+    ) {
+        if ((data != null || floatData != null || intData != null) && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
             throw new IllegalArgumentException("data type is null");
         }
+        if ((data != null ? 1 : 0) + (floatData != null ? 1 : 0) + (intData != null ? 1 : 0) > 1) {
+            throw new IllegalArgumentException("only one of data, float data and int data can be set");
+        }
+        if (floatData != null && !dataType.isFloating()) {
+            throw new IllegalArgumentException("float data requires floating data type, but got " + dataType);
+        }
+        if (intData != null && !dataType.isInteger() && !dataType.isBoolean()) {
+            throw new IllegalArgumentException("int data requires integer or boolean data type, but got " + dataType);
+        }
         this.name = name;
         this.data = data;
+        this.floatData = floatData;
+        this.intData = intData;
         this.shape = shape;
         this.dataType = dataType;
         this.byteBuffer = byteBuffer;
@@ -78,35 +113,199 @@ public class ModelTensor implements Writeable, ToXContentObject {
         this.result = result;
     }
 
+    /**
+     * Get the data as boxed numbers. If the tensor holds primitive data, a new boxed copy is returned on every call, so
+     * changes to it don't change the tensor: use {@link #setData(Number[])} instead, or read the primitive data directly.
+     * @return the data
+     */
+    public Number[] getData() {
+        if (floatData != null) {
+            Number[] numbers = new Number[floatData.length];
+            for (int i = 0; i < floatData.length; i++) {
+                numbers[i] = floatData[i];
+            }
+            return numbers;
+        }
+        if (intData != null) {
+            Number[] numbers = new Number[intData.length];
+            for (int i = 0; i < intData.length; i++) {
+                numbers[i] = intData[i];
+            }
+            return numbers;
+        }
+        return data;
+    }
+
+    /**
+     * Get the data of floating data type as primitive floats without boxing.
+     * @return the float data, or null if the tensor has no data of floating data type
+     */
+    public float[] getFloatData() {
+        if (floatData == null && data != null && dataType != null && dataType.isFloating()) {
+            float[] values = new float[data.length];
+            for (int i = 0; i < data.length; i++) {
+                values[i] = data[i].floatValue();
+            }
+            return values;
+        }
+        return floatData;
+    }
+
+    /**
+     * Get the data of integer or boolean data type as primitive ints without boxing.
+     * @return the int data, or null if the tensor has no data of integer or boolean data type
+     */
+    public int[] getIntData() {
+        if (intData == null && data != null && dataType != null && (dataType.isInteger() || dataType.isBoolean())) {
+            int[] values = new int[data.length];
+            for (int i = 0; i < data.length; i++) {
+                values[i] = data[i].intValue();
+            }
+            return values;
+        }
+        return intData;
+    }
+
+    public void setData(Number[] data) {
+        this.data = data;
+        this.floatData = null;
+        this.intData = null;
+    }
+
+    public void setFloatData(float[] floatData) {
+        this.data = null;
+        this.floatData = floatData;
+        this.intData = null;
+    }
+
+    public void setIntData(int[] intData) {
+        this.data = null;
+        this.floatData = null;
+        this.intData = intData;
+    }
+
+    private boolean hasData() {
+        return data != null || floatData != null || intData != null;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, ToXContent.Params params) throws IOException {
         builder.startObject();
+        writeFields(new XContentFieldWriter(builder));
+        builder.endObject();
+        return builder;
+    }
+
+    /**
+     * Write the fields of the tensor. This defines the field layout of a tensor for every output format.
+     * @param writer the writer of the output format
+     * @throws IOException if a field can't be written
+     */
+    public void writeFields(FieldWriter writer) throws IOException {
         if (name != null) {
-            builder.field(NAME_FIELD, name);
+            writer.field(NAME_FIELD, name);
         }
         if (dataType != null) {
-            builder.field(DATA_TYPE_FIELD, dataType);
+            writer.field(DATA_TYPE_FIELD, dataType.toString());
         }
         if (shape != null) {
-            builder.field(SHAPE_FIELD, shape);
+            writer.field(SHAPE_FIELD, shape);
         }
-        if (data != null) {
-            builder.field(DATA_FIELD, data);
+        if (floatData != null) {
+            writer.field(DATA_FIELD, floatData);
+        } else if (intData != null) {
+            writer.field(DATA_FIELD, intData);
+        } else if (data != null) {
+            writer.field(DATA_FIELD, data);
         }
         if (byteBuffer != null) {
-            builder.startObject(BYTE_BUFFER_FIELD);
-            builder.field(BYTE_BUFFER_ARRAY_FIELD, byteBuffer.array());
-            builder.field(BYTE_BUFFER_ORDER_FIELD, byteBuffer.order().toString());
-            builder.endObject();
+            writer.startObject(BYTE_BUFFER_FIELD);
+            writer.field(BYTE_BUFFER_ARRAY_FIELD, byteBuffer.array());
+            writer.field(BYTE_BUFFER_ORDER_FIELD, byteBuffer.order().toString());
+            writer.endObject();
         }
         if (result != null) {
-            builder.field(RESULT_FIELD, result);
+            writer.field(RESULT_FIELD, result);
         }
         if (dataAsMap != null) {
-            builder.field(DATA_AS_MAP_FIELD, dataAsMap);
+            writer.field(DATA_AS_MAP_FIELD, dataAsMap);
+        }
+    }
+
+    /**
+     * Writer of the fields of a tensor in an output format, see {@link #writeFields(FieldWriter)}.
+     */
+    public interface FieldWriter {
+        void field(String name, String value) throws IOException;
+
+        void field(String name, long[] values) throws IOException;
+
+        void field(String name, float[] values) throws IOException;
+
+        void field(String name, int[] values) throws IOException;
+
+        void field(String name, Number[] values) throws IOException;
+
+        void field(String name, byte[] value) throws IOException;
+
+        void field(String name, Map<String, ?> value) throws IOException;
+
+        void startObject(String name) throws IOException;
+
+        void endObject() throws IOException;
+    }
+
+    private static class XContentFieldWriter implements FieldWriter {
+        private final XContentBuilder builder;
+
+        private XContentFieldWriter(XContentBuilder builder) {
+            this.builder = builder;
+        }
+
+        @Override
+        public void field(String name, String value) throws IOException {
+            builder.field(name, value);
+        }
+
+        @Override
+        public void field(String name, long[] values) throws IOException {
+            builder.field(name, values);
+        }
+
+        @Override
+        public void field(String name, float[] values) throws IOException {
+            builder.array(name, values);
+        }
+
+        @Override
+        public void field(String name, int[] values) throws IOException {
+            builder.array(name, values);
+        }
+
+        @Override
+        public void field(String name, Number[] values) throws IOException {
+            builder.field(name, values);
+        }
+
+        @Override
+        public void field(String name, byte[] value) throws IOException {
+            builder.field(name, value);
+        }
+
+        @Override
+        public void field(String name, Map<String, ?> value) throws IOException {
+            builder.field(name, value);
+        }
+
+        @Override
+        public void startObject(String name) throws IOException {
+            builder.startObject(name);
+        }
+
+        @Override
+        public void endObject() throws IOException {
+            builder.endObject();
         }
-        builder.endObject();
-        return builder;
     }
 
     public static ModelTensor parser(XContentParser parser) throws IOException {
@@ -203,17 +402,24 @@ public class ModelTensor implements Writeable, ToXContentObject {
         }
         if (in.readBoolean()) {
             int size = in.readInt();
-            data = new Number[size];
             if (dataType.isFloating()) {
-                for (int i = 0; i < size; i++) {
-                    data[i] = in.readFloat();
+                floatData = new float[size];
+                if (in.getVersion().onOrAfter(VERSION_3_7_0)) {
+                    ByteBuffer.wrap(readBytes(in, size * Float.BYTES)).asFloatBuffer().get(floatData);
+                } else {
+                    for (int i = 0; i < size; i++) {
+                        floatData[i] = in.readFloat();
+                    }
                 }
             } else if (dataType.isInteger() || dataType.isBoolean()) {
-                for (int i = 0; i < size; i++) {
-                    data[i] = in.readInt();
+                intData = new int[size];
+                if (in.getVersion().onOrAfter(VERSION_3_7_0)) {
+                    ByteBuffer.wrap(readBytes(in, size * Integer.BYTES)).asIntBuffer().get(intData);
+                } else {
+                    for (int i = 0; i < size; i++) {
+                        intData[i] = in.readInt();
+                    }
                 }
-            } else {
-                data = null;
             }
         }
         if (in.readBoolean()) {
@@ -253,17 +459,34 @@ public class ModelTensor implements Writeable, ToXContentObject {
         } else {
             out.writeBoolean(false);
         }
-        if (data != null && dataType != null && dataType != MLResultDataType.UNKNOWN) {
+        if (hasData() && dataType != null && dataType != MLResultDataType.UNKNOWN) {
             out.writeBoolean(true);
-            out.writeInt(data.length);
             if (dataType.isFloating()) {
-                for (Number n : data) {
-                    out.writeFloat(n.floatValue());
+                float[] values = getFloatData();
+                out.writeInt(values.length);
+                if (out.getVersion().onOrAfter(VERSION_3_7_0)) {
+                    ByteBuffer bytes = ByteBuffer.allocate(values.length * Float.BYTES);
+                    bytes.asFloatBuffer().put(values);
+                    out.writeBytes(bytes.array());
+                } else {
+                    for (float value : values) {
+                        out.writeFloat(value);
+                    }
                 }
             } else if (dataType.isInteger() || dataType.isBoolean()) {
-                for (Number n : data) {
-                    out.writeInt(n.intValue());
+                int[] values = getIntData();
+                out.writeInt(values.length);
+                if (out.getVersion().onOrAfter(VERSION_3_7_0)) {
+                    ByteBuffer bytes = ByteBuffer.allocate(values.length * Integer.BYTES);
+                    bytes.asIntBuffer().put(values);
+                    out.writeBytes(bytes.array());
+                } else {
+                    for (int value : values) {
+                        out.writeInt(value);
+                    }
                 }
+            } else {
+                out.writeInt(getData().length);
             }
         } else {
             out.writeBoolean(false);
@@ -291,6 +514,12 @@ public class ModelTensor implements Writeable, ToXContentObject {
         }
     }
 
+    private static byte[] readBytes(StreamInput in, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        in.readBytes(bytes, 0, length);
+        return bytes;
+    }
+
     @Override
     public String toString() {
         try {
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.function.Function;
 
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.unit.ByteSizeUnit;
 import org.opensearch.core.common.unit.ByteSizeValue;
 
@@ -35,6 +36,18 @@ public final class MLCommonsSettings {
             Setting.Property.Dynamic
         );
 
+    // How long the per-node load view used by least load dispatching is served before it's refreshed. 0 fetches node stats
+    // on every dispatch.
+    public static final Setting<Integer> ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_MS = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "task_dispatch.load_refresh_interval_ms",
+            1000,
+            0,
+            60000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     public static final Setting<Integer> ML_COMMONS_MAX_MODELS_PER_NODE = Setting
         .intSetting(ML_PLUGIN_SETTING_PREFIX + "max_model_on_node", 10, 0, 10000, Setting.Property.NodeScope, Setting.Property.Dynamic);
     public static final Setting<Integer> ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE = Setting
@@ -120,6 +133,16 @@ public final class MLCommonsSettings {
             Setting.Property.NodeScope,
             Setting.Property.Dynamic
         );
+    // The sliding time window of the latency stats of the model profile, monitoring is off if the monitoring request count is 0
+    public static final Setting<TimeValue> ML_COMMONS_MONITORING_WINDOW = Setting
+        .timeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "monitoring_window",
+            TimeValue.timeValueMinutes(1),
+            TimeValue.timeValueSeconds(6),
+            TimeValue.timeValueHours(1),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
 
     public static final Setting<String> ML_COMMONS_TRUSTED_URL_REGEX = Setting
         .simpleString(
@@ -208,6 +231,215 @@ public final class MLCommonsSettings {
     public static final Setting<Boolean> ML_COMMONS_LOCAL_MODEL_ENABLED = Setting
         .boolSetting(ML_PLUGIN_SETTING_PREFIX + "local_model.enabled", true, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
+    // Max number of inputs packed into one forward pass of a local model. 1 disables batched inference.
+    public static final Setting<Integer> ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_SIZE = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "local_model.inference_batch_size",
+            1,
+            1,
+            1024,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max time a partially filled batch waits for inputs from concurrent requests before it runs.
+    public static final Setting<Integer> ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_WAIT_TIME_MS = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "local_model.inference_batch_wait_time_ms",
+            5,
+            0,
+            1000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Number of documents read per search request when a search query input asks for more documents than fit in one page.
+    public static final Setting<Integer> ML_COMMONS_SEARCH_INPUT_PAGE_SIZE = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "search_input.page_size",
+            10000,
+            1,
+            10000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Number of slices read in parallel when a search query input is read page by page.
+    public static final Setting<Integer> ML_COMMONS_SEARCH_INPUT_SLICES = Setting
+        .intSetting(ML_PLUGIN_SETTING_PREFIX + "search_input.slices", 1, 1, 64, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Max number of model chunks fetched at the same time when deploying a local model.
+    public static final Setting<Integer> ML_COMMONS_MODEL_CHUNKS_FETCH_CONCURRENCY = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "local_model.chunks_fetch_concurrency",
+            4,
+            1,
+            32,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max bytes of model artifacts kept on the local disk of a node, so redeploying them skips reading the model chunks. 0 disables it.
+    public static final Setting<ByteSizeValue> ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE = Setting
+        .byteSizeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "local_model.artifact_cache_size",
+            new ByteSizeValue(5L, ByteSizeUnit.GB),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max throughput in MB per second of a node serving cached model artifacts to other nodes. 0 disables the throttling.
+    public static final Setting<Integer> ML_COMMONS_MODEL_ARTIFACT_TRANSFER_MAX_MB_PER_SEC = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "local_model.artifact_transfer_max_mb_per_sec",
+            100,
+            0,
+            10000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max number of agents, and of connectors used by agents, cached on a node for agent execution. 0 disables the cache.
+    public static final Setting<Integer> ML_COMMONS_AGENT_CACHE_SIZE = Setting
+        .intSetting(ML_PLUGIN_SETTING_PREFIX + "agent_cache_size", 1000, 0, 100000, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Max number of conversation interactions cached on a node to serve the chat history of agents. 0 disables the cache.
+    public static final Setting<Integer> ML_COMMONS_MEMORY_TAIL_CACHE_SIZE = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "memory_tail_cache_size",
+            1000,
+            0,
+            100000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max connections per remote host of the HTTP clients shared by remote models on a node. Each model is still limited to
+    // the max connections of its connector. Changes apply to the shared clients created after the change.
+    public static final Setting<Integer> ML_COMMONS_REMOTE_CONNECTOR_SHARED_MAX_CONNECTIONS = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_connector.shared_max_connections",
+            1000,
+            1,
+            100000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Whether the concurrent requests of a node to a remote endpoint adapt to the latency and the errors of the endpoint.
+    public static final Setting<Boolean> ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_ENABLED = Setting
+        .boolSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_connector.adaptive_concurrency.enabled",
+            false,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Whether a request much slower than the average of its remote endpoint also cuts the adaptive concurrency limit. Only
+    // useful for endpoints serving requests of similar latency, since a slow request of another kind, like a long chat
+    // completion on an endpoint also serving embeddings, is taken as overload.
+    public static final Setting<Boolean> ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_LATENCY_BACKOFF_ENABLED = Setting
+        .boolSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_connector.adaptive_concurrency.latency_backoff_enabled",
+            false,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Upper bound of the adaptive concurrency limit of a remote endpoint.
+    public static final Setting<Integer> ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_MAX_LIMIT = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_connector.adaptive_concurrency.max_limit",
+            1000,
+            1,
+            100000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max requests waiting for the concurrency limit of a remote endpoint, requests above it are rejected.
+    public static final Setting<Integer> ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_QUEUE_SIZE = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_connector.adaptive_concurrency.queue_size",
+            1000,
+            0,
+            100000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max time a request waits for the concurrency limit of a remote endpoint before it's rejected.
+    public static final Setting<Integer> ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_QUEUE_TIMEOUT_MS = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_connector.adaptive_concurrency.queue_timeout_ms",
+            1000,
+            0,
+            60000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max time a text embedding request to a remote model waits for concurrent requests to be sent together. 0 disables batching.
+    public static final Setting<Integer> ML_COMMONS_REMOTE_CONNECTOR_EMBEDDING_BATCH_LINGER_MS = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_connector.embedding_batch.linger_ms",
+            0,
+            0,
+            1000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max number of docs of concurrent text embedding requests sent to a remote model in one request.
+    public static final Setting<Integer> ML_COMMONS_REMOTE_CONNECTOR_EMBEDDING_BATCH_MAX_DOCS = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_connector.embedding_batch.max_docs",
+            96,
+            1,
+            10000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max size in bytes of the docs of concurrent text embedding requests sent to a remote model in one request.
+    public static final Setting<Integer> ML_COMMONS_REMOTE_CONNECTOR_EMBEDDING_BATCH_MAX_BYTES = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "remote_connector.embedding_batch.max_bytes",
+            1024 * 1024,
+            1024,
+            100 * 1024 * 1024,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max size of the embedding outputs cached on a node, shared by all the deployed models. 0 disables the cache.
+    public static final Setting<ByteSizeValue> ML_COMMONS_EMBEDDING_CACHE_SIZE = Setting
+        .byteSizeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "embedding_cache.size",
+            new ByteSizeValue(0, ByteSizeUnit.BYTES),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Time after which a cached embedding output expires.
+    public static final Setting<TimeValue> ML_COMMONS_EMBEDDING_CACHE_TTL = Setting
+        .positiveTimeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "embedding_cache.ttl",
+            TimeValue.timeValueMinutes(10),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Max size of the trained models, like KMeans and linear regression models, kept loaded on a node to predict without
+    // deploying them. 0 disables the cache.
+    public static final Setting<ByteSizeValue> ML_COMMONS_TRAINED_MODEL_CACHE_SIZE = Setting
+        .memorySizeSetting(
+            ML_PLUGIN_SETTING_PREFIX + "trained_model_cache.size",
+            "1%",
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     public static final Setting<Boolean> ML_COMMONS_MODEL_ACCESS_CONTROL_ENABLED = Setting
         .boolSetting(
             ML_PLUGIN_SETTING_PREFIX + "model_access_control_enabled",
@@ -0,0 +1,20 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.agent;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Remove an updated or deleted agent or connector from the agent cache of all nodes.
+ */
+public class MLAgentCacheInvalidateAction extends ActionType<MLAgentCacheInvalidateNodesResponse> {
+    public static final MLAgentCacheInvalidateAction INSTANCE = new MLAgentCacheInvalidateAction();
+    public static final String NAME = "cluster:admin/opensearch/ml/agents/cache_invalidate";
+
+    private MLAgentCacheInvalidateAction() {
+        super(NAME, MLAgentCacheInvalidateNodesResponse::new);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.agent;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import lombok.Getter;
+
+@Getter
+public class MLAgentCacheInvalidateNodesRequest extends BaseNodesRequest<MLAgentCacheInvalidateNodesRequest> {
+
+    // id of the updated or deleted agent, or null
+    private String agentId;
+    // id of the updated or deleted connector, or null
+    private String connectorId;
+
+    public MLAgentCacheInvalidateNodesRequest(StreamInput in) throws IOException {
+        super(in);
+        this.agentId = in.readOptionalString();
+        this.connectorId = in.readOptionalString();
+    }
+
+    /**
+     * @param nodeIds nodes to invalidate the cache, all nodes if empty
+     * @param agentId id of the updated or deleted agent, or null
+     * @param connectorId id of the updated or deleted connector, or null
+     */
+    public MLAgentCacheInvalidateNodesRequest(String[] nodeIds, String agentId, String connectorId) {
+        super(nodeIds);
+        this.agentId = agentId;
+        this.connectorId = connectorId;
+    }
+
+    public static MLAgentCacheInvalidateNodesRequest forAgent(String agentId) {
+        return new MLAgentCacheInvalidateNodesRequest(new String[0], agentId, null);
+    }
+
+    public static MLAgentCacheInvalidateNodesRequest forConnector(String connectorId) {
+        return new MLAgentCacheInvalidateNodesRequest(new String[0], null, connectorId);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeOptionalString(agentId);
+        out.writeOptionalString(connectorId);
+    }
+}
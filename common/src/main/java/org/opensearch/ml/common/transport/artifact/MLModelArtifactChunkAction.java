@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.artifact;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Read a byte range of a model artifact cached on other nodes, so a deploying node can copy the model zip file from a peer
+ * node instead of reading all model chunks from the model index.
+ * <p>
+ * Any artifact cached on a node can be read by its hash, so this is an internal action: it's only sent between nodes by
+ * a deploying node, and can't be granted to users through the cluster permissions of ml-commons.
+ */
+public class MLModelArtifactChunkAction extends ActionType<MLModelArtifactChunkNodesResponse> {
+    public static final MLModelArtifactChunkAction INSTANCE = new MLModelArtifactChunkAction();
+    public static final String NAME = "internal:opensearch/ml/models/artifact_chunk";
+
+    private MLModelArtifactChunkAction() {
+        super(NAME, MLModelArtifactChunkNodesResponse::new);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.artifact;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import lombok.Getter;
+
+@Getter
+public class MLModelArtifactChunkNodeResponse extends BaseNodeResponse {
+    public static final long NOT_CACHED = -1;
+
+    // size of the whole artifact, or NOT_CACHED if the node doesn't have the artifact
+    private long artifactSize;
+    private BytesReference content;
+
+    public MLModelArtifactChunkNodeResponse(DiscoveryNode node, long artifactSize, BytesReference content) {
+        super(node);
+        this.artifactSize = artifactSize;
+        this.content = content;
+    }
+
+    public MLModelArtifactChunkNodeResponse(StreamInput in) throws IOException {
+        super(in);
+        this.artifactSize = in.readLong();
+        if (in.readBoolean()) {
+            this.content = in.readBytesReference();
+        }
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeLong(artifactSize);
+        if (content != null) {
+            out.writeBoolean(true);
+            out.writeBytesReference(content);
+        } else {
+            out.writeBoolean(false);
+        }
+    }
+
+    public boolean isCached() {
+        return artifactSize != NOT_CACHED;
+    }
+}
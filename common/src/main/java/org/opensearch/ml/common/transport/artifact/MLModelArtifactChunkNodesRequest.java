@@ -0,0 +1,45 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.artifact;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import lombok.Getter;
+
+@Getter
+public class MLModelArtifactChunkNodesRequest extends BaseNodesRequest<MLModelArtifactChunkNodesRequest> {
+
+    private String contentHash;
+    private long offset;
+    // 0 only checks if the artifact is cached on the node
+    private int length;
+
+    public MLModelArtifactChunkNodesRequest(StreamInput in) throws IOException {
+        super(in);
+        this.contentHash = in.readString();
+        this.offset = in.readVLong();
+        this.length = in.readVInt();
+    }
+
+    public MLModelArtifactChunkNodesRequest(String[] nodeIds, String contentHash, long offset, int length) {
+        super(nodeIds);
+        this.contentHash = contentHash;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(contentHash);
+        out.writeVLong(offset);
+        out.writeVInt(length);
+    }
+}
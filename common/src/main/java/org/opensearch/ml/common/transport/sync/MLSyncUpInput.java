@@ -5,6 +5,8 @@
 
 package org.opensearch.ml.common.transport.sync;
 
+import static org.opensearch.ml.common.CommonValue.VERSION_3_7_0;
+
 import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
@@ -31,6 +33,13 @@ public class MLSyncUpInput implements Writeable {
     private boolean clearRoutingTable;
     // sync running deploy model tasks
     private boolean syncRunningDeployModelTasks;
+    // version of the model routing table after this input is applied
+    private String routingTableVersion;
+    // if set, modelRoutingTable only has the changed models since this version, and removedRoutingModelIds has the removed ones
+    private String baseRoutingTableVersion;
+    private Set<String> removedRoutingModelIds;
+    // sha256 hashes of the content of deleted models, their cached model artifacts are removed from the nodes
+    private Set<String> removedModelContentHashes;
 
     // deployToAll flag for models, when deploy/undeploy a model, this will passed to each node to update cache value to make sure
     // profile API has consistent data with model index.
@@ -45,7 +54,11 @@ public class MLSyncUpInput implements Writeable {
         Map<String, Set<String>> runningDeployModelTasks,
         Map<String, Boolean> deployToAllNodes,
         boolean clearRoutingTable,
-        boolean syncRunningDeployModelTasks
+        boolean syncRunningDeployModelTasks,
+        String routingTableVersion,
+        String baseRoutingTableVersion,
+        Set<String> removedRoutingModelIds,
+        Set<String> removedModelContentHashes
     ) {
         this.getDeployedModels = getDeployedModels;
         this.addedWorkerNodes = addedWorkerNodes;
@@ -55,6 +68,10 @@ public class MLSyncUpInput implements Writeable {
         this.deployToAllNodes = deployToAllNodes;
         this.clearRoutingTable = clearRoutingTable;
         this.syncRunningDeployModelTasks = syncRunningDeployModelTasks;
+        this.routingTableVersion = routingTableVersion;
+        this.baseRoutingTableVersion = baseRoutingTableVersion;
+        this.removedRoutingModelIds = removedRoutingModelIds;
+        this.removedModelContentHashes = removedModelContentHashes;
     }
 
     public MLSyncUpInput() {}
@@ -78,6 +95,23 @@ public class MLSyncUpInput implements Writeable {
         }
         this.clearRoutingTable = in.readBoolean();
         this.syncRunningDeployModelTasks = in.readBoolean();
+        if (in.getVersion().onOrAfter(VERSION_3_7_0)) {
+            this.routingTableVersion = in.readOptionalString();
+            this.baseRoutingTableVersion = in.readOptionalString();
+            if (in.readBoolean()) {
+                this.removedRoutingModelIds = in.readSet(StreamInput::readString);
+            }
+            if (in.readBoolean()) {
+                this.removedModelContentHashes = in.readSet(StreamInput::readString);
+            }
+        }
+    }
+
+    /**
+     * @return true if the model routing table only has the changes since the base version
+     */
+    public boolean isRoutingTableDelta() {
+        return baseRoutingTableVersion != null;
     }
 
     @Override
@@ -115,6 +149,22 @@ public class MLSyncUpInput implements Writeable {
         }
         out.writeBoolean(clearRoutingTable);
         out.writeBoolean(syncRunningDeployModelTasks);
+        if (out.getVersion().onOrAfter(VERSION_3_7_0)) {
+            out.writeOptionalString(routingTableVersion);
+            out.writeOptionalString(baseRoutingTableVersion);
+            if (removedRoutingModelIds != null && removedRoutingModelIds.size() > 0) {
+                out.writeBoolean(true);
+                out.writeStringCollection(removedRoutingModelIds);
+            } else {
+                out.writeBoolean(false);
+            }
+            if (removedModelContentHashes != null && removedModelContentHashes.size() > 0) {
+                out.writeBoolean(true);
+                out.writeStringCollection(removedModelContentHashes);
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 
 }
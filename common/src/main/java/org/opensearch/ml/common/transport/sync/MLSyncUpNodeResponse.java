@@ -5,6 +5,8 @@
 
 package org.opensearch.ml.common.transport.sync;
 
+import static org.opensearch.ml.common.CommonValue.VERSION_3_7_0;
+
 import java.io.IOException;
 
 import org.opensearch.Version;
@@ -26,6 +28,7 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse {
     private String[] runningDeployModelIds; // model ids which have deploying model task running
     private String[] runningDeployModelTaskIds; // deploy model task ids which is running
     private String[] expiredModelIds;
+    private String routingTableVersion; // version of the model routing table on the node, null if it's unknown
 
     public MLSyncUpNodeResponse(
         DiscoveryNode node,
@@ -34,6 +37,18 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse {
         String[] runningDeployModelIds,
         String[] runningDeployModelTaskIds,
         String[] expiredModelIds
+    ) {
+        this(node, modelStatus, deployedModelIds, runningDeployModelIds, runningDeployModelTaskIds, expiredModelIds, null);
+    }
+
+    public MLSyncUpNodeResponse(
+        DiscoveryNode node,
+        String modelStatus,
+        String[] deployedModelIds,
+        String[] runningDeployModelIds,
+        String[] runningDeployModelTaskIds,
+        String[] expiredModelIds,
+        String routingTableVersion
     ) {
         super(node);
         this.modelStatus = modelStatus;
@@ -41,6 +56,7 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse {
         this.runningDeployModelIds = runningDeployModelIds;
         this.runningDeployModelTaskIds = runningDeployModelTaskIds;
         this.expiredModelIds = expiredModelIds;
+        this.routingTableVersion = routingTableVersion;
     }
 
     public MLSyncUpNodeResponse(StreamInput in) throws IOException {
@@ -53,6 +69,9 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse {
         if (streamInputVersion.onOrAfter(MLDeploySetting.MINIMAL_SUPPORTED_VERSION_FOR_MODEL_TTL)) {
             this.expiredModelIds = in.readOptionalStringArray();
         }
+        if (streamInputVersion.onOrAfter(VERSION_3_7_0)) {
+            this.routingTableVersion = in.readOptionalString();
+        }
     }
 
     public static MLSyncUpNodeResponse readStats(StreamInput in) throws IOException {
@@ -70,5 +89,8 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse {
         if (streamOutputVersion.onOrAfter(MLDeploySetting.MINIMAL_SUPPORTED_VERSION_FOR_MODEL_TTL)) {
             out.writeOptionalStringArray(expiredModelIds);
         }
+        if (streamOutputVersion.onOrAfter(VERSION_3_7_0)) {
+            out.writeOptionalString(routingTableVersion);
+        }
     }
 }
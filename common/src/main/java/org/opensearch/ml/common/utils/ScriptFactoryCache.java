@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.utils;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.script.Script;
+import org.opensearch.script.ScriptService;
+import org.opensearch.script.ScriptType;
+import org.opensearch.script.TemplateScript;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import lombok.Value;
+
+/**
+ * Cache of compiled painless template scripts, like the pre and post process functions of connectors.
+ * <p>
+ * The script service caches compiled scripts too, but every lookup still builds the script and its cache key, and the
+ * default escape method has to be checked and added to the function every time. Factories here are cached per script
+ * service by the function as it's configured, so executing a cached function is only {@code newInstance(params).execute()}.
+ * A function changed by updating the connector is cached as a new entry, and the stale entry expires.
+ * <p>
+ * Only factories returned by {@link ScriptService#compile} are cached, keyed by the source, so a script is checked
+ * against the allowed script types, languages and contexts when it's first compiled. All the scripts are compiled in the
+ * template script context. A cached script isn't compiled again, so, like the script service's own cache, it doesn't
+ * count against the script compilation rate limit, and it's not checked again until it expires.
+ */
+public final class ScriptFactoryCache {
+    private static final int MAX_CACHED_SCRIPTS = 1000;
+    private static final long EXPIRE_AFTER_ACCESS_MINUTES = 60;
+    private static final String PAINLESS = "painless";
+
+    // weak keys, so factories are dropped together with their script service
+    private static final Cache<ScriptService, Cache<ScriptKey, TemplateScript.Factory>> FACTORIES = CacheBuilder
+        .newBuilder()
+        .weakKeys()
+        .build();
+
+    private ScriptFactoryCache() {}
+
+    /**
+     * Get the compiled factory of the painless template script.
+     * @param scriptService script service to compile the script
+     * @param source painless script
+     * @param addDefaultMethod whether to add the default escape method when it's used, see {@link StringUtils#addDefaultMethod(String)}
+     * @return compiled template script factory
+     */
+    public static TemplateScript.Factory compile(ScriptService scriptService, String source, boolean addDefaultMethod) {
+        Cache<ScriptKey, TemplateScript.Factory> factories = FACTORIES
+            .asMap()
+            .computeIfAbsent(
+                scriptService,
+                key -> CacheBuilder
+                    .newBuilder()
+                    .maximumSize(MAX_CACHED_SCRIPTS)
+                    .expireAfterAccess(EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES)
+                    .build()
+            );
+        ScriptKey scriptKey = new ScriptKey(source, addDefaultMethod);
+        TemplateScript.Factory factory = factories.getIfPresent(scriptKey);
+        if (factory == null) {
+            // compile outside of the cache loader, so compilation errors are thrown as is
+            String painlessScript = addDefaultMethod ? StringUtils.addDefaultMethod(source) : source;
+            Script script = new Script(ScriptType.INLINE, PAINLESS, painlessScript, Collections.emptyMap());
+            factory = scriptService.compile(script, TemplateScript.CONTEXT);
+            factories.put(scriptKey, factory);
+        }
+        return factory;
+    }
+
+    @Value
+    private static class ScriptKey {
+        String source;
+        boolean addDefaultMethod;
+    }
+}
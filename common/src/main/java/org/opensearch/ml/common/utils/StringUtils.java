@@ -114,6 +114,7 @@ public class StringUtils {
             .create();
     }
     public static final String TO_STRING_FUNCTION_NAME = ".toString()";
+    private static final Pattern TO_STRING_PARAMETER_PATTERN = Pattern.compile("\\$\\{parameters\\.(.+?)\\.toString\\(\\)\\}");
 
     public static final ObjectMapper MAPPER = JsonMapper
         .builder()
@@ -218,7 +219,23 @@ public class StringUtils {
         return utf8EncodedString;
     }
 
+    @SuppressWarnings("unchecked")
     public static Map<String, Object> fromJson(String jsonStr, String defaultKey) {
+        Object json = parseJson(jsonStr);
+        if (json instanceof List) {
+            Map<String, Object> result = new HashMap<>();
+            result.put(defaultKey, json);
+            return result;
+        }
+        return (Map<String, Object>) json;
+    }
+
+    /**
+     * Parse a JSON object or array, with the same size limit and errors as {@link #fromJson(String, String)}.
+     * @param jsonStr JSON string
+     * @return a Map for JSON object, or a List for JSON array
+     */
+    public static Object parseJson(String jsonStr) {
         if (jsonStr == null) {
             throw new IllegalArgumentException("JSON string cannot be null");
         }
@@ -234,10 +251,7 @@ public class StringUtils {
             if (jsonNode.isObject()) {
                 return MAPPER.convertValue(jsonNode, Map.class);
             } else if (jsonNode.isArray()) {
-                List<Object> list = MAPPER.convertValue(jsonNode, List.class);
-                Map<String, Object> result = new HashMap<>();
-                result.put(defaultKey, list);
-                return result;
+                return MAPPER.convertValue(jsonNode, List.class);
             } else {
                 throw new IllegalArgumentException("Unsupported response type");
             }
@@ -458,8 +472,7 @@ public class StringUtils {
         for (String key : map.keySet()) {
             String value = map.get(key);
             if (value != null) {
-                Pattern pattern = Pattern.compile("\\$\\{parameters\\.(.+?)\\.toString\\(\\)\\}");
-                Matcher matcher = pattern.matcher(value);
+                Matcher matcher = TO_STRING_PARAMETER_PATTERN.matcher(value);
                 while (matcher.find()) {
                     String prefix = matcher.group(1);
                     prefixes.add(prefix);
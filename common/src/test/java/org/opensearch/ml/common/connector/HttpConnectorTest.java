@@ -364,14 +364,6 @@ public class HttpConnectorTest {
         Assert.assertEquals(responseMap, modelTensors.get(0).getDataAsMap());
     }
 
-    @Test
-    public void fillNullParameters() {
-        HttpConnector connector = createHttpConnector();
-        Map<String, String> parameters = new HashMap<>();
-        String output = connector.fillNullParameters(parameters, "{\"input1\": \"${parameters.input1:-null}\"}");
-        Assert.assertEquals("{\"input1\": null}", output);
-    }
-
     public static HttpConnector createHttpConnector() {
         String requestBody = "{\"input\": \"${parameters.input}\"}";
         return createHttpConnectorWithRequestBody(requestBody);
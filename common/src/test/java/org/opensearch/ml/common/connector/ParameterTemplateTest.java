@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.text.StringSubstitutor;
+import org.junit.Test;
+
+public class ParameterTemplateTest {
+
+    private static final List<String> TEMPLATES = List
+        .of(
+            "",
+            "https://api.openai.com/v1/embeddings",
+            "{ \"model\": \"${parameters.model}\", \"input\": ${parameters.input} }",
+            "${parameters.model}${parameters.input}",
+            "{ \"temperature\": ${parameters.temperature:-0.5}, \"stop\": \"${parameters.stop:-null}\" }",
+            "{ \"a\": \"${parameters.missing:-null}\", \"b\": \"${parameters.model:-null}\", \"c\": ${parameters.missing:-null} }",
+            "{ \"a\": \"${parameters.not.a.word:-null}\" }",
+            "{ \"escaped\": \"$${parameters.model}\", \"double\": \"$$${parameters.model}\" }",
+            "{ \"prompt\": \"${parameters.prompt}\" }",
+            "{ \"missing\": ${parameters.missing}, \"unclosed\": \"${parameters.model",
+            "${parameters.dollar}${parameters.model}",
+            "https://${parameters.endpoint}/model/${parameters.model}/invoke"
+        );
+
+    private static final Map<String, String> PARAMETERS = Map
+        .of(
+            "model",
+            "text-embedding-3-small",
+            "input",
+            "[\"hello\", \"world\"]",
+            "prompt",
+            "Answer ${parameters.question}",
+            "question",
+            "what's the weather?",
+            "dollar",
+            "5$",
+            "endpoint",
+            "bedrock-runtime.us-east-1.amazonaws.com"
+        );
+
+    // quoted placeholders with a null default were replaced with a JSON null before substituting the request body
+    private static final Pattern NULLABLE_PLACEHOLDER = Pattern.compile("\"\\$\\{parameters\\.(\\w+):-null}\"");
+
+    @Test
+    public void testRender_SameAsSubstitutor() {
+        StringSubstitutor substitutor = new StringSubstitutor(PARAMETERS, "${parameters.", "}");
+        for (String template : TEMPLATES) {
+            assertEquals(template, substitutor.replace(template), ParameterTemplate.compile(template, false).render(PARAMETERS));
+            String expectedBody = substitutor.replace(fillNullParameters(PARAMETERS, template));
+            assertEquals(template, expectedBody, ParameterTemplate.compile(template, true).render(PARAMETERS));
+        }
+    }
+
+    @Test
+    public void testRender_NestedPlaceholder() {
+        ParameterTemplate template = ParameterTemplate.compile("{ \"model\": \"${parameters.a:-${parameters.model}}\", \"b\": 1 }", true);
+        assertEquals("{ \"model\": \"text-embedding-3-small\", \"b\": 1 }", template.render(PARAMETERS));
+        assertEquals("{ \"model\": \"x\", \"b\": 1 }", template.render(Map.of("a", "x")));
+        assertEquals("{ \"model\": \"${parameters.model}\", \"b\": 1 }", template.render(Map.of()));
+    }
+
+    @Test
+    public void testRender_NullableParameter() {
+        ParameterTemplate template = ParameterTemplate.compile("{ \"stop\": \"${parameters.stop:-null}\" }", true);
+        assertEquals("{ \"stop\": null }", template.render(Map.of()));
+        assertEquals("{ \"stop\": \"\\n\" }", template.render(Map.of("stop", "\\n")));
+        // urls don't fill null parameters
+        template = ParameterTemplate.compile("\"${parameters.stop:-null}\"", false);
+        assertEquals("\"null\"", template.render(Map.of()));
+    }
+
+    @Test
+    public void testRender_NoPlaceholders() {
+        ParameterTemplate template = ParameterTemplate.compile("{ \"input\": \"hello\" }", true);
+        assertFalse(template.hasPlaceholders());
+        assertEquals("{ \"input\": \"hello\" }", template.render(null));
+    }
+
+    @Test
+    public void testRender_MissingParameters() {
+        String body = "{ \"input\": ${parameters.input}, \"model\": \"${parameters.model}\" }";
+        ParameterTemplate template = ParameterTemplate.compile(body, true);
+        assertTrue(template.hasPlaceholders());
+        assertEquals(body, template.render(null));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRender_CyclicParameters() {
+        ParameterTemplate.compile("${parameters.a}", false).render(Map.of("a", "${parameters.b}", "b", "${parameters.a}"));
+    }
+
+    private static String fillNullParameters(Map<String, String> parameters, String payload) {
+        Matcher matcher = NULLABLE_PLACEHOLDER.matcher(payload);
+        String newPayload = payload;
+        while (matcher.find()) {
+            String key = matcher.group(1);
+            if (parameters.get(key) == null) {
+                newPayload = newPayload.replace("\"${parameters." + key + ":-null}\"", "null");
+            }
+        }
+        return newPayload;
+    }
+}
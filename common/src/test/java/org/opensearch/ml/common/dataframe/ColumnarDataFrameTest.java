@@ -0,0 +1,183 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.dataframe;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.util.Iterator;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.TestHelper;
+
+public class ColumnarDataFrameTest {
+
+    ColumnarDataFrame dataFrame;
+
+    @Before
+    public void setUp() {
+        ColumnMeta[] columnMetas = new ColumnMeta[] {
+            ColumnMeta.builder().name("c1").columnType(ColumnType.STRING).build(),
+            ColumnMeta.builder().name("c2").columnType(ColumnType.INTEGER).build(),
+            ColumnMeta.builder().name("c3").columnType(ColumnType.DOUBLE).build(),
+            ColumnMeta.builder().name("c4").columnType(ColumnType.BOOLEAN).build() };
+        dataFrame = new ColumnarDataFrame(columnMetas, 1);
+        dataFrame.appendRow(new Object[] { "a", 1, 1.5D, true });
+        dataFrame.appendRow(new Object[] { "b", 2, null, false });
+        dataFrame.appendRow(new Row(new ColumnValue[] { new StringValue("c"), new IntValue(3), new DoubleValue(3.5D), new NullValue() }));
+    }
+
+    @Test
+    public void appendRow_GrowColumns() {
+        assertEquals(3, dataFrame.size());
+        for (int i = 0; i < 100; i++) {
+            dataFrame.appendRow(new Object[] { "d", i, (double) i, true });
+        }
+        assertEquals(103, dataFrame.size());
+        assertEquals(99.0D, dataFrame.getDouble(102, 2), 0.0D);
+        assertEquals(99, dataFrame.getRow(102).getValue(1).intValue());
+    }
+
+    @Test
+    public void appendRow_WrongType() {
+        Object[] values = new Object[] { "d", 1.0D, 1.0D, true };
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> dataFrame.appendRow(values));
+        assertEquals("the column type is different in column meta:INTEGER and input row:DOUBLE for index: 1", e.getMessage());
+        assertEquals(3, dataFrame.size());
+    }
+
+    @Test
+    public void appendRow_WrongSize() {
+        assertThrows(IllegalArgumentException.class, () -> dataFrame.appendRow(new Object[] { "d", 1 }));
+        assertThrows(IllegalArgumentException.class, () -> dataFrame.appendRow((Object[]) null));
+        assertThrows(IllegalArgumentException.class, () -> dataFrame.appendRow((Row) null));
+    }
+
+    @Test
+    public void getRow_Success() {
+        Row row = dataFrame.getRow(1);
+        assertEquals("b", row.getValue(0).stringValue());
+        assertEquals(2, row.getValue(1).intValue());
+        assertEquals(ColumnType.NULL, row.getValue(2).columnType());
+        assertFalse(row.getValue(3).booleanValue());
+        assertEquals(ColumnType.NULL, dataFrame.getRow(2).getValue(3).columnType());
+        assertThrows(IllegalArgumentException.class, () -> dataFrame.getRow(3));
+    }
+
+    @Test
+    public void iterator_Success() {
+        Iterator<Row> iterator = dataFrame.iterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            assertEquals(count + 1, iterator.next().getValue(1).intValue());
+            count++;
+        }
+        assertEquals(3, count);
+    }
+
+    @Test
+    public void getDouble_Success() {
+        assertEquals(1.5D, dataFrame.getDouble(0, 2), 0.0D);
+        assertEquals(2.0D, dataFrame.getDouble(1, 1), 0.0D);
+        assertTrue(Double.isNaN(dataFrame.getDouble(1, 2)));
+        assertTrue(dataFrame.isNull(1, 2));
+        assertFalse(dataFrame.isNull(0, 2));
+        assertThrows(RuntimeException.class, () -> dataFrame.getDouble(0, 0));
+    }
+
+    @Test
+    public void columnViews() {
+        DoubleBuffer column = dataFrame.doubleColumn(2);
+        assertEquals(3, column.remaining());
+        assertEquals(3.5D, column.get(2), 0.0D);
+        assertTrue(column.isReadOnly());
+        assertEquals(3, dataFrame.intColumn(1).get(2));
+        assertThrows(IllegalArgumentException.class, () -> dataFrame.doubleColumn(1));
+    }
+
+    @Test
+    public void select_And_Remove() {
+        DataFrame selected = dataFrame.select(new int[] { 2, 1 });
+        assertEquals(3, selected.size());
+        assertEquals("c3", selected.columnMetas()[0].getName());
+        assertEquals(3.5D, selected.getRow(2).getValue(0).doubleValue(), 0.0D);
+        assertEquals(3, selected.getRow(2).getValue(1).intValue());
+
+        DataFrame removed = dataFrame.remove(0);
+        assertEquals(3, removed.columnMetas().length);
+        assertEquals("c2", removed.columnMetas()[0].getName());
+        assertEquals(ColumnType.NULL, removed.getRow(1).getValue(1).columnType());
+
+        // copies don't share columns with the source data frame
+        selected.appendRow(new Object[] { 4.5D, 4 });
+        assertEquals(3, dataFrame.size());
+        assertEquals(4, selected.size());
+    }
+
+    @Test
+    public void getColumnIndex() {
+        assertEquals(2, dataFrame.getColumnIndex("c3"));
+        assertThrows(IllegalArgumentException.class, () -> dataFrame.getColumnIndex("c5"));
+    }
+
+    @Test
+    public void writeTo_Success() throws IOException {
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        dataFrame.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        DataFrame parsed = DataFrameBuilder.load(streamInput);
+
+        assertTrue(parsed instanceof ColumnarDataFrame);
+        assertEquals(3, parsed.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(dataFrame.getRow(i), parsed.getRow(i));
+        }
+    }
+
+    @Test
+    public void writeTo_OldVersion() throws IOException {
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_3_0_0);
+        dataFrame.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_3_0_0);
+        DataFrame parsed = DataFrameBuilder.load(streamInput);
+
+        assertTrue(parsed instanceof DefaultDataFrame);
+        assertEquals(3, parsed.size());
+        assertEquals(dataFrame.getRow(1), parsed.getRow(1));
+    }
+
+    @Test
+    public void toXContent_SameAsDefaultDataFrame() throws IOException {
+        // row based data frames can't have null cells in typed columns
+        DataFrame withoutNulls = dataFrame.select(new int[] { 0, 1 });
+        DefaultDataFrame defaultDataFrame = new DefaultDataFrame(withoutNulls.columnMetas());
+        withoutNulls.forEach(defaultDataFrame::appendRow);
+
+        XContentBuilder builder = MediaTypeRegistry.contentBuilder(XContentType.JSON);
+        builder.startObject();
+        withoutNulls.toXContent(builder, null);
+        builder.endObject();
+        XContentBuilder defaultBuilder = MediaTypeRegistry.contentBuilder(XContentType.JSON);
+        defaultBuilder.startObject();
+        defaultDataFrame.toXContent(defaultBuilder, null);
+        defaultBuilder.endObject();
+
+        assertEquals(TestHelper.xContentBuilderToString(defaultBuilder), TestHelper.xContentBuilderToString(builder));
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.httpclient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+
+public class MLHttpClientRegistryTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private MockedStatic<MLHttpClientFactory> mockedFactory;
+    private SdkAsyncHttpClient delegate;
+    private MLHttpClientRegistry registry;
+
+    @Before
+    public void setup() {
+        delegate = mock(SdkAsyncHttpClient.class);
+        mockedFactory = mockStatic(MLHttpClientFactory.class);
+        mockedFactory
+            .when(
+                () -> MLHttpClientFactory
+                    .getAsyncHttpClient(any(Duration.class), any(Duration.class), anyInt(), anyBoolean(), anyBoolean())
+            )
+            .thenReturn(delegate);
+        registry = new MLHttpClientRegistry();
+    }
+
+    @After
+    public void tearDown() {
+        mockedFactory.close();
+    }
+
+    @Test
+    public void testAcquire_SharesClient() {
+        SdkAsyncHttpClient lease1 = registry.acquire(TIMEOUT, TIMEOUT, 10, false, false);
+        SdkAsyncHttpClient lease2 = registry.acquire(TIMEOUT, TIMEOUT, 20, false, false);
+        SdkAsyncHttpClient lease3 = registry.acquire(TIMEOUT, TIMEOUT, 10, false, true);
+
+        mockedFactory
+            .verify(
+                () -> MLHttpClientFactory.getAsyncHttpClient(eq(TIMEOUT), eq(TIMEOUT), anyInt(), eq(false), anyBoolean()),
+                times(2)
+            );
+        assertEquals(2, registry.getClientCount());
+        assertEquals(3, registry.getLeaseCount());
+
+        lease1.close();
+        // closing a lease twice doesn't release it twice
+        lease1.close();
+        verify(delegate, never()).close();
+        lease2.close();
+        lease3.close();
+        verify(delegate, times(2)).close();
+        assertEquals(0, registry.getClientCount());
+    }
+
+    @Test
+    public void testExecute_QueuesAboveQuota() {
+        CompletableFuture<Void> firstResponse = new CompletableFuture<>();
+        when(delegate.execute(any())).thenReturn(firstResponse).thenReturn(new CompletableFuture<>());
+        SdkAsyncHttpClient lease = registry.acquire(TIMEOUT, TIMEOUT, 1, false, false);
+
+        lease.execute(mock(AsyncExecuteRequest.class));
+        CompletableFuture<Void> queued = lease.execute(mock(AsyncExecuteRequest.class));
+        verify(delegate, times(1)).execute(any());
+        assertEquals(1, registry.getInFlightRequestCount());
+        assertEquals(1, registry.getQueuedRequestCount());
+
+        firstResponse.complete(null);
+        verify(delegate, times(2)).execute(any());
+        assertEquals(1, registry.getInFlightRequestCount());
+        assertEquals(0, registry.getQueuedRequestCount());
+        assertFalse(queued.isDone());
+    }
+
+    @Test
+    public void testExecute_QueueFull() {
+        registry = new MLHttpClientRegistry(1, TIMEOUT);
+        when(delegate.execute(any())).thenReturn(new CompletableFuture<>());
+        SdkAsyncHttpClient lease = registry.acquire(TIMEOUT, TIMEOUT, 1, false, false);
+        AsyncExecuteRequest request = mock(AsyncExecuteRequest.class);
+        SdkAsyncHttpResponseHandler responseHandler = mock(SdkAsyncHttpResponseHandler.class);
+        when(request.responseHandler()).thenReturn(responseHandler);
+
+        lease.execute(mock(AsyncExecuteRequest.class));
+        CompletableFuture<Void> queued = lease.execute(mock(AsyncExecuteRequest.class));
+        CompletableFuture<Void> rejected = lease.execute(request);
+
+        verify(responseHandler).onError(any(IllegalStateException.class));
+        assertTrue(rejected.isCompletedExceptionally());
+        assertFalse(queued.isDone());
+        assertEquals(1, registry.getQueuedRequestCount());
+    }
+
+    @Test
+    public void testExecute_QueuedRequestTimesOut() throws Exception {
+        registry = new MLHttpClientRegistry(10, Duration.ofMillis(50));
+        when(delegate.execute(any())).thenReturn(new CompletableFuture<>());
+        SdkAsyncHttpClient lease = registry.acquire(TIMEOUT, TIMEOUT, 1, false, false);
+        AsyncExecuteRequest request = mock(AsyncExecuteRequest.class);
+        SdkAsyncHttpResponseHandler responseHandler = mock(SdkAsyncHttpResponseHandler.class);
+        when(request.responseHandler()).thenReturn(responseHandler);
+
+        lease.execute(mock(AsyncExecuteRequest.class));
+        CompletableFuture<Void> queued = lease.execute(request);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> queued.get(10, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof TimeoutException);
+        verify(responseHandler).onError(any(TimeoutException.class));
+        assertEquals(0, registry.getQueuedRequestCount());
+        verify(delegate, times(1)).execute(any());
+    }
+
+    @Test
+    public void testClose_FailsQueuedRequests() {
+        when(delegate.execute(any())).thenReturn(new CompletableFuture<>());
+        SdkAsyncHttpClient lease = registry.acquire(TIMEOUT, TIMEOUT, 1, false, false);
+        AsyncExecuteRequest request = mock(AsyncExecuteRequest.class);
+        SdkAsyncHttpResponseHandler responseHandler = mock(SdkAsyncHttpResponseHandler.class);
+        when(request.responseHandler()).thenReturn(responseHandler);
+
+        lease.execute(mock(AsyncExecuteRequest.class));
+        CompletableFuture<Void> queued = lease.execute(request);
+        lease.close();
+
+        verify(responseHandler).onError(any(IllegalStateException.class));
+        assertTrue(queued.isCompletedExceptionally());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testExecute_Closed() {
+        SdkAsyncHttpClient lease = registry.acquire(TIMEOUT, TIMEOUT, 1, false, false);
+        lease.close();
+        lease.execute(mock(AsyncExecuteRequest.class));
+    }
+}
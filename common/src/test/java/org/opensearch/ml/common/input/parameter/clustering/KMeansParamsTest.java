@@ -6,6 +6,7 @@
 package org.opensearch.ml.common.input.parameter.clustering;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.opensearch.ml.common.TestHelper.contentObjectToString;
 import static org.opensearch.ml.common.TestHelper.testParseFromString;
 
@@ -16,6 +17,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.XContentParser;
@@ -36,7 +38,13 @@ public class KMeansParamsTest {
 
     @Before
     public void setUp() {
-        params = KMeansParams.builder().centroids(2).iterations(10).distanceType(KMeansParams.DistanceType.COSINE).build();
+        params = KMeansParams
+            .builder()
+            .centroids(2)
+            .iterations(10)
+            .distanceType(KMeansParams.DistanceType.COSINE)
+            .batchSize(100)
+            .build();
     }
 
     @Test
@@ -75,6 +83,19 @@ public class KMeansParamsTest {
         readInputStream(KMeansParams.builder().build());
     }
 
+    @Test
+    public void readInputStream_OldVersion() throws IOException {
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_3_0_0);
+        params.writeTo(bytesStreamOutput);
+
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_3_0_0);
+        KMeansParams parsedParams = new KMeansParams(streamInput);
+        assertEquals(params.toBuilder().batchSize(null).build(), parsedParams);
+        assertNull(parsedParams.getBatchSize());
+    }
+
     private void readInputStream(KMeansParams params) throws IOException {
         BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
         params.writeTo(bytesStreamOutput);
@@ -6,6 +6,7 @@
 package org.opensearch.ml.common.model;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -13,8 +14,10 @@ import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.regex.Pattern;
 
@@ -25,13 +28,19 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
@@ -49,7 +58,9 @@ import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.search.profile.SearchProfileShardResults;
 import org.opensearch.search.suggest.Suggest;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.AdminClient;
 import org.opensearch.transport.client.Client;
+import org.opensearch.transport.client.IndicesAdminClient;
 
 public class LocalRegexGuardrailTests {
     NamedXContentRegistry xContentRegistry;
@@ -59,6 +70,10 @@ public class LocalRegexGuardrailTests {
     ThreadPool threadPool;
     @Mock
     SdkClient sdkClient;
+    @Mock
+    AdminClient adminClient;
+    @Mock
+    IndicesAdminClient indicesAdminClient;
     ThreadContext threadContext;
 
     StopWords stopWords;
@@ -77,12 +92,16 @@ public class LocalRegexGuardrailTests {
         this.threadContext = new ThreadContext(settings);
         when(this.client.threadPool()).thenReturn(this.threadPool);
         when(this.threadPool.getThreadContext()).thenReturn(this.threadContext);
+        when(this.client.admin()).thenReturn(this.adminClient);
+        when(this.adminClient.indices()).thenReturn(this.indicesAdminClient);
 
         stopWords = new StopWords(indexName, List.of(testField).toArray(new String[0]));
         regex = List.of("(.|\n)*stop words(.|\n)*").toArray(new String[0]);
         regexPatterns = List.of(Pattern.compile("(.|\n)*stop words(.|\n)*"));
         localRegexGuardrail = new LocalRegexGuardrail(List.of(stopWords), regex);
         localRegexGuardrail.init(xContentRegistry, client, sdkClient, tenantId);
+        // loading stop words in memory at init fails with the mocked sdk client
+        Mockito.clearInvocations(sdkClient);
     }
 
     @Test
@@ -294,6 +313,104 @@ public class LocalRegexGuardrailTests {
         Mockito.verify(sdkClient, Mockito.times(1)).searchDataObjectAsync(any());
     }
 
+    @Test
+    public void testValidateStopWordsInMemory() throws IOException {
+        SearchResponse searchResponse = createStopWordsSearchResponse(
+            "{\"query\":{\"match_phrase\":{\"test_field\":\"bad words\"}}}",
+            "{\"query\":{\"match\":{\"test_field\":{\"query\":\"evil, worse\"}}}}",
+            "{\"query\":{\"terms\":{\"test_field\":[\"foo\",\"bar\"]}}}",
+            "{\"query\":{\"term\":{\"other_field\":\"hello\"}}}"
+        );
+        when(sdkClient.searchDataObjectAsync(any()))
+            .thenReturn(CompletableFuture.completedFuture(new SearchDataObjectResponse(searchResponse)));
+        mockStopWordsIndex(getIndexResponse("{\"type\":\"text\",\"analyzer\":\"standard\"}", Settings.EMPTY));
+        LocalRegexGuardrail guardrail = new LocalRegexGuardrail(List.of(stopWords), null);
+        guardrail.init(xContentRegistry, client, sdkClient, tenantId);
+
+        Assert.assertFalse(guardrail.validate("hello BAD words!", Map.of()));
+        Assert.assertFalse(guardrail.validate("hello worse", Map.of()));
+        Assert.assertFalse(guardrail.validate("foo", Map.of()));
+        Assert.assertTrue(guardrail.validate("hello bad, good words", Map.of()));
+        Assert.assertTrue(guardrail.validate("hello world", Map.of()));
+        // stop words are loaded once at init, validation doesn't search the index
+        Mockito.verify(sdkClient, Mockito.times(1)).searchDataObjectAsync(any());
+    }
+
+    @Test
+    public void testValidateStopWordsInMemoryUnsupportedQuery() throws IOException {
+        SearchResponse searchResponse = createStopWordsSearchResponse(
+            "{\"query\":{\"match_phrase\":{\"test_field\":\"bad words\"}}}",
+            "{\"query\":{\"wildcard\":{\"test_field\":\"bad*\"}}}"
+        );
+        when(sdkClient.searchDataObjectAsync(any()))
+            .thenReturn(CompletableFuture.completedFuture(new SearchDataObjectResponse(searchResponse)));
+        mockStopWordsIndex(getIndexResponse("{\"type\":\"text\"}", Settings.EMPTY));
+        LocalRegexGuardrail guardrail = spy(new LocalRegexGuardrail(List.of(stopWords), null));
+        guardrail.init(xContentRegistry, client, sdkClient, tenantId);
+        doReturn(false).when(guardrail).validateStopWordsSingleIndex("badly", indexName, List.of(testField));
+
+        // falls back to percolate search
+        Assert.assertFalse(guardrail.validate("badly", Map.of()));
+        Mockito.verify(guardrail, Mockito.times(1)).validateStopWordsSingleIndex("badly", indexName, List.of(testField));
+    }
+
+    @Test
+    public void testValidateStopWordsStemmingAnalyzer() throws IOException {
+        SearchResponse searchResponse = createStopWordsSearchResponse("{\"query\":{\"match_phrase\":{\"test_field\":\"bad words\"}}}");
+        when(sdkClient.searchDataObjectAsync(any()))
+            .thenReturn(CompletableFuture.completedFuture(new SearchDataObjectResponse(searchResponse)));
+        mockStopWordsIndex(getIndexResponse("{\"type\":\"text\",\"analyzer\":\"english\"}", Settings.EMPTY));
+        LocalRegexGuardrail guardrail = spy(new LocalRegexGuardrail(List.of(stopWords), null));
+        guardrail.init(xContentRegistry, client, sdkClient, tenantId);
+        doReturn(false).when(guardrail).validateStopWordsSingleIndex("bad word", indexName, List.of(testField));
+
+        // the english analyzer stems "words" to "word", only the percolate search blocks "bad word"
+        Assert.assertFalse(guardrail.validate("bad word", Map.of()));
+        Mockito.verify(guardrail, Mockito.times(1)).validateStopWordsSingleIndex("bad word", indexName, List.of(testField));
+        // the stop words aren't loaded in memory
+        Mockito.verify(sdkClient, Mockito.never()).searchDataObjectAsync(any());
+    }
+
+    @Test
+    public void testHasStandardAnalyzer() {
+        List<String> fields = List.of(testField);
+        String standard = "{\"type\":\"text\",\"search_analyzer\":\"standard\"}";
+        Assert.assertTrue(LocalRegexGuardrail.hasStandardAnalyzer(getIndexResponse("{\"type\":\"text\"}", Settings.EMPTY), fields));
+        Assert.assertTrue(LocalRegexGuardrail.hasStandardAnalyzer(getIndexResponse(standard, Settings.EMPTY), fields));
+
+        Settings stemmingDefault = Settings
+            .builder()
+            .put("index.analysis.analyzer.default.type", "custom")
+            .put("index.analysis.analyzer.default.tokenizer", "standard")
+            .putList("index.analysis.analyzer.default.filter", "lowercase", "porter_stem")
+            .build();
+        Assert.assertFalse(LocalRegexGuardrail.hasStandardAnalyzer(getIndexResponse("{\"type\":\"text\"}", stemmingDefault), fields));
+        String synonyms = "{\"type\":\"text\",\"search_analyzer\":\"synonyms\"}";
+        Assert.assertFalse(LocalRegexGuardrail.hasStandardAnalyzer(getIndexResponse(synonyms, Settings.EMPTY), fields));
+        Assert.assertFalse(LocalRegexGuardrail.hasStandardAnalyzer(getIndexResponse("{\"type\":\"keyword\"}", Settings.EMPTY), fields));
+        GetIndexResponse text = getIndexResponse("{\"type\":\"text\"}", Settings.EMPTY);
+        Assert.assertFalse(LocalRegexGuardrail.hasStandardAnalyzer(text, List.of("other")));
+        Assert.assertFalse(LocalRegexGuardrail.hasStandardAnalyzer(null, fields));
+    }
+
+    @Test
+    public void testCollectStopWords() {
+        List<String> fields = List.of(testField);
+        Set<String> stopWords = new HashSet<>();
+
+        Map<String, Object> term = Map.of("term", Map.of(testField, Map.of("value", "bad")));
+        Assert.assertTrue(LocalRegexGuardrail.collectStopWords(term, fields, stopWords));
+        Assert.assertTrue(LocalRegexGuardrail.collectStopWords(Map.of("match", Map.of(testField, "evil worse")), fields, stopWords));
+        Assert.assertEquals(Set.of("bad", "evil", "worse"), stopWords);
+
+        // terms aren't analyzed, so a term with upper case letters never matches the analyzed field
+        Assert.assertFalse(LocalRegexGuardrail.collectStopWords(Map.of("term", Map.of(testField, "Bad")), fields, stopWords));
+        Map<String, Object> andMatch = Map.of("match", Map.of(testField, Map.of("query", "bad words", "operator", "and")));
+        Assert.assertFalse(LocalRegexGuardrail.collectStopWords(andMatch, fields, stopWords));
+        Assert.assertFalse(LocalRegexGuardrail.collectStopWords(Map.of("match_phrase", Map.of(testField, 1)), fields, stopWords));
+        Assert.assertFalse(LocalRegexGuardrail.collectStopWords(null, fields, stopWords));
+    }
+
     @Test
     public void testBuildSearchDataObjectRequest() throws IOException {
         SearchDataObjectRequest request = localRegexGuardrail.buildSearchDataObjectRequest(indexName, "{}");
@@ -301,6 +418,49 @@ public class LocalRegexGuardrailTests {
         Assert.assertEquals(tenantId, request.tenantId());
     }
 
+    private void mockStopWordsIndex(GetIndexResponse response) {
+        doAnswer(invocation -> {
+            ActionListener<GetIndexResponse> listener = invocation.getArgument(1);
+            listener.onResponse(response);
+            return null;
+        }).when(indicesAdminClient).getIndex(any(), any());
+    }
+
+    private GetIndexResponse getIndexResponse(String fieldMapping, Settings settings) {
+        GetIndexResponse response = mock(GetIndexResponse.class);
+        String mapping = "{\"properties\":{\"" + testField + "\":" + fieldMapping + "}}";
+        Map<String, Object> mappingSource = XContentHelper.convertToMap(JsonXContent.jsonXContent, mapping, true);
+        when(response.indices()).thenReturn(new String[] { indexName });
+        when(response.mappings()).thenReturn(Map.of(indexName, new MappingMetadata(indexName, mappingSource)));
+        when(response.settings()).thenReturn(Map.of(indexName, settings));
+        return response;
+    }
+
+    private SearchResponse createStopWordsSearchResponse(String... sources) {
+        SearchHit[] hits = new SearchHit[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            hits[i] = new SearchHit(i).sourceRef(new BytesArray(sources[i]));
+        }
+        return new SearchResponse(
+            new InternalSearchResponse(
+                new SearchHits(hits, new TotalHits(sources.length, TotalHits.Relation.EQUAL_TO), 1.0f),
+                InternalAggregations.EMPTY,
+                new Suggest(Collections.emptyList()),
+                new SearchProfileShardResults(Collections.emptyMap()),
+                false,
+                false,
+                1
+            ),
+            "",
+            5,
+            5,
+            0,
+            100,
+            ShardSearchFailure.EMPTY_ARRAY,
+            SearchResponse.Clusters.EMPTY
+        );
+    }
+
     private SearchResponse createSearchResponse(int size) throws IOException {
         XContentBuilder content = localRegexGuardrail.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS);
         SearchHit[] hits = new SearchHit[size];
@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StopWordsMatcherTests {
+
+    @Test
+    public void matches_WholeTokens() {
+        StopWordsMatcher matcher = StopWordsMatcher.build(List.of("bad", "stop words"));
+
+        Assert.assertEquals(2, matcher.size());
+        Assert.assertTrue(matcher.matches("this is bad"));
+        Assert.assertTrue(matcher.matches("BAD!"));
+        Assert.assertTrue(matcher.matches("\n\nHuman: hello Stop,  words.\n\nAssistant:"));
+        Assert.assertFalse(matcher.matches("badge"));
+        Assert.assertFalse(matcher.matches("a bad_"));
+        Assert.assertFalse(matcher.matches("nonstop words"));
+        Assert.assertFalse(matcher.matches("stop wordsmith"));
+        Assert.assertFalse(matcher.matches("stop the words"));
+        Assert.assertFalse(matcher.matches(""));
+        Assert.assertFalse(matcher.matches(null));
+    }
+
+    @Test
+    public void matches_OverlappingStopWords() {
+        StopWordsMatcher matcher = StopWordsMatcher.build(List.of("a b c d", "b c", "c d e"));
+
+        Assert.assertFalse(matcher.matches("x a b x"));
+        Assert.assertTrue(matcher.matches("x a b c x"));
+        Assert.assertTrue(matcher.matches("a b c d"));
+        Assert.assertTrue(matcher.matches("x c d e"));
+        Assert.assertFalse(matcher.matches("a b x c d"));
+    }
+
+    @Test
+    public void matches_Unicode() {
+        StopWordsMatcher matcher = StopWordsMatcher.build(List.of("\u00DCber", "\uD835\uDC00x"));
+
+        Assert.assertTrue(matcher.matches("das ist \u00DCBER alles"));
+        Assert.assertTrue(matcher.matches("a \uD835\uDC00X b"));
+        Assert.assertFalse(matcher.matches("a \uD835\uDC00Xy b"));
+    }
+
+    @Test
+    public void matches_SameTokensAsStandardAnalyzer() {
+        StopWordsMatcher matcher = StopWordsMatcher.build(List.of("don't", "foo", "3", "\u4F60\u597D", "ab cd"));
+
+        // apostrophes, underscores and number punctuation don't split tokens
+        Assert.assertTrue(matcher.matches("I DON'T know"));
+        Assert.assertFalse(matcher.matches("don t"));
+        Assert.assertFalse(matcher.matches("foo_bar"));
+        Assert.assertFalse(matcher.matches("foo's"));
+        Assert.assertTrue(matcher.matches("foo-bar"));
+        Assert.assertFalse(matcher.matches("pi is 3.14"));
+        Assert.assertFalse(matcher.matches("3,000 of them"));
+        Assert.assertTrue(matcher.matches("3 of them"));
+        // every CJK ideograph is a token
+        Assert.assertTrue(matcher.matches("\u4ED6\u8BF4\u4F60\u597D\u5417"));
+        Assert.assertFalse(matcher.matches("\u4F60\u4EEC\u597D"));
+        // phrases match consecutive tokens whatever separates them
+        Assert.assertTrue(matcher.matches("AB/cd"));
+    }
+
+    @Test
+    public void build_IgnoreEmptyStopWords() {
+        StopWordsMatcher matcher = StopWordsMatcher.build(Arrays.asList("", " ,.", null, "bad", "BAD"));
+
+        Assert.assertEquals(1, matcher.size());
+        Assert.assertFalse(matcher.matches(" , . "));
+        Assert.assertFalse(StopWordsMatcher.build(List.of()).matches("anything"));
+    }
+}
@@ -5,7 +5,10 @@
 
 package org.opensearch.ml.common.output.model;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.spy;
@@ -20,6 +23,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -144,4 +148,113 @@ public class ModelTensorTest {
 
         spyTensor.toString();
     }
+
+    @Test
+    public void test_StreamInAndOut_FloatData() throws IOException {
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .floatData(new float[] { 1.5f, -2.25f, 3.0f })
+            .shape(new long[] { 1, 3 })
+            .dataType(MLResultDataType.FLOAT32)
+            .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        tensor.writeTo(bytesStreamOutput);
+
+        ModelTensor parsedTensor = new ModelTensor(bytesStreamOutput.bytes().streamInput());
+        assertArrayEquals(new float[] { 1.5f, -2.25f, 3.0f }, parsedTensor.getFloatData(), 0.0f);
+        assertEquals(tensor, parsedTensor);
+    }
+
+    @Test
+    public void test_StreamInAndOut_OldVersion() throws IOException {
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .floatData(new float[] { 1.5f, -2.25f, 3.0f })
+            .dataType(MLResultDataType.FLOAT32)
+            .build();
+        BytesStreamOutput floatOutput = new BytesStreamOutput();
+        floatOutput.setVersion(Version.V_3_0_0);
+        tensor.writeTo(floatOutput);
+        BytesStreamOutput numberOutput = new BytesStreamOutput();
+        numberOutput.setVersion(Version.V_3_0_0);
+        ModelTensor numberTensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .data(tensor.getData())
+            .dataType(MLResultDataType.FLOAT32)
+            .build();
+        numberTensor.writeTo(numberOutput);
+        // primitive data are written element by element to old versions, the same as boxed data
+        assertEquals(numberOutput.bytes(), floatOutput.bytes());
+
+        StreamInput streamInput = floatOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_3_0_0);
+        assertEquals(tensor, new ModelTensor(streamInput));
+
+        BytesStreamOutput intOutput = new BytesStreamOutput();
+        intOutput.setVersion(Version.V_3_0_0);
+        modelTensor.writeTo(intOutput);
+        streamInput = intOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_3_0_0);
+        assertEquals(modelTensor, new ModelTensor(streamInput));
+    }
+
+    @Test
+    public void test_PrimitiveDataViews() {
+        ModelTensor tensor = ModelTensor.builder().intData(new int[] { 1, 0, 1 }).dataType(MLResultDataType.BOOLEAN).build();
+        assertArrayEquals(new Number[] { 1, 0, 1 }, tensor.getData());
+        // the boxed data is a copy, changing it doesn't change the tensor
+        tensor.getData()[0] = 0;
+        assertArrayEquals(new int[] { 1, 0, 1 }, tensor.getIntData());
+        assertNotSame(tensor.getData(), tensor.getData());
+        assertNull(tensor.getFloatData());
+        assertArrayEquals(new int[] { 1, 2, 3 }, modelTensor.getIntData());
+
+        tensor.setData(null);
+        assertNull(tensor.getData());
+        assertNull(tensor.getIntData());
+
+        tensor.setFloatData(new float[] { 0.5f });
+        assertArrayEquals(new Number[] { 0.5f }, tensor.getData());
+    }
+
+    @Test
+    public void test_ModelTensorSuccess_FloatData() throws IOException {
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name("embedding")
+            .floatData(new float[] { 1.5f, 2.0f })
+            .dataType(MLResultDataType.FLOAT32)
+            .build();
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        tensor.toXContent(builder, EMPTY_PARAMS);
+        ModelTensor boxedTensor = ModelTensor
+            .builder()
+            .name("embedding")
+            .data(new Number[] { 1.5f, 2.0f })
+            .dataType(MLResultDataType.FLOAT32)
+            .build();
+        XContentBuilder boxedBuilder = XContentBuilder.builder(XContentType.JSON.xContent());
+        boxedTensor.toXContent(boxedBuilder, EMPTY_PARAMS);
+
+        String expected = "{\"name\":\"embedding\",\"data_type\":\"FLOAT32\",\"data\":[1.5,2.0]}";
+        assertEquals(expected, TestHelper.xContentBuilderToString(builder));
+        assertEquals(TestHelper.xContentBuilderToString(boxedBuilder), TestHelper.xContentBuilderToString(builder));
+    }
+
+    @Test
+    public void test_FloatDataWithWrongDataType() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("float data requires floating data type, but got INT32");
+        ModelTensor.builder().floatData(new float[] { 1.0f }).dataType(MLResultDataType.INT32).build();
+    }
+
+    @Test
+    public void test_BothDataAndFloatData() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("only one of data, float data and int data can be set");
+        ModelTensor.builder().data(new Number[] { 1.0f }).floatData(new float[] { 1.0f }).dataType(MLResultDataType.FLOAT32).build();
+    }
 }
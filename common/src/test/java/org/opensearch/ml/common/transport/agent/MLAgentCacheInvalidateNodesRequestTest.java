@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.agent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+
+import org.junit.Test;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+
+public class MLAgentCacheInvalidateNodesRequestTest {
+
+    @Test
+    public void testSerializationDeserialization() throws IOException {
+        MLAgentCacheInvalidateNodesRequest request = MLAgentCacheInvalidateNodesRequest.forAgent("agent_id");
+        BytesStreamOutput output = new BytesStreamOutput();
+        request.writeTo(output);
+        MLAgentCacheInvalidateNodesRequest newRequest = new MLAgentCacheInvalidateNodesRequest(output.bytes().streamInput());
+        assertEquals(0, newRequest.nodesIds().length);
+        assertEquals("agent_id", newRequest.getAgentId());
+        assertNull(newRequest.getConnectorId());
+    }
+
+    @Test
+    public void testNodeRequestSerializationDeserialization() throws IOException {
+        MLAgentCacheInvalidateNodesRequest request = MLAgentCacheInvalidateNodesRequest.forConnector("connector_id");
+        MLAgentCacheInvalidateNodeRequest nodeRequest = new MLAgentCacheInvalidateNodeRequest(request);
+        BytesStreamOutput output = new BytesStreamOutput();
+        nodeRequest.writeTo(output);
+        MLAgentCacheInvalidateNodeRequest newRequest = new MLAgentCacheInvalidateNodeRequest(output.bytes().streamInput());
+        assertNull(newRequest.getCacheInvalidateNodesRequest().getAgentId());
+        assertEquals("connector_id", newRequest.getCacheInvalidateNodesRequest().getConnectorId());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.artifact;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.transport.TransportAddress;
+
+public class MLModelArtifactChunkNodeResponseTest {
+
+    private DiscoveryNode localNode;
+
+    @Before
+    public void setUp() {
+        localNode = new DiscoveryNode(
+            "foo0",
+            "foo0",
+            new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+            Collections.emptyMap(),
+            Collections.singleton(CLUSTER_MANAGER_ROLE),
+            Version.CURRENT
+        );
+    }
+
+    @Test
+    public void testSerializationDeserialization() throws IOException {
+        MLModelArtifactChunkNodeResponse response = new MLModelArtifactChunkNodeResponse(
+            localNode,
+            100,
+            new BytesArray("content".getBytes(StandardCharsets.UTF_8))
+        );
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLModelArtifactChunkNodeResponse newResponse = new MLModelArtifactChunkNodeResponse(output.bytes().streamInput());
+        assertEquals("foo0", newResponse.getNode().getId());
+        assertTrue(newResponse.isCached());
+        assertEquals(100, newResponse.getArtifactSize());
+        assertEquals("content", newResponse.getContent().utf8ToString());
+    }
+
+    @Test
+    public void testSerializationDeserialization_NotCached() throws IOException {
+        MLModelArtifactChunkNodeResponse response = new MLModelArtifactChunkNodeResponse(
+            localNode,
+            MLModelArtifactChunkNodeResponse.NOT_CACHED,
+            null
+        );
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLModelArtifactChunkNodeResponse newResponse = new MLModelArtifactChunkNodeResponse(output.bytes().streamInput());
+        assertFalse(newResponse.isCached());
+        assertNull(newResponse.getContent());
+    }
+
+    @Test
+    public void testNodesResponseSerializationDeserialization() throws IOException {
+        MLModelArtifactChunkNodeResponse nodeResponse = new MLModelArtifactChunkNodeResponse(localNode, 100, null);
+        MLModelArtifactChunkNodesResponse response = new MLModelArtifactChunkNodesResponse(
+            new ClusterName("test"),
+            List.of(nodeResponse),
+            Collections.emptyList()
+        );
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLModelArtifactChunkNodesResponse newResponse = new MLModelArtifactChunkNodesResponse(output.bytes().streamInput());
+        assertEquals(1, newResponse.getNodes().size());
+        assertEquals(100, newResponse.getNodes().get(0).getArtifactSize());
+    }
+}
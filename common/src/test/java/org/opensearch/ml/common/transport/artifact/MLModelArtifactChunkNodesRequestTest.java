@@ -0,0 +1,45 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.artifact;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+
+import org.junit.Test;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+
+public class MLModelArtifactChunkNodesRequestTest {
+
+    @Test
+    public void testSerializationDeserialization() throws IOException {
+        MLModelArtifactChunkNodesRequest request = new MLModelArtifactChunkNodesRequest(
+            new String[] { "node1", "node2" },
+            "contentHash",
+            20_000_000L,
+            10_000_000
+        );
+        BytesStreamOutput output = new BytesStreamOutput();
+        request.writeTo(output);
+        MLModelArtifactChunkNodesRequest newRequest = new MLModelArtifactChunkNodesRequest(output.bytes().streamInput());
+        assertArrayEquals(new String[] { "node1", "node2" }, newRequest.nodesIds());
+        assertEquals("contentHash", newRequest.getContentHash());
+        assertEquals(20_000_000L, newRequest.getOffset());
+        assertEquals(10_000_000, newRequest.getLength());
+    }
+
+    @Test
+    public void testNodeRequestSerializationDeserialization() throws IOException {
+        MLModelArtifactChunkNodesRequest request = new MLModelArtifactChunkNodesRequest(new String[] { "node1" }, "contentHash", 0, 0);
+        MLModelArtifactChunkNodeRequest nodeRequest = new MLModelArtifactChunkNodeRequest(request);
+        BytesStreamOutput output = new BytesStreamOutput();
+        nodeRequest.writeTo(output);
+        MLModelArtifactChunkNodeRequest newRequest = new MLModelArtifactChunkNodeRequest(output.bytes().streamInput());
+        assertEquals("contentHash", newRequest.getArtifactChunkNodesRequest().getContentHash());
+        assertEquals(0, newRequest.getArtifactChunkNodesRequest().getLength());
+    }
+}
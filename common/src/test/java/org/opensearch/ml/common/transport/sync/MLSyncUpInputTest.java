@@ -9,6 +9,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.junit.Test;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 
@@ -84,4 +85,63 @@ public class MLSyncUpInputTest {
         );
 
     }
+
+    @Test
+    public void testConstructorSerialization_RoutingTableDelta() throws IOException {
+        Map<String, Set<String>> changedModelWorkerNodes = new HashMap<>();
+        changedModelWorkerNodes.put("modelId1", Set.of("nodeId1", "nodeId2"));
+        MLSyncUpInput syncUpInput = MLSyncUpInput
+            .builder()
+            .modelRoutingTable(changedModelWorkerNodes)
+            .removedRoutingModelIds(Set.of("modelId2"))
+            .baseRoutingTableVersion("version1")
+            .routingTableVersion("version2")
+            .build();
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        syncUpInput.writeTo(bytesStreamOutput);
+        MLSyncUpInput parsedInput = new MLSyncUpInput(bytesStreamOutput.bytes().streamInput());
+
+        assertTrue(parsedInput.isRoutingTableDelta());
+        assertEquals("version1", parsedInput.getBaseRoutingTableVersion());
+        assertEquals("version2", parsedInput.getRoutingTableVersion());
+        assertEquals(Set.of("modelId2"), parsedInput.getRemovedRoutingModelIds());
+        assertEquals(changedModelWorkerNodes, parsedInput.getModelRoutingTable());
+    }
+
+    @Test
+    public void testConstructorSerialization_RemovedModelContentHashes() throws IOException {
+        MLSyncUpInput syncUpInput = MLSyncUpInput.builder().removedModelContentHashes(Set.of("hash1")).build();
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        syncUpInput.writeTo(bytesStreamOutput);
+        MLSyncUpInput parsedInput = new MLSyncUpInput(bytesStreamOutput.bytes().streamInput());
+
+        assertEquals(Set.of("hash1"), parsedInput.getRemovedModelContentHashes());
+    }
+
+    @Test
+    public void testConstructorSerialization_OldVersion() throws IOException {
+        MLSyncUpInput syncUpInput = MLSyncUpInput
+            .builder()
+            .modelRoutingTable(Map.of("modelId1", Set.of("nodeId1")))
+            .removedRoutingModelIds(Set.of("modelId2"))
+            .baseRoutingTableVersion("version1")
+            .routingTableVersion("version2")
+            .removedModelContentHashes(Set.of("hash1"))
+            .build();
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        bytesStreamOutput.setVersion(Version.V_3_0_0);
+        syncUpInput.writeTo(bytesStreamOutput);
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        streamInput.setVersion(Version.V_3_0_0);
+        MLSyncUpInput parsedInput = new MLSyncUpInput(streamInput);
+
+        assertFalse(parsedInput.isRoutingTableDelta());
+        assertNull(parsedInput.getRoutingTableVersion());
+        assertNull(parsedInput.getRemovedRoutingModelIds());
+        assertNull(parsedInput.getRemovedModelContentHashes());
+        assertEquals(Set.of("nodeId1"), parsedInput.getModelRoutingTable().get("modelId1"));
+    }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.opensearch.ingest.TestTemplateService;
+import org.opensearch.script.Script;
+import org.opensearch.script.ScriptService;
+import org.opensearch.script.TemplateScript;
+
+public class ScriptFactoryCacheTest {
+
+    @Test
+    public void compile_Cached() {
+        ScriptService scriptService = mock(ScriptService.class);
+        when(scriptService.compile(any(), any())).then(invocation -> new TestTemplateService.MockTemplateScript.Factory("result"));
+
+        TemplateScript.Factory factory = ScriptFactoryCache.compile(scriptService, "return params.text;", false);
+        assertSame(factory, ScriptFactoryCache.compile(scriptService, "return params.text;", false));
+        assertEquals("result", factory.newInstance(null).execute());
+        verify(scriptService, times(1)).compile(any(), any());
+
+        // the same function with the default method is a different script
+        assertNotSame(factory, ScriptFactoryCache.compile(scriptService, "return params.text;", true));
+        assertNotSame(factory, ScriptFactoryCache.compile(scriptService, "return params.input;", false));
+        verify(scriptService, times(3)).compile(any(), any());
+
+        // factories are not shared between script services
+        ScriptService otherScriptService = mock(ScriptService.class);
+        when(otherScriptService.compile(any(), any())).then(invocation -> new TestTemplateService.MockTemplateScript.Factory("other"));
+        assertEquals("other", ScriptFactoryCache.compile(otherScriptService, "return params.text;", false).newInstance(null).execute());
+    }
+
+    @Test
+    public void compile_AddDefaultMethod() {
+        ScriptService scriptService = mock(ScriptService.class);
+        when(scriptService.compile(any(), any())).then(invocation -> new TestTemplateService.MockTemplateScript.Factory("result"));
+        String function = "return escape(params.text);";
+
+        ScriptFactoryCache.compile(scriptService, function, true);
+        verify(scriptService)
+            .compile(argThat((Script script) -> script.getIdOrCode().equals(StringUtils.addDefaultMethod(function))), any());
+    }
+
+    @Test
+    public void compile_Failure() {
+        ScriptService scriptService = mock(ScriptService.class);
+        when(scriptService.compile(any(), any())).thenThrow(new IllegalArgumentException("compile error"));
+
+        String function = "return";
+        IllegalArgumentException e = assertThrows(
+            IllegalArgumentException.class,
+            () -> ScriptFactoryCache.compile(scriptService, function, false)
+        );
+        assertEquals("compile error", e.getMessage());
+        // failures are not cached
+        assertThrows(IllegalArgumentException.class, () -> ScriptFactoryCache.compile(scriptService, function, false));
+        verify(scriptService, times(2)).compile(any(), any());
+    }
+}
@@ -219,6 +219,17 @@ public class StringUtilsTest {
         assertTrue(list.get(3) instanceof Map);
     }
 
+    @Test
+    public void parseJson() {
+        assertEquals("value", ((Map) StringUtils.parseJson("{\"key\": \"value\"}")).get("key"));
+        assertEquals(List.of(1, "a"), StringUtils.parseJson("[1, \"a\"]"));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> StringUtils.parseJson("\"value\""));
+        assertEquals("Unsupported response type", e.getMessage());
+        e = assertThrows(IllegalArgumentException.class, () -> StringUtils.parseJson("{\"key\""));
+        assertTrue(e.getMessage().startsWith("Invalid JSON format"));
+        assertThrows(IllegalArgumentException.class, () -> StringUtils.parseJson(null));
+    }
+
     @Test
     public void fromJsonWithWrappingKey_SimpleMap() {
         Map<String, Object> response = StringUtils.fromJsonWithWrappingKey("{\"key\": \"value\"}", "wrapper");
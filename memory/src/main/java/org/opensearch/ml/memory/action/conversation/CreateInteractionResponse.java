@@ -17,6 +17,8 @@
  */
 package org.opensearch.ml.memory.action.conversation;
 
+import static org.opensearch.ml.common.CommonValue.VERSION_3_7_0;
+
 import java.io.IOException;
 
 import org.opensearch.core.action.ActionResponse;
@@ -27,6 +29,7 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ml.common.conversation.ActionConstants;
 
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 
 /**
  * Action Response for create interaction
@@ -34,6 +37,13 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor
 public class CreateInteractionResponse extends ActionResponse implements ToXContentObject {
     private String interactionId;
+    // version of the conversation updated after the interaction was created, null if the conversation wasn't updated
+    @Getter
+    private Long conversationVersion;
+
+    public CreateInteractionResponse(String interactionId) {
+        this(interactionId, null);
+    }
 
     /**
      * Constructor
@@ -43,11 +53,17 @@ public class CreateInteractionResponse extends ActionResponse implements ToXCont
     public CreateInteractionResponse(StreamInput in) throws IOException {
         super(in);
         this.interactionId = in.readString();
+        if (in.getVersion().onOrAfter(VERSION_3_7_0)) {
+            this.conversationVersion = in.readOptionalLong();
+        }
     }
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeString(this.interactionId);
+        if (out.getVersion().onOrAfter(VERSION_3_7_0)) {
+            out.writeOptionalLong(this.conversationVersion);
+        }
     }
 
     /**
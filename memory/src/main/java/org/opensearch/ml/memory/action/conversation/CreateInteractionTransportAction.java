@@ -115,7 +115,7 @@ public class CreateInteractionTransportAction extends HandledTransportAction<Cre
         return ActionListener.wrap(updateResponse -> {
             if (updateResponse != null && updateResponse.getResult() == DocWriteResponse.Result.UPDATED) {
                 log.debug("Successfully updated the memory with ID: {} after message {} is created", conversationId, interactionId);
-                actionListener.onResponse(new CreateInteractionResponse(interactionId));
+                actionListener.onResponse(new CreateInteractionResponse(interactionId, updateResponse.getVersion()));
             } else {
                 log.error("Failed to update the memory with ID: {} after message {} is created", conversationId, interactionId);
                 actionListener.onResponse(new CreateInteractionResponse(interactionId));
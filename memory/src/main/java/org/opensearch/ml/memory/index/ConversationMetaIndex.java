@@ -45,6 +45,7 @@ import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.commons.ConfigConstants;
@@ -304,14 +305,25 @@ public class ConversationMetaIndex {
      * @param listener receives whether access should be granted
      */
     public void checkAccess(String conversationId, ActionListener<Boolean> listener) {
+        checkAccessAndGetVersion(conversationId, ActionListener.wrap(version -> listener.onResponse(version != null), listener::onFailure));
+    }
+
+    /**
+     * Checks whether the current requesting user has permission to see this conversation, and gets the version of the
+     * conversation document. The version is bumped whenever an interaction is added to the conversation.
+     * @param conversationId the conversation to check
+     * @param listener receives the version of the conversation, Versions.NOT_FOUND if the index doesn't exist, or null if
+     *                 access should not be granted
+     */
+    public void checkAccessAndGetVersion(String conversationId, ActionListener<Long> listener) {
         // If the index doesn't exist, you have permission. Just won't get you anywhere
         if (!clusterService.state().metadata().hasIndex(META_INDEX_NAME)) {
-            listener.onResponse(true);
+            listener.onResponse(Versions.NOT_FOUND);
             return;
         }
         String userStr = getUserStrFromThreadContext();
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
-            ActionListener<Boolean> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
+            ActionListener<Long> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
             GetRequest getRequest = Requests.getRequest(META_INDEX_NAME).id(conversationId);
             ActionListener<GetResponse> al = ActionListener.wrap(getResponse -> {
                 // If the conversation doesn't exist, fail
@@ -320,17 +332,17 @@ public class ConversationMetaIndex {
                 }
                 // If security is off - User doesn't exist - you have permission
                 if (userStr == null || User.parse(userStr) == null) {
-                    internalListener.onResponse(true);
+                    internalListener.onResponse(getResponse.getVersion());
                     return;
                 }
                 ConversationMeta conversation = ConversationMeta.fromMap(conversationId, getResponse.getSourceAsMap());
                 String user = User.parse(userStr).getName();
                 // If you're not the owner of this conversation, you do not have permission
                 if (!user.equals(conversation.getUser())) {
-                    internalListener.onResponse(false);
+                    internalListener.onResponse(null);
                     return;
                 }
-                internalListener.onResponse(true);
+                internalListener.onResponse(getResponse.getVersion());
             }, e -> { internalListener.onFailure(e); });
             client.admin().indices().refresh(Requests.refreshRequest(META_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
                 client.get(getRequest, al);
@@ -19,6 +19,7 @@ package org.opensearch.ml.memory.action.conversation;
 
 import java.io.IOException;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.bytes.BytesReference;
@@ -43,6 +44,24 @@ public class CreateInteractionResponseTests extends OpenSearchTestCase {
         assert (newResp.getId().equals("test-iid"));
     }
 
+    public void testCreateInteractionResponseStreaming_ConversationVersion() throws IOException {
+        CreateInteractionResponse response = new CreateInteractionResponse("test-iid", 3L);
+        BytesStreamOutput outbytes = new BytesStreamOutput();
+        response.writeTo(outbytes);
+        CreateInteractionResponse newResp = new CreateInteractionResponse(outbytes.bytes().streamInput());
+        assertEquals("test-iid", newResp.getId());
+        assertEquals(Long.valueOf(3), newResp.getConversationVersion());
+
+        outbytes = new BytesStreamOutput();
+        outbytes.setVersion(Version.V_3_0_0);
+        response.writeTo(outbytes);
+        StreamInput in = outbytes.bytes().streamInput();
+        in.setVersion(Version.V_3_0_0);
+        newResp = new CreateInteractionResponse(in);
+        assertEquals("test-iid", newResp.getId());
+        assertNull(newResp.getConversationVersion());
+    }
+
     public void testToXContent() throws IOException {
         CreateInteractionResponse response = new CreateInteractionResponse("createme");
         XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
@@ -139,6 +139,7 @@ public class CreateInteractionTransportActionTests extends OpenSearchTestCase {
         ArgumentCaptor<CreateInteractionResponse> argCaptor = ArgumentCaptor.forClass(CreateInteractionResponse.class);
         verify(actionListener).onResponse(argCaptor.capture());
         assert (argCaptor.getValue().getId().equals("testID"));
+        assertEquals(Long.valueOf(1), argCaptor.getValue().getConversationVersion());
     }
 
     public void testCreateInteraction_WrongUpdateStatus() {
@@ -157,6 +158,7 @@ public class CreateInteractionTransportActionTests extends OpenSearchTestCase {
         ArgumentCaptor<CreateInteractionResponse> argCaptor = ArgumentCaptor.forClass(CreateInteractionResponse.class);
         verify(actionListener).onResponse(argCaptor.capture());
         assert (argCaptor.getValue().getId().equals("testID"));
+        assertNull(argCaptor.getValue().getConversationVersion());
     }
 
     public void testCreateInteraction_UpdateException() {
@@ -174,6 +176,7 @@ public class CreateInteractionTransportActionTests extends OpenSearchTestCase {
         ArgumentCaptor<CreateInteractionResponse> argCaptor = ArgumentCaptor.forClass(CreateInteractionResponse.class);
         verify(actionListener).onResponse(argCaptor.capture());
         assert (argCaptor.getValue().getId().equals("testID"));
+        assertNull(argCaptor.getValue().getConversationVersion());
     }
 
     public void testCreateInteraction_Trace() {
@@ -48,6 +48,7 @@ import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.commons.ConfigConstants;
@@ -521,6 +522,34 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue());
     }
 
+    public void testCheckAccessAndGetVersion_ThenReturnVersion() {
+        setupUser(null);
+        setupRefreshSuccess();
+        doReturn(true).when(metadata).hasIndex(anyString());
+        final String id = "test_id";
+        GetResponse dummyGetResponse = mock(GetResponse.class);
+        doReturn(true).when(dummyGetResponse).isExists();
+        doReturn(id).when(dummyGetResponse).getId();
+        doReturn(3L).when(dummyGetResponse).getVersion();
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(dummyGetResponse);
+            return null;
+        }).when(client).get(any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<Long> versionListener = mock(ActionListener.class);
+        conversationMetaIndex.checkAccessAndGetVersion(id, versionListener);
+        verify(versionListener, times(1)).onResponse(3L);
+    }
+
+    public void testCheckAccessAndGetVersion_NoIndex_ThenReturnNotFound() {
+        doReturn(false).when(metadata).hasIndex(anyString());
+        @SuppressWarnings("unchecked")
+        ActionListener<Long> versionListener = mock(ActionListener.class);
+        conversationMetaIndex.checkAccessAndGetVersion("test_id", versionListener);
+        verify(versionListener, times(1)).onResponse(Versions.NOT_FOUND);
+    }
+
     public void testCheckAccess_RefreshFails_ThenFail() {
         setupUser("user");
         doReturn(true).when(metadata).hasIndex(anyString());
@@ -9,9 +9,11 @@ import static org.opensearch.ml.common.connector.ConnectorAction.ActionType.PRED
 import static org.opensearch.ml.common.connector.HttpConnector.REGION_FIELD;
 
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.FunctionName;
@@ -26,10 +28,13 @@ import org.opensearch.ml.common.input.parameter.MLAlgoParams;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.Output;
+import org.opensearch.ml.engine.algorithms.clustering.KMeans;
+import org.opensearch.ml.engine.algorithms.rcf.BatchRandomCutForest;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.transport.TransportChannel;
 
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 
 /**
@@ -41,6 +46,7 @@ public class MLEngine {
     public static final String REGISTER_MODEL_FOLDER = "register";
     public static final String DEPLOY_MODEL_FOLDER = "deploy";
     public static final String ANALYSIS_FOLDER = "analysis";
+    public static final String ARTIFACT_CACHE_FOLDER = "artifacts";
     private final String MODEL_REPO = "https://artifacts.opensearch.org/models/ml-models";
 
     @Getter
@@ -52,6 +58,14 @@ public class MLEngine {
 
     private Encryptor encryptor;
 
+    // Executor of the ML thread pool scoring large frames of algorithms like batch RCF in parallel.
+    @Setter
+    private ExecutorService scoringExecutor;
+
+    // Whether KMeans models are stored as their centroids, which nodes before 3.7.0 can't read, see KMeans.setCentroidsFormat.
+    @Setter
+    private volatile boolean kMeansCentroidsFormat = true;
+
     public MLEngine(Path opensearchDataFolder, Encryptor encryptor) {
         this.mlCachePath = opensearchDataFolder.resolve("ml_cache");
         this.mlModelsCachePath = mlCachePath.resolve("models_cache");
@@ -105,6 +119,10 @@ public class MLEngine {
         return mlModelsCachePath.resolve(DEPLOY_MODEL_FOLDER).resolve(modelId).resolve("chunks").resolve(chunkNumber + "");
     }
 
+    public Path getModelArtifactCacheRootPath() {
+        return mlModelsCachePath.resolve(ARTIFACT_CACHE_FOLDER);
+    }
+
     public Path getModelCachePath(String modelId, String modelName, String version) {
         return getModelCachePath(modelId).resolve(version).resolve(modelName);
     }
@@ -124,7 +142,8 @@ public class MLEngine {
     public MLModel train(Input input) {
         validateMLInput(input);
         MLInput mlInput = (MLInput) input;
-        Trainable trainable = MLEngineClassLoader.initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class);
+        Trainable trainable = MLEngineClassLoader
+            .initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class, algorithmProperties());
         if (trainable == null) {
             throw new IllegalArgumentException("Unsupported algorithm: " + mlInput.getAlgorithm());
         }
@@ -147,13 +166,13 @@ public class MLEngine {
     }
 
     public Predictable deploy(MLModel mlModel, Map<String, Object> params) {
-        Predictable predictable = MLEngineClassLoader.initInstance(mlModel.getAlgorithm(), null, MLAlgoParams.class);
+        Predictable predictable = MLEngineClassLoader.initInstance(mlModel.getAlgorithm(), null, MLAlgoParams.class, algorithmProperties());
         predictable.initModel(mlModel, params, encryptor);
         return predictable;
     }
 
     public void deploy(MLModel mlModel, Map<String, Object> params, ActionListener<Predictable> listener) {
-        Predictable predictable = MLEngineClassLoader.initInstance(mlModel.getAlgorithm(), null, MLAlgoParams.class);
+        Predictable predictable = MLEngineClassLoader.initInstance(mlModel.getAlgorithm(), null, MLAlgoParams.class, algorithmProperties());
         predictable.initModelAsync(mlModel, params, encryptor, listener);
     }
 
@@ -166,18 +185,30 @@ public class MLEngine {
     public MLOutput predict(Input input, MLModel model) {
         validateMLInput(input);
         MLInput mlInput = (MLInput) input;
-        Predictable predictable = MLEngineClassLoader.initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class);
+        Predictable predictable = MLEngineClassLoader
+            .initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class, algorithmProperties());
         if (predictable == null) {
             throw new IllegalArgumentException("Unsupported algorithm: " + mlInput.getAlgorithm());
         }
         return predictable.predict(mlInput, model);
     }
 
+    /**
+     * Predict with a deployed model, after checking the input the same way as predicting with the model content.
+     * @param input the predict input
+     * @param predictable the deployed model
+     * @return the output of the model
+     */
+    public MLOutput predict(Input input, Predictable predictable) {
+        validateMLInput(input);
+        return predictable.predict((MLInput) input);
+    }
+
     public MLOutput trainAndPredict(Input input) {
         validateMLInput(input);
         MLInput mlInput = (MLInput) input;
         TrainAndPredictable trainAndPredictable = MLEngineClassLoader
-            .initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class);
+            .initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class, algorithmProperties());
         if (trainAndPredictable == null) {
             throw new IllegalArgumentException("Unsupported algorithm: " + mlInput.getAlgorithm());
         }
@@ -205,6 +236,16 @@ public class MLEngine {
         }
     }
 
+    // properties of the engine set on the algorithms having them, like the scoring executor of batch RCF
+    private Map<String, Object> algorithmProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(KMeans.CENTROIDS_FORMAT, kMeansCentroidsFormat);
+        if (scoringExecutor != null) {
+            properties.put(BatchRandomCutForest.SCORING_EXECUTOR, scoringExecutor);
+        }
+        return properties;
+    }
+
     private void validateMLInput(Input input) {
         validateInput(input);
         if (!(input instanceof MLInput)) {
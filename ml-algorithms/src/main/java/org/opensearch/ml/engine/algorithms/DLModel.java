@@ -58,6 +58,8 @@ public abstract class DLModel implements Predictable {
     public static final String MODEL_ZIP_FILE = "model_zip_file";
     public static final String MODEL_HELPER = "model_helper";
     public static final String ML_ENGINE = "ml_engine";
+    public static final String INFERENCE_BATCH_SIZE = "inference_batch_size";
+    public static final String INFERENCE_BATCH_WAIT_TIME_MS = "inference_batch_wait_time_ms";
     protected ModelHelper modelHelper;
     protected MLEngine mlEngine;
     protected String modelId;
@@ -68,6 +70,7 @@ public abstract class DLModel implements Predictable {
     protected AtomicInteger nextDevice = new AtomicInteger(0);
 
     protected MLModelConfig modelConfig;
+    protected InferenceBatcher inferenceBatcher;
 
     @Override
     public MLOutput predict(MLInput mlInput, MLModel model) {
@@ -140,10 +143,51 @@ public abstract class DLModel implements Predictable {
             throw new IllegalArgumentException("wrong function name");
         }
         loadModel(modelZipFile, modelId, model.getName(), model.getVersion(), model.getModelConfig(), engine);
+        initInferenceBatcher(params, engine, model.getModelConfig());
+    }
+
+    private void initInferenceBatcher(Map<String, Object> params, String engine, MLModelConfig modelConfig) {
+        Integer batchSize = (Integer) params.get(INFERENCE_BATCH_SIZE);
+        if (batchSize == null || batchSize <= 1 || !supportsBatchInference(engine, modelConfig)) {
+            return;
+        }
+        Integer waitTime = (Integer) params.get(INFERENCE_BATCH_WAIT_TIME_MS);
+        inferenceBatcher = new InferenceBatcher(batchSize, waitTime == null ? 0 : waitTime, inputs -> getPredictor().batchPredict(inputs));
+        log.info("Enabled batched inference for model {} with max batch size {}", modelId, batchSize);
+    }
+
+    /**
+     * Whether the translator of this model can pack several inputs into one forward pass.
+     * @param engine model engine
+     * @param modelConfig model config
+     * @return true if inputs can be predicted in batches
+     */
+    protected boolean supportsBatchInference(String engine, MLModelConfig modelConfig) {
+        return false;
+    }
+
+    /**
+     * Predict inputs of one request, in batches when batched inference is enabled.
+     * @param inputs model inputs
+     * @param batchKey inputs are only batched together with inputs of the same key
+     * @return model outputs in the same order as the inputs
+     * @throws TranslateException if inference failed
+     */
+    protected List<Output> predictInputs(List<Input> inputs, String batchKey) throws TranslateException {
+        InferenceBatcher batcher = inferenceBatcher;
+        if (batcher != null && inputs.size() > 0) {
+            return batcher.predict(inputs, batchKey);
+        }
+        List<Output> outputs = new ArrayList<>(inputs.size());
+        for (Input input : inputs) {
+            outputs.add(getPredictor().predict(input));
+        }
+        return outputs;
     }
 
     @Override
     public void close() {
+        inferenceBatcher = null;
         if (modelHelper != null && modelId != null) {
             modelHelper.deleteFileCache(modelId);
             if (predictors != null) {
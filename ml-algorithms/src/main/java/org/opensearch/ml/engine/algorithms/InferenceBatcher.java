@@ -0,0 +1,198 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.opensearch.ml.common.exception.MLException;
+
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+import ai.djl.translate.TranslateException;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Packs inputs of concurrent predict requests against the same local model into batches, so one
+ * forward pass serves several documents. A batch runs once it is full or once its oldest input has
+ * waited for the max wait time. Only inputs with the same batch key are packed together.
+ * <p>
+ * Batches run on the calling threads: every caller waiting for its own outputs helps draining the
+ * queue, so no extra thread pool is needed and no input can be left behind.
+ */
+@Log4j2
+public class InferenceBatcher {
+
+    @FunctionalInterface
+    public interface BatchPredictor {
+        List<Output> batchPredict(List<Input> inputs) throws TranslateException;
+    }
+
+    @Getter
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final BatchPredictor batchPredictor;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition inputAdded = lock.newCondition();
+    private final Deque<PendingInput> pendingInputs = new ArrayDeque<>();
+
+    public InferenceBatcher(int maxBatchSize, long maxWaitTimeInMillis, BatchPredictor batchPredictor) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("max batch size must be positive");
+        }
+        if (maxWaitTimeInMillis < 0) {
+            throw new IllegalArgumentException("max wait time can't be negative");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitTimeInMillis);
+        this.batchPredictor = Objects.requireNonNull(batchPredictor, "batch predictor is null");
+    }
+
+    /**
+     * Predict a list of inputs, possibly together with inputs of other concurrent requests.
+     * @param inputs model inputs of one request
+     * @param batchKey inputs are only batched with inputs of the same key, can be null
+     * @return model outputs in the same order as the inputs
+     * @throws TranslateException if the batch containing one of the inputs failed
+     */
+    public List<Output> predict(List<Input> inputs, String batchKey) throws TranslateException {
+        List<PendingInput> submitted = new ArrayList<>(inputs.size());
+        long enqueueTime = System.nanoTime();
+        lock.lock();
+        try {
+            for (Input input : inputs) {
+                PendingInput pendingInput = new PendingInput(input, batchKey, enqueueTime);
+                pendingInputs.addLast(pendingInput);
+                submitted.add(pendingInput);
+            }
+            inputAdded.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        List<Output> outputs = new ArrayList<>(submitted.size());
+        try {
+            for (PendingInput pendingInput : submitted) {
+                while (!pendingInput.result.isDone()) {
+                    List<PendingInput> batch = takeBatch();
+                    if (batch == null) {
+                        // Queue is empty, so the input is being predicted by another caller.
+                        break;
+                    }
+                    runBatch(batch);
+                }
+                outputs.add(getOutput(pendingInput));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TranslateException("Interrupted while waiting for batched inference", e);
+        }
+        return outputs;
+    }
+
+    /**
+     * Block until a batch is ready: enough inputs are queued or the oldest input waited long enough.
+     * @return the inputs of the next batch, or null if no input is queued
+     */
+    private List<PendingInput> takeBatch() throws InterruptedException {
+        lock.lock();
+        try {
+            while (!pendingInputs.isEmpty()) {
+                long remainingNanos = pendingInputs.peekFirst().enqueueTime + maxWaitNanos - System.nanoTime();
+                if (pendingInputs.size() >= maxBatchSize || remainingNanos <= 0) {
+                    return pollBatch();
+                }
+                inputAdded.awaitNanos(remainingNanos);
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<PendingInput> pollBatch() {
+        String batchKey = pendingInputs.peekFirst().batchKey;
+        List<PendingInput> batch = new ArrayList<>(Math.min(maxBatchSize, pendingInputs.size()));
+        Iterator<PendingInput> iterator = pendingInputs.iterator();
+        while (iterator.hasNext() && batch.size() < maxBatchSize) {
+            PendingInput pendingInput = iterator.next();
+            if (Objects.equals(batchKey, pendingInput.batchKey)) {
+                iterator.remove();
+                batch.add(pendingInput);
+            }
+        }
+        return batch;
+    }
+
+    private void runBatch(List<PendingInput> batch) {
+        List<Input> inputs = new ArrayList<>(batch.size());
+        for (PendingInput pendingInput : batch) {
+            inputs.add(pendingInput.input);
+        }
+        try {
+            List<Output> outputs = batchPredictor.batchPredict(inputs);
+            if (outputs == null || outputs.size() != batch.size()) {
+                throw new MLException("Batched inference returned wrong number of outputs");
+            }
+            log.debug("Predicted batch of {} inputs", batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result.complete(outputs.get(i));
+            }
+        } catch (Exception e) {
+            for (PendingInput pendingInput : batch) {
+                pendingInput.result.completeExceptionally(e);
+            }
+        } catch (Error e) {
+            // the other callers of the batch would wait forever otherwise
+            for (PendingInput pendingInput : batch) {
+                pendingInput.result.completeExceptionally(e);
+            }
+            throw e;
+        }
+    }
+
+    private Output getOutput(PendingInput pendingInput) throws InterruptedException, TranslateException {
+        try {
+            return pendingInput.result.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TranslateException) {
+                throw (TranslateException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new TranslateException(cause);
+        }
+    }
+
+    private static class PendingInput {
+        private final Input input;
+        private final String batchKey;
+        private final long enqueueTime;
+        private final CompletableFuture<Output> result = new CompletableFuture<>();
+
+        PendingInput(Input input, String batchKey, long enqueueTime) {
+            this.input = input;
+            this.batchKey = batchKey;
+            this.enqueueTime = enqueueTime;
+        }
+    }
+}
@@ -15,11 +15,12 @@ import ai.djl.translate.ServingTranslator;
 import ai.djl.translate.TranslatorContext;
 
 public abstract class SentenceTransformerTranslator implements ServingTranslator {
+    private static final Batchifier BATCHIFIER = new SequencePaddingBatchifier();
     protected HuggingFaceTokenizer tokenizer;
 
     @Override
     public Batchifier getBatchifier() {
-        return Batchifier.STACK;
+        return BATCHIFIER;
     }
 
     @Override
@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDArrays;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.translate.Batchifier;
+
+/**
+ * Stacks tokenized inputs of different lengths into one batch. One dimensional arrays (token ids,
+ * attention masks, token type ids) are right padded with zeros to the longest input of the batch, so
+ * padded positions are masked out by the attention mask. Array names are kept since torchscript
+ * models map their inputs by name.
+ */
+public class SequencePaddingBatchifier implements Batchifier {
+
+    @Override
+    public NDList batchify(NDList[] inputs) {
+        int numOfArrays = inputs[0].size();
+        NDList batch = new NDList(numOfArrays);
+        for (int i = 0; i < numOfArrays; i++) {
+            long maxLength = 0;
+            for (NDList input : inputs) {
+                NDArray array = input.get(i);
+                if (array.getShape().dimension() == 1) {
+                    maxLength = Math.max(maxLength, array.getShape().get(0));
+                }
+            }
+            NDList arrays = new NDList(inputs.length);
+            for (NDList input : inputs) {
+                arrays.add(pad(input.get(i), maxLength));
+            }
+            NDArray stacked = NDArrays.stack(arrays);
+            stacked.setName(inputs[0].get(i).getName());
+            batch.add(stacked);
+        }
+        return batch;
+    }
+
+    @Override
+    public NDList[] unbatchify(NDList inputs) {
+        return Batchifier.STACK.unbatchify(inputs);
+    }
+
+    @Override
+    public NDList[] split(NDList list, int numOfSlices, boolean evenUp) {
+        return Batchifier.STACK.split(list, numOfSlices, evenUp);
+    }
+
+    private NDArray pad(NDArray array, long length) {
+        if (array.getShape().dimension() != 1) {
+            return array;
+        }
+        long paddingLength = length - array.getShape().get(0);
+        if (paddingLength <= 0) {
+            return array;
+        }
+        NDArray padding = array.getManager().zeros(new Shape(paddingLength), array.getDataType());
+        return array.concat(padding);
+    }
+}
@@ -34,19 +34,25 @@ public abstract class TextEmbeddingModel extends DLModel {
             ? addPrefixesToData((AsymmetricTextEmbeddingParameters) mlParams, (TextDocsInputDataSet) mlInput.getInputDataset())
             : mlInput.getInputDataset();
 
-        List<ModelTensors> tensorOutputs = new ArrayList<>();
-        Output output;
         TextDocsInputDataSet textDocsInput = (TextDocsInputDataSet) inputDataSet;
         ModelResultFilter resultFilter = textDocsInput.getResultFilter();
+        String embeddingFormat = null;
+        if (mlParams instanceof AsymmetricTextEmbeddingParameters) {
+            embeddingFormat = ((AsymmetricTextEmbeddingParameters) mlParams).getSparseEmbeddingFormat().name();
+        }
+        List<Input> inputs = new ArrayList<>(textDocsInput.getDocs().size());
         for (String doc : textDocsInput.getDocs()) {
             Input input = new Input();
             input.add(doc);
-            if (mlParams instanceof AsymmetricTextEmbeddingParameters) {
-                AsymmetricTextEmbeddingParameters params = (AsymmetricTextEmbeddingParameters) mlParams;
-                input.add(AsymmetricTextEmbeddingParameters.SPARSE_EMBEDDING_FORMAT_FIELD, params.getSparseEmbeddingFormat().name());
+            if (embeddingFormat != null) {
+                input.add(AsymmetricTextEmbeddingParameters.SPARSE_EMBEDDING_FORMAT_FIELD, embeddingFormat);
             }
+            inputs.add(input);
+        }
 
-            output = getPredictor().predict(input);
+        // Sparse embedding format is kept per batch by the translator, so only batch docs with the same format.
+        List<ModelTensors> tensorOutputs = new ArrayList<>(inputs.size());
+        for (Output output : predictInputs(inputs, embeddingFormat)) {
             tensorOutputs.add(parseModelTensorOutput(output, resultFilter));
         }
         return new ModelTensorOutput(tensorOutputs);
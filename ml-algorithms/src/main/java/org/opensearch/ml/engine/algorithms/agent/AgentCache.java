@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.agent;
+
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_AGENT_CACHE_SIZE;
+
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.ml.common.agent.MLAgent;
+import org.opensearch.ml.common.connector.Connector;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Per-node cache of parsed agents and of the connectors read by agents, so executing an agent doesn't read the agent
+ * index and the connector index on every request.
+ * <p>
+ * Entries are keyed by id and tenant id. Updating or deleting an agent or a connector invalidates its entries on all
+ * nodes, and entries expire after a while in case a node misses an invalidation. Every invalidation bumps the cache
+ * version, and a value read from the index is only cached if the version didn't change during the read, so a read that
+ * started before an update can't put the old value back. Cached agents are shared by requests and must not be
+ * modified; connectors are cloned, since they hold decrypted credentials once used.
+ */
+public class AgentCache {
+    private static final AgentCache INSTANCE = new AgentCache();
+    private static final long EXPIRE_AFTER_WRITE_MINUTES = 10;
+
+    private volatile Cache<Tuple<String, String>, MLAgent> agents;
+    private volatile Cache<Tuple<String, String>, Connector> connectors;
+    private long version;
+
+    @VisibleForTesting
+    AgentCache() {}
+
+    public static AgentCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Enable the cache with the size from the settings. The cache is disabled until it's initialized.
+     */
+    public void initialize(ClusterService clusterService, Settings settings) {
+        resize(ML_COMMONS_AGENT_CACHE_SIZE.get(settings));
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_AGENT_CACHE_SIZE, this::resize);
+    }
+
+    @VisibleForTesting
+    synchronized void resize(int maxSize) {
+        version++;
+        if (maxSize <= 0) {
+            agents = null;
+            connectors = null;
+            return;
+        }
+        agents = newCache(maxSize);
+        connectors = newCache(maxSize);
+    }
+
+    private static <V> Cache<Tuple<String, String>, V> newCache(int maxSize) {
+        return CacheBuilder.newBuilder().maximumSize(maxSize).expireAfterWrite(EXPIRE_AFTER_WRITE_MINUTES, TimeUnit.MINUTES).build();
+    }
+
+    /**
+     * @return the current version, to pass to the put methods after reading a value from the index
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    public MLAgent getAgent(String agentId, String tenantId) {
+        Cache<Tuple<String, String>, MLAgent> cache = agents;
+        return cache == null ? null : cache.getIfPresent(Tuple.tuple(agentId, tenantId));
+    }
+
+    public synchronized void putAgent(String agentId, String tenantId, MLAgent agent, long readVersion) {
+        if (agents != null && readVersion == version) {
+            agents.put(Tuple.tuple(agentId, tenantId), agent);
+        }
+    }
+
+    public Connector getConnector(String connectorId, String tenantId) {
+        Cache<Tuple<String, String>, Connector> cache = connectors;
+        Connector connector = cache == null ? null : cache.getIfPresent(Tuple.tuple(connectorId, tenantId));
+        return connector == null ? null : connector.cloneConnector();
+    }
+
+    public synchronized void putConnector(String connectorId, String tenantId, Connector connector, long readVersion) {
+        if (connectors != null && readVersion == version) {
+            connectors.put(Tuple.tuple(connectorId, tenantId), connector.cloneConnector());
+        }
+    }
+
+    /**
+     * Remove the cached agent of all tenants.
+     */
+    public synchronized void invalidateAgent(String agentId) {
+        version++;
+        if (agents != null) {
+            agents.asMap().keySet().removeIf(key -> key.v1().equals(agentId));
+        }
+    }
+
+    /**
+     * Remove the cached connector of all tenants.
+     */
+    public synchronized void invalidateConnector(String connectorId) {
+        version++;
+        if (connectors != null) {
+            connectors.asMap().keySet().removeIf(key -> key.v1().equals(connectorId));
+        }
+    }
+}
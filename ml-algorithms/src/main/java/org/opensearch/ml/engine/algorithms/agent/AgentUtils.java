@@ -911,6 +911,13 @@ public class AgentUtils {
         Client client,
         ActionListener<Connector> listener
     ) {
+        AgentCache agentCache = AgentCache.getInstance();
+        Connector cachedConnector = agentCache.getConnector(connectorId, tenantId);
+        if (cachedConnector != null) {
+            listener.onResponse(cachedConnector);
+            return;
+        }
+        long agentCacheVersion = agentCache.getVersion();
         GetDataObjectRequest getDataObjectRequest = GetDataObjectRequest
             .builder()
             .index(ML_CONNECTOR_INDEX)
@@ -943,6 +950,7 @@ public class AgentUtils {
                             ) {
                                 ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
                                 Connector connector = Connector.createConnector(parser);
+                                agentCache.putConnector(connectorId, tenantId, connector, agentCacheVersion);
                                 listener.onResponse(connector);
                             } catch (Exception e) {
                                 log.error("Failed to parse connector:{}", connectorId);
@@ -146,6 +146,7 @@ public class MLAgentExecutor implements Executable, SettingsChangeListener {
     private volatile Boolean isMultiTenancyEnabled;
     private Encryptor encryptor;
     private MLFeatureEnabledSetting mlFeatureEnabledSetting;
+    private AgentCache agentCache = AgentCache.getInstance();
 
     public MLAgentExecutor(
         Client client,
@@ -212,6 +213,18 @@ public class MLAgentExecutor implements Executable, SettingsChangeListener {
             .build();
 
         if (MLIndicesHandler.doesMultiTenantIndexExist(clusterService, mlFeatureEnabledSetting.isMultiTenancyEnabled(), ML_AGENT_INDEX)) {
+            MLAgent cachedAgent = agentCache.getAgent(agentId, tenantId);
+            if (cachedAgent != null) {
+                log.debug("Found cached Agent, Agent id:{}", agentId);
+                try {
+                    runAgent(agentMLInput, cachedAgent, agentId, tenantId, isAsync, outputs, modelTensors, listener, channel);
+                } catch (Exception e) {
+                    log.error("Failed to run ml agent. agentId={}, tenantId={}", agentId, tenantId, e);
+                    listener.onFailure(e);
+                }
+                return;
+            }
+            long agentCacheVersion = agentCache.getVersion();
             try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
                 sdkClient
                     .getDataObjectAsync(getDataObjectRequest, client.threadPool().executor("opensearch_ml_general"))
@@ -243,260 +256,18 @@ public class MLAgentExecutor implements Executable, SettingsChangeListener {
                                     ) {
                                         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
                                         MLAgent mlAgent = MLAgent.parse(parser);
-                                        // Use existing HookRegistry from AgentMLInput if available (set by MLExecuteTaskRunner for template
-                                        // references)
-                                        // Otherwise create a fresh HookRegistry for agent execution
-                                        final HookRegistry hookRegistry = agentMLInput.getHookRegistry() != null
-                                            ? agentMLInput.getHookRegistry()
-                                            : new HookRegistry();
-                                        if (isMultiTenancyEnabled && !Objects.equals(tenantId, mlAgent.getTenantId())) {
-                                            listener
-                                                .onFailure(
-                                                    new OpenSearchStatusException(
-                                                        "You don't have permission to access this resource",
-                                                        RestStatus.FORBIDDEN
-                                                    )
-                                                );
-                                        }
-
-                                        processAgentInput(agentMLInput, mlAgent);
-
-                                        RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) agentMLInput
-                                            .getInputDataset();
-                                        Map<String, String> requestParameters = inputDataSet.getParameters();
-
-                                        // Add agentId to parameters for logging in agent runners
-                                        inputDataSet.getParameters().put(AGENT_ID_LOG_FIELD, agentId);
-
-                                        mlAgent = applyMemoryContainerOverride(mlAgent, inputDataSet, agentId);
-                                        final MLAgent finalMlAgent = mlAgent;
-
-                                        MLMemorySpec memorySpec = mlAgent.getMemory();
-                                        if (!mlFeatureEnabledSetting.isRemoteAgenticMemoryEnabled()) {
-                                            boolean usesRemoteMemory = memorySpec != null
-                                                && MLMemoryType.REMOTE_AGENTIC_MEMORY.name().equalsIgnoreCase(memorySpec.getType());
-                                            String memoryConfig = requestParameters != null
-                                                ? requestParameters.get(MEMORY_CONFIGURATION_FIELD)
-                                                : null;
-                                            if (usesRemoteMemory || !Strings.isNullOrEmpty(memoryConfig)) {
-                                                listener
-                                                    .onFailure(
-                                                        new OpenSearchStatusException(
-                                                            ML_COMMONS_REMOTE_AGENTIC_MEMORY_DISABLED_MESSAGE,
-                                                            RestStatus.FORBIDDEN
-                                                        )
-                                                    );
-                                                return;
-                                            }
-                                        }
-                                        String memoryId = inputDataSet.getParameters().get(MEMORY_ID);
-                                        String parentInteractionId = inputDataSet.getParameters().get(PARENT_INTERACTION_ID);
-                                        String regenerateInteractionId = inputDataSet.getParameters().get(REGENERATE_INTERACTION_ID);
-                                        String appType = finalMlAgent.getAppType();
-                                        String question = inputDataSet.getParameters().get(QUESTION);
-
-                                        if (parentInteractionId != null && regenerateInteractionId != null) {
-                                            throw new IllegalArgumentException(
-                                                "Provide either `parent_interaction_id` to update an existing interaction, or `regenerate_interaction_id` to create a new one."
-                                            );
-                                        }
-
-                                        MLTask mlTask = MLTask
-                                            .builder()
-                                            .taskType(MLTaskType.AGENT_EXECUTION)
-                                            .functionName(FunctionName.AGENT)
-                                            .state(MLTaskState.CREATED)
-                                            .workerNodes(ImmutableList.of(clusterService.localNode().getId()))
-                                            .createTime(Instant.now())
-                                            .lastUpdateTime(Instant.now())
-                                            .async(false)
-                                            .tenantId(tenantId)
-                                            .build();
-
-                                        if (memoryId == null && regenerateInteractionId != null) {
-                                            throw new IllegalArgumentException("A memory ID must be provided to regenerate.");
-                                        }
-                                        if (memorySpec != null
-                                            && memorySpec.getType() != null
-                                            && memoryFactoryMap != null
-                                            && memoryFactoryMap.containsKey(MLMemoryType.from(memorySpec.getType()).name())
-                                            && (memoryId == null || parentInteractionId == null)) {
-                                            Map<String, Object> memoryParams = createMemoryParams(
-                                                question,
-                                                memoryId,
-                                                appType,
-                                                finalMlAgent,
-                                                requestParameters
-                                            );
-                                            log.debug("MLAgentExecutor creating new memory, params: {}", sanitizeForLogging(memoryParams));
-                                            // Check if inline connector metadata is present to use RemoteAgenticConversationMemory
-                                            Memory.Factory<Memory<?, ?, ?>> memoryFactory;
-                                            if (memoryParams != null && memoryParams.containsKey(ENDPOINT_FIELD)) {
-                                                // Use RemoteAgenticConversationMemory when inline connector metadata is detected
-                                                memoryFactory = memoryFactoryMap.get(MLMemoryType.REMOTE_AGENTIC_MEMORY.name());
-                                                log.info("Detected inline connector metadata, using RemoteAgenticConversationMemory");
-                                            } else {
-                                                // Use the originally specified memory factory
-                                                memoryFactory = memoryFactoryMap.get(MLMemoryType.from(memorySpec.getType()).name());
-                                            }
-                                            if (memoryFactory == null) {
-                                                listener
-                                                    .onFailure(
-                                                        new IllegalArgumentException(
-                                                            "Memory factory not found for type: "
-                                                                + (memoryParams != null && memoryParams.containsKey(ENDPOINT_FIELD)
-                                                                    ? MLMemoryType.REMOTE_AGENTIC_MEMORY.name()
-                                                                    : MLMemoryType.from(memorySpec.getType()).name())
-                                                        )
-                                                    );
-                                                return;
-                                            }
-                                            memoryFactory.create(memoryParams, ActionListener.wrap(memory -> {
-                                                inputDataSet.getParameters().put(MEMORY_ID, memory.getId());
-                                                // get question for regenerate
-                                                if (regenerateInteractionId != null) {
-                                                    log.info("Regenerate for existing interaction {}", regenerateInteractionId);
-                                                    client
-                                                        .execute(
-                                                            GetInteractionAction.INSTANCE,
-                                                            new GetInteractionRequest(regenerateInteractionId),
-                                                            ActionListener.wrap(interactionRes -> {
-                                                                inputDataSet
-                                                                    .getParameters()
-                                                                    .putIfAbsent(QUESTION, interactionRes.getInteraction().getInput());
-                                                                saveRootInteractionAndExecute(
-                                                                    listener,
-                                                                    tenantId,
-                                                                    memory,
-                                                                    inputDataSet,
-                                                                    mlTask,
-                                                                    isAsync,
-                                                                    outputs,
-                                                                    modelTensors,
-                                                                    finalMlAgent,
-                                                                    channel,
-                                                                    hookRegistry,
-                                                                    agentMLInput
-                                                                );
-                                                            }, e -> {
-                                                                log
-                                                                    .error(
-                                                                        "Failed to get existing interaction for regeneration. agentId={}, tenantId={}",
-                                                                        agentId,
-                                                                        tenantId,
-                                                                        e
-                                                                    );
-                                                                listener.onFailure(e);
-                                                            })
-                                                        );
-                                                } else {
-                                                    saveRootInteractionAndExecute(
-                                                        listener,
-                                                        tenantId,
-                                                        memory,
-                                                        inputDataSet,
-                                                        mlTask,
-                                                        isAsync,
-                                                        outputs,
-                                                        modelTensors,
-                                                        finalMlAgent,
-                                                        channel,
-                                                        hookRegistry,
-                                                        agentMLInput
-                                                    );
-                                                }
-                                            }, ex -> {
-                                                log
-                                                    .error(
-                                                        "Failed to read conversation memory. agentId={}, tenantId={}",
-                                                        agentId,
-                                                        tenantId,
-                                                        ex
-                                                    );
-                                                listener.onFailure(ex);
-                                            }));
-                                        } else {
-                                            Map<String, Object> memoryParams = createMemoryParams(
-                                                question,
-                                                memoryId,
-                                                appType,
-                                                finalMlAgent,
-                                                requestParameters
-                                            );
-                                            log
-                                                .debug(
-                                                    "MLAgentExecutor loading existing memory, params: {}",
-                                                    sanitizeForLogging(memoryParams)
-                                                );
-                                            // For existing conversations, create memory instance using factory
-                                            if (memorySpec != null && memorySpec.getType() != null) {
-                                                Memory.Factory<Memory<?, ?, ?>> memoryFactory;
-                                                if (memoryParams != null && memoryParams.containsKey(ENDPOINT_FIELD)) {
-                                                    // Use RemoteAgenticConversationMemory when inline connector metadata is detected
-                                                    memoryFactory = memoryFactoryMap.get(MLMemoryType.REMOTE_AGENTIC_MEMORY.name());
-                                                    log.info("Detected inline connector metadata, using RemoteAgenticConversationMemory");
-                                                } else {
-                                                    // Use the originally specified memory factory
-                                                    memoryFactory = memoryFactoryMap.get(MLMemoryType.from(memorySpec.getType()).name());
-                                                }
-
-                                                if (memoryFactory != null) {
-                                                    // memoryId exists, so create returns an object with existing
-                                                    // memory, therefore name can
-                                                    // be null
-
-                                                    memoryFactory
-                                                        .create(
-                                                            memoryParams,
-                                                            ActionListener
-                                                                .wrap(
-                                                                    createdMemory -> executeAgent(
-                                                                        inputDataSet,
-                                                                        tenantId,
-                                                                        mlTask,
-                                                                        isAsync,
-                                                                        memoryId,
-                                                                        finalMlAgent,
-                                                                        outputs,
-                                                                        modelTensors,
-                                                                        listener,
-                                                                        createdMemory,
-                                                                        channel,
-                                                                        hookRegistry,
-                                                                        null
-                                                                    ),
-                                                                    ex -> {
-                                                                        log
-                                                                            .error(
-                                                                                "Failed to find memory with memory_id: {}. agentId={}, tenantId={}",
-                                                                                memoryId,
-                                                                                agentId,
-                                                                                tenantId,
-                                                                                ex
-                                                                            );
-                                                                        listener.onFailure(ex);
-                                                                    }
-                                                                )
-                                                        );
-                                                    return;
-                                                }
-                                            }
-                                            executeAgent(
-                                                inputDataSet,
-                                                tenantId,
-                                                mlTask,
-                                                isAsync,
-                                                memoryId,
-                                                finalMlAgent,
-                                                outputs,
-                                                modelTensors,
-                                                listener,
-                                                null,
-                                                channel,
-                                                hookRegistry,
-                                                null
-                                            );
-                                        }
+                                        agentCache.putAgent(agentId, tenantId, mlAgent, agentCacheVersion);
+                                        runAgent(
+                                            agentMLInput,
+                                            mlAgent,
+                                            agentId,
+                                            tenantId,
+                                            isAsync,
+                                            outputs,
+                                            modelTensors,
+                                            listener,
+                                            channel
+                                        );
                                     } catch (Exception e) {
                                         log.error("Failed to parse ml agent. agentId={}, tenantId={}", agentId, tenantId, e);
                                         listener.onFailure(e);
@@ -522,6 +293,235 @@ public class MLAgentExecutor implements Executable, SettingsChangeListener {
         }
     }
 
+    /**
+     * Run the agent once its definition is read from the agent cache or the agent index.
+     */
+    private void runAgent(
+        AgentMLInput agentMLInput,
+        MLAgent mlAgent,
+        String agentId,
+        String tenantId,
+        Boolean isAsync,
+        List<ModelTensors> outputs,
+        List<ModelTensor> modelTensors,
+        ActionListener<Output> listener,
+        TransportChannel channel
+    ) {
+        // Use existing HookRegistry from AgentMLInput if available (set by MLExecuteTaskRunner for template
+        // references)
+        // Otherwise create a fresh HookRegistry for agent execution
+        final HookRegistry hookRegistry = agentMLInput.getHookRegistry() != null ? agentMLInput.getHookRegistry() : new HookRegistry();
+        if (isMultiTenancyEnabled && !Objects.equals(tenantId, mlAgent.getTenantId())) {
+            listener.onFailure(new OpenSearchStatusException("You don't have permission to access this resource", RestStatus.FORBIDDEN));
+        }
+
+        processAgentInput(agentMLInput, mlAgent);
+
+        RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) agentMLInput.getInputDataset();
+        Map<String, String> requestParameters = inputDataSet.getParameters();
+
+        // Add agentId to parameters for logging in agent runners
+        inputDataSet.getParameters().put(AGENT_ID_LOG_FIELD, agentId);
+
+        mlAgent = applyMemoryContainerOverride(mlAgent, inputDataSet, agentId);
+        final MLAgent finalMlAgent = mlAgent;
+
+        MLMemorySpec memorySpec = mlAgent.getMemory();
+        if (!mlFeatureEnabledSetting.isRemoteAgenticMemoryEnabled()) {
+            boolean usesRemoteMemory = memorySpec != null
+                && MLMemoryType.REMOTE_AGENTIC_MEMORY.name().equalsIgnoreCase(memorySpec.getType());
+            String memoryConfig = requestParameters != null ? requestParameters.get(MEMORY_CONFIGURATION_FIELD) : null;
+            if (usesRemoteMemory || !Strings.isNullOrEmpty(memoryConfig)) {
+                listener.onFailure(new OpenSearchStatusException(ML_COMMONS_REMOTE_AGENTIC_MEMORY_DISABLED_MESSAGE, RestStatus.FORBIDDEN));
+                return;
+            }
+        }
+        String memoryId = inputDataSet.getParameters().get(MEMORY_ID);
+        String parentInteractionId = inputDataSet.getParameters().get(PARENT_INTERACTION_ID);
+        String regenerateInteractionId = inputDataSet.getParameters().get(REGENERATE_INTERACTION_ID);
+        String appType = finalMlAgent.getAppType();
+        String question = inputDataSet.getParameters().get(QUESTION);
+
+        if (parentInteractionId != null && regenerateInteractionId != null) {
+            throw new IllegalArgumentException(
+                "Provide either `parent_interaction_id` to update an existing interaction, or `regenerate_interaction_id` to create a new one."
+            );
+        }
+
+        MLTask mlTask = MLTask
+            .builder()
+            .taskType(MLTaskType.AGENT_EXECUTION)
+            .functionName(FunctionName.AGENT)
+            .state(MLTaskState.CREATED)
+            .workerNodes(ImmutableList.of(clusterService.localNode().getId()))
+            .createTime(Instant.now())
+            .lastUpdateTime(Instant.now())
+            .async(false)
+            .tenantId(tenantId)
+            .build();
+
+        if (memoryId == null && regenerateInteractionId != null) {
+            throw new IllegalArgumentException("A memory ID must be provided to regenerate.");
+        }
+        if (memorySpec != null
+            && memorySpec.getType() != null
+            && memoryFactoryMap != null
+            && memoryFactoryMap.containsKey(MLMemoryType.from(memorySpec.getType()).name())
+            && (memoryId == null || parentInteractionId == null)) {
+            Map<String, Object> memoryParams = createMemoryParams(question, memoryId, appType, finalMlAgent, requestParameters);
+            log.debug("MLAgentExecutor creating new memory, params: {}", sanitizeForLogging(memoryParams));
+            // Check if inline connector metadata is present to use RemoteAgenticConversationMemory
+            Memory.Factory<Memory<?, ?, ?>> memoryFactory;
+            if (memoryParams != null && memoryParams.containsKey(ENDPOINT_FIELD)) {
+                // Use RemoteAgenticConversationMemory when inline connector metadata is detected
+                memoryFactory = memoryFactoryMap.get(MLMemoryType.REMOTE_AGENTIC_MEMORY.name());
+                log.info("Detected inline connector metadata, using RemoteAgenticConversationMemory");
+            } else {
+                // Use the originally specified memory factory
+                memoryFactory = memoryFactoryMap.get(MLMemoryType.from(memorySpec.getType()).name());
+            }
+            if (memoryFactory == null) {
+                listener
+                    .onFailure(
+                        new IllegalArgumentException(
+                            "Memory factory not found for type: "
+                                + (memoryParams != null && memoryParams.containsKey(ENDPOINT_FIELD)
+                                    ? MLMemoryType.REMOTE_AGENTIC_MEMORY.name()
+                                    : MLMemoryType.from(memorySpec.getType()).name())
+                        )
+                    );
+                return;
+            }
+            memoryFactory.create(memoryParams, ActionListener.wrap(memory -> {
+                inputDataSet.getParameters().put(MEMORY_ID, memory.getId());
+                // get question for regenerate
+                if (regenerateInteractionId != null) {
+                    log.info("Regenerate for existing interaction {}", regenerateInteractionId);
+                    client
+                        .execute(
+                            GetInteractionAction.INSTANCE,
+                            new GetInteractionRequest(regenerateInteractionId),
+                            ActionListener.wrap(interactionRes -> {
+                                inputDataSet.getParameters().putIfAbsent(QUESTION, interactionRes.getInteraction().getInput());
+                                saveRootInteractionAndExecute(
+                                    listener,
+                                    tenantId,
+                                    memory,
+                                    inputDataSet,
+                                    mlTask,
+                                    isAsync,
+                                    outputs,
+                                    modelTensors,
+                                    finalMlAgent,
+                                    channel,
+                                    hookRegistry,
+                                    agentMLInput
+                                );
+                            }, e -> {
+                                log
+                                    .error(
+                                        "Failed to get existing interaction for regeneration. agentId={}, tenantId={}",
+                                        agentId,
+                                        tenantId,
+                                        e
+                                    );
+                                listener.onFailure(e);
+                            })
+                        );
+                } else {
+                    saveRootInteractionAndExecute(
+                        listener,
+                        tenantId,
+                        memory,
+                        inputDataSet,
+                        mlTask,
+                        isAsync,
+                        outputs,
+                        modelTensors,
+                        finalMlAgent,
+                        channel,
+                        hookRegistry,
+                        agentMLInput
+                    );
+                }
+            }, ex -> {
+                log.error("Failed to read conversation memory. agentId={}, tenantId={}", agentId, tenantId, ex);
+                listener.onFailure(ex);
+            }));
+        } else {
+            Map<String, Object> memoryParams = createMemoryParams(question, memoryId, appType, finalMlAgent, requestParameters);
+            log.debug("MLAgentExecutor loading existing memory, params: {}", sanitizeForLogging(memoryParams));
+            // For existing conversations, create memory instance using factory
+            if (memorySpec != null && memorySpec.getType() != null) {
+                Memory.Factory<Memory<?, ?, ?>> memoryFactory;
+                if (memoryParams != null && memoryParams.containsKey(ENDPOINT_FIELD)) {
+                    // Use RemoteAgenticConversationMemory when inline connector metadata is detected
+                    memoryFactory = memoryFactoryMap.get(MLMemoryType.REMOTE_AGENTIC_MEMORY.name());
+                    log.info("Detected inline connector metadata, using RemoteAgenticConversationMemory");
+                } else {
+                    // Use the originally specified memory factory
+                    memoryFactory = memoryFactoryMap.get(MLMemoryType.from(memorySpec.getType()).name());
+                }
+
+                if (memoryFactory != null) {
+                    // memoryId exists, so create returns an object with existing
+                    // memory, therefore name can
+                    // be null
+
+                    memoryFactory
+                        .create(
+                            memoryParams,
+                            ActionListener
+                                .wrap(
+                                    createdMemory -> executeAgent(
+                                        inputDataSet,
+                                        tenantId,
+                                        mlTask,
+                                        isAsync,
+                                        memoryId,
+                                        finalMlAgent,
+                                        outputs,
+                                        modelTensors,
+                                        listener,
+                                        createdMemory,
+                                        channel,
+                                        hookRegistry,
+                                        null
+                                    ),
+                                    ex -> {
+                                        log
+                                            .error(
+                                                "Failed to find memory with memory_id: {}. agentId={}, tenantId={}",
+                                                memoryId,
+                                                agentId,
+                                                tenantId,
+                                                ex
+                                            );
+                                        listener.onFailure(ex);
+                                    }
+                                )
+                        );
+                    return;
+                }
+            }
+            executeAgent(
+                inputDataSet,
+                tenantId,
+                mlTask,
+                isAsync,
+                memoryId,
+                finalMlAgent,
+                outputs,
+                modelTensors,
+                listener,
+                null,
+                channel,
+                hookRegistry,
+                null
+            );
+        }
+    }
+
     /**
      * save root interaction and start execute the agent
      *
@@ -35,9 +35,13 @@ import org.tribuo.clustering.ClusteringFactory;
 import org.tribuo.clustering.kmeans.KMeansModel;
 import org.tribuo.clustering.kmeans.KMeansTrainer;
 
+import lombok.Setter;
+
 @Function(FunctionName.KMEANS)
 public class KMeans implements TrainAndPredictable {
     public static final String VERSION = "1.0.0";
+    // property set by the ML engine, see setCentroidsFormat
+    public static final String CENTROIDS_FORMAT = "centroidsFormat";
     private static final KMeansParams.DistanceType DEFAULT_DISTANCE_TYPE = KMeansParams.DistanceType.EUCLIDEAN;
     private static int DEFAULT_CENTROIDS = 2;
     private static int DEFAULT_ITERATIONS = 10;
@@ -52,7 +56,17 @@ public class KMeans implements TrainAndPredictable {
     private long seed = System.currentTimeMillis();
     private KMeansTrainer.Distance distance;
 
+    // Models stored in the Java serialized format, which are read with Tribuo.
     private KMeansModel kMeansModel;
+    // Models stored in the centroids format.
+    private KMeansCentroids kMeansCentroids;
+
+    /**
+     * Whether trained models are stored in the centroids format of {@link KMeansCentroids} instead of the Java serialized
+     * Tribuo model, which nodes before 3.7.0 can't read. Both formats are always readable.
+     */
+    @Setter
+    private boolean centroidsFormat;
 
     public KMeans() {}
 
@@ -72,6 +86,10 @@ public class KMeans implements TrainAndPredictable {
             throw new IllegalArgumentException("Iterations should be positive.");
         }
 
+        if (parameters.getBatchSize() != null && parameters.getBatchSize() <= 0) {
+            throw new IllegalArgumentException("Batch size should be positive.");
+        }
+
     }
 
     private void createDistance() {
@@ -91,27 +109,45 @@ public class KMeans implements TrainAndPredictable {
 
     @Override
     public void initModel(MLModel model, Map<String, Object> params, Encryptor encryptor) {
-        this.kMeansModel = (KMeansModel) ModelSerDeSer.deserialize(model);
+        loadModel(model);
+    }
+
+    private void loadModel(MLModel model) {
+        byte[] content = ModelSerDeSer.decodeBase64(model.getContent());
+        if (KMeansCentroids.isCentroidsFormat(content)) {
+            this.kMeansCentroids = KMeansCentroids.fromBytes(content);
+            this.kMeansModel = null;
+        } else {
+            this.kMeansModel = (KMeansModel) ModelSerDeSer.deserialize(content);
+            this.kMeansCentroids = null;
+        }
     }
 
     @Override
     public void close() {
         this.kMeansModel = null;
+        this.kMeansCentroids = null;
     }
 
     @Override
     public boolean isModelReady() {
-        return kMeansModel != null;
+        return kMeansModel != null || kMeansCentroids != null;
     }
 
     @Override
     public MLOutput predict(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset) mlInput.getInputDataset()).getDataFrame();
-        MutableDataset<ClusterID> predictionDataset = TribuoUtil
-            .generateDataset(dataFrame, new ClusteringFactory(), "KMeans prediction data from opensearch", TribuoOutputType.CLUSTERID);
-        List<Prediction<ClusterID>> predictions = kMeansModel.predict(predictionDataset);
         List<Map<String, Object>> listClusterID = new ArrayList<>();
-        predictions.forEach(e -> listClusterID.add(Collections.singletonMap("ClusterID", e.getOutput().getID())));
+        if (kMeansCentroids != null) {
+            for (int clusterId : kMeansCentroids.predict(dataFrame)) {
+                listClusterID.add(Collections.singletonMap("ClusterID", clusterId));
+            }
+        } else {
+            MutableDataset<ClusterID> predictionDataset = TribuoUtil
+                .generateDataset(dataFrame, new ClusteringFactory(), "KMeans prediction data from opensearch", TribuoOutputType.CLUSTERID);
+            List<Prediction<ClusterID>> predictions = kMeansModel.predict(predictionDataset);
+            predictions.forEach(e -> listClusterID.add(Collections.singletonMap("ClusterID", e.getOutput().getID())));
+        }
 
         return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(listClusterID)).build();
     }
@@ -121,26 +157,40 @@ public class KMeans implements TrainAndPredictable {
         if (model == null) {
             throw new IllegalArgumentException("No model found for KMeans prediction.");
         }
-        this.kMeansModel = (KMeansModel) ModelSerDeSer.deserialize(model);
+        loadModel(model);
         return predict(mlInput);
     }
 
     @Override
     public MLModel train(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset) mlInput.getInputDataset()).getDataFrame();
-        MutableDataset<ClusterID> trainDataset = TribuoUtil
-            .generateDataset(dataFrame, new ClusteringFactory(), "KMeans training data from opensearch", TribuoOutputType.CLUSTERID);
         Integer centroids = Optional.ofNullable(parameters.getCentroids()).orElse(DEFAULT_CENTROIDS);
         Integer iterations = Optional.ofNullable(parameters.getIterations()).orElse(DEFAULT_ITERATIONS);
-        KMeansTrainer trainer = new KMeansTrainer(centroids, iterations, distance, numThreads, seed);
-        KMeansModel kMeansModel = trainer.train(trainDataset);
+        String content;
+        if (parameters.getBatchSize() != null) {
+            // mini-batch models only exist as centroids, which nodes before 3.7.0 can't read
+            if (!centroidsFormat) {
+                throw new IllegalArgumentException("KMeans training with batch size needs all the nodes on version 3.7.0 or later.");
+            }
+            // the data frame is read in mini-batches instead of being copied to a Tribuo dataset
+            MiniBatchKMeansTrainer trainer = new MiniBatchKMeansTrainer(centroids, iterations, parameters.getBatchSize(), distance, seed);
+            content = ModelSerDeSer.encodeBase64(trainer.train(List.of(dataFrame)).toBytes());
+        } else {
+            MutableDataset<ClusterID> trainDataset = TribuoUtil
+                .generateDataset(dataFrame, new ClusteringFactory(), "KMeans training data from opensearch", TribuoOutputType.CLUSTERID);
+            KMeansTrainer trainer = new KMeansTrainer(centroids, iterations, distance, numThreads, seed);
+            KMeansModel kMeansModel = trainer.train(trainDataset);
+            content = centroidsFormat
+                ? ModelSerDeSer.encodeBase64(KMeansCentroids.of(kMeansModel, distance).toBytes())
+                : ModelSerDeSer.serializeToBase64(kMeansModel);
+        }
 
         MLModel model = MLModel
             .builder()
             .name(FunctionName.KMEANS.name())
             .algorithm(FunctionName.KMEANS)
             .version(VERSION)
-            .content(ModelSerDeSer.serializeToBase64(kMeansModel))
+            .content(content)
             .modelState(MLModelState.TRAINED)
             .build();
         return model;
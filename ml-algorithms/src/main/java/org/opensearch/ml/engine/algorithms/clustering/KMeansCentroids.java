@@ -0,0 +1,216 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.clustering;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.ml.common.dataframe.ColumnMeta;
+import org.opensearch.ml.common.dataframe.ColumnarDataFrame;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.dataframe.Row;
+import org.opensearch.ml.engine.exceptions.ModelSerDeSerException;
+import org.tribuo.Feature;
+import org.tribuo.clustering.kmeans.KMeansModel;
+import org.tribuo.clustering.kmeans.KMeansTrainer;
+
+import lombok.Getter;
+
+/**
+ * KMeans model kept as its centroids, which is stored in an explicit binary format instead of a Java serialized Tribuo
+ * model.
+ * <p>
+ * The format starts with a magic number, which a Java serialization stream never starts with, and the schema version,
+ * followed by the distance, the feature names and the centroids as packed doubles. The cluster id of a point is the
+ * index of its closest centroid, so the clusters keep the order they were stored in, like the ids of the Tribuo model.
+ */
+@Getter
+public class KMeansCentroids {
+    // "MLKM", Java serialization streams start with 0xACED
+    private static final int MAGIC = 0x4d4c4b4d;
+    static final int SCHEMA_VERSION = 1;
+
+    private final String[] featureNames;
+    private final double[][] centroids;
+    private final KMeansTrainer.Distance distance;
+
+    public KMeansCentroids(String[] featureNames, double[][] centroids, KMeansTrainer.Distance distance) {
+        this.featureNames = featureNames;
+        this.centroids = centroids;
+        this.distance = distance;
+    }
+
+    /**
+     * @param model trained Tribuo model
+     * @param distance distance the model was trained with
+     * @return the centroids of the model, in the order of its cluster ids
+     */
+    public static KMeansCentroids of(KMeansModel model, KMeansTrainer.Distance distance) {
+        List<List<Feature>> modelCentroids = model.getCentroids();
+        String[] featureNames = modelCentroids.get(0).stream().map(Feature::getName).toArray(String[]::new);
+        double[][] centroids = new double[modelCentroids.size()][];
+        for (int centroid = 0; centroid < centroids.length; centroid++) {
+            centroids[centroid] = modelCentroids.get(centroid).stream().mapToDouble(Feature::getValue).toArray();
+        }
+        return new KMeansCentroids(featureNames, centroids, distance);
+    }
+
+    /**
+     * Columns of the data frame which aren't features of the model are ignored, and missing features are 0.
+     * @param dataFrame points to cluster
+     * @return the cluster id of each row
+     */
+    public int[] predict(DataFrame dataFrame) {
+        ColumnMeta[] columnMetas = dataFrame.columnMetas();
+        Map<String, Integer> featureIndexes = new HashMap<>();
+        for (int i = 0; i < featureNames.length; i++) {
+            featureIndexes.put(featureNames[i], i);
+        }
+        int[] columnFeatures = new int[columnMetas.length];
+        boolean hasFeature = false;
+        for (int column = 0; column < columnMetas.length; column++) {
+            columnFeatures[column] = featureIndexes.getOrDefault(columnMetas[column].getName(), -1);
+            hasFeature |= columnFeatures[column] >= 0;
+        }
+        if (!hasFeature) {
+            throw new IllegalArgumentException("No feature of the KMeans model found in the input data.");
+        }
+
+        int[] clusterIds = new int[dataFrame.size()];
+        double[] point = new double[featureNames.length];
+        for (int rowNum = 0; rowNum < clusterIds.length; rowNum++) {
+            Row row = dataFrame instanceof ColumnarDataFrame ? null : dataFrame.getRow(rowNum);
+            for (int column = 0; column < columnFeatures.length; column++) {
+                if (columnFeatures[column] >= 0) {
+                    point[columnFeatures[column]] = row == null
+                        ? ((ColumnarDataFrame) dataFrame).getDouble(rowNum, column)
+                        : row.getValue(column).doubleValue();
+                }
+            }
+            clusterIds[rowNum] = closest(point);
+        }
+        return clusterIds;
+    }
+
+    /**
+     * @param point feature values, in the order of the feature names
+     * @return the index of the closest centroid, the first one on ties
+     */
+    public int closest(double[] point) {
+        return closest(distance, centroids, point);
+    }
+
+    static int closest(KMeansTrainer.Distance distance, double[][] centroids, double[] point) {
+        int closest = 0;
+        double minDistance = Double.MAX_VALUE;
+        for (int centroid = 0; centroid < centroids.length; centroid++) {
+            double pointDistance = distance(distance, point, centroids[centroid]);
+            if (pointDistance < minDistance) {
+                minDistance = pointDistance;
+                closest = centroid;
+            }
+        }
+        return closest;
+    }
+
+    static double distance(KMeansTrainer.Distance distance, double[] a, double[] b) {
+        double result = 0;
+        switch (distance) {
+            case COSINE:
+                double dot = 0;
+                double aNorm = 0;
+                double bNorm = 0;
+                for (int i = 0; i < a.length; i++) {
+                    dot += a[i] * b[i];
+                    aNorm += a[i] * a[i];
+                    bNorm += b[i] * b[i];
+                }
+                return aNorm == 0 || bNorm == 0 ? 1 : 1 - dot / Math.sqrt(aNorm * bNorm);
+            case L1:
+                for (int i = 0; i < a.length; i++) {
+                    result += Math.abs(a[i] - b[i]);
+                }
+                return result;
+            default:
+                for (int i = 0; i < a.length; i++) {
+                    result += (a[i] - b[i]) * (a[i] - b[i]);
+                }
+                return Math.sqrt(result);
+        }
+    }
+
+    public byte[] toBytes() {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream(); DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(SCHEMA_VERSION);
+            out.writeUTF(distance.name());
+            out.writeInt(featureNames.length);
+            for (String featureName : featureNames) {
+                out.writeUTF(featureName);
+            }
+            out.writeInt(centroids.length);
+            for (double[] centroid : centroids) {
+                for (double value : centroid) {
+                    out.writeDouble(value);
+                }
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new ModelSerDeSerException("Failed to serialize model.", e);
+        }
+    }
+
+    /**
+     * @param bytes model content
+     * @return true if the content is in the centroids format, false if it's a Java serialized model
+     */
+    public static boolean isCentroidsFormat(byte[] bytes) {
+        return bytes.length >= Integer.BYTES && ByteBuffer.wrap(bytes).getInt() == MAGIC;
+    }
+
+    public static KMeansCentroids fromBytes(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readInt() != MAGIC) {
+                throw new ModelSerDeSerException("Not a KMeans centroids model.");
+            }
+            int schemaVersion = in.readInt();
+            if (schemaVersion != SCHEMA_VERSION) {
+                throw new ModelSerDeSerException("Unsupported schema version of KMeans model: " + schemaVersion);
+            }
+            KMeansTrainer.Distance distance = KMeansTrainer.Distance.valueOf(in.readUTF());
+            String[] featureNames = new String[readCount(in, Short.BYTES)];
+            for (int i = 0; i < featureNames.length; i++) {
+                featureNames[i] = in.readUTF();
+            }
+            double[][] centroids = new double[readCount(in, (long) Double.BYTES * featureNames.length)][featureNames.length];
+            for (double[] centroid : centroids) {
+                for (int i = 0; i < centroid.length; i++) {
+                    centroid[i] = in.readDouble();
+                }
+            }
+            return new KMeansCentroids(featureNames, centroids, distance);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new ModelSerDeSerException("Failed to deserialize model.", e);
+        }
+    }
+
+    // the count is checked against the bytes left, so a corrupted count can't allocate a huge array
+    private static int readCount(DataInputStream in, long minItemBytes) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count * minItemBytes > in.available()) {
+            throw new ModelSerDeSerException("Invalid KMeans model content.");
+        }
+        return count;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.clustering;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.opensearch.ml.common.dataframe.ColumnMeta;
+import org.opensearch.ml.common.dataframe.ColumnarDataFrame;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.dataframe.Row;
+import org.tribuo.clustering.kmeans.KMeansTrainer;
+
+/**
+ * Mini-batch KMeans trainer, which reads the training data page by page instead of loading all of it in a Tribuo dataset.
+ * <p>
+ * Only the centroids and the number of points assigned to each of them so far are kept, along with a reservoir sample of
+ * the training data the centroids are initialized from with k-means++, unless the training starts from an existing
+ * model. Every mini-batch moves each centroid to the mean of the points ever assigned to it, the previous ones being
+ * represented by the centroid itself, so the pages are read once to sample them and once per iteration.
+ * <p>
+ * The model keeps the order of its centroids, which are the cluster ids, so updating a model with new pages keeps the
+ * cluster ids of its points. The model always has the requested number of centroids: if the data has fewer distinct
+ * points, some centroids are duplicated and the clusters of the later ones stay empty. Updating an existing model is
+ * only available to callers of the trainer, KMeans training always starts from the training data.
+ */
+public class MiniBatchKMeansTrainer {
+    // The reservoir sample holds this many mini-batches.
+    private static final int RESERVOIR_BATCHES = 3;
+
+    private final int centroids;
+    private final int iterations;
+    private final int batchSize;
+    private final KMeansTrainer.Distance distance;
+    private final long seed;
+
+    public MiniBatchKMeansTrainer(int centroids, int iterations, int batchSize, KMeansTrainer.Distance distance, long seed) {
+        this.centroids = centroids;
+        this.iterations = iterations;
+        this.batchSize = batchSize;
+        this.distance = distance;
+        this.seed = seed;
+    }
+
+    /**
+     * @param pages the training data, which must be iterable once per iteration, plus once to sample it
+     * @return the trained model
+     */
+    public KMeansCentroids train(Iterable<DataFrame> pages) {
+        return train(pages, null);
+    }
+
+    /**
+     * @param pages the training data, which must be iterable once per iteration, plus once to sample it if there's no
+     *              initial model
+     * @param initialModel the model to start from, or null to start from centroids picked in the training data. The
+     *                     centroids of the trained model are in the same order as the ones of the initial model.
+     * @return the trained model
+     */
+    public KMeansCentroids train(Iterable<DataFrame> pages, KMeansCentroids initialModel) {
+        Random random = new Random(seed);
+        String[] featureNames = null;
+        double[][] centroidValues = null;
+        if (initialModel == null) {
+            double[][] reservoir = new double[Math.max(centroids, RESERVOIR_BATCHES * batchSize)][];
+            long seen = 0;
+            for (DataFrame page : pages) {
+                featureNames = checkFeatureNames(featureNames, page);
+                for (int start = 0; start < page.size(); start += batchSize) {
+                    for (double[] point : readPoints(page, start, Math.min(page.size(), start + batchSize))) {
+                        long index = seen < reservoir.length ? seen : random.nextLong(seen + 1);
+                        if (index < reservoir.length) {
+                            reservoir[(int) index] = point;
+                        }
+                        seen++;
+                    }
+                }
+            }
+            if (seen == 0) {
+                throw new IllegalArgumentException("No data to train KMeans.");
+            }
+            centroidValues = initCentroids(Arrays.copyOf(reservoir, (int) Math.min(seen, reservoir.length)), random);
+        }
+
+        long[] counts = null;
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            for (DataFrame page : pages) {
+                featureNames = checkFeatureNames(featureNames, page);
+                if (centroidValues == null) {
+                    centroidValues = centroidsOf(initialModel, featureNames);
+                }
+                if (counts == null) {
+                    counts = new long[centroidValues.length];
+                }
+                for (int start = 0; start < page.size(); start += batchSize) {
+                    update(centroidValues, counts, readPoints(page, start, Math.min(page.size(), start + batchSize)));
+                }
+            }
+        }
+        if (centroidValues == null) {
+            throw new IllegalArgumentException("No data to train KMeans.");
+        }
+        return new KMeansCentroids(featureNames, centroidValues, distance);
+    }
+
+    private static String[] checkFeatureNames(String[] featureNames, DataFrame page) {
+        String[] pageFeatureNames = Arrays.stream(page.columnMetas()).map(ColumnMeta::getName).toArray(String[]::new);
+        if (featureNames != null && !Arrays.equals(featureNames, pageFeatureNames)) {
+            throw new IllegalArgumentException("All the pages of KMeans training data should have the same columns.");
+        }
+        return pageFeatureNames;
+    }
+
+    private static double[][] readPoints(DataFrame page, int from, int to) {
+        int dimensions = page.columnMetas().length;
+        double[][] points = new double[to - from][dimensions];
+        for (int rowNum = from; rowNum < to; rowNum++) {
+            double[] point = points[rowNum - from];
+            if (page instanceof ColumnarDataFrame) {
+                for (int i = 0; i < dimensions; i++) {
+                    point[i] = ((ColumnarDataFrame) page).getDouble(rowNum, i);
+                }
+            } else {
+                Row row = page.getRow(rowNum);
+                for (int i = 0; i < dimensions; i++) {
+                    point[i] = row.getValue(i).doubleValue();
+                }
+            }
+        }
+        return points;
+    }
+
+    // k-means++: every centroid is picked with a probability proportional to its squared distance to the closest one
+    private double[][] initCentroids(double[][] sample, Random random) {
+        double[][] centroidValues = new double[centroids][];
+        centroidValues[0] = sample[random.nextInt(sample.length)].clone();
+        double[] minDistances = new double[sample.length];
+        Arrays.fill(minDistances, Double.MAX_VALUE);
+        for (int centroid = 1; centroid < centroids; centroid++) {
+            double total = 0;
+            for (int i = 0; i < sample.length; i++) {
+                double pointDistance = KMeansCentroids.distance(distance, sample[i], centroidValues[centroid - 1]);
+                minDistances[i] = Math.min(minDistances[i], pointDistance * pointDistance);
+                total += minDistances[i];
+            }
+            int next;
+            if (total == 0) {
+                // fewer distinct points than centroids, the clusters of the duplicated centroids stay empty
+                next = random.nextInt(sample.length);
+            } else {
+                double target = random.nextDouble() * total;
+                next = 0;
+                for (double cumulative = minDistances[0]; cumulative <= target && next < sample.length - 1;) {
+                    cumulative += minDistances[++next];
+                }
+            }
+            centroidValues[centroid] = sample[next].clone();
+        }
+        return centroidValues;
+    }
+
+    private static double[][] centroidsOf(KMeansCentroids model, String[] featureNames) {
+        Map<String, Integer> featureIndexes = new HashMap<>();
+        for (int i = 0; i < featureNames.length; i++) {
+            featureIndexes.put(featureNames[i], i);
+        }
+        String[] modelFeatureNames = model.getFeatureNames();
+        double[][] centroidValues = new double[model.getCentroids().length][featureNames.length];
+        for (int centroid = 0; centroid < centroidValues.length; centroid++) {
+            for (int feature = 0; feature < modelFeatureNames.length; feature++) {
+                Integer index = featureIndexes.get(modelFeatureNames[feature]);
+                if (index != null) {
+                    centroidValues[centroid][index] = model.getCentroids()[centroid][feature];
+                }
+            }
+        }
+        return centroidValues;
+    }
+
+    private void update(double[][] centroidValues, long[] counts, double[][] points) {
+        int dimensions = centroidValues[0].length;
+        double[][] sums = new double[centroidValues.length][dimensions];
+        int[] batchCounts = new int[centroidValues.length];
+        for (double[] point : points) {
+            int centroid = KMeansCentroids.closest(distance, centroidValues, point);
+            batchCounts[centroid]++;
+            for (int dimension = 0; dimension < dimensions; dimension++) {
+                sums[centroid][dimension] += point[dimension];
+            }
+        }
+        for (int centroid = 0; centroid < centroidValues.length; centroid++) {
+            if (batchCounts[centroid] == 0) {
+                continue;
+            }
+            counts[centroid] += batchCounts[centroid];
+            double learningRate = (double) batchCounts[centroid] / counts[centroid];
+            for (int dimension = 0; dimension < dimensions; dimension++) {
+                double batchMean = sums[centroid][dimension] / batchCounts[centroid];
+                centroidValues[centroid][dimension] += learningRate * (batchMean - centroidValues[centroid][dimension]);
+            }
+        }
+    }
+}
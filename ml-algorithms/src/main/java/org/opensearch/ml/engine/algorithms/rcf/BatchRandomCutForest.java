@@ -12,15 +12,20 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
-import org.opensearch.ml.common.dataframe.ColumnMeta;
-import org.opensearch.ml.common.dataframe.ColumnValue;
+import org.opensearch.ml.common.dataframe.ColumnarDataFrame;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.DataFrameBuilder;
 import org.opensearch.ml.common.dataframe.Row;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
+import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.MLAlgoParams;
 import org.opensearch.ml.common.input.parameter.rcf.BatchRCFParams;
@@ -48,6 +53,8 @@ public class BatchRandomCutForest implements TrainAndPredictable {
     private static final int DEFAULT_OUTPUT_AFTER = 32;
     private static final int DEFAULT_SAMPLES_SIZE = 256; // how many nodes per tree
     private static final double DEFAULT_ANOMALY_SCORE_THRESHOLD = 1.0;
+    // Scoring is only split across threads when every thread gets at least this many rows.
+    private static final int MIN_ROWS_PER_THREAD = 1000;
 
     private Integer numberOfTrees = DEFAULT_NUMBER_OF_TREES;
     private Integer sampleSize = DEFAULT_SAMPLES_SIZE;
@@ -56,6 +63,20 @@ public class BatchRandomCutForest implements TrainAndPredictable {
     private Integer trainingDataSize;
 
     private static final RandomCutForestMapper rcfMapper = new RandomCutForestMapper();
+    // Copies of a forest keep the trees of the forest, so they score points exactly like it.
+    private static final RandomCutForestMapper copyMapper = new RandomCutForestMapper();
+
+    static {
+        copyMapper.setSaveExecutorContextEnabled(true);
+        copyMapper.setSaveTreeStateEnabled(true);
+    }
+
+    // Name of the property of the executor scoring the partitions of large frames, see MLEngineClassLoader#initInstance.
+    public static final String SCORING_EXECUTOR = "scoringExecutor";
+
+    // Scores the partitions of all the frames, except the first partition of every frame, scored by the calling thread.
+    private ExecutorService scoringExecutor;
+    private int numThreads = 1;
 
     private RandomCutForest forest;
 
@@ -134,23 +155,32 @@ public class BatchRandomCutForest implements TrainAndPredictable {
         return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(predictResult)).build();
     }
 
+    /**
+     * Set the executor scoring the partitions of large frames in parallel. Frames are split in one partition per thread
+     * of the executor, plus one for the calling thread.
+     * @param scoringExecutor the executor, or null to score frames in the calling thread only
+     */
+    public void setScoringExecutor(ExecutorService scoringExecutor) {
+        this.scoringExecutor = scoringExecutor;
+        if (scoringExecutor instanceof ThreadPoolExecutor) {
+            numThreads = ((ThreadPoolExecutor) scoringExecutor).getMaximumPoolSize() + 1;
+        } else {
+            numThreads = 1;
+        }
+    }
+
     private List<Map<String, Object>> process(DataFrame dataFrame, RandomCutForest forest, Integer actualTrainingDataSize) {
-        List<Double> pointList = new ArrayList<>();
-        ColumnMeta[] columnMetas = dataFrame.columnMetas();
-        List<Map<String, Object>> predictResult = new ArrayList<>();
-
-        for (int rowNum = 0; rowNum < dataFrame.size(); rowNum++) {
-            for (int i = 0; i < columnMetas.length; i++) {
-                Row row = dataFrame.getRow(rowNum);
-                ColumnValue value = row.getValue(i);
-                pointList.add(value.doubleValue());
-            }
-            double[] point = pointList.stream().mapToDouble(d -> d).toArray();
-            pointList.clear();
-            double anomalyScore = forest.getAnomalyScore(point);
-            if (actualTrainingDataSize == null || rowNum < actualTrainingDataSize) {
-                forest.update(point);
-            }
+        double[] scores = new double[dataFrame.size()];
+        int trainingRows = actualTrainingDataSize == null ? scores.length : Math.max(0, Math.min(actualTrainingDataSize, scores.length));
+        for (int rowNum = 0; rowNum < trainingRows; rowNum++) {
+            double[] point = toPoint(dataFrame, rowNum);
+            scores[rowNum] = forest.getAnomalyScore(point);
+            forest.update(point);
+        }
+        score(forest, dataFrame, trainingRows, scores);
+
+        List<Map<String, Object>> predictResult = new ArrayList<>(scores.length);
+        for (double anomalyScore : scores) {
             Map<String, Object> result = new HashMap<>();
             result.put("score", anomalyScore);
             result.put("anomalous", anomalyScore > anomalyScoreThreshold);
@@ -159,6 +189,73 @@ public class BatchRandomCutForest implements TrainAndPredictable {
         return predictResult;
     }
 
+    /**
+     * Score the rows from the given one on without updating the forest. Large frames are split in partitions scored
+     * in parallel: the first one by the forest and the others by copies of it, as scoring caches bounding boxes in the
+     * trees and so a forest can't score points concurrently. The copies run on the ML thread pool shared by all the
+     * frames, so concurrent requests don't add threads, and a partition rejected by the full pool is scored by the
+     * calling thread. Every partition reads its own rows, so the frame is never copied as a whole.
+     */
+    private void score(RandomCutForest forest, DataFrame dataFrame, int fromRow, double[] scores) {
+        int rows = scores.length;
+        int threads = Math.min(numThreads, (rows - fromRow) / MIN_ROWS_PER_THREAD);
+        if (threads <= 1 || scoringExecutor == null) {
+            score(forest, dataFrame, fromRow, rows, scores);
+            return;
+        }
+        int partitionSize = (rows - fromRow + threads - 1) / threads;
+        RandomCutForestState state = copyMapper.toState(forest);
+        List<Future<?>> futures = new ArrayList<>(threads - 1);
+        try {
+            for (int start = fromRow + partitionSize; start < rows; start += partitionSize) {
+                int partitionStart = start;
+                int partitionEnd = Math.min(rows, start + partitionSize);
+                Runnable partition = () -> score(copyMapper.toModel(state), dataFrame, partitionStart, partitionEnd, scores);
+                try {
+                    futures.add(scoringExecutor.submit(partition));
+                } catch (RejectedExecutionException e) {
+                    partition.run();
+                }
+            }
+            score(forest, dataFrame, fromRow, fromRow + partitionSize, scores);
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MLException("Interrupted while scoring with batch RCF", e);
+        } catch (ExecutionException e) {
+            throw new MLException("Failed to score with batch RCF", e.getCause());
+        } finally {
+            // no-op for the partitions already scored
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private static void score(RandomCutForest forest, DataFrame dataFrame, int fromRow, int toRow, double[] scores) {
+        for (int rowNum = fromRow; rowNum < toRow; rowNum++) {
+            scores[rowNum] = forest.getAnomalyScore(toPoint(dataFrame, rowNum));
+        }
+    }
+
+    // Columnar frames are read cell by cell, without boxing the values in a row.
+    private static double[] toPoint(DataFrame dataFrame, int rowNum) {
+        double[] point = new double[dataFrame.columnMetas().length];
+        if (dataFrame instanceof ColumnarDataFrame) {
+            for (int i = 0; i < point.length; i++) {
+                point[i] = ((ColumnarDataFrame) dataFrame).getDouble(rowNum, i);
+            }
+        } else {
+            Row row = dataFrame.getRow(rowNum);
+            for (int i = 0; i < point.length; i++) {
+                point[i] = row.getValue(i).doubleValue();
+            }
+        }
+        return point;
+    }
+
     private RandomCutForest createRandomCutForest(DataFrame dataFrame) {
         // TODO: add memory estimation of RCF. Will be better if support memory estimation in RCF
         RandomCutForest forest = RandomCutForest
@@ -170,19 +170,27 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
             dateFormat.setTimeZone(TimeZone.getTimeZone(timeZone));
         }
 
-        List<Double> pointList = new ArrayList<>();
         ColumnMeta[] columnMetas = dataFrame.columnMetas();
-        List<Map<String, Object>> predictResult = new ArrayList<>();
+        int timeColumn = -1;
+        for (int i = 0; i < columnMetas.length; i++) {
+            if (timeField != null && timeField.equals(columnMetas[i].getName())) {
+                timeColumn = i;
+                break;
+            }
+        }
+        int dimensions = timeColumn < 0 ? columnMetas.length : columnMetas.length - 1;
+        List<Map<String, Object>> predictResult = new ArrayList<>(dataFrame.size());
         for (int rowNum = 0; rowNum < dataFrame.size(); rowNum++) {
             Row row = dataFrame.getRow(rowNum);
             long timestamp = -1;
+            double[] point = new double[dimensions];
+            int dimension = 0;
             for (int i = 0; i < columnMetas.length; i++) {
-                ColumnMeta columnMeta = columnMetas[i];
                 ColumnValue value = row.getValue(i);
 
                 // TODO: sort dataframe by time field with asc order. Currently consider the date already sorted by time.
-                if (timeField != null && timeField.equals(columnMeta.getName())) {
-                    ColumnType columnType = columnMeta.getColumnType();
+                if (i == timeColumn) {
+                    ColumnType columnType = columnMetas[i].getColumnType();
                     if (columnType == ColumnType.LONG) {
                         timestamp = value.longValue();
                     } else if (columnType == ColumnType.STRING) {
@@ -196,11 +204,9 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
                         throw new MLValidationException("Wrong data type of time field. Should use LONG or STRING, but got " + columnType);
                     }
                 } else {
-                    pointList.add(value.doubleValue());
+                    point[dimension++] = value.doubleValue();
                 }
             }
-            double[] point = pointList.stream().mapToDouble(d -> d).toArray();
-            pointList.clear();
             Map<String, Object> result = new HashMap<>();
 
             AnomalyDescriptor process = forest.process(point, timestamp);
@@ -16,6 +16,7 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.CommonValue;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorClientConfig;
+import org.opensearch.ml.common.httpclient.MLHttpClientRegistry;
 import org.opensearch.ml.common.output.model.ModelTensors;
 
 import lombok.Getter;
@@ -28,6 +29,9 @@ import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 @Getter
 public abstract class AbstractConnectorExecutor implements RemoteConnectorExecutor {
     private ConnectorClientConfig connectorClientConfig;
+    private MLHttpClientRegistry httpClientRegistry = MLHttpClientRegistry.getInstance();
+    private volatile AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final RemoteEmbeddingBatcher embeddingBatcher = new RemoteEmbeddingBatcher(this);
 
     protected final AtomicReference<SdkAsyncHttpClient> httpClientRef = new AtomicReference<>();
 
@@ -84,8 +88,8 @@ public abstract class AbstractConnectorExecutor implements RemoteConnectorExecut
     }
 
     /**
-     * Closes the underlying HTTP client. Safe to call concurrently — NettyNioAsyncHttpClient.close()
-     * gracefully drains in-flight requests before shutting down the event loop group.
+     * Releases the lease on the shared HTTP client. Safe to call concurrently — requests already sent complete on the shared
+     * client, which is closed once no connector uses it anymore.
      */
     @Override
     public void close() {
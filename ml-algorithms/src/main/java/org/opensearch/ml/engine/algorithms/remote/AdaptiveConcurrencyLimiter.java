@@ -0,0 +1,279 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.opensearch.ml.engine.algorithms.remote.RemoteConnectorExecutor.RETRY_EXECUTOR;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Limits the concurrent requests of a node to a remote endpoint, with a limit that adapts to the endpoint (AIMD).
+ * <p>
+ * The limit grows by one request per round trip while the requests succeed with the usual latency and the limit is in use.
+ * It's cut by {@link #BACKOFF_RATIO} when the endpoint throttles (429), fails (5xx) or times out. If latency backoff is
+ * enabled, it's also cut when the latency of a request is well above the average latency, which means requests are queueing
+ * in the endpoint. That's off by default since the limiter is shared by all the models calling the endpoint, and a slow
+ * request of another kind, like a long chat completion next to embeddings, isn't a sign of overload. The limit is cut at most
+ * once per round trip, since the requests sent before a cut don't reflect it yet. Requests above the limit wait in a
+ * bounded queue for a short time, and are rejected when the queue is full or the time is up, so a brownout of the endpoint
+ * doesn't pile up requests and retries on the node.
+ */
+@Log4j2
+public class AdaptiveConcurrencyLimiter {
+    @VisibleForTesting
+    static final int INITIAL_LIMIT = 20;
+    private static final int MIN_LIMIT = 1;
+    @VisibleForTesting
+    static final double BACKOFF_RATIO = 0.8;
+    // latency above this ratio of the average latency is taken as queueing in the endpoint
+    private static final double LATENCY_TOLERANCE = 3.0;
+    // weight of the latest request in the average latency
+    private static final double LATENCY_SMOOTHING = 0.05;
+
+    @Getter
+    private final String endpoint;
+    private final AdaptiveConcurrencyLimiters settings;
+    private final LongSupplier nanoClock;
+    private final Deque<Waiter> queue = new ArrayDeque<>();
+    private double limit = INITIAL_LIMIT;
+    private int inFlight;
+    private double averageLatencyNanos;
+    private long lastBackoffNanos;
+    private long lastUsedNanos;
+
+    private enum Outcome {
+        SUCCESS,
+        OVERLOAD,
+        // failures which don't tell anything about the load of the endpoint, like bad requests
+        IGNORE
+    }
+
+    AdaptiveConcurrencyLimiter(String endpoint, AdaptiveConcurrencyLimiters settings, LongSupplier nanoClock) {
+        this.endpoint = endpoint;
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.lastBackoffNanos = nanoClock.getAsLong();
+        this.lastUsedNanos = lastBackoffNanos;
+    }
+
+    /**
+     * @return the current concurrency limit
+     */
+    public synchronized int getLimit() {
+        return currentLimit();
+    }
+
+    @VisibleForTesting
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    @VisibleForTesting
+    synchronized int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * @param nanos the time to check against
+     * @return true if the limiter has no request in flight or waiting, and no request was sent or completed after the time
+     */
+    synchronized boolean isIdleSince(long nanos) {
+        return inFlight == 0 && queue.isEmpty() && lastUsedNanos - nanos <= 0;
+    }
+
+    /**
+     * Get a permit to send a request to the endpoint. The listener gets the permit right away if the limit allows it, or
+     * on the remote predict thread pool once a request completes, with the thread context of the caller.
+     * @param threadPool the thread pool to wait on
+     * @param listener the listener to get the permit, which must be released when the request completes
+     */
+    public void acquire(ThreadPool threadPool, ActionListener<Permit> listener) {
+        Permit permit = null;
+        Waiter waiter = null;
+        synchronized (this) {
+            lastUsedNanos = nanoClock.getAsLong();
+            if (queue.isEmpty() && inFlight < currentLimit()) {
+                permit = new Permit(++inFlight);
+            } else if (queue.size() < settings.getQueueSize() && settings.getQueueTimeoutMillis() > 0) {
+                waiter = new Waiter(threadPool, listener);
+                queue.add(waiter);
+            }
+        }
+        if (permit != null) {
+            listener.onResponse(permit);
+        } else if (waiter != null) {
+            Waiter queued = waiter;
+            queued.timeout = threadPool
+                .schedule(() -> onTimeout(queued), TimeValue.timeValueMillis(settings.getQueueTimeoutMillis()), RETRY_EXECUTOR);
+        } else {
+            listener.onFailure(rejection());
+        }
+    }
+
+    private void onTimeout(Waiter waiter) {
+        synchronized (this) {
+            if (!queue.remove(waiter)) {
+                return;
+            }
+        }
+        waiter.fail(rejection());
+    }
+
+    private OpenSearchStatusException rejection() {
+        log.debug("Request to {} is rejected by the concurrency limit {}", endpoint, getLimit());
+        return new OpenSearchStatusException(
+            "Request is throttled, the remote endpoint is at its concurrency limit.",
+            RestStatus.TOO_MANY_REQUESTS
+        );
+    }
+
+    private void release(Permit permit, Outcome outcome) {
+        List<Waiter> ready = new ArrayList<>();
+        synchronized (this) {
+            inFlight--;
+            long now = nanoClock.getAsLong();
+            lastUsedNanos = now;
+            long latency = now - permit.startNanos;
+            boolean overloaded = outcome == Outcome.OVERLOAD;
+            if (outcome == Outcome.SUCCESS && settings.isLatencyBackoffEnabled()) {
+                if (averageLatencyNanos == 0) {
+                    averageLatencyNanos = latency;
+                } else {
+                    overloaded = latency > LATENCY_TOLERANCE * averageLatencyNanos;
+                    averageLatencyNanos += (latency - averageLatencyNanos) * LATENCY_SMOOTHING;
+                }
+            }
+            if (overloaded) {
+                if (permit.startNanos - lastBackoffNanos > 0) {
+                    limit = Math.max(MIN_LIMIT, limit * BACKOFF_RATIO);
+                    lastBackoffNanos = now;
+                }
+            } else if (outcome == Outcome.SUCCESS && permit.inFlightAtStart * 2 >= limit) {
+                // the limit grows only while it's in use
+                limit = Math.min(settings.getMaxLimit(), limit + 1 / limit);
+            }
+            while (!queue.isEmpty() && inFlight < currentLimit()) {
+                Waiter waiter = queue.poll();
+                waiter.permit = new Permit(++inFlight);
+                ready.add(waiter);
+            }
+        }
+        for (Waiter waiter : ready) {
+            waiter.dispatch();
+        }
+    }
+
+    private int currentLimit() {
+        return Math.max(MIN_LIMIT, (int) Math.min(limit, settings.getMaxLimit()));
+    }
+
+    private static Outcome outcomeOf(Exception e) {
+        Throwable cause = ExceptionsHelper.unwrapCause(e);
+        if (cause instanceof OpenSearchStatusException) {
+            RestStatus status = ((OpenSearchStatusException) cause).status();
+            if (status == RestStatus.TOO_MANY_REQUESTS || status.getStatus() >= 500) {
+                return Outcome.OVERLOAD;
+            }
+        } else if (cause instanceof TimeoutException) {
+            return Outcome.OVERLOAD;
+        }
+        return Outcome.IGNORE;
+    }
+
+    /**
+     * Permit to send one request to the endpoint.
+     */
+    public class Permit {
+        private final long startNanos = nanoClock.getAsLong();
+        private final int inFlightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(int inFlightAtStart) {
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        public void onSuccess() {
+            if (released.compareAndSet(false, true)) {
+                release(this, Outcome.SUCCESS);
+            }
+        }
+
+        public void onFailure(Exception e) {
+            if (released.compareAndSet(false, true)) {
+                release(this, outcomeOf(e));
+            }
+        }
+
+        /**
+         * @return a listener which releases the permit before it calls the given listener
+         */
+        public <T> ActionListener<T> wrap(ActionListener<T> listener) {
+            return ActionListener.wrap(response -> {
+                onSuccess();
+                listener.onResponse(response);
+            }, e -> {
+                onFailure(e);
+                listener.onFailure(e);
+            });
+        }
+    }
+
+    private static class Waiter {
+        private final ThreadPool threadPool;
+        private final ActionListener<Permit> listener;
+        private final Supplier<ThreadContext.StoredContext> context;
+        private volatile Scheduler.ScheduledCancellable timeout;
+        private Permit permit;
+
+        private Waiter(ThreadPool threadPool, ActionListener<Permit> listener) {
+            this.threadPool = threadPool;
+            this.listener = listener;
+            this.context = threadPool.getThreadContext().newRestorableContext(false);
+        }
+
+        private void dispatch() {
+            Scheduler.ScheduledCancellable scheduledTimeout = timeout;
+            if (scheduledTimeout != null) {
+                scheduledTimeout.cancel();
+            }
+            threadPool.executor(RETRY_EXECUTOR).execute(() -> {
+                try (ThreadContext.StoredContext ignored = context.get()) {
+                    listener.onResponse(permit);
+                } catch (Exception e) {
+                    permit.onFailure(e);
+                    listener.onFailure(e);
+                }
+            });
+        }
+
+        private void fail(Exception e) {
+            try (ThreadContext.StoredContext ignored = context.get()) {
+                listener.onFailure(e);
+            }
+        }
+    }
+}
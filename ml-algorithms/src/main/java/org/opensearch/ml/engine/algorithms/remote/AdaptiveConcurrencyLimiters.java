@@ -0,0 +1,140 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_ENABLED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_LATENCY_BACKOFF_ENABLED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_MAX_LIMIT;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_QUEUE_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_QUEUE_TIMEOUT_MS;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.Getter;
+
+/**
+ * Node level registry of the {@link AdaptiveConcurrencyLimiter} of each remote endpoint, shared by the models calling the
+ * endpoint. An endpoint is the scheme, host and port of the url of a connector action. The limiters are disabled until the
+ * registry is initialized and enabled by the settings.
+ * <p>
+ * Urls can come from request parameters, so the endpoints aren't a fixed set: limiters without requests are evicted once
+ * they have been idle for {@link #IDLE_TIMEOUT_MINUTES}, or right away when there are more than {@link #MAX_ENDPOINTS}.
+ */
+public class AdaptiveConcurrencyLimiters {
+    private static final AdaptiveConcurrencyLimiters INSTANCE = new AdaptiveConcurrencyLimiters();
+    @VisibleForTesting
+    static final long IDLE_TIMEOUT_MINUTES = 10;
+    @VisibleForTesting
+    static final int MAX_ENDPOINTS = 1000;
+    private static final long EVICTION_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+    private final AtomicLong lastEvictionNanos;
+    @Getter
+    private volatile boolean enabled;
+    @Getter
+    private volatile boolean latencyBackoffEnabled;
+    @Getter
+    private volatile int maxLimit = ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_MAX_LIMIT.getDefault(Settings.EMPTY);
+    @Getter
+    private volatile int queueSize = ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_QUEUE_SIZE.getDefault(Settings.EMPTY);
+    @Getter
+    private volatile int queueTimeoutMillis = ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_QUEUE_TIMEOUT_MS.getDefault(Settings.EMPTY);
+
+    @VisibleForTesting
+    AdaptiveConcurrencyLimiters() {
+        this(System::nanoTime);
+    }
+
+    @VisibleForTesting
+    AdaptiveConcurrencyLimiters(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.lastEvictionNanos = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    public static AdaptiveConcurrencyLimiters getInstance() {
+        return INSTANCE;
+    }
+
+    public void initialize(ClusterService clusterService, Settings settings) {
+        enabled = ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_ENABLED.get(settings);
+        latencyBackoffEnabled = ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_LATENCY_BACKOFF_ENABLED.get(settings);
+        maxLimit = ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_MAX_LIMIT.get(settings);
+        queueSize = ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_QUEUE_SIZE.get(settings);
+        queueTimeoutMillis = ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_QUEUE_TIMEOUT_MS.get(settings);
+        ClusterSettings clusterSettings = clusterService.getClusterSettings();
+        clusterSettings.addSettingsUpdateConsumer(ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_ENABLED, it -> enabled = it);
+        clusterSettings
+            .addSettingsUpdateConsumer(
+                ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_LATENCY_BACKOFF_ENABLED,
+                it -> latencyBackoffEnabled = it
+            );
+        clusterSettings.addSettingsUpdateConsumer(ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_MAX_LIMIT, it -> maxLimit = it);
+        clusterSettings.addSettingsUpdateConsumer(ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_QUEUE_SIZE, it -> queueSize = it);
+        clusterSettings
+            .addSettingsUpdateConsumer(ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_QUEUE_TIMEOUT_MS, it -> queueTimeoutMillis = it);
+    }
+
+    @VisibleForTesting
+    void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @VisibleForTesting
+    void setLatencyBackoffEnabled(boolean latencyBackoffEnabled) {
+        this.latencyBackoffEnabled = latencyBackoffEnabled;
+    }
+
+    @VisibleForTesting
+    int size() {
+        return limiters.size();
+    }
+
+    /**
+     * @param url the url of the request
+     * @return the limiter of the endpoint of the url, or null if the limiters are disabled
+     */
+    public AdaptiveConcurrencyLimiter get(String url) {
+        if (!enabled || url == null) {
+            return null;
+        }
+        evictIdle();
+        return limiters.computeIfAbsent(endpointOf(url), endpoint -> new AdaptiveConcurrencyLimiter(endpoint, this, nanoClock));
+    }
+
+    /**
+     * Evict the limiters without requests which have been idle for too long, or all of them if there are too many endpoints.
+     * A request may still get an evicted limiter, it then just doesn't share the limit of the requests getting the new one.
+     */
+    private void evictIdle() {
+        long now = nanoClock.getAsLong();
+        long lastEviction = lastEvictionNanos.get();
+        boolean tooMany = limiters.size() > MAX_ENDPOINTS;
+        if ((!tooMany && now - lastEviction < EVICTION_INTERVAL_NANOS) || !lastEvictionNanos.compareAndSet(lastEviction, now)) {
+            return;
+        }
+        long idleSince = tooMany ? now : now - TimeUnit.MINUTES.toNanos(IDLE_TIMEOUT_MINUTES);
+        limiters.values().removeIf(limiter -> limiter.isIdleSince(idleSince));
+    }
+
+    @VisibleForTesting
+    static String endpointOf(String url) {
+        int scheme = url.indexOf("://");
+        int path = url.indexOf('/', scheme < 0 ? 0 : scheme + 3);
+        return path < 0 ? url : url.substring(0, path);
+    }
+}
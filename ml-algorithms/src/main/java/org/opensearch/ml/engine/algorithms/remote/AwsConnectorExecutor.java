@@ -31,7 +31,6 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.connector.AwsConnector;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.exception.MLException;
-import org.opensearch.ml.common.httpclient.MLHttpClientFactory;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.output.model.ModelTensors;
@@ -216,18 +215,12 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
                     super.getConnectorClientConfig().getConnectionTimeout(),
                     super.getConnectorClientConfig().getReadTimeout()
                 );
-            this.httpClientRef
-                .compareAndSet(
-                    null,
-                    MLHttpClientFactory
-                        .getAsyncHttpClient(
-                            connectionTimeout,
-                            readTimeout,
-                            maxConnection,
-                            connectorPrivateIpEnabled,
-                            skipSslVerificationValue
-                        )
-                );
+            SdkAsyncHttpClient httpClient = getHttpClientRegistry()
+                .acquire(connectionTimeout, readTimeout, maxConnection, connectorPrivateIpEnabled, skipSslVerificationValue);
+            if (!this.httpClientRef.compareAndSet(null, httpClient)) {
+                // another request got the client first
+                httpClient.close();
+            }
         }
         return httpClientRef.get();
     }
@@ -6,6 +6,7 @@
 package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.apache.commons.text.StringEscapeUtils.escapeJson;
+import static org.opensearch.ml.common.CommonValue.ML_MAP_RESPONSE_KEY;
 import static org.opensearch.ml.common.connector.ConnectorAction.ActionType.BATCH_PREDICT;
 import static org.opensearch.ml.common.connector.ConnectorAction.ActionType.CANCEL_BATCH_PREDICT;
 import static org.opensearch.ml.common.connector.ConnectorAction.BEDROCK;
@@ -254,23 +255,30 @@ public class ConnectorUtils {
             return ModelTensors.builder().mlModelTensors(processedResponse).build();
         }
 
-        // execute user defined painless script.
-        Optional<String> processedResponse = executePostProcessFunction(scriptService, postProcessFunction, modelResponse);
+        // parse the model response once, the parsed document is reused by the script, the response filter and the response
+        Object document = parseModelResponse(modelResponse);
+        Optional<String> processedResponse;
+        if (document == null) {
+            // not a JSON object or array, keep the original error
+            processedResponse = executePostProcessFunction(scriptService, postProcessFunction, modelResponse);
+        } else {
+            // execute user defined painless script.
+            processedResponse = executePostProcessFunction(scriptService, postProcessFunction, wrapDocument(document, "result"));
+        }
         String response = processedResponse.orElse(modelResponse);
         boolean scriptReturnModelTensor = postProcessFunction != null
             && processedResponse.isPresent()
             && org.opensearch.ml.common.utils.StringUtils.isJson(response);
+        // the script output is a new document
+        Object responseDocument = processedResponse.isPresent() ? null : document;
 
         // Apply output processor chain if configured
         Object processedOutput;
-        // Apply output processor chain if configured
-        List<Map<String, Object>> processorConfigs = ProcessorChain.extractProcessorConfigs(parameters);
-        if (!processorConfigs.isEmpty()) {
-            ProcessorChain processorChain = new ProcessorChain(processorConfigs);
-
+        ProcessorChain processorChain = ProcessorChain.fromParameters(parameters, ProcessorChain.OUTPUT_PROCESSORS);
+        if (processorChain.hasProcessors()) {
             if (responseFilter != null) {
                 // Apply filter first, then processor chain
-                Object filteredResponse = JsonPath.parse(response).read(responseFilter);
+                Object filteredResponse = readResponseFilter(response, responseDocument, responseFilter);
                 processedOutput = processorChain.process(filteredResponse);
             } else {
                 // Apply processor chain to whole response
@@ -282,15 +290,45 @@ public class ConnectorUtils {
         } else {
             // Original flow without processor chain
             if (responseFilter == null) {
-                connector.parseResponse(response, modelTensors, scriptReturnModelTensor);
+                if (responseDocument != null) {
+                    connector.parseResponse(wrapDocument(responseDocument, ML_MAP_RESPONSE_KEY), modelTensors, false);
+                } else {
+                    connector.parseResponse(response, modelTensors, scriptReturnModelTensor);
+                }
             } else {
-                Object filteredResponse = JsonPath.parse(response).read(responseFilter);
+                Object filteredResponse = readResponseFilter(response, responseDocument, responseFilter);
                 connector.parseResponse(filteredResponse, modelTensors, scriptReturnModelTensor);
             }
         }
         return ModelTensors.builder().mlModelTensors(modelTensors).build();
     }
 
+    /**
+     * Parse the model response as a JSON object or array.
+     * @return the parsed document, or null if the model response is not a JSON object or array
+     */
+    private static Object parseModelResponse(String modelResponse) {
+        try {
+            return org.opensearch.ml.common.utils.StringUtils.parseJson(modelResponse);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> wrapDocument(Object document, String defaultKey) {
+        if (document instanceof List) {
+            Map<String, Object> result = new HashMap<>();
+            result.put(defaultKey, document);
+            return result;
+        }
+        return (Map<String, Object>) document;
+    }
+
+    private static Object readResponseFilter(String response, Object document, String responseFilter) {
+        return document != null ? JsonPath.parse(document).read(responseFilter) : JsonPath.parse(response).read(responseFilter);
+    }
+
     private static MLResultDataType parseMLResultDataTypeFromResponseFilter(String responseFilter) {
         for (MLResultDataType type : MLResultDataType.values()) {
             if (StringUtils.containsIgnoreCase(responseFilter, "." + type.name())) {
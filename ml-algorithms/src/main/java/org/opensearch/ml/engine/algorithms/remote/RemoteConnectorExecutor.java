@@ -96,6 +96,12 @@ public interface RemoteConnectorExecutor extends AutoCloseable {
         try {
             if (mlInput.getInputDataset() instanceof TextDocsInputDataSet) {
                 TextDocsInputDataSet textDocsInputDataSet = (TextDocsInputDataSet) mlInput.getInputDataset();
+                RemoteEmbeddingBatcher embeddingBatcher = getEmbeddingBatcher();
+                if (embeddingBatcher != null
+                    && RemoteEmbeddingBatchSettings.getInstance().isEnabled()
+                    && embeddingBatcher.submit(action, mlInput, getMaxDocsPerRequest(action), actionListener)) {
+                    return;
+                }
                 Tuple<Integer, Integer> calculatedChunkSize = calculateChunkSize(action, textDocsInputDataSet);
                 GroupedActionListener<Tuple<Integer, ModelTensors>> groupedActionListener = new GroupedActionListener<>(
                     tensorActionListener,
@@ -134,36 +140,38 @@ public interface RemoteConnectorExecutor extends AutoCloseable {
      */
     private Tuple<Integer, Integer> calculateChunkSize(String action, TextDocsInputDataSet textDocsInputDataSet) {
         int textDocsLength = textDocsInputDataSet.getDocs().size();
+        int stepSize = Math.min(getMaxDocsPerRequest(action), textDocsLength);
+        return Tuple.tuple((textDocsLength + stepSize - 1) / stepSize, stepSize);
+    }
+
+    /**
+     * Get the max number of text docs the connector sends to the model in one request.
+     * @param action the connector action
+     * @return the max number of docs, {@link Integer#MAX_VALUE} if the connector sends all docs in one request
+     */
+    private int getMaxDocsPerRequest(String action) {
         Map<String, String> parameters = getConnector().getParameters();
         if (parameters != null && parameters.containsKey("input_docs_processed_step_size")) {
             int stepSize = Integer.parseInt(parameters.get("input_docs_processed_step_size"));
             // We need to check the parameter on runtime as parameter can be passed into action request
             if (stepSize <= 0) {
                 throw new IllegalArgumentException("Invalid parameter: input_docs_processed_step_size. It must be positive integer.");
-            } else {
-                boolean isDivisible = textDocsLength % stepSize == 0;
-                if (isDivisible) {
-                    return Tuple.tuple(textDocsLength / stepSize, stepSize);
-                }
-                return Tuple.tuple(textDocsLength / stepSize + 1, stepSize);
-            }
-        } else {
-            Optional<ConnectorAction> connectorAction = getConnector().findAction(action);
-            if (connectorAction.isEmpty()) {
-                throw new IllegalArgumentException("no " + action + " action found");
-            }
-            String preProcessFunction = connectorAction.get().getPreProcessFunction();
-            if (preProcessFunction == null) {
-                // default preprocess case, consider this a batch.
-                return Tuple.tuple(1, textDocsLength);
-            } else if (MLPreProcessFunction.TEXT_DOCS_TO_BEDROCK_EMBEDDING_INPUT.equals(preProcessFunction)
-                || !MLPreProcessFunction.contains(preProcessFunction)) {
-                // bedrock and user defined preprocess script, the chunk size is always equals to text docs length.
-                return Tuple.tuple(textDocsLength, 1);
             }
-            // Other cases: non-bedrock and user defined preprocess script, consider as batch.
-            return Tuple.tuple(1, textDocsLength);
+            return stepSize;
         }
+        Optional<ConnectorAction> connectorAction = getConnector().findAction(action);
+        if (connectorAction.isEmpty()) {
+            throw new IllegalArgumentException("no " + action + " action found");
+        }
+        String preProcessFunction = connectorAction.get().getPreProcessFunction();
+        if (preProcessFunction != null
+            && (MLPreProcessFunction.TEXT_DOCS_TO_BEDROCK_EMBEDDING_INPUT.equals(preProcessFunction)
+                || !MLPreProcessFunction.contains(preProcessFunction))) {
+            // bedrock and user defined preprocess script, the chunk size is always equals to text docs length.
+            return 1;
+        }
+        // default and other built-in preprocess functions, consider as batch.
+        return Integer.MAX_VALUE;
     }
 
     default void setScriptService(ScriptService scriptService) {}
@@ -198,6 +206,22 @@ public interface RemoteConnectorExecutor extends AutoCloseable {
 
     default void setMlGuard(MLGuard mlGuard) {}
 
+    /**
+     * @return the concurrency limiter of the endpoint of the latest request, or null if the limiters are disabled
+     */
+    default AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+        return null;
+    }
+
+    default void setConcurrencyLimiter(AdaptiveConcurrencyLimiter concurrencyLimiter) {}
+
+    /**
+     * @return the batcher merging concurrent text embedding requests to the model, or null if the executor doesn't batch them
+     */
+    default RemoteEmbeddingBatcher getEmbeddingBatcher() {
+        return null;
+    }
+
     default void preparePayloadAndInvoke(
         String action,
         MLInput mlInput,
@@ -248,9 +272,8 @@ public interface RemoteConnectorExecutor extends AutoCloseable {
         parameters.putAll(inputParameters);
         String payload = connector.createPayload(action, parameters);
 
-        List<Map<String, Object>> processorConfigs = ProcessorChain.extractProcessorConfigs(parameters, INPUT_PROCESSORS);
-        if (!processorConfigs.isEmpty()) {
-            ProcessorChain processorChain = new ProcessorChain(processorConfigs);
+        ProcessorChain processorChain = ProcessorChain.fromParameters(parameters, INPUT_PROCESSORS);
+        if (processorChain.hasProcessors()) {
             payload = StringUtils.toJson(processorChain.process(payload));
         }
 
@@ -301,7 +324,7 @@ public interface RemoteConnectorExecutor extends AutoCloseable {
             } else if (getConnectorClientConfig().getMaxRetryTimes() != 0) {
                 invokeRemoteServiceWithRetry(action, mlInput, parameters, payload, executionContext, actionListener);
             } else {
-                invokeRemoteService(action, mlInput, parameters, payload, executionContext, actionListener);
+                invokeRemoteServiceWithConcurrencyLimit(action, mlInput, parameters, payload, executionContext, actionListener);
             }
         }
     }
@@ -365,6 +388,37 @@ public interface RemoteConnectorExecutor extends AutoCloseable {
         invokeRemoteModelAction.run();
     };
 
+    /**
+     * Invoke the remote service once the adaptive concurrency limit of its endpoint allows it, if the limits are enabled.
+     */
+    default void invokeRemoteServiceWithConcurrencyLimit(
+        String action,
+        MLInput mlInput,
+        Map<String, String> parameters,
+        String payload,
+        ExecutionContext executionContext,
+        ActionListener<Tuple<Integer, ModelTensors>> actionListener
+    ) {
+        AdaptiveConcurrencyLimiters limiters = AdaptiveConcurrencyLimiters.getInstance();
+        AdaptiveConcurrencyLimiter limiter = null;
+        if (limiters.isEnabled()) {
+            limiter = limiters.get(getConnector().getActionEndpoint(action, parameters));
+        }
+        if (limiter == null) {
+            invokeRemoteService(action, mlInput, parameters, payload, executionContext, actionListener);
+            return;
+        }
+        setConcurrencyLimiter(limiter);
+        limiter.acquire(getClient().threadPool(), ActionListener.wrap(permit -> {
+            ActionListener<Tuple<Integer, ModelTensors>> permitListener = permit.wrap(actionListener);
+            try {
+                invokeRemoteService(action, mlInput, parameters, payload, executionContext, permitListener);
+            } catch (Exception e) {
+                permitListener.onFailure(e);
+            }
+        }, actionListener::onFailure));
+    }
+
     void invokeRemoteService(
         String action,
         MLInput mlInput,
@@ -405,7 +459,14 @@ public interface RemoteConnectorExecutor extends AutoCloseable {
             // the listener here is RetryingListener
             // If the request success, or can not retry, will call delegate listener
             args.connectionExecutor
-                .invokeRemoteService(args.action, args.mlInput, args.parameters, args.payload, args.executionContext, listener);
+                .invokeRemoteServiceWithConcurrencyLimit(
+                    args.action,
+                    args.mlInput,
+                    args.parameters,
+                    args.payload,
+                    args.executionContext,
+                    listener
+                );
         }
 
         @Override
@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CONNECTOR_EMBEDDING_BATCH_LINGER_MS;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CONNECTOR_EMBEDDING_BATCH_MAX_BYTES;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_CONNECTOR_EMBEDDING_BATCH_MAX_DOCS;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.Getter;
+
+/**
+ * Node level settings of the {@link RemoteEmbeddingBatcher} of the remote models. Batching is disabled until the settings
+ * are initialized with a positive linger time.
+ */
+@Getter
+public class RemoteEmbeddingBatchSettings {
+    private static final RemoteEmbeddingBatchSettings INSTANCE = new RemoteEmbeddingBatchSettings();
+
+    private volatile int lingerMillis = ML_COMMONS_REMOTE_CONNECTOR_EMBEDDING_BATCH_LINGER_MS.getDefault(Settings.EMPTY);
+    private volatile int maxDocs = ML_COMMONS_REMOTE_CONNECTOR_EMBEDDING_BATCH_MAX_DOCS.getDefault(Settings.EMPTY);
+    private volatile int maxBytes = ML_COMMONS_REMOTE_CONNECTOR_EMBEDDING_BATCH_MAX_BYTES.getDefault(Settings.EMPTY);
+
+    @VisibleForTesting
+    RemoteEmbeddingBatchSettings() {}
+
+    public static RemoteEmbeddingBatchSettings getInstance() {
+        return INSTANCE;
+    }
+
+    public void initialize(ClusterService clusterService, Settings settings) {
+        lingerMillis = ML_COMMONS_REMOTE_CONNECTOR_EMBEDDING_BATCH_LINGER_MS.get(settings);
+        maxDocs = ML_COMMONS_REMOTE_CONNECTOR_EMBEDDING_BATCH_MAX_DOCS.get(settings);
+        maxBytes = ML_COMMONS_REMOTE_CONNECTOR_EMBEDDING_BATCH_MAX_BYTES.get(settings);
+        ClusterSettings clusterSettings = clusterService.getClusterSettings();
+        clusterSettings.addSettingsUpdateConsumer(ML_COMMONS_REMOTE_CONNECTOR_EMBEDDING_BATCH_LINGER_MS, it -> lingerMillis = it);
+        clusterSettings.addSettingsUpdateConsumer(ML_COMMONS_REMOTE_CONNECTOR_EMBEDDING_BATCH_MAX_DOCS, it -> maxDocs = it);
+        clusterSettings.addSettingsUpdateConsumer(ML_COMMONS_REMOTE_CONNECTOR_EMBEDDING_BATCH_MAX_BYTES, it -> maxBytes = it);
+    }
+
+    public boolean isEnabled() {
+        return lingerMillis > 0;
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.opensearch.ml.engine.algorithms.remote.RemoteConnectorExecutor.RETRY_EXECUTOR;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.opensearch.action.support.ContextPreservingActionListener;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.commons.ConfigConstants;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.input.parameter.MLAlgoParams;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Utf8;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Merges the docs of concurrent text embedding requests to a remote model into one request to the model, so many small
+ * requests, like the single query requests of neural search, don't each pay for a round trip to the provider.
+ * <p>
+ * A batch is sent once it reaches the max docs or max bytes, or once its first request has waited for the linger time.
+ * Only requests of the same action, user and algorithm parameters are merged, and requests with a result filter are
+ * never batched. The model must return one tensor per doc,
+ * which is how the outputs are split back between the requests; otherwise the batch is sent again as separate requests
+ * and batching is turned off for the model.
+ */
+@Log4j2
+public class RemoteEmbeddingBatcher {
+    private final RemoteConnectorExecutor executor;
+    private final RemoteEmbeddingBatchSettings settings;
+    private final Map<List<Object>, Batch> openBatches = new HashMap<>();
+    private volatile boolean demultiplexable = true;
+
+    public RemoteEmbeddingBatcher(RemoteConnectorExecutor executor) {
+        this(executor, RemoteEmbeddingBatchSettings.getInstance());
+    }
+
+    @VisibleForTesting
+    RemoteEmbeddingBatcher(RemoteConnectorExecutor executor, RemoteEmbeddingBatchSettings settings) {
+        this.executor = executor;
+        this.settings = settings;
+    }
+
+    /**
+     * Submit a text embedding request to be sent together with concurrent requests.
+     * @param action the connector action
+     * @param mlInput the input of the request, with a {@link TextDocsInputDataSet}
+     * @param maxDocsPerRequest the max number of docs the connector sends to the model in one request
+     * @param listener the listener of the request
+     * @return true if the request is batched, false if it has to be sent on its own
+     */
+    public boolean submit(String action, MLInput mlInput, int maxDocsPerRequest, ActionListener<MLTaskResponse> listener) {
+        int lingerMillis = settings.getLingerMillis();
+        int maxDocs = Math.min(settings.getMaxDocs(), maxDocsPerRequest);
+        int maxBytes = settings.getMaxBytes();
+        TextDocsInputDataSet inputDataset = (TextDocsInputDataSet) mlInput.getInputDataset();
+        List<String> docs = inputDataset.getDocs();
+        long bytes = sizeOf(docs);
+        // requests which fill a batch on their own gain nothing from waiting, and the result filter isn't part of the batch
+        if (lingerMillis <= 0
+            || !demultiplexable
+            || inputDataset.getResultFilter() != null
+            || docs.size() >= maxDocs
+            || bytes >= maxBytes) {
+            return false;
+        }
+
+        ThreadPool threadPool = executor.getClient().threadPool();
+        ThreadContext threadContext = threadPool.getThreadContext();
+        String user = threadContext.getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
+        // the text embedding parameters implement equals, so equal parameters of different requests share a batch
+        List<Object> key = Arrays.asList(action, user, mlInput.getParameters());
+        ActionListener<MLTaskResponse> requestListener = new ContextPreservingActionListener<>(
+            threadContext.newRestorableContext(false),
+            listener
+        );
+        Request request = new Request(mlInput, docs, bytes, requestListener);
+        List<Batch> ready = new ArrayList<>();
+        Batch created = null;
+        synchronized (this) {
+            Batch batch = openBatches.get(key);
+            if (batch != null && (batch.docCount + docs.size() > maxDocs || batch.bytes + bytes > maxBytes)) {
+                openBatches.remove(key);
+                ready.add(batch);
+                batch = null;
+            }
+            if (batch == null) {
+                batch = new Batch(key, action, mlInput.getParameters(), threadContext.newRestorableContext(false));
+                openBatches.put(key, batch);
+                created = batch;
+            }
+            batch.add(request);
+            if (batch.docCount >= maxDocs) {
+                openBatches.remove(key);
+                ready.add(batch);
+            }
+        }
+        if (created != null) {
+            Batch lingering = created;
+            lingering.timeout = threadPool.schedule(() -> onLinger(lingering), TimeValue.timeValueMillis(lingerMillis), RETRY_EXECUTOR);
+        }
+        for (Batch batch : ready) {
+            send(batch);
+        }
+        return true;
+    }
+
+    private void onLinger(Batch batch) {
+        synchronized (this) {
+            if (!openBatches.remove(batch.key, batch)) {
+                // already sent because it was full
+                return;
+            }
+        }
+        send(batch);
+    }
+
+    private void send(Batch batch) {
+        Scheduler.ScheduledCancellable timeout = batch.timeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+        List<String> docs = new ArrayList<>(batch.docCount);
+        for (Request request : batch.requests) {
+            docs.addAll(request.docs);
+        }
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .parameters(batch.parameters)
+            .inputDataset(TextDocsInputDataSet.builder().docs(docs).build())
+            .build();
+        ActionListener<Tuple<Integer, ModelTensors>> listener = new ActionListener<>() {
+            @Override
+            public void onResponse(Tuple<Integer, ModelTensors> response) {
+                demultiplex(batch, response.v2());
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                for (Request request : batch.requests) {
+                    request.listener.onFailure(e);
+                }
+            }
+        };
+        log.debug("Sending batch of {} text embedding requests with {} docs", batch.requests.size(), docs.size());
+        try (ThreadContext.StoredContext ignored = batch.context.get()) {
+            executor.preparePayloadAndInvoke(batch.action, mlInput, new ExecutionContext(0), listener);
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    private void demultiplex(Batch batch, ModelTensors tensors) {
+        List<ModelTensor> outputs = tensors == null ? null : tensors.getMlModelTensors();
+        if (outputs == null || outputs.size() != batch.docCount) {
+            log
+                .warn(
+                    "Remote model returned {} tensors for {} docs, text embedding requests are no longer batched for the model",
+                    outputs == null ? 0 : outputs.size(),
+                    batch.docCount
+                );
+            demultiplexable = false;
+            try (ThreadContext.StoredContext ignored = batch.context.get()) {
+                for (Request request : batch.requests) {
+                    executor.executeAction(batch.action, request.mlInput, request.listener);
+                }
+            }
+            return;
+        }
+        int offset = 0;
+        for (Request request : batch.requests) {
+            ModelTensors requestTensors = new ModelTensors(new ArrayList<>(outputs.subList(offset, offset + request.docs.size())));
+            requestTensors.setStatusCode(tensors.getStatusCode());
+            offset += request.docs.size();
+            try {
+                request.listener.onResponse(new MLTaskResponse(new ModelTensorOutput(List.of(requestTensors))));
+            } catch (Exception e) {
+                request.listener.onFailure(e);
+            }
+        }
+    }
+
+    private static long sizeOf(List<String> docs) {
+        long bytes = 0;
+        for (String doc : docs) {
+            bytes += doc == null ? 0 : Utf8.encodedLength(doc);
+        }
+        return bytes;
+    }
+
+    private static class Request {
+        private final MLInput mlInput;
+        private final List<String> docs;
+        private final long bytes;
+        private final ActionListener<MLTaskResponse> listener;
+
+        private Request(MLInput mlInput, List<String> docs, long bytes, ActionListener<MLTaskResponse> listener) {
+            this.mlInput = mlInput;
+            this.docs = docs;
+            this.bytes = bytes;
+            this.listener = listener;
+        }
+    }
+
+    private static class Batch {
+        private final List<Object> key;
+        private final String action;
+        private final MLAlgoParams parameters;
+        // thread context of the first request, the requests of a batch belong to the same user
+        private final Supplier<ThreadContext.StoredContext> context;
+        private final List<Request> requests = new ArrayList<>();
+        private int docCount;
+        private long bytes;
+        private volatile Scheduler.ScheduledCancellable timeout;
+
+        private Batch(List<Object> key, String action, MLAlgoParams parameters, Supplier<ThreadContext.StoredContext> context) {
+            this.key = key;
+            this.action = action;
+            this.parameters = parameters;
+            this.context = context;
+        }
+
+        private void add(Request request) {
+            requests.add(request);
+            docCount += request.docs.size();
+            bytes += request.bytes;
+        }
+    }
+}
@@ -110,6 +110,15 @@ public class RemoteModel implements Predictable {
         return connectorExecutor != null;
     }
 
+    /**
+     * @return the adaptive concurrency limit of the endpoint the model called last, or null if the model has no limiter
+     */
+    public Integer getConcurrencyLimit() {
+        RemoteConnectorExecutor executor = connectorExecutor;
+        AdaptiveConcurrencyLimiter limiter = executor == null ? null : executor.getConcurrencyLimiter();
+        return limiter == null ? null : limiter.getLimit();
+    }
+
     @Override
     public void initModelAsync(MLModel model, Map<String, Object> params, Encryptor encryptor, ActionListener<Predictable> listener) {
         SdkClient sdkClient = (SdkClient) params.get(SDK_CLIENT);
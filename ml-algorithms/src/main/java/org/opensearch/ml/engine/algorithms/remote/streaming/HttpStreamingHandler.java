@@ -42,6 +42,8 @@ import org.opensearch.ml.engine.algorithms.remote.ConnectorUtils;
 import com.jayway.jsonpath.JsonPath;
 
 import lombok.extern.log4j.Log4j2;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -53,6 +55,10 @@ import okhttp3.sse.EventSources;
 @Log4j2
 public class HttpStreamingHandler extends BaseStreamingHandler {
 
+    // handlers are created per stream, they share the connections and the threads of the streams
+    private static final ConnectionPool SHARED_CONNECTION_POOL = new ConnectionPool();
+    private static final Dispatcher SHARED_DISPATCHER = createDispatcher();
+
     private final Connector connector;
     private OkHttpClient okHttpClient;
     private String llmInterface;
@@ -78,6 +84,8 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
         try {
             AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
                 this.okHttpClient = new OkHttpClient.Builder()
+                    .connectionPool(SHARED_CONNECTION_POOL)
+                    .dispatcher(SHARED_DISPATCHER)
                     .connectTimeout(connectionTimeout)
                     .readTimeout(readTimeout)
                     .retryOnConnectionFailure(true)
@@ -89,6 +97,14 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
         }
     }
 
+    private static Dispatcher createDispatcher() {
+        Dispatcher dispatcher = new Dispatcher();
+        // each handler used to have a dispatcher of its own, so the streams were never queued
+        dispatcher.setMaxRequests(Integer.MAX_VALUE);
+        dispatcher.setMaxRequestsPerHost(Integer.MAX_VALUE);
+        return dispatcher;
+    }
+
     @Override
     public void startStream(
         String action,
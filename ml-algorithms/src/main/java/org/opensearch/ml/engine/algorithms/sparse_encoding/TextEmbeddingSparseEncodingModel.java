@@ -31,6 +31,11 @@ public class TextEmbeddingSparseEncodingModel extends TextEmbeddingModel {
         return null;
     }
 
+    @Override
+    protected boolean supportsBatchInference(String engine, MLModelConfig modelConfig) {
+        return true;
+    }
+
     @Override
     protected boolean isAsymmetricModel(MLAlgoParams mlParams) {
         return false;
@@ -54,15 +54,11 @@ public class HuggingfaceTextEmbeddingServingTranslator implements Translator<Inp
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) throws Exception {
         float[] ret = translator.processOutput(ctx, list);
-        Number[] data = new Float[ret.length];
-        for (int i = 0; i < ret.length; i++) {
-            data[i] = ret[i];
-        }
         long[] shape = new long[] { 1, ret.length };
         ModelTensor tensor = ModelTensor
             .builder()
             .name(SENTENCE_EMBEDDING)
-            .data(data)
+            .floatData(ret)
             .shape(shape)
             .dataType(MLResultDataType.FLOAT32)
             .build();
@@ -25,6 +25,7 @@ import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.DataType;
 import ai.djl.translate.Batchifier;
 import ai.djl.translate.ServingTranslator;
 import ai.djl.translate.TranslatorContext;
@@ -135,13 +136,12 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
             embeddings = embeddings.normalize(2, 0);
         }
 
-        Number[] data = embeddings.toArray();
         List<ModelTensor> outputs = new ArrayList<>();
         long[] shape = embeddings.getShape().getShape();
         ModelTensor modelTensor = ModelTensor
             .builder()
             .name(SENTENCE_EMBEDDING)
-            .data(data)
+            .floatData(embeddings.toType(DataType.FLOAT32, false).toFloatArray())
             .shape(shape)
             .dataType(MLResultDataType.FLOAT32)
             .build();
@@ -31,19 +31,23 @@ public class SentenceTransformerTextEmbeddingTranslator extends SentenceTransfor
         while (iterator.hasNext()) {
             NDArray ndArray = iterator.next();
             String name = ndArray.getName();
-            Number[] data = ndArray.toArray();
             long[] shape = ndArray.getShape().getShape();
             DataType dataType = ndArray.getDataType();
             MLResultDataType mlResultDataType = MLResultDataType.valueOf(dataType.name());
             ByteBuffer buffer = ndArray.toByteBuffer();
-            ModelTensor tensor = ModelTensor
+            ModelTensor.ModelTensorBuilder tensorBuilder = ModelTensor
                 .builder()
                 .name(name)
-                .data(data)
                 .shape(shape)
                 .dataType(mlResultDataType)
-                .byteBuffer(buffer)
-                .build();
+                .byteBuffer(buffer);
+            // keep float embeddings primitive, they are boxed only if the caller asks for boxed numbers
+            if (dataType == DataType.FLOAT32) {
+                tensorBuilder.floatData(ndArray.toFloatArray());
+            } else {
+                tensorBuilder.data(ndArray.toArray());
+            }
+            ModelTensor tensor = tensorBuilder.build();
             outputs.add(tensor);
         }
 
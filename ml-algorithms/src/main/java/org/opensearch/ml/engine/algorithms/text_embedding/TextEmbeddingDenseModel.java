@@ -44,6 +44,15 @@ public class TextEmbeddingDenseModel extends TextEmbeddingModel {
         return null;
     }
 
+    @Override
+    protected boolean supportsBatchInference(String engine, MLModelConfig modelConfig) {
+        // Only the pytorch sentence transformer translator pads inputs into one batch.
+        TextEmbeddingModelConfig textEmbeddingModelConfig = (TextEmbeddingModelConfig) modelConfig;
+        return PYTORCH_ENGINE.equals(engine)
+            && textEmbeddingModelConfig != null
+            && textEmbeddingModelConfig.getFrameworkType() == SENTENCE_TRANSFORMERS;
+    }
+
     @Override
     public TranslatorFactory getTranslatorFactory(String engine, MLModelConfig modelConfig) {
         TextEmbeddingModelConfig textEmbeddingModelConfig = (TextEmbeddingModelConfig) modelConfig;
@@ -42,21 +42,28 @@ public class TextSimilarityCrossEncoderModel extends DLModel {
     @Override
     public ModelTensorOutput predict(String modelId, MLInput mlInput) throws TranslateException {
         MLInputDataset inputDataSet = mlInput.getInputDataset();
-        List<ModelTensors> tensorOutputs = new ArrayList<>();
-        Output output;
         TextSimilarityInputDataSet textSimInput = (TextSimilarityInputDataSet) inputDataSet;
         String queryText = textSimInput.getQueryText();
+        List<Input> inputs = new ArrayList<>(textSimInput.getTextDocs().size());
         for (String doc : textSimInput.getTextDocs()) {
             Input input = new Input();
             input.add(queryText);
             input.add(doc);
-            output = getPredictor().predict(input);
+            inputs.add(input);
+        }
+        List<ModelTensors> tensorOutputs = new ArrayList<>(inputs.size());
+        for (Output output : predictInputs(inputs, null)) {
             ModelTensors outputTensors = ModelTensors.fromBytes(output.getData().getAsBytes());
             tensorOutputs.add(outputTensors);
         }
         return new ModelTensorOutput(tensorOutputs);
     }
 
+    @Override
+    protected boolean supportsBatchInference(String engine, MLModelConfig modelConfig) {
+        return true;
+    }
+
     @Override
     public Translator<Input, Output> getTranslator(String engine, MLModelConfig modelConfig) throws IllegalArgumentException {
         return new TextSimilarityTranslator();
@@ -5,38 +5,63 @@
 
 package org.opensearch.ml.engine.indices;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_SEARCH_INPUT_PAGE_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_SEARCH_INPUT_SLICES;
 
+import org.opensearch.action.search.ClearScrollRequest;
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.action.support.GroupedActionListener;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
-import org.opensearch.ml.common.dataframe.DataFrame;
-import org.opensearch.ml.common.dataframe.DataFrameBuilder;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.dataset.MLInputDataType;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
 import org.opensearch.search.SearchHit;
-import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.slice.SliceBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.transport.client.Client;
 
-import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
-import lombok.experimental.FieldDefaults;
 import lombok.extern.log4j.Log4j2;
 
 /**
  * Convert MLInputDataset to Dataframe
  */
-@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
-@RequiredArgsConstructor
 @Log4j2
 public class MLInputDatasetHandler {
-    Client client;
+    // same as the default size of search request
+    private static final int DEFAULT_SEARCH_SIZE = 10;
+    private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(5);
+
+    private final Client client;
+    private volatile Integer pageSize;
+    private volatile Integer slices;
+
+    public MLInputDatasetHandler(Client client) {
+        this.client = client;
+        this.pageSize = ML_COMMONS_SEARCH_INPUT_PAGE_SIZE.getDefault(Settings.EMPTY);
+        this.slices = ML_COMMONS_SEARCH_INPUT_SLICES.getDefault(Settings.EMPTY);
+    }
+
+    public MLInputDatasetHandler(Client client, Settings settings, ClusterService clusterService) {
+        this.client = client;
+        this.pageSize = ML_COMMONS_SEARCH_INPUT_PAGE_SIZE.get(settings);
+        this.slices = ML_COMMONS_SEARCH_INPUT_SLICES.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_SEARCH_INPUT_PAGE_SIZE, it -> pageSize = it);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_SEARCH_INPUT_SLICES, it -> slices = it);
+    }
 
     /**
-     * Create DataFrame based on given search query
+     * Create DataFrame based on given search query. The size of the search query is the max number of documents loaded into
+     * the data frame. Up to one page of documents is read with a single search request; more documents are read page by
+     * page with scroll requests, optionally in parallel slices. Scroll requests don't support {@code from}, so a query
+     * with {@code from} is always read with a single search request.
      * @param mlInputDataset MLInputDataset
      * @param listener ActionListener
      */
@@ -45,11 +70,21 @@ public class MLInputDatasetHandler {
             throw new IllegalArgumentException("Input dataset is not SEARCH_QUERY type.");
         }
         SearchQueryInputDataset inputDataset = (SearchQueryInputDataset) mlInputDataset;
+        SearchSourceBuilder searchSourceBuilder = inputDataset.getSearchSourceBuilder();
+        String[] indices = inputDataset.getIndices().toArray(new String[0]);
+        int size = searchSourceBuilder.size() < 0 ? DEFAULT_SEARCH_SIZE : searchSourceBuilder.size();
+        int currentPageSize = pageSize;
+
+        if (size <= currentPageSize || searchSourceBuilder.from() > 0) {
+            search(indices, searchSourceBuilder, size, listener);
+        } else {
+            scrollSearch(indices, searchSourceBuilder, size, currentPageSize, listener);
+        }
+    }
+
+    private void search(String[] indices, SearchSourceBuilder searchSourceBuilder, int size, ActionListener<MLInputDataset> listener) {
         SearchRequest searchRequest = new SearchRequest();
-        searchRequest.source(inputDataset.getSearchSourceBuilder());
-        List<String> indicesList = inputDataset.getIndices();
-        String[] indices = new String[indicesList.size()];
-        indices = indicesList.toArray(indices);
+        searchRequest.source(searchSourceBuilder);
         searchRequest.indices(indices);
 
         client.search(searchRequest, ActionListener.wrap(r -> {
@@ -57,20 +92,76 @@ public class MLInputDatasetHandler {
                 listener.onFailure(new IllegalArgumentException("No document found"));
                 return;
             }
-            SearchHits hits = r.getHits();
-            List<Map<String, Object>> input = new ArrayList<>();
-            SearchHit[] searchHits = hits.getHits();
-            for (SearchHit hit : searchHits) {
-                input.add(hit.getSourceAsMap());
-            }
-            DataFrame dataFrame = DataFrameBuilder.load(input);
-            MLInputDataset dfInputDataset = new DataFrameInputDataset(dataFrame);
-            listener.onResponse(dfInputDataset);
-            return;
+            SearchHitsDataFrameBuilder dataFrameBuilder = new SearchHitsDataFrameBuilder(size);
+            dataFrameBuilder.append(r.getHits().getHits());
+            listener.onResponse(new DataFrameInputDataset(dataFrameBuilder.build()));
         }, e -> {
-            log.error("Failed to search{}", e);
+            log.error("Failed to search", e);
             listener.onFailure(e);
         }));
-        return;
+    }
+
+    private void scrollSearch(
+        String[] indices,
+        SearchSourceBuilder searchSourceBuilder,
+        int size,
+        int currentPageSize,
+        ActionListener<MLInputDataset> listener
+    ) {
+        int sliceCount = slices;
+        SearchHitsDataFrameBuilder dataFrameBuilder = new SearchHitsDataFrameBuilder(size);
+        GroupedActionListener<Void> slicesListener = new GroupedActionListener<>(ActionListener.wrap(r -> {
+            if (dataFrameBuilder.getSize() == 0) {
+                listener.onFailure(new IllegalArgumentException("No document found"));
+                return;
+            }
+            log.debug("Loaded {} documents from indices {} into data frame", dataFrameBuilder.getSize(), indices);
+            listener.onResponse(new DataFrameInputDataset(dataFrameBuilder.build()));
+        }, e -> {
+            log.error("Failed to search", e);
+            listener.onFailure(e);
+        }), sliceCount);
+
+        for (int i = 0; i < sliceCount; i++) {
+            SearchSourceBuilder sliceSourceBuilder = searchSourceBuilder.shallowCopy().size(Math.min(currentPageSize, size));
+            if (searchSourceBuilder.sorts() == null) {
+                // no need to score and sort documents which will all be read anyway
+                sliceSourceBuilder.sort(SortBuilders.fieldSort(FieldSortBuilder.DOC_FIELD_NAME));
+            }
+            if (sliceCount > 1) {
+                sliceSourceBuilder.slice(new SliceBuilder(i, sliceCount));
+            }
+            SearchRequest searchRequest = new SearchRequest(indices).source(sliceSourceBuilder).scroll(SCROLL_KEEP_ALIVE);
+            client.search(searchRequest, scrollListener(dataFrameBuilder, slicesListener));
+        }
+    }
+
+    private ActionListener<SearchResponse> scrollListener(SearchHitsDataFrameBuilder dataFrameBuilder, ActionListener<Void> listener) {
+        return ActionListener.wrap(r -> {
+            String scrollId = r.getScrollId();
+            try {
+                SearchHit[] hits = r.getHits().getHits();
+                if (hits.length == 0 || !dataFrameBuilder.append(hits)) {
+                    clearScroll(scrollId);
+                    listener.onResponse(null);
+                    return;
+                }
+            } catch (Exception e) {
+                clearScroll(scrollId);
+                listener.onFailure(e);
+                return;
+            }
+            SearchScrollRequest searchScrollRequest = new SearchScrollRequest(scrollId).scroll(SCROLL_KEEP_ALIVE);
+            client.searchScroll(searchScrollRequest, scrollListener(dataFrameBuilder, listener));
+        }, listener::onFailure);
+    }
+
+    private void clearScroll(String scrollId) {
+        if (scrollId == null) {
+            return;
+        }
+        ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+        clearScrollRequest.addScrollId(scrollId);
+        client.clearScroll(clearScrollRequest, ActionListener.wrap(r -> {}, e -> log.warn("Failed to clear scroll context", e)));
     }
 }
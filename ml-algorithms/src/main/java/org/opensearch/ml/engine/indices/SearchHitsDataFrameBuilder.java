@@ -0,0 +1,169 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.indices;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.dataframe.ColumnMeta;
+import org.opensearch.ml.common.dataframe.ColumnType;
+import org.opensearch.ml.common.dataframe.ColumnarDataFrame;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.search.SearchHit;
+
+/**
+ * Build columnar data frame from search hits page by page. The source of every hit is parsed straight into the data frame
+ * columns, so neither the hits nor their source maps need to be kept until all pages are read. Like {@link org.opensearch.ml.common.dataframe.DataFrameBuilder},
+ * the columns are decided by the first hit, and all other hits should have the same fields with the same types.
+ * <p>
+ * Pages of different slices can be appended concurrently.
+ */
+public class SearchHitsDataFrameBuilder {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int maxRows;
+    private volatile ColumnMeta[] columnMetas;
+    private volatile ColumnarDataFrame dataFrame;
+    private volatile Map<String, Integer> columnIndices;
+
+    /**
+     * @param maxRows max number of rows of the data frame, hits appended after the data frame is full are dropped
+     */
+    public SearchHitsDataFrameBuilder(int maxRows) {
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Append one page of search hits.
+     * @param hits search hits
+     * @return true if the data frame can take more rows
+     * @throws IOException if failed to parse the source of a hit
+     */
+    public boolean append(SearchHit[] hits) throws IOException {
+        int hitsToAppend = Math.min(hits.length, maxRows - getSize());
+        if (hitsToAppend <= 0) {
+            return getSize() < maxRows;
+        }
+        initColumns(hits[0]);
+        List<Object[]> pageRows = new ArrayList<>(hitsToAppend);
+        for (int i = 0; i < hitsToAppend; i++) {
+            pageRows.add(parseRow(hits[i]));
+        }
+        synchronized (this) {
+            for (Object[] row : pageRows) {
+                if (dataFrame.size() >= maxRows) {
+                    break;
+                }
+                dataFrame.appendRow(row);
+            }
+            return dataFrame.size() < maxRows;
+        }
+    }
+
+    public synchronized int getSize() {
+        return dataFrame == null ? 0 : dataFrame.size();
+    }
+
+    public synchronized DataFrame build() {
+        if (dataFrame == null) {
+            throw new IllegalArgumentException("columnMetas array is null or empty");
+        }
+        return dataFrame;
+    }
+
+    private synchronized void initColumns(SearchHit hit) throws IOException {
+        if (columnMetas != null) {
+            return;
+        }
+        Map<String, ColumnType> columnTypes = new LinkedHashMap<>();
+        try (XContentParser parser = createParser(hit)) {
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+            while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                columnTypes.put(fieldName, getColumnType(parseValue(parser)));
+            }
+        }
+        ColumnMeta[] metas = new ColumnMeta[columnTypes.size()];
+        Map<String, Integer> indices = new HashMap<>();
+        int index = 0;
+        for (Map.Entry<String, ColumnType> entry : columnTypes.entrySet()) {
+            metas[index] = ColumnMeta.builder().name(entry.getKey()).columnType(entry.getValue()).build();
+            indices.put(entry.getKey(), index++);
+        }
+        dataFrame = new ColumnarDataFrame(metas, Math.min(maxRows, INITIAL_CAPACITY));
+        columnIndices = indices;
+        columnMetas = metas;
+    }
+
+    private Object[] parseRow(SearchHit hit) throws IOException {
+        Object[] values = new Object[columnMetas.length];
+        int fieldCount = 0;
+        try (XContentParser parser = createParser(hit)) {
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+            while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                Integer index = columnIndices.get(fieldName);
+                if (index == null) {
+                    throw new IllegalArgumentException("field of input item doesn't exist in columns, filed:" + fieldName);
+                }
+                Object value = parseValue(parser);
+                if (getColumnType(value) != columnMetas[index].getColumnType()) {
+                    throw new IllegalArgumentException("the same field has different data type");
+                }
+                values[index] = value;
+                fieldCount++;
+            }
+        }
+        if (fieldCount != columnMetas.length) {
+            throw new IllegalArgumentException("input item map size is different in the map");
+        }
+        return values;
+    }
+
+    private ColumnType getColumnType(Object value) {
+        return value == null ? ColumnType.NULL : ColumnType.from(value);
+    }
+
+    private Object parseValue(XContentParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_STRING:
+                return parser.text();
+            case VALUE_NUMBER:
+                return parser.numberValue();
+            case VALUE_BOOLEAN:
+                return parser.booleanValue();
+            case VALUE_NULL:
+                return null;
+            case START_ARRAY:
+                return parser.list();
+            default:
+                return parser.map();
+        }
+    }
+
+    private XContentParser createParser(SearchHit hit) throws IOException {
+        BytesReference source = hit.getSourceRef();
+        if (source == null) {
+            throw new IllegalArgumentException("search hit has no source, id:" + hit.getId());
+        }
+        return XContentHelper
+            .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, source, MediaTypeRegistry.xContentType(source));
+    }
+}
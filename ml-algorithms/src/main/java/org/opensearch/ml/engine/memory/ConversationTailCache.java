@@ -0,0 +1,209 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.memory;
+
+import static org.opensearch.ml.common.conversation.ConversationalIndexConstants.INTERACTIONS_ADDITIONAL_INFO_FIELD;
+import static org.opensearch.ml.common.conversation.ConversationalIndexConstants.INTERACTIONS_RESPONSE_FIELD;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MEMORY_TAIL_CACHE_SIZE;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.ml.common.conversation.Interaction;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Per-node cache of the latest final interactions of the active conversations, so agents don't search the interactions
+ * index for the chat history on every turn.
+ * <p>
+ * A tail is cached with the version of the conversation document it was read at. Adding an interaction to a conversation
+ * updates that document, so interactions created through this node are appended to the cached tail along with the
+ * version returned by the update, and a tail is only served if its version is still the version of the conversation.
+ * Interactions added through other nodes therefore make the next read go to the index. Updates and deletes of
+ * interactions through this node are applied to the cached tails, while updates and deletes through other nodes are
+ * picked up once the tail expires.
+ */
+public class ConversationTailCache {
+    private static final ConversationTailCache INSTANCE = new ConversationTailCache();
+    private static final long EXPIRE_AFTER_WRITE_MINUTES = 10;
+    @VisibleForTesting
+    static final int MAX_TAIL_SIZE = 100;
+
+    private volatile Cache<String, Tail> tails;
+
+    @AllArgsConstructor
+    private static class Tail {
+        private final long version;
+        // oldest first
+        private final List<Interaction> interactions;
+        // whether the tail holds all the final interactions of the conversation
+        private final boolean complete;
+    }
+
+    @VisibleForTesting
+    ConversationTailCache() {}
+
+    public static ConversationTailCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Enable the cache with the size from the settings. The cache is disabled until it's initialized.
+     */
+    public void initialize(ClusterService clusterService, Settings settings) {
+        resize(ML_COMMONS_MEMORY_TAIL_CACHE_SIZE.get(settings));
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MEMORY_TAIL_CACHE_SIZE, this::resize);
+    }
+
+    @VisibleForTesting
+    synchronized void resize(int maxInteractions) {
+        if (maxInteractions <= 0) {
+            tails = null;
+            return;
+        }
+        tails = CacheBuilder
+            .newBuilder()
+            .maximumWeight(maxInteractions)
+            .<String, Tail>weigher((conversationId, tail) -> Math.max(1, tail.interactions.size()))
+            .expireAfterWrite(EXPIRE_AFTER_WRITE_MINUTES, TimeUnit.MINUTES)
+            .build();
+    }
+
+    public boolean isEnabled() {
+        return tails != null;
+    }
+
+    /**
+     * @param conversationId the conversation whose interactions to get
+     * @param version the current version of the conversation
+     * @param lastN how many interactions to get
+     * @return the latest final interactions of the conversation from oldest to newest, or null if they aren't cached at
+     * this version
+     */
+    public List<Interaction> get(String conversationId, long version, int lastN) {
+        Cache<String, Tail> cache = tails;
+        Tail tail = cache == null ? null : cache.getIfPresent(conversationId);
+        if (tail == null || tail.version != version || (tail.interactions.size() < lastN && !tail.complete)) {
+            return null;
+        }
+        int size = tail.interactions.size();
+        return new ArrayList<>(tail.interactions.subList(Math.max(0, size - lastN), size));
+    }
+
+    /**
+     * Cache the interactions read from the index.
+     * @param conversationId the conversation of the interactions
+     * @param version the version of the conversation read before the interactions
+     * @param interactions the latest final interactions of the conversation from oldest to newest
+     * @param lastN how many interactions were requested
+     */
+    public synchronized void put(String conversationId, long version, List<Interaction> interactions, int lastN) {
+        if (tails == null) {
+            return;
+        }
+        boolean complete = interactions.size() < lastN && interactions.size() <= MAX_TAIL_SIZE;
+        tails.put(conversationId, new Tail(version, trim(new ArrayList<>(interactions)), complete));
+    }
+
+    /**
+     * Append an interaction created through this node to the cached tail of its conversation.
+     * @param conversationId the conversation of the interaction
+     * @param interaction the created interaction, or null if it's a trace, which bumps the version but isn't cached
+     * @param version the version of the conversation after the interaction was added, or null if the conversation
+     * wasn't updated
+     */
+    public synchronized void onInteractionCreated(String conversationId, Interaction interaction, Long version) {
+        Tail tail = tails == null ? null : tails.getIfPresent(conversationId);
+        if (tail == null) {
+            return;
+        }
+        if (version == null || version != tail.version + 1) {
+            // the version doesn't tell whether the tail misses interactions added through other nodes
+            tails.invalidate(conversationId);
+            return;
+        }
+        List<Interaction> interactions = new ArrayList<>(tail.interactions);
+        // the tail may have been read after the interaction was indexed
+        if (interaction != null && interactions.stream().noneMatch(i -> i.getId().equals(interaction.getId()))) {
+            interactions.add(interaction);
+        }
+        boolean complete = tail.complete && interactions.size() <= MAX_TAIL_SIZE;
+        tails.put(conversationId, new Tail(version, trim(interactions), complete));
+    }
+
+    /**
+     * Apply an update made through this node to the cached interaction.
+     * @param interactionId the updated interaction
+     * @param updateContent the updated fields
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized void onInteractionUpdated(String interactionId, Map<String, Object> updateContent) {
+        if (tails == null) {
+            return;
+        }
+        for (Map.Entry<String, Tail> entry : tails.asMap().entrySet()) {
+            Tail tail = entry.getValue();
+            for (int i = 0; i < tail.interactions.size(); i++) {
+                Interaction interaction = tail.interactions.get(i);
+                if (!interaction.getId().equals(interactionId)) {
+                    continue;
+                }
+                String response = interaction.getResponse();
+                if (updateContent.containsKey(INTERACTIONS_RESPONSE_FIELD)) {
+                    response = (String) updateContent.get(INTERACTIONS_RESPONSE_FIELD);
+                }
+                Map<String, String> additionalInfo = interaction.getAdditionalInfo();
+                if (updateContent.get(INTERACTIONS_ADDITIONAL_INFO_FIELD) instanceof Map) {
+                    // partial updates merge the additional info into the existing one
+                    additionalInfo = additionalInfo == null ? new HashMap<>() : new HashMap<>(additionalInfo);
+                    additionalInfo.putAll((Map<String, String>) updateContent.get(INTERACTIONS_ADDITIONAL_INFO_FIELD));
+                }
+                Interaction updated = new Interaction(
+                    interaction.getId(),
+                    interaction.getCreateTime(),
+                    Instant.now(),
+                    interaction.getConversationId(),
+                    interaction.getInput(),
+                    interaction.getPromptTemplate(),
+                    response,
+                    interaction.getOrigin(),
+                    additionalInfo,
+                    interaction.getParentInteractionId(),
+                    interaction.getTraceNum()
+                );
+                List<Interaction> interactions = new ArrayList<>(tail.interactions);
+                interactions.set(i, updated);
+                tails.put(entry.getKey(), new Tail(tail.version, interactions, tail.complete));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Remove the cached tail holding the interaction, after it's deleted through this node.
+     */
+    public synchronized void invalidateInteraction(String interactionId) {
+        if (tails != null) {
+            tails.asMap().values().removeIf(tail -> tail.interactions.stream().anyMatch(i -> i.getId().equals(interactionId)));
+        }
+    }
+
+    private static List<Interaction> trim(List<Interaction> interactions) {
+        int size = interactions.size();
+        return size <= MAX_TAIL_SIZE ? interactions : new ArrayList<>(interactions.subList(size - MAX_TAIL_SIZE, size));
+    }
+}
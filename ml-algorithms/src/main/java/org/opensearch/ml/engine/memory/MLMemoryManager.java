@@ -10,6 +10,7 @@ import static org.opensearch.ml.common.conversation.ConversationalIndexConstants
 import static org.opensearch.ml.common.conversation.ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD;
 import static org.opensearch.ml.common.conversation.ConversationalIndexConstants.INTERACTIONS_INDEX_NAME;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -20,10 +21,12 @@ import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.commons.ConfigConstants;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.Strings;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.ExistsQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
@@ -68,6 +71,11 @@ public class MLMemoryManager {
     private Client client;
     private ClusterService clusterService;
     private ConversationMetaIndex conversationMetaIndex;
+    private ConversationTailCache tailCache;
+
+    public MLMemoryManager(Client client, ClusterService clusterService, ConversationMetaIndex conversationMetaIndex) {
+        this(client, clusterService, conversationMetaIndex, ConversationTailCache.getInstance());
+    }
 
     /**
      * Create a new Conversation
@@ -111,6 +119,20 @@ public class MLMemoryManager {
         Preconditions.checkNotNull(response);
         // additionalInfo cannot be null as flat object
         additionalInfo = (additionalInfo == null) ? new HashMap<>() : additionalInfo;
+        ActionListener<CreateInteractionResponse> listener = actionListener;
+        if (tailCache.isEnabled()) {
+            // the interaction is only stored as a trace if it has both a parent and a trace number, like in
+            // CreateInteractionTransportAction. Traces are not final interactions, but they still bump the version of the conversation
+            boolean isFinal = parentIntId == null || traceNum == null;
+            Map<String, String> info = additionalInfo;
+            listener = ActionListener.wrap(r -> {
+                Interaction interaction = isFinal
+                    ? toInteraction(r.getId(), conversationId, input, promptTemplate, response, origin, info)
+                    : null;
+                tailCache.onInteractionCreated(conversationId, interaction, r.getConversationVersion());
+                actionListener.onResponse(r);
+            }, actionListener::onFailure);
+        }
         try {
             client
                 .execute(
@@ -125,13 +147,39 @@ public class MLMemoryManager {
                         parentIntId,
                         traceNum
                     ),
-                    actionListener
+                    listener
                 );
         } catch (Exception exception) {
             actionListener.onFailure(exception);
         }
     }
 
+    // builds the interaction the way it's read back from the index, which drops blank fields
+    private Interaction toInteraction(
+        String interactionId,
+        String conversationId,
+        String input,
+        String promptTemplate,
+        String response,
+        String origin,
+        Map<String, String> additionalInfo
+    ) {
+        Instant now = Instant.now();
+        return new Interaction(
+            interactionId,
+            now,
+            now,
+            conversationId,
+            Strings.hasText(input) ? input : null,
+            Strings.hasText(promptTemplate) ? promptTemplate : null,
+            Strings.hasText(response) ? response : null,
+            Strings.hasText(origin) ? origin : null,
+            additionalInfo.isEmpty() ? null : additionalInfo,
+            null,
+            null
+        );
+    }
+
     /**
      * Get the latest interactions associated with this conversation that are not traces, from oldest to newest
      * @param conversationId the conversation whose interactions to get
@@ -146,9 +194,20 @@ public class MLMemoryManager {
                 actionListener.onResponse(List.of());
                 return;
             }
-            ActionListener<Boolean> accessListener = ActionListener.wrap(access -> {
-                if (access) {
-                    innerGetFinalInteractions(conversationId, lastNInteraction, actionListener);
+            ActionListener<Long> accessListener = ActionListener.wrap(version -> {
+                if (version != null) {
+                    List<Interaction> cachedInteractions = tailCache.get(conversationId, version, lastNInteraction);
+                    if (cachedInteractions != null) {
+                        actionListener.onResponse(cachedInteractions);
+                        return;
+                    }
+                    innerGetFinalInteractions(conversationId, lastNInteraction, ActionListener.wrap(interactions -> {
+                        // without the conversation index there's no version to check the cached interactions against
+                        if (version != Versions.NOT_FOUND) {
+                            tailCache.put(conversationId, version, interactions, lastNInteraction);
+                        }
+                        actionListener.onResponse(interactions);
+                    }, actionListener::onFailure));
                 } else {
                     String userStr = client
                         .threadPool()
@@ -158,7 +217,7 @@ public class MLMemoryManager {
                     throw new OpenSearchSecurityException("User [" + user + "] does not have access to conversation " + conversationId);
                 }
             }, e -> { actionListener.onFailure(e); });
-            conversationMetaIndex.checkAccess(conversationId, accessListener);
+            conversationMetaIndex.checkAccessAndGetVersion(conversationId, accessListener);
         } catch (Exception e) {
             log.error("Failed to get final interactions for conversation " + conversationId, e);
             actionListener.onFailure(e);
@@ -231,8 +290,16 @@ public class MLMemoryManager {
     public void updateInteraction(String interactionId, Map<String, Object> updateContent, ActionListener<UpdateResponse> actionListener) {
         Preconditions.checkNotNull(interactionId);
         Preconditions.checkNotNull(updateContent);
+        UpdateInteractionRequest request = new UpdateInteractionRequest(interactionId, updateContent);
+        ActionListener<UpdateResponse> listener = actionListener;
+        if (tailCache.isEnabled()) {
+            listener = ActionListener.wrap(r -> {
+                tailCache.onInteractionUpdated(interactionId, request.getUpdateContent());
+                actionListener.onResponse(r);
+            }, actionListener::onFailure);
+        }
         try {
-            client.execute(UpdateInteractionAction.INSTANCE, new UpdateInteractionRequest(interactionId, updateContent), actionListener);
+            client.execute(UpdateInteractionAction.INSTANCE, request, listener);
         } catch (Exception exception) {
             actionListener.onFailure(exception);
         }
@@ -248,7 +315,11 @@ public class MLMemoryManager {
         deleteByQueryRequest.setQuery(buildDeleteInteractionQuery(interactionId));
         deleteByQueryRequest.setRefresh(true);
 
-        innerDeleteInteractionAndTrace(deleteByQueryRequest, interactionId, listener);
+        innerDeleteInteractionAndTrace(
+            deleteByQueryRequest,
+            interactionId,
+            ActionListener.runBefore(listener, () -> tailCache.invalidateInteraction(interactionId))
+        );
     }
 
     @VisibleForTesting
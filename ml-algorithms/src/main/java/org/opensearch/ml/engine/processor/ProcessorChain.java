@@ -15,6 +15,8 @@ import java.util.Map;
 
 import org.opensearch.ml.engine.MLEngineClassLoader;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.reflect.TypeToken;
 import com.google.gson.JsonSyntaxException;
 
@@ -49,6 +51,13 @@ public class ProcessorChain {
      */
     public static final String OUTPUT_PROCESSORS = "output_processors";
 
+    private static final int MAX_CACHED_CHAINS = 1000;
+    /**
+     * Chains built from JSON string configurations, keyed by the configuration string.
+     * Processors only hold their final configuration, so a chain can be shared between requests.
+     */
+    private static final Cache<String, ProcessorChain> CHAINS = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_CHAINS).build();
+
     /**
      * List of processors to apply sequentially.
      */
@@ -318,4 +327,29 @@ public class ProcessorChain {
 
         return Collections.emptyList();
     }
+
+    /**
+     * Gets the processor chain configured in the parameters.
+     * <p>
+     * Chains configured as a JSON string, the format used by connector and model parameters, are cached by the
+     * configuration string, so the same configuration is only parsed and instantiated once instead of on every request.
+     *
+     * @param params Parameter map that may contain processor configurations
+     * @param paramName The key name to look for in the params map (e.g., "input_processors", "output_processors")
+     * @return the processor chain, which has no processors if no valid configuration is found
+     * @throws IllegalArgumentException if a processor type is invalid or instantiation fails
+     */
+    public static ProcessorChain fromParameters(Map<String, ?> params, String paramName) {
+        Object configObj = params == null ? null : params.get(paramName);
+        if (!(configObj instanceof String)) {
+            return new ProcessorChain(extractProcessorConfigs(params, paramName));
+        }
+        String configStr = (String) configObj;
+        ProcessorChain processorChain = CHAINS.getIfPresent(configStr);
+        if (processorChain == null) {
+            processorChain = new ProcessorChain(extractProcessorConfigs(params, paramName));
+            CHAINS.put(configStr, processorChain);
+        }
+        return processorChain;
+    }
 }
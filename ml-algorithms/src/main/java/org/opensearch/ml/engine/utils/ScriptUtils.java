@@ -5,17 +5,13 @@
 
 package org.opensearch.ml.engine.utils;
 
-import static org.opensearch.ml.common.utils.StringUtils.addDefaultMethod;
-
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.opensearch.ml.common.utils.ScriptFactoryCache;
 import org.opensearch.ml.common.utils.StringUtils;
-import org.opensearch.script.Script;
 import org.opensearch.script.ScriptService;
-import org.opensearch.script.ScriptType;
 import org.opensearch.script.TemplateScript;
 
 import com.google.common.collect.ImmutableMap;
@@ -32,15 +28,23 @@ public class ScriptUtils {
 
     public static Optional<String> executePostProcessFunction(ScriptService scriptService, String postProcessFunction, String resultJson) {
         Map<String, Object> result = StringUtils.fromJson(resultJson, "result");
+        return executePostProcessFunction(scriptService, postProcessFunction, result);
+    }
+
+    public static Optional<String> executePostProcessFunction(
+        ScriptService scriptService,
+        String postProcessFunction,
+        Map<String, Object> result
+    ) {
         if (postProcessFunction != null) {
-            return Optional.ofNullable(executeScript(scriptService, addDefaultMethod(postProcessFunction), result));
+            TemplateScript templateScript = ScriptFactoryCache.compile(scriptService, postProcessFunction, true).newInstance(result);
+            return Optional.ofNullable(templateScript.execute());
         }
         return Optional.empty();
     }
 
     public static String executeScript(ScriptService scriptService, String painlessScript, Map<String, Object> params) {
-        Script script = new Script(ScriptType.INLINE, "painless", painlessScript, Collections.emptyMap());
-        TemplateScript templateScript = scriptService.compile(script, TemplateScript.CONTEXT).newInstance(params);
+        TemplateScript templateScript = ScriptFactoryCache.compile(scriptService, painlessScript, false).newInstance(params);
         return templateScript.execute();
     }
 }
@@ -17,6 +17,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.ml.common.dataframe.ColumnMeta;
 import org.opensearch.ml.common.dataframe.ColumnValue;
+import org.opensearch.ml.common.dataframe.ColumnarDataFrame;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.Row;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
@@ -38,6 +39,16 @@ import lombok.experimental.UtilityClass;
 public class TribuoUtil {
     public static Tuple<String[], double[][]> transformDataFrame(DataFrame dataFrame) {
         String[] featureNames = Arrays.stream(dataFrame.columnMetas()).map(ColumnMeta::getName).toArray(String[]::new);
+        if (dataFrame instanceof ColumnarDataFrame) {
+            ColumnarDataFrame columnarDataFrame = (ColumnarDataFrame) dataFrame;
+            double[][] featureValues = new double[columnarDataFrame.size()][featureNames.length];
+            for (int col = 0; col < featureNames.length; col++) {
+                for (int i = 0; i < featureValues.length; i++) {
+                    featureValues[i][col] = columnarDataFrame.getDouble(i, col);
+                }
+            }
+            return new Tuple<>(featureNames, featureValues);
+        }
         double[][] featureValues = new double[dataFrame.size()][];
         Iterator<Row> itr = dataFrame.iterator();
         int i = 0;
@@ -52,6 +63,16 @@ public class TribuoUtil {
 
     public static Tuple<String[], float[][]> transformDataFrameFloat(DataFrame dataFrame) {
         String[] featureNames = Arrays.stream(dataFrame.columnMetas()).map(ColumnMeta::getName).toArray(String[]::new);
+        if (dataFrame instanceof ColumnarDataFrame) {
+            ColumnarDataFrame columnarDataFrame = (ColumnarDataFrame) dataFrame;
+            float[][] featureValues = new float[columnarDataFrame.size()][featureNames.length];
+            for (int col = 0; col < featureNames.length; col++) {
+                for (int i = 0; i < featureValues.length; i++) {
+                    featureValues[i][col] = (float) columnarDataFrame.getDouble(i, col);
+                }
+            }
+            return new Tuple<>(featureNames, featureValues);
+        }
         float[][] featureValues = new float[dataFrame.size()][];
         Iterator<Row> itr = dataFrame.iterator();
         int i = 0;
@@ -74,8 +95,23 @@ public class TribuoUtil {
         int targetIndex = dataFrame.getColumnIndex(target);
 
         int i = 0;
-        Iterator<Row> itr = dataFrame.iterator();
         double[][] featureValues = new double[dataFrame.size()][featureNames.size() - 1];
+        if (dataFrame instanceof ColumnarDataFrame) {
+            ColumnarDataFrame columnarDataFrame = (ColumnarDataFrame) dataFrame;
+            int col = 0;
+            for (int j = 0; j < featureNames.size(); j++) {
+                if (j == targetIndex) {
+                    continue;
+                }
+                for (i = 0; i < featureValues.length; i++) {
+                    featureValues[i][col] = columnarDataFrame.getDouble(i, j);
+                }
+                col++;
+            }
+            featureNames.remove(target);
+            return new Tuple<>(featureNames.toArray(new String[featureNames.size()]), featureValues);
+        }
+        Iterator<Row> itr = dataFrame.iterator();
         while (itr.hasNext()) {
             Row row = itr.next();
             int col = 0;
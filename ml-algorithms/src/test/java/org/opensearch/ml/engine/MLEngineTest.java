@@ -142,6 +142,25 @@ public class MLEngineTest extends MLStaticMockBase {
         assertEquals(2, predictions.size());
     }
 
+    @Test
+    public void predictWithDeployedModel() {
+        Predictable predictor = mlEngine.deploy(trainLinearRegressionModel(), null);
+        MLInputDataset inputDataset = DataFrameInputDataset.builder().dataFrame(constructLinearRegressionPredictionDataFrame()).build();
+        Input mlInput = MLInput.builder().algorithm(FunctionName.LINEAR_REGRESSION).inputDataset(inputDataset).build();
+        MLPredictionOutput output = (MLPredictionOutput) mlEngine.predict(mlInput, predictor);
+        assertEquals(2, output.getPredictionResult().size());
+    }
+
+    @Test
+    public void predictWithDeployedModel_EmptyDataFrame() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Input data frame should not be null or empty");
+        Predictable predictor = mlEngine.deploy(trainLinearRegressionModel(), null);
+        DataFrame emptyDataFrame = new DefaultDataFrame(constructLinearRegressionPredictionDataFrame().columnMetas());
+        MLInputDataset inputDataset = DataFrameInputDataset.builder().dataFrame(emptyDataFrame).build();
+        mlEngine.predict(MLInput.builder().algorithm(FunctionName.LINEAR_REGRESSION).inputDataset(inputDataset).build(), predictor);
+    }
+
     @Test
     public void deployLinearRegressionModel_NullModel() {
         exceptionRule.expect(IllegalArgumentException.class);
@@ -230,7 +249,7 @@ public class MLEngineTest extends MLStaticMockBase {
     public void predictNullInput() {
         exceptionRule.expect(IllegalArgumentException.class);
         exceptionRule.expectMessage("Input should not be null");
-        mlEngine.predict(null, null);
+        mlEngine.predict(null, (MLModel) null);
     }
 
     @Test
@@ -239,7 +258,7 @@ public class MLEngineTest extends MLStaticMockBase {
         exceptionRule.expectMessage("algorithm can't be null");
         MLInputDataset inputDataset = DataFrameInputDataset.builder().dataFrame(constructTestDataFrame(10)).build();
         Input mlInput = MLInput.builder().inputDataset(inputDataset).build();
-        mlEngine.predict(mlInput, null);
+        mlEngine.predict(mlInput, (MLModel) null);
     }
 
     @Test
@@ -248,7 +267,7 @@ public class MLEngineTest extends MLStaticMockBase {
         exceptionRule.expectMessage("No model found for linear regression prediction.");
         MLInputDataset inputDataset = DataFrameInputDataset.builder().dataFrame(constructLinearRegressionPredictionDataFrame()).build();
         Input mlInput = MLInput.builder().algorithm(FunctionName.LINEAR_REGRESSION).inputDataset(inputDataset).build();
-        mlEngine.predict(mlInput, null);
+        mlEngine.predict(mlInput, (MLModel) null);
     }
 
     @Test
@@ -260,7 +279,7 @@ public class MLEngineTest extends MLStaticMockBase {
             loader.when(() -> MLEngineClassLoader.initInstance(algoName, null, MLAlgoParams.class)).thenReturn(null);
             MLInputDataset inputDataset = DataFrameInputDataset.builder().dataFrame(constructLinearRegressionPredictionDataFrame()).build();
             Input mlInput = MLInput.builder().algorithm(algoName).inputDataset(inputDataset).build();
-            mlEngine.predict(mlInput, null);
+            mlEngine.predict(mlInput, (MLModel) null);
         }
     }
 
@@ -473,7 +492,7 @@ public class MLEngineTest extends MLStaticMockBase {
 
     @Test(expected = IllegalArgumentException.class)
     public void testPredictWithInvalidInput() {
-        mlEngine.predict(null, null);
+        mlEngine.predict(null, (MLModel) null);
     }
 
     @Test
@@ -0,0 +1,156 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+import ai.djl.translate.TranslateException;
+
+public class InferenceBatcherTest {
+
+    @Test
+    public void testPredict_SplitsIntoBatches() throws TranslateException {
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        InferenceBatcher batcher = new InferenceBatcher(2, 0, inputs -> {
+            batchSizes.add(inputs.size());
+            return echo(inputs);
+        });
+
+        List<Output> outputs = batcher.predict(createInputs("a", "b", "c"), null);
+
+        assertEquals(3, outputs.size());
+        assertEquals("a", outputs.get(0).getAsString(0));
+        assertEquals("b", outputs.get(1).getAsString(0));
+        assertEquals("c", outputs.get(2).getAsString(0));
+        assertEquals(List.of(2, 1), batchSizes);
+    }
+
+    @Test
+    public void testPredict_CoalescesConcurrentRequests() throws Exception {
+        int requests = 8;
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        InferenceBatcher batcher = new InferenceBatcher(requests, 1000, inputs -> {
+            batchSizes.add(inputs.size());
+            return echo(inputs);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<Output>>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                String doc = "doc" + i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return batcher.predict(createInputs(doc), null);
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < requests; i++) {
+                List<Output> outputs = futures.get(i).get(10, TimeUnit.SECONDS);
+                assertEquals(1, outputs.size());
+                assertEquals("doc" + i, outputs.get(0).getAsString(0));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(requests, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.size() < requests);
+    }
+
+    @Test
+    public void testPredict_DifferentBatchKeysNotMixed() throws TranslateException {
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        InferenceBatcher batcher = new InferenceBatcher(4, 0, inputs -> {
+            batchSizes.add(inputs.size());
+            return echo(inputs);
+        });
+
+        assertEquals(2, batcher.predict(createInputs("a", "b"), "WORD").size());
+        assertEquals(1, batcher.predict(createInputs("c"), "TOKEN_ID").size());
+        assertEquals(List.of(2, 1), batchSizes);
+    }
+
+    @Test
+    public void testPredict_BatchFailure() {
+        InferenceBatcher batcher = new InferenceBatcher(4, 0, inputs -> { throw new TranslateException("inference failed"); });
+
+        TranslateException e = assertThrows(TranslateException.class, () -> batcher.predict(createInputs("a", "b"), null));
+        assertEquals("inference failed", e.getMessage());
+    }
+
+    @Test
+    public void testPredict_BatchError() throws Exception {
+        int requests = 2;
+        InferenceBatcher batcher = new InferenceBatcher(requests, 1000, inputs -> { throw new OutOfMemoryError("inference failed"); });
+
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            List<Future<List<Output>>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                String doc = "doc" + i;
+                futures.add(executor.submit(() -> batcher.predict(createInputs(doc), null)));
+            }
+            // the caller running the batch rethrows the error, and the other one doesn't wait forever
+            for (Future<List<Output>> future : futures) {
+                ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+                assertTrue(e.getCause() instanceof OutOfMemoryError);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPredict_WrongNumberOfOutputs() {
+        InferenceBatcher batcher = new InferenceBatcher(4, 0, inputs -> echo(inputs.subList(0, 1)));
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> batcher.predict(createInputs("a", "b"), null));
+        assertEquals("Batched inference returned wrong number of outputs", e.getMessage());
+    }
+
+    @Test
+    public void testConstructor_InvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new InferenceBatcher(0, 0, this::echo));
+        assertThrows(IllegalArgumentException.class, () -> new InferenceBatcher(1, -1, this::echo));
+    }
+
+    private List<Input> createInputs(String... docs) {
+        List<Input> inputs = new ArrayList<>();
+        for (String doc : docs) {
+            Input input = new Input();
+            input.add(doc);
+            inputs.add(input);
+        }
+        return inputs;
+    }
+
+    private List<Output> echo(List<Input> inputs) {
+        List<Output> outputs = new ArrayList<>();
+        for (Input input : inputs) {
+            Output output = new Output();
+            output.add(input.getAsString(0));
+            outputs.add(output);
+        }
+        return outputs;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.agent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.ml.common.agent.MLAgent;
+import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.connector.HttpConnector;
+
+public class AgentCacheTest {
+
+    private AgentCache agentCache;
+    private MLAgent agent;
+
+    @Before
+    public void setup() {
+        agentCache = new AgentCache();
+        agentCache.resize(10);
+        agent = MLAgent.builder().name("test_agent").type("flow").build();
+    }
+
+    @Test
+    public void testPutAndGetAgent() {
+        assertNull(agentCache.getAgent("agent_id", "tenant_id"));
+        agentCache.putAgent("agent_id", "tenant_id", agent, agentCache.getVersion());
+        assertSame(agent, agentCache.getAgent("agent_id", "tenant_id"));
+        // agents are cached per tenant
+        assertNull(agentCache.getAgent("agent_id", "other_tenant_id"));
+        assertNull(agentCache.getAgent("agent_id", null));
+    }
+
+    @Test
+    public void testInvalidateAgent() {
+        agentCache.putAgent("agent_id", "tenant_id", agent, agentCache.getVersion());
+        agentCache.putAgent("agent_id", null, agent, agentCache.getVersion());
+        agentCache.putAgent("other_agent_id", null, agent, agentCache.getVersion());
+
+        agentCache.invalidateAgent("agent_id");
+        assertNull(agentCache.getAgent("agent_id", "tenant_id"));
+        assertNull(agentCache.getAgent("agent_id", null));
+        assertSame(agent, agentCache.getAgent("other_agent_id", null));
+    }
+
+    @Test
+    public void testPutAgent_InvalidatedDuringRead() {
+        long version = agentCache.getVersion();
+        // the agent is updated after it's read from the index
+        agentCache.invalidateAgent("agent_id");
+        agentCache.putAgent("agent_id", null, agent, version);
+        assertNull(agentCache.getAgent("agent_id", null));
+    }
+
+    @Test
+    public void testConnector_Cloned() {
+        Connector connector = HttpConnector.builder().name("test connector").version("1").protocol("http").build();
+        assertNull(agentCache.getConnector("connector_id", null));
+        agentCache.putConnector("connector_id", null, connector, agentCache.getVersion());
+
+        Connector cachedConnector = agentCache.getConnector("connector_id", null);
+        assertNotSame(connector, cachedConnector);
+        assertNotSame(cachedConnector, agentCache.getConnector("connector_id", null));
+        assertEquals("test connector", cachedConnector.getName());
+
+        agentCache.invalidateConnector("connector_id");
+        assertNull(agentCache.getConnector("connector_id", null));
+    }
+
+    @Test
+    public void testDisabled() {
+        agentCache.putAgent("agent_id", null, agent, agentCache.getVersion());
+        agentCache.resize(0);
+        assertNull(agentCache.getAgent("agent_id", null));
+        agentCache.putAgent("agent_id", null, agent, agentCache.getVersion());
+        assertNull(agentCache.getAgent("agent_id", null));
+        agentCache.invalidateAgent("agent_id");
+        agentCache.invalidateConnector("connector_id");
+    }
+}
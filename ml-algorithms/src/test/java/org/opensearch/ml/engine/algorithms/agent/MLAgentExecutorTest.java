@@ -13,6 +13,7 @@ import static org.mockito.Mockito.*;
 import static org.opensearch.ml.common.CommonValue.MCP_CONNECTORS_FIELD;
 import static org.opensearch.ml.common.agui.AGUIConstants.AGUI_PARAM_CONTEXT;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MCP_CONNECTOR_DISABLED_MESSAGE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_AGENTIC_MEMORY_DISABLED_MESSAGE;
 import static org.opensearch.ml.engine.algorithms.agent.MLAgentExecutor.QUESTION;
 
 import java.io.IOException;
@@ -273,6 +274,32 @@ public class MLAgentExecutorTest {
         verify(listener, timeout(5000).atLeastOnce()).onFailure(any());
     }
 
+    @Test
+    public void testExecuteWithCachedAgent() {
+        when(clusterService.state().metadata().hasIndex(anyString())).thenReturn(true);
+        AgentCache agentCache = new AgentCache();
+        agentCache.resize(10);
+        mlAgentExecutor.setAgentCache(agentCache);
+        MLAgent cachedAgent = MLAgent
+            .builder()
+            .name("cached_agent")
+            .type(MLAgentType.FLOW.name())
+            .memory(MLMemorySpec.builder().type("remote_agentic_memory").build())
+            .build();
+        agentCache.putAgent("test-agent", null, cachedAgent, agentCache.getVersion());
+
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("question", "test question");
+        RemoteInferenceInputDataSet dataset = RemoteInferenceInputDataSet.builder().parameters(parameters).build();
+        AgentMLInput agentInput = new AgentMLInput("test-agent", null, FunctionName.AGENT, dataset);
+        mlAgentExecutor.execute(agentInput, listener, channel);
+
+        // the cached agent is used without reading the agent index
+        verify(sdkClient, never()).getDataObjectAsync(any(), any());
+        verify(listener).onFailure(exceptionCaptor.capture());
+        assertEquals(ML_COMMONS_REMOTE_AGENTIC_MEMORY_DISABLED_MESSAGE, exceptionCaptor.getValue().getMessage());
+    }
+
     @Test
     public void testGetAgentRunnerWithFlowAgent() {
         MLAgent agent = createTestAgent(MLAgentType.FLOW.name());
@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.clustering;
+
+import static org.opensearch.ml.engine.helper.MLTestHelper.constructTestDataFrame;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.ml.common.dataframe.ColumnMeta;
+import org.opensearch.ml.common.dataframe.ColumnType;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.dataframe.DefaultDataFrame;
+import org.opensearch.ml.engine.contants.TribuoOutputType;
+import org.opensearch.ml.engine.exceptions.ModelSerDeSerException;
+import org.opensearch.ml.engine.utils.ModelSerDeSer;
+import org.opensearch.ml.engine.utils.TribuoUtil;
+import org.tribuo.MutableDataset;
+import org.tribuo.Prediction;
+import org.tribuo.clustering.ClusterID;
+import org.tribuo.clustering.ClusteringFactory;
+import org.tribuo.clustering.kmeans.KMeansModel;
+import org.tribuo.clustering.kmeans.KMeansTrainer;
+
+public class KMeansCentroidsTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Test
+    public void predict_SameAsTribuoModel() {
+        DataFrame dataFrame = constructTestDataFrame(100);
+        MutableDataset<ClusterID> dataset = TribuoUtil
+            .generateDataset(dataFrame, new ClusteringFactory(), "KMeans test data", TribuoOutputType.CLUSTERID);
+        for (KMeansTrainer.Distance distance : KMeansTrainer.Distance.values()) {
+            KMeansModel model = new KMeansTrainer(3, 10, distance, 1, 42).train(dataset);
+            List<Prediction<ClusterID>> predictions = model.predict(dataset);
+
+            // the cluster ids are kept through the centroids format
+            KMeansCentroids centroids = KMeansCentroids.fromBytes(KMeansCentroids.of(model, distance).toBytes());
+            int[] clusterIds = centroids.predict(dataFrame);
+            Assert.assertEquals(predictions.size(), clusterIds.length);
+            for (int i = 0; i < clusterIds.length; i++) {
+                Assert.assertEquals(predictions.get(i).getOutput().getID(), clusterIds[i]);
+            }
+        }
+    }
+
+    @Test
+    public void toBytes_RoundTrip() {
+        KMeansCentroids centroids = new KMeansCentroids(
+            new String[] { "f1", "f2" },
+            new double[][] { { 1, 2 }, { 3, 4 }, { 1, 2 } },
+            KMeansTrainer.Distance.L1
+        );
+        byte[] bytes = centroids.toBytes();
+        Assert.assertTrue(KMeansCentroids.isCentroidsFormat(bytes));
+
+        KMeansCentroids parsed = KMeansCentroids.fromBytes(bytes);
+        Assert.assertArrayEquals(new String[] { "f1", "f2" }, parsed.getFeatureNames());
+        Assert.assertEquals(3, parsed.getCentroids().length);
+        Assert.assertArrayEquals(new double[] { 3, 4 }, parsed.getCentroids()[1], 0);
+        Assert.assertEquals(KMeansTrainer.Distance.L1, parsed.getDistance());
+    }
+
+    @Test
+    public void isCentroidsFormat_JavaSerializedModel() {
+        Assert.assertFalse(KMeansCentroids.isCentroidsFormat(ModelSerDeSer.serialize(new double[] { 1, 2 })));
+        Assert.assertFalse(KMeansCentroids.isCentroidsFormat(new byte[0]));
+    }
+
+    @Test
+    public void fromBytes_UnsupportedSchemaVersion() {
+        exceptionRule.expect(ModelSerDeSerException.class);
+        exceptionRule.expectMessage("Unsupported schema version of KMeans model: 2");
+        byte[] bytes = new KMeansCentroids(new String[] { "f1" }, new double[][] { { 1 } }, KMeansTrainer.Distance.EUCLIDEAN).toBytes();
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, KMeansCentroids.SCHEMA_VERSION + 1);
+        KMeansCentroids.fromBytes(bytes);
+    }
+
+    @Test
+    public void fromBytes_InvalidCount() {
+        exceptionRule.expect(ModelSerDeSerException.class);
+        exceptionRule.expectMessage("Invalid KMeans model content.");
+        byte[] bytes = new KMeansCentroids(new String[] { "f1" }, new double[][] { { 1 } }, KMeansTrainer.Distance.EUCLIDEAN).toBytes();
+        // the count of centroids follows the single feature name
+        int centroidCountOffset = bytes.length - Double.BYTES - Integer.BYTES;
+        ByteBuffer.wrap(bytes).putInt(centroidCountOffset, Integer.MAX_VALUE);
+        KMeansCentroids.fromBytes(bytes);
+    }
+
+    @Test
+    public void predict_ByFeatureName() {
+        KMeansCentroids centroids = new KMeansCentroids(
+            new String[] { "f1", "f2" },
+            new double[][] { { 0, 0 }, { 10, 10 } },
+            KMeansTrainer.Distance.EUCLIDEAN
+        );
+        // the columns are matched by name, unknown columns are ignored and missing features are 0
+        DataFrame dataFrame = new DefaultDataFrame(
+            new ColumnMeta[] { new ColumnMeta("other", ColumnType.DOUBLE), new ColumnMeta("f2", ColumnType.DOUBLE) }
+        );
+        dataFrame.appendRow(new Object[] { 100.0, 1.0 });
+        dataFrame.appendRow(new Object[] { 0.0, 16.0 });
+        Assert.assertArrayEquals(new int[] { 0, 1 }, centroids.predict(dataFrame));
+    }
+
+    @Test
+    public void predict_NoFeature() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("No feature of the KMeans model found in the input data.");
+        KMeansCentroids centroids = new KMeansCentroids(new String[] { "f1" }, new double[][] { { 0 } }, KMeansTrainer.Distance.EUCLIDEAN);
+        centroids.predict(new DefaultDataFrame(new ColumnMeta[] { new ColumnMeta("other", ColumnType.DOUBLE) }));
+    }
+}
@@ -19,6 +19,7 @@ import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
 import org.opensearch.ml.common.output.MLPredictionOutput;
+import org.opensearch.ml.engine.utils.ModelSerDeSer;
 
 public class KMeansTest {
     @Rule
@@ -52,6 +53,31 @@ public class KMeansTest {
         predictions.forEach(row -> Assert.assertTrue(row.getValue(0).intValue() == 0 || row.getValue(0).intValue() == 1));
     }
 
+    @Test
+    public void predictWithCentroidsFormat() {
+        kMeans.setCentroidsFormat(true);
+        MLModel model = kMeans.train(trainDataFrameInput);
+        Assert.assertTrue(KMeansCentroids.isCentroidsFormat(ModelSerDeSer.decodeBase64(model.getContent())));
+        MLPredictionOutput output = (MLPredictionOutput) kMeans.predict(predictionDataFrameInput, model);
+        DataFrame predictions = output.getPredictionResult();
+        Assert.assertEquals(predictionSize, predictions.size());
+        predictions.forEach(row -> Assert.assertTrue(row.getValue(0).intValue() == 0 || row.getValue(0).intValue() == 1));
+    }
+
+    @Test
+    public void predictWithJavaSerializedModel() {
+        MLModel model = kMeans.train(trainDataFrameInput);
+        Assert.assertFalse(KMeansCentroids.isCentroidsFormat(ModelSerDeSer.decodeBase64(model.getContent())));
+
+        // models stored before the centroids format are still readable
+        KMeans kMeans = new KMeans(parameters);
+        kMeans.setCentroidsFormat(true);
+        kMeans.initModel(model, null, null);
+        Assert.assertTrue(kMeans.isModelReady());
+        MLPredictionOutput output = (MLPredictionOutput) kMeans.predict(predictionDataFrameInput);
+        Assert.assertEquals(predictionSize, output.getPredictionResult().size());
+    }
+
     @Test
     public void predictWithNullModel() {
         exceptionRule.expect(IllegalArgumentException.class);
@@ -94,6 +120,25 @@ public class KMeansTest {
         Assert.assertEquals(trainSize, predictions.size());
     }
 
+    @Test
+    public void predictWithMiniBatchModel() {
+        kMeans = new KMeans(parameters.toBuilder().batchSize(20).build());
+        kMeans.setCentroidsFormat(true);
+        MLModel model = kMeans.train(trainDataFrameInput);
+        MLPredictionOutput output = (MLPredictionOutput) kMeans.predict(predictionDataFrameInput, model);
+        DataFrame predictions = output.getPredictionResult();
+        Assert.assertEquals(predictionSize, predictions.size());
+        predictions.forEach(row -> Assert.assertTrue(row.getValue(0).intValue() == 0 || row.getValue(0).intValue() == 1));
+    }
+
+    @Test
+    public void trainWithBatchSizeWithoutCentroidsFormat() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("KMeans training with batch size needs all the nodes on version 3.7.0 or later.");
+        kMeans = new KMeans(parameters.toBuilder().batchSize(20).build());
+        kMeans.train(trainDataFrameInput);
+    }
+
     @Test
     public void constructorWithNegtiveCentroids() {
         exceptionRule.expect(IllegalArgumentException.class);
@@ -108,6 +153,13 @@ public class KMeansTest {
         new KMeans(KMeansParams.builder().iterations(-1).build());
     }
 
+    @Test
+    public void constructorWithNegtiveBatchSize() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Batch size should be positive");
+        new KMeans(KMeansParams.builder().batchSize(-1).build());
+    }
+
     private void constructKMeansPredictionDataFrame() {
         predictionDataFrame = constructTestDataFrame(predictionSize);
         predictionDataFrameInputDataset = new DataFrameInputDataset(predictionDataFrame);
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.clustering;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.ml.common.dataframe.ColumnMeta;
+import org.opensearch.ml.common.dataframe.ColumnType;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.dataframe.DefaultDataFrame;
+import org.tribuo.clustering.kmeans.KMeansTrainer;
+
+public class MiniBatchKMeansTrainerTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void train() {
+        MiniBatchKMeansTrainer trainer = new MiniBatchKMeansTrainer(2, 5, 50, KMeansTrainer.Distance.EUCLIDEAN, 42);
+        KMeansCentroids model = trainer.train(pages(10, 100, 0, 10));
+
+        Assert.assertArrayEquals(new String[] { "f1", "f2" }, model.getFeatureNames());
+        double[][] centroids = model.getCentroids();
+        Assert.assertEquals(2, centroids.length);
+        int low = centroids[0][0] < centroids[1][0] ? 0 : 1;
+        Assert.assertEquals(0, centroids[low][0], 0.2);
+        Assert.assertEquals(0, centroids[low][1], 0.2);
+        Assert.assertEquals(10, centroids[1 - low][0], 0.2);
+        Assert.assertEquals(10, centroids[1 - low][1], 0.2);
+    }
+
+    @Test
+    public void train_FewerDistinctPointsThanCentroids() {
+        MiniBatchKMeansTrainer trainer = new MiniBatchKMeansTrainer(3, 2, 10, KMeansTrainer.Distance.EUCLIDEAN, 42);
+        DataFrame dataFrame = new DefaultDataFrame(columnMetas());
+        for (int i = 0; i < 20; i++) {
+            dataFrame.appendRow(new Object[] { (double) (i % 2), (double) (i % 2) });
+        }
+        KMeansCentroids model = trainer.train(List.of(dataFrame));
+
+        // the model has the requested number of centroids, the duplicated ones get no points
+        Assert.assertEquals(3, model.getCentroids().length);
+        int[] clusterIds = model.predict(dataFrame);
+        Assert.assertNotEquals(clusterIds[0], clusterIds[1]);
+        for (int i = 2; i < clusterIds.length; i++) {
+            Assert.assertEquals(clusterIds[i % 2], clusterIds[i]);
+        }
+    }
+
+    @Test
+    public void train_CollinearPointsWithCosineDistance() {
+        MiniBatchKMeansTrainer trainer = new MiniBatchKMeansTrainer(2, 2, 10, KMeansTrainer.Distance.COSINE, 42);
+        DataFrame dataFrame = new DefaultDataFrame(columnMetas());
+        for (int i = 1; i <= 20; i++) {
+            dataFrame.appendRow(new Object[] { (double) i, (double) i });
+        }
+        Assert.assertEquals(2, trainer.train(List.of(dataFrame)).getCentroids().length);
+    }
+
+    @Test
+    public void train_WarmStart() {
+        MiniBatchKMeansTrainer trainer = new MiniBatchKMeansTrainer(2, 3, 50, KMeansTrainer.Distance.EUCLIDEAN, 42);
+        KMeansCentroids model = trainer.train(pages(5, 100, 0, 10));
+
+        // the clusters moved a little since the model was trained, and each of them keeps its cluster id
+        KMeansCentroids updatedModel = trainer.train(pages(5, 100, 1, 11), model);
+        double[][] centroids = model.getCentroids();
+        double[][] updatedCentroids = updatedModel.getCentroids();
+        Assert.assertEquals(2, updatedCentroids.length);
+        for (int centroid = 0; centroid < centroids.length; centroid++) {
+            Assert.assertEquals(centroids[centroid][0] + 1, updatedCentroids[centroid][0], 0.3);
+            Assert.assertEquals(centroids[centroid][1] + 1, updatedCentroids[centroid][1], 0.3);
+        }
+    }
+
+    @Test
+    public void train_DifferentColumns() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("All the pages of KMeans training data should have the same columns.");
+        MiniBatchKMeansTrainer trainer = new MiniBatchKMeansTrainer(2, 1, 50, KMeansTrainer.Distance.EUCLIDEAN, 42);
+        List<DataFrame> pages = pages(1, 10, 0, 10);
+        pages.add(new DefaultDataFrame(new ColumnMeta[] { new ColumnMeta("f3", ColumnType.DOUBLE) }));
+        trainer.train(pages);
+    }
+
+    @Test
+    public void train_NoData() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("No data to train KMeans.");
+        MiniBatchKMeansTrainer trainer = new MiniBatchKMeansTrainer(2, 1, 50, KMeansTrainer.Distance.EUCLIDEAN, 42);
+        trainer.train(List.of(new DefaultDataFrame(columnMetas())));
+    }
+
+    // pages of points around (first, first) and (second, second)
+    private List<DataFrame> pages(int pageCount, int pageSize, double first, double second) {
+        List<DataFrame> pages = new ArrayList<>();
+        for (int page = 0; page < pageCount; page++) {
+            DataFrame dataFrame = new DefaultDataFrame(columnMetas());
+            for (int i = 0; i < pageSize; i++) {
+                double center = i % 2 == 0 ? first : second;
+                dataFrame.appendRow(new Object[] { center + random.nextGaussian() * 0.5, center + random.nextGaussian() * 0.5 });
+            }
+            pages.add(dataFrame);
+        }
+        return pages;
+    }
+
+    private ColumnMeta[] columnMetas() {
+        return new ColumnMeta[] { new ColumnMeta("f1", ColumnType.DOUBLE), new ColumnMeta("f2", ColumnType.DOUBLE) };
+    }
+}
@@ -5,6 +5,8 @@
 
 package org.opensearch.ml.engine.algorithms.rcf;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadLocalRandom;
 
 import org.junit.Assert;
@@ -16,6 +18,7 @@ import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataframe.ColumnMeta;
 import org.opensearch.ml.common.dataframe.ColumnType;
+import org.opensearch.ml.common.dataframe.ColumnarDataFrame;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.DefaultDataFrame;
 import org.opensearch.ml.common.dataframe.Row;
@@ -97,6 +100,64 @@ public class BatchRandomCutForestTest {
         verifyPredictionResult(output);
     }
 
+    @Test
+    public void predictInParallel() {
+        MLModel model = forest.train(trainDataFrameInput);
+        DataFrame dataFrame = new DefaultDataFrame(new ColumnMeta[] { new ColumnMeta("value", ColumnType.INTEGER) });
+        for (int i = 0; i < 5000; i++) {
+            dataFrame.appendRow(new Object[] { ThreadLocalRandom.current().nextInt(1, 1000) });
+        }
+        MLInput input = MLInput.builder().algorithm(FunctionName.BATCH_RCF).inputDataset(new DataFrameInputDataset(dataFrame)).build();
+        BatchRandomCutForest deployedForest = new BatchRandomCutForest();
+        deployedForest.initModel(model, null, null);
+
+        DataFrame expected = ((MLPredictionOutput) deployedForest.predict(input)).getPredictionResult();
+        ExecutorService scoringExecutor = Executors.newFixedThreadPool(3);
+        try {
+            deployedForest.setScoringExecutor(scoringExecutor);
+            DataFrame actual = ((MLPredictionOutput) deployedForest.predict(input)).getPredictionResult();
+            Assert.assertEquals(5000, actual.size());
+            for (int i = 0; i < 5000; i++) {
+                Assert.assertEquals(expected.getRow(i), actual.getRow(i));
+            }
+        } finally {
+            scoringExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void predictColumnarDataFrame() {
+        MLModel model = forest.train(trainDataFrameInput);
+        ColumnMeta[] columnMetas = new ColumnMeta[] { new ColumnMeta("value", ColumnType.INTEGER) };
+        DataFrame dataFrame = new DefaultDataFrame(columnMetas);
+        DataFrame columnarDataFrame = new ColumnarDataFrame(columnMetas);
+        for (int i = 0; i < 5000; i++) {
+            Object[] values = new Object[] { ThreadLocalRandom.current().nextInt(1, 1000) };
+            dataFrame.appendRow(values);
+            columnarDataFrame.appendRow(values);
+        }
+        BatchRandomCutForest deployedForest = new BatchRandomCutForest();
+        deployedForest.initModel(model, null, null);
+
+        DataFrame expected = ((MLPredictionOutput) deployedForest.predict(input(dataFrame))).getPredictionResult();
+        ExecutorService scoringExecutor = Executors.newFixedThreadPool(3);
+        try {
+            // the partitions read the cells of the columnar frame, the scores are the same as the ones of the rows
+            deployedForest.setScoringExecutor(scoringExecutor);
+            DataFrame actual = ((MLPredictionOutput) deployedForest.predict(input(columnarDataFrame))).getPredictionResult();
+            Assert.assertEquals(5000, actual.size());
+            for (int i = 0; i < 5000; i++) {
+                Assert.assertEquals(expected.getRow(i), actual.getRow(i));
+            }
+        } finally {
+            scoringExecutor.shutdown();
+        }
+    }
+
+    private MLInput input(DataFrame dataFrame) {
+        return MLInput.builder().algorithm(FunctionName.BATCH_RCF).inputDataset(new DataFrameInputDataset(dataFrame)).build();
+    }
+
     private void verifyPredictionResult(MLPredictionOutput output) {
         DataFrame predictions = output.getPredictionResult();
         Assert.assertEquals(dataSize, predictions.size());
@@ -0,0 +1,206 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.engine.algorithms.remote.RemoteConnectorExecutor.RETRY_EXECUTOR;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private ThreadPool threadPool;
+    private AdaptiveConcurrencyLimiters settings;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @Before
+    public void setup() {
+        threadPool = mock(ThreadPool.class);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        when(threadPool.executor(RETRY_EXECUTOR)).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+        when(threadPool.schedule(any(), any(), anyString())).thenReturn(mock(Scheduler.ScheduledCancellable.class));
+        settings = mock(AdaptiveConcurrencyLimiters.class);
+        when(settings.getMaxLimit()).thenReturn(1000);
+        when(settings.getQueueSize()).thenReturn(1);
+        when(settings.getQueueTimeoutMillis()).thenReturn(1000);
+        limiter = new AdaptiveConcurrencyLimiter("https://api.openai.com", settings, clock::get);
+    }
+
+    @Test
+    public void testAcquire_QueueAndReject() {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquire(AdaptiveConcurrencyLimiter.INITIAL_LIMIT);
+        assertEquals(AdaptiveConcurrencyLimiter.INITIAL_LIMIT, limiter.getInFlight());
+
+        ActionListener<AdaptiveConcurrencyLimiter.Permit> queued = mock(ActionListener.class);
+        limiter.acquire(threadPool, queued);
+        assertEquals(1, limiter.getQueueSize());
+
+        ActionListener<AdaptiveConcurrencyLimiter.Permit> rejected = mock(ActionListener.class);
+        limiter.acquire(threadPool, rejected);
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(rejected).onFailure(captor.capture());
+        assertEquals(RestStatus.TOO_MANY_REQUESTS, ((OpenSearchStatusException) captor.getValue()).status());
+
+        permits.get(0).onSuccess();
+        verify(queued).onResponse(any(AdaptiveConcurrencyLimiter.Permit.class));
+        assertEquals(0, limiter.getQueueSize());
+        assertEquals(AdaptiveConcurrencyLimiter.INITIAL_LIMIT, limiter.getInFlight());
+    }
+
+    @Test
+    public void testAcquire_QueueTimeout() {
+        acquire(AdaptiveConcurrencyLimiter.INITIAL_LIMIT);
+        ActionListener<AdaptiveConcurrencyLimiter.Permit> queued = mock(ActionListener.class);
+        limiter.acquire(threadPool, queued);
+
+        ArgumentCaptor<Runnable> timeout = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool).schedule(timeout.capture(), any(TimeValue.class), anyString());
+        timeout.getValue().run();
+        verify(queued).onFailure(any(OpenSearchStatusException.class));
+        assertEquals(0, limiter.getQueueSize());
+    }
+
+    @Test
+    public void testRelease_BackoffOncePerRoundTrip() {
+        clock.set(1);
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquire(2);
+        OpenSearchStatusException throttled = new RemoteConnectorThrottlingException("throttled", RestStatus.TOO_MANY_REQUESTS);
+
+        clock.set(2);
+        permits.get(0).onFailure(throttled);
+        int limit = (int) (AdaptiveConcurrencyLimiter.INITIAL_LIMIT * AdaptiveConcurrencyLimiter.BACKOFF_RATIO);
+        assertEquals(limit, limiter.getLimit());
+        // sent before the limit was cut
+        permits.get(1).onFailure(new OpenSearchStatusException("unavailable", RestStatus.SERVICE_UNAVAILABLE));
+        assertEquals(limit, limiter.getLimit());
+
+        clock.set(3);
+        acquire(1).get(0).onFailure(throttled);
+        assertEquals((int) (limit * AdaptiveConcurrencyLimiter.BACKOFF_RATIO), limiter.getLimit());
+
+        // bad requests don't tell anything about the load of the endpoint
+        acquire(1).get(0).onFailure(new OpenSearchStatusException("bad request", RestStatus.BAD_REQUEST));
+        assertEquals((int) (limit * AdaptiveConcurrencyLimiter.BACKOFF_RATIO), limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void testRelease_GrowWhileInUse() {
+        // requests while the limit isn't in use don't grow it
+        for (int i = 0; i < 100; i++) {
+            acquire(1).get(0).onSuccess();
+        }
+        assertEquals(AdaptiveConcurrencyLimiter.INITIAL_LIMIT, limiter.getLimit());
+
+        // requests sent with 16 requests in flight grow the limit up to 32
+        acquire(15);
+        for (int i = 0; i < 100; i++) {
+            acquire(1).get(0).onSuccess();
+        }
+        assertEquals(AdaptiveConcurrencyLimiter.INITIAL_LIMIT + 4, limiter.getLimit());
+    }
+
+    @Test
+    public void testRelease_BackoffOnLatency() {
+        when(settings.isLatencyBackoffEnabled()).thenReturn(true);
+        for (int i = 0; i < 10; i++) {
+            AdaptiveConcurrencyLimiter.Permit permit = acquire(1).get(0);
+            clock.addAndGet(100);
+            permit.onSuccess();
+        }
+        AdaptiveConcurrencyLimiter.Permit permit = acquire(1).get(0);
+        clock.addAndGet(1000);
+        permit.onSuccess();
+        assertEquals((int) (AdaptiveConcurrencyLimiter.INITIAL_LIMIT * AdaptiveConcurrencyLimiter.BACKOFF_RATIO), limiter.getLimit());
+    }
+
+    @Test
+    public void testRelease_NoBackoffOnLatencyByDefault() {
+        for (int i = 0; i < 10; i++) {
+            AdaptiveConcurrencyLimiter.Permit permit = acquire(1).get(0);
+            clock.addAndGet(100);
+            permit.onSuccess();
+        }
+        // a slow request of another model on the same endpoint isn't overload
+        AdaptiveConcurrencyLimiter.Permit permit = acquire(1).get(0);
+        clock.addAndGet(100000);
+        permit.onSuccess();
+        assertEquals(AdaptiveConcurrencyLimiter.INITIAL_LIMIT, limiter.getLimit());
+    }
+
+    @Test
+    public void testGet_EvictIdle() {
+        AdaptiveConcurrencyLimiters limiters = new AdaptiveConcurrencyLimiters(clock::get);
+        limiters.setEnabled(true);
+        AdaptiveConcurrencyLimiter idle = limiters.get("https://idle.com/predict");
+        AdaptiveConcurrencyLimiter busy = limiters.get("https://busy.com/predict");
+        AtomicReference<AdaptiveConcurrencyLimiter.Permit> permit = new AtomicReference<>();
+        busy.acquire(threadPool, ActionListener.wrap(permit::set, e -> { throw new AssertionError(e); }));
+
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(AdaptiveConcurrencyLimiters.IDLE_TIMEOUT_MINUTES + 1));
+        assertSame(busy, limiters.get("https://busy.com/predict"));
+        assertEquals(1, limiters.size());
+        assertNotSame(idle, limiters.get("https://idle.com/predict"));
+
+        // too many endpoints evict all the limiters without requests right away, the last one is added after the eviction
+        for (int i = 0; i < AdaptiveConcurrencyLimiters.MAX_ENDPOINTS; i++) {
+            limiters.get("https://host" + i + ".com/predict");
+        }
+        assertEquals(2, limiters.size());
+        permit.get().onSuccess();
+    }
+
+    @Test
+    public void testEndpointOf() {
+        assertEquals("https://api.openai.com", AdaptiveConcurrencyLimiters.endpointOf("https://api.openai.com/v1/embeddings"));
+        assertEquals("http://localhost:8080", AdaptiveConcurrencyLimiters.endpointOf("http://localhost:8080"));
+        assertEquals("localhost", AdaptiveConcurrencyLimiters.endpointOf("localhost/predict"));
+    }
+
+    @Test
+    public void testGet_Disabled() {
+        AdaptiveConcurrencyLimiters limiters = new AdaptiveConcurrencyLimiters();
+        assertNull(limiters.get("https://api.openai.com/v1/embeddings"));
+        limiters.setEnabled(true);
+        assertEquals("https://api.openai.com", limiters.get("https://api.openai.com/v1/embeddings").getEndpoint());
+    }
+
+    private List<AdaptiveConcurrencyLimiter.Permit> acquire(int count) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            AtomicReference<AdaptiveConcurrencyLimiter.Permit> permit = new AtomicReference<>();
+            limiter.acquire(threadPool, ActionListener.wrap(permit::set, e -> { throw new AssertionError(e); }));
+            permits.add(permit.get());
+        }
+        return permits;
+    }
+}
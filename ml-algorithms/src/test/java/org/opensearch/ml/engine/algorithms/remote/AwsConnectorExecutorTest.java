@@ -66,6 +66,7 @@ import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.httpclient.MLHttpClientFactory;
+import org.opensearch.ml.common.httpclient.MLHttpClientRegistry;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
@@ -1073,6 +1074,8 @@ public class AwsConnectorExecutorTest extends MLStaticMockBase {
                 .thenReturn(mockClient);
 
             AwsConnectorExecutor executor = new AwsConnectorExecutor(mockConnector);
+            // a registry of its own, so the client is created by the mocked factory
+            executor.setHttpClientRegistry(new MLHttpClientRegistry());
             MLInput mlInput = mock(MLInput.class);
             Map<String, String> parameters = Map
                 .of(LLM_INTERFACE, LLM_INTERFACE_BEDROCK_CONVERSE_CLAUDE, "model", "claude-v2", "inputs", "test input");
@@ -1116,6 +1119,8 @@ public class AwsConnectorExecutorTest extends MLStaticMockBase {
                 .thenReturn(mockClient);
 
             AwsConnectorExecutor executor = new AwsConnectorExecutor(mockConnector);
+            // a registry of its own, so the client is created by the mocked factory
+            executor.setHttpClientRegistry(new MLHttpClientRegistry());
             MLInput mlInput = mock(MLInput.class);
             Map<String, String> parameters = Map
                 .of(LLM_INTERFACE, LLM_INTERFACE_BEDROCK_CONVERSE_CLAUDE, "model", "claude-v2", "inputs", "test input");
@@ -1159,6 +1164,8 @@ public class AwsConnectorExecutorTest extends MLStaticMockBase {
                 .thenReturn(mockClient);
 
             AwsConnectorExecutor executor = new AwsConnectorExecutor(mockConnector);
+            // a registry of its own, so the client is created by the mocked factory
+            executor.setHttpClientRegistry(new MLHttpClientRegistry());
             MLInput mlInput = mock(MLInput.class);
             Map<String, String> parameters = Map
                 .of(LLM_INTERFACE, LLM_INTERFACE_BEDROCK_CONVERSE_CLAUDE, "model", "claude-v2", "inputs", "test input");
@@ -8,6 +8,7 @@ package org.opensearch.ml.engine.algorithms.remote;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -716,6 +717,59 @@ public class ConnectorUtilsTest {
         assertEquals("response", tensors.getMlModelTensors().get(0).getName());
     }
 
+    @Test
+    public void processOutput_ParsedResponseReused() throws IOException {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(PREDICT)
+            .method("POST")
+            .url("http://test.com/mock")
+            .requestBody("{\"input\": \"${parameters.input}\"}")
+            .build();
+        Connector connector = HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .actions(Arrays.asList(predictAction))
+            .build();
+        String modelResponse = "[{\"embedding\":[0.1,0.2]},{\"embedding\":[0.3,0.4]}]";
+
+        ModelTensors tensors = ConnectorUtils.processOutput(PREDICT.name(), modelResponse, connector, scriptService, Map.of(), null);
+        assertEquals(1, tensors.getMlModelTensors().size());
+        assertEquals("response", tensors.getMlModelTensors().get(0).getName());
+        assertEquals(2, ((List<?>) tensors.getMlModelTensors().get(0).getDataAsMap().get("response")).size());
+
+        Map<String, String> parameters = Map.of("response_filter", "$[1].embedding");
+        tensors = ConnectorUtils.processOutput(PREDICT.name(), modelResponse, connector, scriptService, parameters, null);
+        assertEquals(1, tensors.getMlModelTensors().size());
+        assertEquals(List.of(0.3, 0.4), tensors.getMlModelTensors().get(0).getDataAsMap().get("response"));
+    }
+
+    @Test
+    public void processOutput_NotJsonResponse() {
+        ConnectorAction predictAction = ConnectorAction
+            .builder()
+            .actionType(PREDICT)
+            .method("POST")
+            .url("http://test.com/mock")
+            .requestBody("{\"input\": \"${parameters.input}\"}")
+            .build();
+        Connector connector = HttpConnector
+            .builder()
+            .name("test connector")
+            .version("1")
+            .protocol("http")
+            .actions(Arrays.asList(predictAction))
+            .build();
+
+        IllegalArgumentException e = assertThrows(
+            IllegalArgumentException.class,
+            () -> ConnectorUtils.processOutput(PREDICT.name(), "not json", connector, scriptService, Map.of(), null)
+        );
+        assertTrue(e.getMessage().startsWith("Invalid JSON format"));
+    }
+
     @Test
     public void processInput_TextSimilarityInputDataSet() {
         // Test TextSimilarityInputDataSet processing indirectly by testing escapeMLInput behavior
@@ -47,6 +47,7 @@ import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.httpclient.MLHttpClientFactory;
+import org.opensearch.ml.common.httpclient.MLHttpClientRegistry;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.transport.MLTaskResponse;
@@ -309,6 +310,8 @@ public class HttpJsonConnectorExecutorTest extends MLStaticMockBase {
                 .thenReturn(mockClient);
 
             HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
+            // a registry of its own, so the client is created by the mocked factory
+            executor.setHttpClientRegistry(new MLHttpClientRegistry());
             executor.setClient(client);
             when(client.threadPool()).thenReturn(threadPool);
             when(threadPool.getThreadContext()).thenReturn(threadContext);
@@ -367,6 +370,8 @@ public class HttpJsonConnectorExecutorTest extends MLStaticMockBase {
                 .thenReturn(mockClient);
 
             HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
+            // a registry of its own, so the client is created by the mocked factory
+            executor.setHttpClientRegistry(new MLHttpClientRegistry());
             executor.setClient(client);
             when(client.threadPool()).thenReturn(threadPool);
             when(threadPool.getThreadContext()).thenReturn(threadContext);
@@ -425,6 +430,8 @@ public class HttpJsonConnectorExecutorTest extends MLStaticMockBase {
                 .thenReturn(mockClient);
 
             HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
+            // a registry of its own, so the client is created by the mocked factory
+            executor.setHttpClientRegistry(new MLHttpClientRegistry());
             executor.setClient(client);
             when(client.threadPool()).thenReturn(threadPool);
             when(threadPool.getThreadContext()).thenReturn(threadContext);
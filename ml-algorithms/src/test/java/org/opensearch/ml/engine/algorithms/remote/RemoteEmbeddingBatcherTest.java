@@ -0,0 +1,208 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbeddingParameters;
+import org.opensearch.ml.common.output.model.ModelResultFilter;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+public class RemoteEmbeddingBatcherTest {
+
+    private RemoteConnectorExecutor executor;
+    private ThreadPool threadPool;
+    private RemoteEmbeddingBatchSettings settings;
+    private RemoteEmbeddingBatcher batcher;
+
+    @Before
+    public void setup() {
+        threadPool = mock(ThreadPool.class);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        when(threadPool.schedule(any(), any(), anyString())).thenReturn(mock(Scheduler.ScheduledCancellable.class));
+        Client client = mock(Client.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        executor = mock(RemoteConnectorExecutor.class);
+        when(executor.getClient()).thenReturn(client);
+        settings = mock(RemoteEmbeddingBatchSettings.class);
+        when(settings.getLingerMillis()).thenReturn(10);
+        when(settings.getMaxDocs()).thenReturn(3);
+        when(settings.getMaxBytes()).thenReturn(1024);
+        batcher = new RemoteEmbeddingBatcher(executor, settings);
+    }
+
+    @Test
+    public void testSubmit_SendOnLinger() {
+        ActionListener<MLTaskResponse> listener1 = mock(ActionListener.class);
+        ActionListener<MLTaskResponse> listener2 = mock(ActionListener.class);
+        assertTrue(batcher.submit("predict", input("a"), Integer.MAX_VALUE, listener1));
+        assertTrue(batcher.submit("predict", input("b"), Integer.MAX_VALUE, listener2));
+        verify(executor, never()).preparePayloadAndInvoke(anyString(), any(), any(), any());
+
+        ArgumentCaptor<Runnable> linger = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool, times(1)).schedule(linger.capture(), any(), anyString());
+        linger.getValue().run();
+        respond(List.of("a", "b"), 2);
+
+        assertEquals("a", embeddingOf(listener1));
+        assertEquals("b", embeddingOf(listener2));
+    }
+
+    @Test
+    public void testSubmit_SendWhenFull() {
+        ActionListener<MLTaskResponse> listener1 = mock(ActionListener.class);
+        ActionListener<MLTaskResponse> listener2 = mock(ActionListener.class);
+        assertTrue(batcher.submit("predict", input("a", "b"), Integer.MAX_VALUE, listener1));
+        assertTrue(batcher.submit("predict", input("c"), Integer.MAX_VALUE, listener2));
+        respond(List.of("a", "b", "c"), 3);
+
+        verify(listener1).onResponse(any(MLTaskResponse.class));
+        assertEquals("c", embeddingOf(listener2));
+    }
+
+    @Test
+    public void testSubmit_NotBatched() {
+        ActionListener<MLTaskResponse> listener = mock(ActionListener.class);
+        // fills a batch on its own
+        assertFalse(batcher.submit("predict", input("a", "b", "c"), Integer.MAX_VALUE, listener));
+        // the connector sends docs one by one
+        assertFalse(batcher.submit("predict", input("a"), 1, listener));
+        when(settings.getLingerMillis()).thenReturn(0);
+        assertFalse(batcher.submit("predict", input("a"), Integer.MAX_VALUE, listener));
+    }
+
+    @Test
+    public void testSubmit_NotBatched_ResultFilter() {
+        ActionListener<MLTaskResponse> listener = mock(ActionListener.class);
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(
+                TextDocsInputDataSet
+                    .builder()
+                    .docs(List.of("a"))
+                    .resultFilter(ModelResultFilter.builder().returnNumber(true).build())
+                    .build()
+            )
+            .build();
+        assertFalse(batcher.submit("predict", mlInput, Integer.MAX_VALUE, listener));
+    }
+
+    @Test
+    public void testSubmit_SameParameters() {
+        ActionListener<MLTaskResponse> listener1 = mock(ActionListener.class);
+        ActionListener<MLTaskResponse> listener2 = mock(ActionListener.class);
+        assertTrue(batcher.submit("predict", queryInput("a"), Integer.MAX_VALUE, listener1));
+        assertTrue(batcher.submit("predict", queryInput("b"), Integer.MAX_VALUE, listener2));
+        // a request with other parameters goes to a batch of its own
+        assertTrue(batcher.submit("predict", input("c"), Integer.MAX_VALUE, mock(ActionListener.class)));
+
+        ArgumentCaptor<Runnable> linger = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool, times(2)).schedule(linger.capture(), any(), anyString());
+        linger.getAllValues().get(0).run();
+        respond(List.of("a", "b"), 2);
+
+        assertEquals("a", embeddingOf(listener1));
+        assertEquals("b", embeddingOf(listener2));
+    }
+
+    @Test
+    public void testSubmit_WrongNumberOfTensors() {
+        ActionListener<MLTaskResponse> listener1 = mock(ActionListener.class);
+        ActionListener<MLTaskResponse> listener2 = mock(ActionListener.class);
+        MLInput input1 = input("a");
+        MLInput input2 = input("b", "c");
+        batcher.submit("predict", input1, Integer.MAX_VALUE, listener1);
+        batcher.submit("predict", input2, Integer.MAX_VALUE, listener2);
+        respond(List.of("a", "b", "c"), 1);
+
+        verify(executor).executeAction(eq("predict"), eq(input1), any());
+        verify(executor).executeAction(eq("predict"), eq(input2), any());
+        assertFalse(batcher.submit("predict", input("d"), Integer.MAX_VALUE, listener1));
+    }
+
+    @Test
+    public void testSubmit_Failure() {
+        ActionListener<MLTaskResponse> listener1 = mock(ActionListener.class);
+        ActionListener<MLTaskResponse> listener2 = mock(ActionListener.class);
+        batcher.submit("predict", input("a", "b"), Integer.MAX_VALUE, listener1);
+        batcher.submit("predict", input("c"), Integer.MAX_VALUE, listener2);
+
+        ArgumentCaptor<ActionListener<Tuple<Integer, ModelTensors>>> captor = ArgumentCaptor.forClass(ActionListener.class);
+        verify(executor).preparePayloadAndInvoke(eq("predict"), any(), any(), captor.capture());
+        RuntimeException exception = new RuntimeException("remote failure");
+        captor.getValue().onFailure(exception);
+        verify(listener1).onFailure(exception);
+        verify(listener2).onFailure(exception);
+    }
+
+    private MLInput input(String... docs) {
+        return MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(TextDocsInputDataSet.builder().docs(List.of(docs)).build())
+            .build();
+    }
+
+    // a new instance of equal parameters for every input
+    private MLInput queryInput(String... docs) {
+        AsymmetricTextEmbeddingParameters parameters = AsymmetricTextEmbeddingParameters
+            .builder()
+            .embeddingContentType(AsymmetricTextEmbeddingParameters.EmbeddingContentType.QUERY)
+            .build();
+        return input(docs).toBuilder().parameters(parameters).build();
+    }
+
+    private void respond(List<String> expectedDocs, int tensorCount) {
+        ArgumentCaptor<MLInput> input = ArgumentCaptor.forClass(MLInput.class);
+        ArgumentCaptor<ActionListener<Tuple<Integer, ModelTensors>>> listener = ArgumentCaptor.forClass(ActionListener.class);
+        verify(executor).preparePayloadAndInvoke(eq("predict"), input.capture(), any(), listener.capture());
+        assertEquals(expectedDocs, ((TextDocsInputDataSet) input.getValue().getInputDataset()).getDocs());
+
+        List<ModelTensor> tensors = new ArrayList<>();
+        for (int i = 0; i < tensorCount; i++) {
+            tensors.add(ModelTensor.builder().name(expectedDocs.get(i)).build());
+        }
+        listener.getValue().onResponse(Tuple.tuple(0, new ModelTensors(tensors)));
+    }
+
+    private String embeddingOf(ActionListener<MLTaskResponse> listener) {
+        ArgumentCaptor<MLTaskResponse> response = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(listener).onResponse(response.capture());
+        List<ModelTensors> outputs = ((ModelTensorOutput) response.getValue().getOutput()).getMlModelOutputs();
+        assertEquals(1, outputs.size());
+        return outputs.get(0).getMlModelTensors().get(0).getName();
+    }
+}
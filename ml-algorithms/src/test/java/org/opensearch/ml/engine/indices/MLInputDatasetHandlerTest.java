@@ -0,0 +1,283 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.indices;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_SEARCH_INPUT_PAGE_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_SEARCH_INPUT_SLICES;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.lucene.search.TotalHits;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.action.search.ClearScrollRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.dataset.DataFrameInputDataset;
+import org.opensearch.ml.common.dataset.MLInputDataType;
+import org.opensearch.ml.common.dataset.MLInputDataset;
+import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.transport.client.Client;
+
+public class MLInputDatasetHandlerTest {
+
+    @Mock
+    Client client;
+
+    @Mock
+    ClusterService clusterService;
+
+    @Mock
+    ActionListener<MLInputDataset> listener;
+
+    Deque<SearchResponse> scrollResponses;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        scrollResponses = new ArrayDeque<>();
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(scrollResponses.poll());
+            return null;
+        }).when(client).searchScroll(any(), any());
+    }
+
+    @Test
+    public void testParseSearchQueryInput_SingleSearch() {
+        MLInputDatasetHandler handler = new MLInputDatasetHandler(client);
+        mockSearch(createResponse(null, 2, createHit(1.0, 2), createHit(3.0, 4)));
+
+        handler.parseSearchQueryInput(createInputDataset(2), listener);
+
+        DataFrame dataFrame = getDataFrame();
+        assertEquals(2, dataFrame.size());
+        assertEquals(2, dataFrame.columnMetas().length);
+        assertEquals(3.0, dataFrame.getRow(1).getValue(dataFrame.getColumnIndex("f1")).doubleValue(), 0.0001);
+        assertEquals(4, dataFrame.getRow(1).getValue(dataFrame.getColumnIndex("f2")).intValue());
+        ArgumentCaptor<SearchRequest> requestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client).search(requestCaptor.capture(), any());
+        assertNull(requestCaptor.getValue().scroll());
+        verify(client, never()).searchScroll(any(), any());
+    }
+
+    @Test
+    public void testParseSearchQueryInput_FromSingleSearch() {
+        MLInputDatasetHandler handler = createHandler(2, 2);
+        mockSearch(createResponse(null, 5, createHit(3.0, 3), createHit(4.0, 4), createHit(5.0, 5)));
+        SearchQueryInputDataset inputDataset = SearchQueryInputDataset
+            .builder()
+            .indices(List.of("test_index"))
+            .searchSourceBuilder(new SearchSourceBuilder().from(2).size(3))
+            .build();
+
+        handler.parseSearchQueryInput(inputDataset, listener);
+
+        DataFrame dataFrame = getDataFrame();
+        assertEquals(3, dataFrame.size());
+        assertEquals(3.0, dataFrame.getRow(0).getValue(dataFrame.getColumnIndex("f1")).doubleValue(), 0.0001);
+        ArgumentCaptor<SearchRequest> requestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client).search(requestCaptor.capture(), any());
+        assertNull(requestCaptor.getValue().scroll());
+        assertEquals(2, requestCaptor.getValue().source().from());
+        verify(client, never()).searchScroll(any(), any());
+    }
+
+    @Test
+    public void testParseSearchQueryInput_NoDocument() {
+        MLInputDatasetHandler handler = new MLInputDatasetHandler(client);
+        mockSearch(createResponse(null, 0));
+
+        handler.parseSearchQueryInput(createInputDataset(2), listener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("No document found", argumentCaptor.getValue().getMessage());
+    }
+
+    @Test
+    public void testParseSearchQueryInput_DifferentDataType() {
+        MLInputDatasetHandler handler = new MLInputDatasetHandler(client);
+        mockSearch(createResponse(null, 2, createHit(1.0, 2), createHit(3.0, "4")));
+
+        handler.parseSearchQueryInput(createInputDataset(2), listener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("the same field has different data type", argumentCaptor.getValue().getMessage());
+    }
+
+    @Test
+    public void testParseSearchQueryInput_WrongInputType() {
+        MLInputDatasetHandler handler = new MLInputDatasetHandler(client);
+        DataFrameInputDataset inputDataset = mock(DataFrameInputDataset.class);
+        when(inputDataset.getInputDataType()).thenReturn(MLInputDataType.DATA_FRAME);
+
+        IllegalArgumentException e = assertThrows(
+            IllegalArgumentException.class,
+            () -> handler.parseSearchQueryInput(inputDataset, listener)
+        );
+        assertEquals("Input dataset is not SEARCH_QUERY type.", e.getMessage());
+    }
+
+    @Test
+    public void testParseSearchQueryInput_ScrollUntilSize() {
+        MLInputDatasetHandler handler = createHandler(2, 1);
+        mockSearch(createResponse("scroll1", 6, createHit(1.0, 1), createHit(2.0, 2)));
+        scrollResponses.add(createResponse("scroll2", 6, createHit(3.0, 3), createHit(4.0, 4)));
+        scrollResponses.add(createResponse("scroll3", 6, createHit(5.0, 5), createHit(6.0, 6)));
+
+        handler.parseSearchQueryInput(createInputDataset(5), listener);
+
+        DataFrame dataFrame = getDataFrame();
+        assertEquals(5, dataFrame.size());
+        assertEquals(5.0, dataFrame.getRow(4).getValue(dataFrame.getColumnIndex("f1")).doubleValue(), 0.0001);
+
+        ArgumentCaptor<SearchRequest> requestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client).search(requestCaptor.capture(), any());
+        SearchRequest searchRequest = requestCaptor.getValue();
+        assertNotNull(searchRequest.scroll());
+        assertEquals(2, searchRequest.source().size());
+        assertEquals(FieldSortBuilder.DOC_FIELD_NAME, ((FieldSortBuilder) searchRequest.source().sorts().get(0)).getFieldName());
+        assertNull(searchRequest.source().slice());
+
+        ArgumentCaptor<SearchScrollRequest> scrollCaptor = ArgumentCaptor.forClass(SearchScrollRequest.class);
+        verify(client, times(2)).searchScroll(scrollCaptor.capture(), any());
+        assertEquals("scroll1", scrollCaptor.getAllValues().get(0).scrollId());
+        assertEquals("scroll2", scrollCaptor.getAllValues().get(1).scrollId());
+        ArgumentCaptor<ClearScrollRequest> clearCaptor = ArgumentCaptor.forClass(ClearScrollRequest.class);
+        verify(client).clearScroll(clearCaptor.capture(), any());
+        assertEquals(List.of("scroll3"), clearCaptor.getValue().getScrollIds());
+    }
+
+    @Test
+    public void testParseSearchQueryInput_ScrollUntilNoMoreHits() {
+        MLInputDatasetHandler handler = createHandler(2, 1);
+        mockSearch(createResponse("scroll1", 3, createHit(1.0, 1), createHit(2.0, 2)));
+        scrollResponses.add(createResponse("scroll2", 3, createHit(3.0, 3)));
+        scrollResponses.add(createResponse("scroll3", 3));
+
+        handler.parseSearchQueryInput(createInputDataset(100), listener);
+
+        assertEquals(3, getDataFrame().size());
+        verify(client, times(2)).searchScroll(any(), any());
+        verify(client).clearScroll(any(), any());
+    }
+
+    @Test
+    public void testParseSearchQueryInput_SlicedScroll() {
+        MLInputDatasetHandler handler = createHandler(2, 2);
+        doAnswer(invocation -> {
+            SearchRequest searchRequest = invocation.getArgument(0);
+            ActionListener<SearchResponse> actionListener = invocation.getArgument(1);
+            int sliceId = searchRequest.source().slice().getId();
+            actionListener.onResponse(createResponse("scroll" + sliceId, 2, createHit(sliceId, sliceId)));
+            return null;
+        }).when(client).search(any(), any());
+        scrollResponses.add(createResponse("scroll0", 2));
+        scrollResponses.add(createResponse("scroll1", 2));
+
+        handler.parseSearchQueryInput(createInputDataset(10), listener);
+
+        assertEquals(2, getDataFrame().size());
+        ArgumentCaptor<SearchRequest> requestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(2)).search(requestCaptor.capture(), any());
+        for (SearchRequest searchRequest : requestCaptor.getAllValues()) {
+            assertEquals(2, searchRequest.source().slice().getMax());
+        }
+        verify(client, times(2)).clearScroll(any(), any());
+    }
+
+    @Test
+    public void testParseSearchQueryInput_ScrollFailure() {
+        MLInputDatasetHandler handler = createHandler(2, 1);
+        mockSearch(createResponse("scroll1", 3, createHit(1.0, 1), createHit(2.0, 2)));
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> actionListener = invocation.getArgument(1);
+            actionListener.onFailure(new RuntimeException("scroll failure"));
+            return null;
+        }).when(client).searchScroll(any(), any());
+
+        handler.parseSearchQueryInput(createInputDataset(3), listener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("scroll failure", argumentCaptor.getValue().getMessage());
+    }
+
+    private MLInputDatasetHandler createHandler(int pageSize, int slices) {
+        Settings settings = Settings
+            .builder()
+            .put(ML_COMMONS_SEARCH_INPUT_PAGE_SIZE.getKey(), pageSize)
+            .put(ML_COMMONS_SEARCH_INPUT_SLICES.getKey(), slices)
+            .build();
+        when(clusterService.getClusterSettings())
+            .thenReturn(new ClusterSettings(settings, Set.of(ML_COMMONS_SEARCH_INPUT_PAGE_SIZE, ML_COMMONS_SEARCH_INPUT_SLICES)));
+        return new MLInputDatasetHandler(client, settings, clusterService);
+    }
+
+    private SearchQueryInputDataset createInputDataset(int size) {
+        return SearchQueryInputDataset
+            .builder()
+            .indices(List.of("test_index"))
+            .searchSourceBuilder(new SearchSourceBuilder().size(size))
+            .build();
+    }
+
+    private void mockSearch(SearchResponse searchResponse) {
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(searchResponse);
+            return null;
+        }).when(client).search(any(), any());
+    }
+
+    private SearchResponse createResponse(String scrollId, long totalHits, SearchHit... hits) {
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(searchResponse.getHits()).thenReturn(new SearchHits(hits, new TotalHits(totalHits, TotalHits.Relation.EQUAL_TO), 1.0f));
+        when(searchResponse.getScrollId()).thenReturn(scrollId);
+        return searchResponse;
+    }
+
+    private SearchHit createHit(double f1, Object f2) {
+        String f2Value = f2 instanceof String ? "\"" + f2 + "\"" : String.valueOf(f2);
+        return new SearchHit(0).sourceRef(new BytesArray("{\"f1\":" + f1 + ",\"f2\":" + f2Value + "}"));
+    }
+
+    private DataFrame getDataFrame() {
+        ArgumentCaptor<MLInputDataset> argumentCaptor = ArgumentCaptor.forClass(MLInputDataset.class);
+        verify(listener).onResponse(argumentCaptor.capture());
+        return ((DataFrameInputDataset) argumentCaptor.getValue()).getDataFrame();
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.opensearch.ml.common.conversation.ConversationalIndexConstants.INTERACTIONS_ADDITIONAL_INFO_FIELD;
+import static org.opensearch.ml.common.conversation.ConversationalIndexConstants.INTERACTIONS_RESPONSE_FIELD;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.ml.common.conversation.Interaction;
+
+public class ConversationTailCacheTest {
+
+    private ConversationTailCache tailCache;
+
+    @Before
+    public void setup() {
+        tailCache = new ConversationTailCache();
+        tailCache.resize(1000);
+    }
+
+    @Test
+    public void testGet_VersionChanged() {
+        tailCache.put("cid", 1L, List.of(interaction("iid1")), 10);
+        assertEquals(1, tailCache.get("cid", 1L, 10).size());
+        assertNull(tailCache.get("cid", 2L, 10));
+        assertNull(tailCache.get("other_cid", 1L, 10));
+    }
+
+    @Test
+    public void testGet_IncompleteTail() {
+        List<Interaction> interactions = List.of(interaction("iid1"), interaction("iid2"));
+        // the conversation may have more interactions than the ones read
+        tailCache.put("cid", 1L, interactions, 2);
+        assertEquals(List.of("iid2"), ids(tailCache.get("cid", 1L, 1)));
+        assertEquals(List.of("iid1", "iid2"), ids(tailCache.get("cid", 1L, 2)));
+        assertNull(tailCache.get("cid", 1L, 3));
+
+        // the conversation has no more interactions than the ones read
+        tailCache.put("cid", 1L, interactions, 3);
+        assertEquals(List.of("iid1", "iid2"), ids(tailCache.get("cid", 1L, 10)));
+    }
+
+    @Test
+    public void testOnInteractionCreated() {
+        tailCache.put("cid", 1L, List.of(interaction("iid1")), 10);
+        tailCache.onInteractionCreated("cid", interaction("iid2"), 2L);
+        // traces only bump the version
+        tailCache.onInteractionCreated("cid", null, 3L);
+        assertNull(tailCache.get("cid", 2L, 10));
+        assertEquals(List.of("iid1", "iid2"), ids(tailCache.get("cid", 3L, 10)));
+
+        // interactions already read from the index are not added twice
+        tailCache.onInteractionCreated("cid", interaction("iid2"), 4L);
+        assertEquals(List.of("iid1", "iid2"), ids(tailCache.get("cid", 4L, 10)));
+
+        // nothing is cached for conversations which haven't been read
+        tailCache.onInteractionCreated("other_cid", interaction("iid3"), 2L);
+        assertNull(tailCache.get("other_cid", 1L, 10));
+    }
+
+    @Test
+    public void testOnInteractionCreated_UnexpectedVersion() {
+        // the conversation wasn't updated
+        tailCache.put("cid", 1L, List.of(interaction("iid1")), 10);
+        tailCache.onInteractionCreated("cid", interaction("iid2"), null);
+        assertNull(tailCache.get("cid", 1L, 10));
+        assertNull(tailCache.get("cid", 2L, 10));
+
+        // an interaction was added through another node in between
+        tailCache.put("cid", 1L, List.of(interaction("iid1")), 10);
+        tailCache.onInteractionCreated("cid", interaction("iid3"), 3L);
+        assertNull(tailCache.get("cid", 3L, 10));
+    }
+
+    @Test
+    public void testOnInteractionCreated_TrimTail() {
+        List<Interaction> interactions = new ArrayList<>();
+        for (int i = 0; i < ConversationTailCache.MAX_TAIL_SIZE; i++) {
+            interactions.add(interaction("iid" + i));
+        }
+        tailCache.put("cid", 1L, interactions, ConversationTailCache.MAX_TAIL_SIZE + 1);
+        tailCache.onInteractionCreated("cid", interaction("new_iid"), 2L);
+
+        List<Interaction> cached = tailCache.get("cid", 2L, ConversationTailCache.MAX_TAIL_SIZE);
+        assertEquals(ConversationTailCache.MAX_TAIL_SIZE, cached.size());
+        assertEquals("iid1", cached.get(0).getId());
+        assertEquals("new_iid", cached.get(cached.size() - 1).getId());
+        // the oldest interaction was dropped, so the tail is no longer the whole conversation
+        assertNull(tailCache.get("cid", 2L, ConversationTailCache.MAX_TAIL_SIZE + 1));
+    }
+
+    @Test
+    public void testOnInteractionUpdated() {
+        Interaction interaction = Interaction.builder().id("iid1").input("q1").additionalInfo(Map.of("key", "value")).build();
+        tailCache.put("cid", 1L, List.of(interaction), 10);
+        tailCache
+            .onInteractionUpdated(
+                "iid1",
+                Map.of(INTERACTIONS_RESPONSE_FIELD, "r1", INTERACTIONS_ADDITIONAL_INFO_FIELD, Map.of("feedback", "thumbs up"))
+            );
+
+        Interaction updated = tailCache.get("cid", 1L, 10).get(0);
+        assertEquals("q1", updated.getInput());
+        assertEquals("r1", updated.getResponse());
+        assertEquals(Map.of("key", "value", "feedback", "thumbs up"), updated.getAdditionalInfo());
+    }
+
+    @Test
+    public void testInvalidateInteraction() {
+        tailCache.put("cid", 1L, List.of(interaction("iid1")), 10);
+        tailCache.put("other_cid", 1L, List.of(interaction("iid2")), 10);
+        tailCache.invalidateInteraction("iid1");
+        assertNull(tailCache.get("cid", 1L, 10));
+        assertEquals(List.of("iid2"), ids(tailCache.get("other_cid", 1L, 10)));
+    }
+
+    @Test
+    public void testDisabled() {
+        tailCache.resize(0);
+        assertFalse(tailCache.isEnabled());
+        tailCache.put("cid", 1L, List.of(interaction("iid1")), 10);
+        assertNull(tailCache.get("cid", 1L, 10));
+        tailCache.onInteractionCreated("cid", interaction("iid2"), 2L);
+        tailCache.onInteractionUpdated("iid1", Map.of(INTERACTIONS_RESPONSE_FIELD, "r1"));
+        tailCache.invalidateInteraction("iid1");
+    }
+
+    private static Interaction interaction(String id) {
+        return Interaction.builder().id(id).conversationId("cid").input("question").response("answer").build();
+    }
+
+    private static List<String> ids(List<Interaction> interactions) {
+        List<String> ids = new ArrayList<>();
+        interactions.forEach(interaction -> ids.add(interaction.getId()));
+        return ids;
+    }
+}
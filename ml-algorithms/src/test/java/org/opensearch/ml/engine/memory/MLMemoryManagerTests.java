@@ -7,12 +7,15 @@ package org.opensearch.ml.engine.memory;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.opensearch.ml.common.conversation.ConversationalIndexConstants.*;
@@ -230,10 +233,10 @@ public class MLMemoryManagerTests {
     public void testGetInteractions_SearchFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         doAnswer(invocation -> {
-            ActionListener<Boolean> al = invocation.getArgument(1);
-            al.onResponse(true);
+            ActionListener<Long> al = invocation.getArgument(1);
+            al.onResponse(1L);
             return null;
-        }).when(conversationMetaIndex).checkAccess(anyString(), any());
+        }).when(conversationMetaIndex).checkAccessAndGetVersion(anyString(), any());
 
         doAnswer(invocation -> {
             ActionListener<SearchResponse> al = invocation.getArgument(1);
@@ -251,10 +254,10 @@ public class MLMemoryManagerTests {
         doReturn(true).when(metadata).hasIndex(anyString());
         String userStr = "";
         doAnswer(invocation -> {
-            ActionListener<Boolean> al = invocation.getArgument(1);
-            al.onResponse(false);
+            ActionListener<Long> al = invocation.getArgument(1);
+            al.onResponse(null);
             return null;
-        }).when(conversationMetaIndex).checkAccess(anyString(), any());
+        }).when(conversationMetaIndex).checkAccessAndGetVersion(anyString(), any());
 
         doAnswer(invocation -> {
             ThreadContext tc = new ThreadContext(Settings.EMPTY);
@@ -271,10 +274,10 @@ public class MLMemoryManagerTests {
     public void testGetInteractions_Success() {
         doReturn(true).when(metadata).hasIndex(anyString());
         doAnswer(invocation -> {
-            ActionListener<Boolean> al = invocation.getArgument(1);
-            al.onResponse(true);
+            ActionListener<Long> al = invocation.getArgument(1);
+            al.onResponse(1L);
             return null;
-        }).when(conversationMetaIndex).checkAccess(anyString(), any());
+        }).when(conversationMetaIndex).checkAccessAndGetVersion(anyString(), any());
 
         doAnswer(invocation -> {
             XContentBuilder content = XContentBuilder.builder(XContentType.JSON.xContent());
@@ -317,6 +320,127 @@ public class MLMemoryManagerTests {
         assertEquals(1, argCaptor.getValue().size());
     }
 
+    @Test
+    public void testGetInteractions_FromTailCache() {
+        ConversationTailCache tailCache = new ConversationTailCache();
+        tailCache.resize(100);
+        mlMemoryManager = new MLMemoryManager(client, clusterService, conversationMetaIndex, tailCache);
+        tailCache.put("cid", 1L, List.of(Interaction.builder().id("iid1").conversationId("cid").input("q1").response("r1").build()), 10);
+        doReturn(true).when(metadata).hasIndex(anyString());
+        doAnswer(invocation -> {
+            ActionListener<CreateInteractionResponse> al = invocation.getArgument(2);
+            al.onResponse(new CreateInteractionResponse("iid2", 2L));
+            return null;
+        }).when(client).execute(eq(CreateInteractionAction.INSTANCE), any(), any());
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> al = invocation.getArgument(2);
+            al.onResponse(mock(UpdateResponse.class));
+            return null;
+        }).when(client).execute(eq(UpdateInteractionAction.INSTANCE), any(), any());
+        // creating the interaction bumps the version of the conversation
+        doAnswer(invocation -> {
+            ActionListener<Long> al = invocation.getArgument(1);
+            al.onResponse(2L);
+            return null;
+        }).when(conversationMetaIndex).checkAccessAndGetVersion(anyString(), any());
+
+        mlMemoryManager.createInteraction("cid", "q2", null, "", null, null, null, null, createInteractionResponseActionListener);
+        mlMemoryManager.updateInteraction("iid2", Map.of(INTERACTIONS_RESPONSE_FIELD, "r2"), updateResponseActionListener);
+        mlMemoryManager.getFinalInteractions("cid", 10, interactionListActionListener);
+
+        ArgumentCaptor<List<Interaction>> argCaptor = ArgumentCaptor.forClass(List.class);
+        verify(interactionListActionListener, times(1)).onResponse(argCaptor.capture());
+        assertEquals(2, argCaptor.getValue().size());
+        assertEquals("iid2", argCaptor.getValue().get(1).getId());
+        assertEquals("q2", argCaptor.getValue().get(1).getInput());
+        assertEquals("r2", argCaptor.getValue().get(1).getResponse());
+        verify(client, never()).search(any(), any());
+    }
+
+    @Test
+    public void testGetInteractions_FromTailCache_TraceWithoutParent() {
+        ConversationTailCache tailCache = new ConversationTailCache();
+        tailCache.resize(100);
+        mlMemoryManager = new MLMemoryManager(client, clusterService, conversationMetaIndex, tailCache);
+        tailCache.put("cid", 1L, List.of(Interaction.builder().id("iid1").conversationId("cid").input("q1").response("r1").build()), 10);
+        doReturn(true).when(metadata).hasIndex(anyString());
+        doAnswer(invocation -> {
+            ActionListener<CreateInteractionResponse> al = invocation.getArgument(2);
+            al.onResponse(new CreateInteractionResponse("iid2", 2L));
+            return null;
+        }).when(client).execute(eq(CreateInteractionAction.INSTANCE), any(), any());
+        doAnswer(invocation -> {
+            ActionListener<Long> al = invocation.getArgument(1);
+            al.onResponse(2L);
+            return null;
+        }).when(conversationMetaIndex).checkAccessAndGetVersion(anyString(), any());
+
+        // without a parent the interaction is stored without its trace number, so it's a final interaction
+        mlMemoryManager.createInteraction("cid", "q2", null, "", null, null, null, 1, createInteractionResponseActionListener);
+        mlMemoryManager.getFinalInteractions("cid", 10, interactionListActionListener);
+
+        ArgumentCaptor<List<Interaction>> argCaptor = ArgumentCaptor.forClass(List.class);
+        verify(interactionListActionListener, times(1)).onResponse(argCaptor.capture());
+        assertEquals(2, argCaptor.getValue().size());
+        assertEquals("iid2", argCaptor.getValue().get(1).getId());
+        assertNull(argCaptor.getValue().get(1).getTraceNum());
+        verify(client, never()).search(any(), any());
+    }
+
+    @Test
+    public void testGetInteractions_FromTailCache_ParentWithoutTraceNumber() {
+        ConversationTailCache tailCache = new ConversationTailCache();
+        tailCache.resize(100);
+        mlMemoryManager = new MLMemoryManager(client, clusterService, conversationMetaIndex, tailCache);
+        tailCache.put("cid", 1L, List.of(Interaction.builder().id("iid1").conversationId("cid").input("q1").response("r1").build()), 10);
+        doReturn(true).when(metadata).hasIndex(anyString());
+        doAnswer(invocation -> {
+            ActionListener<CreateInteractionResponse> al = invocation.getArgument(2);
+            al.onResponse(new CreateInteractionResponse("iid2", 2L));
+            return null;
+        }).when(client).execute(eq(CreateInteractionAction.INSTANCE), any(), any());
+        doAnswer(invocation -> {
+            ActionListener<Long> al = invocation.getArgument(1);
+            al.onResponse(2L);
+            return null;
+        }).when(conversationMetaIndex).checkAccessAndGetVersion(anyString(), any());
+
+        // without a trace number the interaction is stored without its parent
+        mlMemoryManager.createInteraction("cid", "q2", null, "", null, null, "iid1", null, createInteractionResponseActionListener);
+        mlMemoryManager.getFinalInteractions("cid", 10, interactionListActionListener);
+
+        ArgumentCaptor<List<Interaction>> argCaptor = ArgumentCaptor.forClass(List.class);
+        verify(interactionListActionListener, times(1)).onResponse(argCaptor.capture());
+        assertEquals(2, argCaptor.getValue().size());
+        assertEquals("iid2", argCaptor.getValue().get(1).getId());
+        assertNull(argCaptor.getValue().get(1).getParentInteractionId());
+        verify(client, never()).search(any(), any());
+    }
+
+    @Test
+    public void testGetInteractions_TailCacheOutdated_ThenSearch() {
+        ConversationTailCache tailCache = new ConversationTailCache();
+        tailCache.resize(100);
+        mlMemoryManager = new MLMemoryManager(client, clusterService, conversationMetaIndex, tailCache);
+        tailCache.put("cid", 1L, List.of(Interaction.builder().id("iid1").conversationId("cid").build()), 10);
+        doReturn(true).when(metadata).hasIndex(anyString());
+        // the conversation was updated through another node
+        doAnswer(invocation -> {
+            ActionListener<Long> al = invocation.getArgument(1);
+            al.onResponse(2L);
+            return null;
+        }).when(conversationMetaIndex).checkAccessAndGetVersion(anyString(), any());
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> al = invocation.getArgument(1);
+            al.onFailure(new Exception("Failure in Search"));
+            return null;
+        }).when(client).search(any(), any());
+
+        mlMemoryManager.getFinalInteractions("cid", 10, interactionListActionListener);
+        verify(client, times(1)).search(any(), any());
+        verify(interactionListActionListener, times(1)).onFailure(any());
+    }
+
     @Test
     public void testGetInteractionFails_thenFail() {
         doThrow(new RuntimeException("Failure in runtime")).when(threadPool).getThreadContext();
@@ -8,6 +8,8 @@ package org.opensearch.ml.engine.processor;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
@@ -543,6 +545,34 @@ public class MLProcessorChainTest {
         assertEquals("second", result2);
     }
 
+    @Test
+    public void testFromParametersCachesJsonConfig() {
+        String config = "[{\"type\": \"regex_replace\", \"pattern\": \"test\", \"replacement\": \"cached\"}]";
+        Map<String, Object> params = Map.of(ProcessorChain.OUTPUT_PROCESSORS, config);
+        ProcessorChain chain = ProcessorChain.fromParameters(params, ProcessorChain.OUTPUT_PROCESSORS);
+
+        assertTrue(chain.hasProcessors());
+        assertEquals("cached", chain.process("test"));
+        assertSame(chain, ProcessorChain.fromParameters(new HashMap<>(params), ProcessorChain.OUTPUT_PROCESSORS));
+    }
+
+    @Test
+    public void testFromParametersListConfig() {
+        Map<String, Object> params = Map.of(ProcessorChain.INPUT_PROCESSORS, Arrays.asList(createProcessorConfig("to_string")));
+        ProcessorChain chain = ProcessorChain.fromParameters(params, ProcessorChain.INPUT_PROCESSORS);
+
+        assertTrue(chain.hasProcessors());
+        assertNotSame(chain, ProcessorChain.fromParameters(params, ProcessorChain.INPUT_PROCESSORS));
+    }
+
+    @Test
+    public void testFromParametersNoConfig() {
+        assertFalse(ProcessorChain.fromParameters(null, ProcessorChain.OUTPUT_PROCESSORS).hasProcessors());
+        assertFalse(ProcessorChain.fromParameters(Map.of(), ProcessorChain.OUTPUT_PROCESSORS).hasProcessors());
+        Map<String, Object> params = Map.of(ProcessorChain.OUTPUT_PROCESSORS, "invalid");
+        assertFalse(ProcessorChain.fromParameters(params, ProcessorChain.OUTPUT_PROCESSORS).hasProcessors());
+    }
+
     // Helper methods
     private Map<String, Object> createProcessorConfig(String type) {
         Map<String, Object> config = new HashMap<>();
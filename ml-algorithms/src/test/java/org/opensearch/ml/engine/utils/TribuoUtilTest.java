@@ -51,6 +51,26 @@ public class TribuoUtilTest {
         }
     }
 
+    @Test
+    public void transformDataFrame_Columnar() {
+        ColumnMeta[] columnMetas = new ColumnMeta[] { new ColumnMeta("f1", ColumnType.DOUBLE), new ColumnMeta("f2", ColumnType.DOUBLE) };
+        DataFrame columnarDataFrame = DataFrameBuilder.emptyColumnarDataFrame(columnMetas);
+        Arrays.stream(rawData).forEach(e -> columnarDataFrame.appendRow(e));
+
+        Tuple<String[], double[][]> featureNamesValues = TribuoUtil.transformDataFrame(columnarDataFrame);
+        Assert.assertArrayEquals(new String[] { "f1", "f2" }, featureNamesValues.v1());
+        Assert.assertEquals(3, (featureNamesValues.v2()).length);
+        for (int i = 0; i < rawData.length; ++i) {
+            Assert.assertArrayEquals(new double[] { 0.1 + i, 0.2 + i }, featureNamesValues.v2()[i], 0.01);
+        }
+
+        Tuple<String[], double[][]> classificationValues = TribuoUtil.transformClassificationDataFrame(columnarDataFrame, "f1");
+        Assert.assertArrayEquals(new String[] { "f2" }, classificationValues.v1());
+        for (int i = 0; i < rawData.length; ++i) {
+            Assert.assertArrayEquals(new double[] { 0.2 + i }, classificationValues.v2()[i], 0.01);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public void generateDataset() {
@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.agents;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateAction;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodeRequest;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodeResponse;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodesRequest;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodesResponse;
+import org.opensearch.ml.engine.algorithms.agent.AgentCache;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+import org.opensearch.transport.client.Client;
+
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+public class AgentCacheInvalidateTransportAction extends
+    TransportNodesAction<MLAgentCacheInvalidateNodesRequest, MLAgentCacheInvalidateNodesResponse, MLAgentCacheInvalidateNodeRequest, MLAgentCacheInvalidateNodeResponse> {
+    private final ClusterService clusterService;
+
+    @Inject
+    public AgentCacheInvalidateTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ClusterService clusterService,
+        ThreadPool threadPool
+    ) {
+        super(
+            MLAgentCacheInvalidateAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            MLAgentCacheInvalidateNodesRequest::new,
+            MLAgentCacheInvalidateNodeRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            MLAgentCacheInvalidateNodeResponse.class
+        );
+        this.clusterService = clusterService;
+    }
+
+    /**
+     * Wrap the listener of an agent or connector update, so the agent cache of all nodes is invalidated before the
+     * response is sent. Failing to invalidate the cache doesn't fail the update, since cached entries expire anyway.
+     */
+    public static <T> ActionListener<T> invalidateBefore(
+        Client client,
+        MLAgentCacheInvalidateNodesRequest request,
+        ActionListener<T> listener
+    ) {
+        return ActionListener.wrap(response -> {
+            try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+                client.execute(MLAgentCacheInvalidateAction.INSTANCE, request, ActionListener.runBefore(ActionListener.wrap(r -> {
+                    if (r.hasFailures()) {
+                        log.warn("Failed to invalidate agent cache on nodes {}", r.failures());
+                    }
+                    listener.onResponse(response);
+                }, e -> {
+                    log.warn("Failed to invalidate agent cache", e);
+                    listener.onResponse(response);
+                }), context::restore));
+            }
+        }, listener::onFailure);
+    }
+
+    @Override
+    protected MLAgentCacheInvalidateNodesResponse newResponse(
+        MLAgentCacheInvalidateNodesRequest nodesRequest,
+        List<MLAgentCacheInvalidateNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new MLAgentCacheInvalidateNodesResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected MLAgentCacheInvalidateNodeRequest newNodeRequest(MLAgentCacheInvalidateNodesRequest request) {
+        return new MLAgentCacheInvalidateNodeRequest(request);
+    }
+
+    @Override
+    protected MLAgentCacheInvalidateNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new MLAgentCacheInvalidateNodeResponse(in);
+    }
+
+    @Override
+    protected MLAgentCacheInvalidateNodeResponse nodeOperation(MLAgentCacheInvalidateNodeRequest request) {
+        MLAgentCacheInvalidateNodesRequest invalidateRequest = request.getCacheInvalidateNodesRequest();
+        if (invalidateRequest.getAgentId() != null) {
+            AgentCache.getInstance().invalidateAgent(invalidateRequest.getAgentId());
+        }
+        if (invalidateRequest.getConnectorId() != null) {
+            AgentCache.getInstance().invalidateConnector(invalidateRequest.getConnectorId());
+        }
+        return new MLAgentCacheInvalidateNodeResponse(clusterService.localNode());
+    }
+}
@@ -29,6 +29,7 @@ import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.ml.common.agent.MLAgent;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodesRequest;
 import org.opensearch.ml.common.transport.agent.MLAgentDeleteAction;
 import org.opensearch.ml.common.transport.agent.MLAgentDeleteRequest;
 import org.opensearch.ml.utils.RestActionUtils;
@@ -141,7 +142,17 @@ public class DeleteAgentTransportAction extends HandledTransportAction<ActionReq
                                                         .build()
                                                 )
                                                 .whenComplete((response, delThrowable) -> {
-                                                    handleDeleteResponse(response, delThrowable, tenantId, wrappedListener);
+                                                    handleDeleteResponse(
+                                                        response,
+                                                        delThrowable,
+                                                        tenantId,
+                                                        AgentCacheInvalidateTransportAction
+                                                            .invalidateBefore(
+                                                                client,
+                                                                MLAgentCacheInvalidateNodesRequest.forAgent(agentId),
+                                                                wrappedListener
+                                                            )
+                                                    );
                                                 });
                                         } catch (Exception e) {
                                             log.error("Failed to delete ML agent: {}", agentId, e);
@@ -29,6 +29,7 @@ import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.core.xcontent.XContentParserUtils;
 import org.opensearch.ml.common.agent.MLAgent;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodesRequest;
 import org.opensearch.ml.common.transport.agent.MLAgentUpdateAction;
 import org.opensearch.ml.common.transport.agent.MLAgentUpdateInput;
 import org.opensearch.ml.common.transport.agent.MLAgentUpdateRequest;
@@ -151,6 +152,8 @@ public class UpdateAgentTransportAction extends HandledTransportAction<ActionReq
         updateInput.setLastUpdateTime(now);
 
         MLAgent updatedAgent = updateInput.toMLAgent(originalAgent);
+        ActionListener<UpdateResponse> listener = AgentCacheInvalidateTransportAction
+            .invalidateBefore(client, MLAgentCacheInvalidateNodesRequest.forAgent(agentId), wrappedListener);
 
         UpdateDataObjectRequest updateDataObjectRequest = UpdateDataObjectRequest
             .builder()
@@ -170,7 +173,7 @@ public class UpdateAgentTransportAction extends HandledTransportAction<ActionReq
                     UpdateResponse updateResponse = r.updateResponse();
                     if (updateResponse.getResult() == DocWriteResponse.Result.UPDATED) {
                         log.info("Successfully updated ML agent {}", agentId);
-                        wrappedListener.onResponse(updateResponse);
+                        listener.onResponse(updateResponse);
                     }
                 } catch (Exception e) {
                     log.error("Failed to update ML agent {}", agentId, e);
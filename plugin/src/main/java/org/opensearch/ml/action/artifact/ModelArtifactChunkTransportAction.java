@@ -0,0 +1,127 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.artifact;
+
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_TRANSFER_MAX_MB_PER_SEC;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.lucene.store.RateLimiter;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkAction;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodeRequest;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodeResponse;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodesRequest;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodesResponse;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Serve byte ranges of the model artifacts cached on this node. A request with length 0 only returns the size of the
+ * artifact, so the deploying node can find which nodes have it. Reads are throttled by a rate limiter shared by all
+ * requests, so serving a large model doesn't saturate the disk and network of this node.
+ */
+@Log4j2
+public class ModelArtifactChunkTransportAction extends
+    TransportNodesAction<MLModelArtifactChunkNodesRequest, MLModelArtifactChunkNodesResponse, MLModelArtifactChunkNodeRequest, MLModelArtifactChunkNodeResponse> {
+    private final MLModelManager mlModelManager;
+    private final ClusterService clusterService;
+    private volatile RateLimiter rateLimiter;
+
+    @Inject
+    public ModelArtifactChunkTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        MLModelManager mlModelManager,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        Settings settings
+    ) {
+        super(
+            MLModelArtifactChunkAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            MLModelArtifactChunkNodesRequest::new,
+            MLModelArtifactChunkNodeRequest::new,
+            // reading and throttling block the thread, so don't use the small management thread pool
+            ThreadPool.Names.GENERIC,
+            MLModelArtifactChunkNodeResponse.class
+        );
+        this.mlModelManager = mlModelManager;
+        this.clusterService = clusterService;
+        updateRateLimiter(ML_COMMONS_MODEL_ARTIFACT_TRANSFER_MAX_MB_PER_SEC.get(settings));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_ARTIFACT_TRANSFER_MAX_MB_PER_SEC, this::updateRateLimiter);
+    }
+
+    private void updateRateLimiter(int maxMBPerSec) {
+        if (maxMBPerSec <= 0) {
+            rateLimiter = null;
+        } else if (rateLimiter != null) {
+            rateLimiter.setMBPerSec(maxMBPerSec);
+        } else {
+            rateLimiter = new RateLimiter.SimpleRateLimiter(maxMBPerSec);
+        }
+    }
+
+    @Override
+    protected MLModelArtifactChunkNodesResponse newResponse(
+        MLModelArtifactChunkNodesRequest nodesRequest,
+        List<MLModelArtifactChunkNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new MLModelArtifactChunkNodesResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected MLModelArtifactChunkNodeRequest newNodeRequest(MLModelArtifactChunkNodesRequest request) {
+        return new MLModelArtifactChunkNodeRequest(request);
+    }
+
+    @Override
+    protected MLModelArtifactChunkNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new MLModelArtifactChunkNodeResponse(in);
+    }
+
+    @Override
+    protected MLModelArtifactChunkNodeResponse nodeOperation(MLModelArtifactChunkNodeRequest request) {
+        MLModelArtifactChunkNodesRequest chunkRequest = request.getArtifactChunkNodesRequest();
+        String contentHash = chunkRequest.getContentHash();
+        try {
+            Tuple<Long, byte[]> chunk = mlModelManager.readModelArtifact(contentHash, chunkRequest.getOffset(), chunkRequest.getLength());
+            if (chunk == null) {
+                return new MLModelArtifactChunkNodeResponse(clusterService.localNode(), MLModelArtifactChunkNodeResponse.NOT_CACHED, null);
+            }
+            if (chunkRequest.getLength() == 0) {
+                return new MLModelArtifactChunkNodeResponse(clusterService.localNode(), chunk.v1(), null);
+            }
+            RateLimiter limiter = rateLimiter;
+            if (limiter != null) {
+                limiter.pause(chunk.v2().length);
+            }
+            return new MLModelArtifactChunkNodeResponse(clusterService.localNode(), chunk.v1(), new BytesArray(chunk.v2()));
+        } catch (IOException e) {
+            log.error("Failed to read model artifact {}", contentHash, e);
+            throw new MLException("Failed to read model artifact", e);
+        }
+    }
+}
@@ -27,9 +27,11 @@ import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.ml.action.agents.AgentCacheInvalidateTransportAction;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLValidationException;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodesRequest;
 import org.opensearch.ml.common.transport.connector.MLConnectorDeleteAction;
 import org.opensearch.ml.common.transport.connector.MLConnectorDeleteRequest;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
@@ -196,12 +198,14 @@ public class DeleteConnectorTransportAction extends HandledTransportAction<Actio
 
     private void deleteConnector(String connectorId, String tenantId, ActionListener<DeleteResponse> actionListener) {
         DeleteRequest deleteRequest = new DeleteRequest(ML_CONNECTOR_INDEX, connectorId);
+        ActionListener<DeleteResponse> invalidatingListener = AgentCacheInvalidateTransportAction
+            .invalidateBefore(client, MLAgentCacheInvalidateNodesRequest.forConnector(connectorId), actionListener);
         try {
             sdkClient
                 .deleteDataObjectAsync(
                     DeleteDataObjectRequest.builder().index(deleteRequest.index()).id(deleteRequest.id()).tenantId(tenantId).build()
                 )
-                .whenComplete((response, throwable) -> handleDeleteResponse(response, throwable, connectorId, actionListener));
+                .whenComplete((response, throwable) -> handleDeleteResponse(response, throwable, connectorId, invalidatingListener));
         } catch (Exception e) {
             log.error("Failed to delete ML connector: {}", connectorId, e);
             actionListener.onFailure(e);
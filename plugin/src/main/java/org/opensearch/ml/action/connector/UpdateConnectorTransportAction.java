@@ -32,8 +32,10 @@ import org.opensearch.core.rest.RestStatus;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.ml.action.agents.AgentCacheInvalidateTransportAction;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodesRequest;
 import org.opensearch.ml.common.transport.connector.MLCreateConnectorInput;
 import org.opensearch.ml.common.transport.connector.MLUpdateConnectorAction;
 import org.opensearch.ml.common.transport.connector.MLUpdateConnectorRequest;
@@ -241,6 +243,8 @@ public class UpdateConnectorTransportAction extends HandledTransportAction<Actio
     }
 
     private ActionListener<UpdateResponse> getUpdateResponseListener(String connectorId, ActionListener<UpdateResponse> actionListener) {
+        ActionListener<UpdateResponse> invalidatingListener = AgentCacheInvalidateTransportAction
+            .invalidateBefore(client, MLAgentCacheInvalidateNodesRequest.forConnector(connectorId), actionListener);
         return ActionListener.wrap(updateResponse -> {
             if (updateResponse != null && updateResponse.getResult() != DocWriteResponse.Result.UPDATED) {
                 log.error("Failed to update the connector with ID: {}", connectorId);
@@ -248,7 +252,7 @@ public class UpdateConnectorTransportAction extends HandledTransportAction<Actio
                 return;
             }
             log.info("Successfully updated the connector with ID: {}", connectorId);
-            actionListener.onResponse(updateResponse);
+            invalidatingListener.onResponse(updateResponse);
         }, exception -> {
             log.error("Failed to update ML connector with ID {}. Details: {}", connectorId, exception);
             actionListener.onFailure(exception);
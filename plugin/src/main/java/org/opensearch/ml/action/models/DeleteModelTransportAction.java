@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -66,6 +67,7 @@ import org.opensearch.index.query.TermsQueryBuilder;
 import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.DeleteByQueryAction;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
+import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.model.MLModelState;
@@ -73,6 +75,10 @@ import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.model.MLModelDeleteAction;
 import org.opensearch.ml.common.transport.model.MLModelDeleteRequest;
 import org.opensearch.ml.common.transport.model.MLModelGetRequest;
+import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
+import org.opensearch.ml.common.transport.sync.MLSyncUpInput;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesResponse;
 import org.opensearch.ml.engine.utils.AgentModelsSearcher;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.utils.RestActionUtils;
@@ -114,6 +120,7 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
     private final MLFeatureEnabledSetting mlFeatureEnabledSetting;
 
     final AgentModelsSearcher agentModelsSearcher;
+    final DiscoveryNodeHelper nodeHelper;
 
     @Inject
     public DeleteModelTransportAction(
@@ -126,7 +133,8 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
         ClusterService clusterService,
         ModelAccessControlHelper modelAccessControlHelper,
         AgentModelsSearcher agentModelsSearcher,
-        MLFeatureEnabledSetting mlFeatureEnabledSetting
+        MLFeatureEnabledSetting mlFeatureEnabledSetting,
+        DiscoveryNodeHelper nodeHelper
     ) {
         super(MLModelDeleteAction.NAME, transportService, actionFilters, MLModelDeleteRequest::new);
         this.client = client;
@@ -138,6 +146,7 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
         isSafeDelete = ML_COMMONS_SAFE_DELETE_WITH_USAGE_CHECK.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_SAFE_DELETE_WITH_USAGE_CHECK, it -> isSafeDelete = it);
         this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
+        this.nodeHelper = nodeHelper;
     }
 
     @Override
@@ -186,6 +195,10 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
                                     .validateTenantResource(mlFeatureEnabledSetting, tenantId, mlModel.getTenantId(), actionListener)) {
                                     return;
                                 }
+                                ActionListener<DeleteResponse> deleteListener = removeModelArtifactOnDelete(
+                                    mlModel.getModelContentHash(),
+                                    actionListener
+                                );
                                 Boolean isHidden = (Boolean) r.source().get(IS_HIDDEN_FIELD);
                                 MLModelState mlModelState = mlModel.getModelState();
                                 if (isHidden != null && isHidden) {
@@ -199,7 +212,7 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
                                             );
                                     } else {
                                         if (isModelNotDeployed(mlModelState)) {
-                                            deleteModel(modelId, tenantId, algorithmName, isHidden, actionListener);
+                                            deleteModel(modelId, tenantId, algorithmName, isHidden, deleteListener);
                                         } else {
                                             wrappedListener
                                                 .onFailure(
@@ -235,7 +248,7 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
                                                             tenantId,
                                                             mlModel.getAlgorithm().name(),
                                                             isHidden,
-                                                            actionListener
+                                                            deleteListener
                                                         );
                                                     } else {
                                                         deleteModel(
@@ -243,7 +256,7 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
                                                             tenantId,
                                                             mlModel.getAlgorithm().name(),
                                                             isHidden,
-                                                            actionListener
+                                                            deleteListener
                                                         );
                                                     }
                                                     // deleteModel(modelId, tenantId, mlModel.getAlgorithm().name(), isHidden,
@@ -287,6 +300,32 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
         }
     }
 
+    /**
+     * Remove the cached model artifact of the deleted model from all nodes, see {@link MLSyncUpInput#getRemovedModelContentHashes()}.
+     * Another model with the same content just reads its model chunks again on the next deployment.
+     */
+    private ActionListener<DeleteResponse> removeModelArtifactOnDelete(String modelContentHash, ActionListener<DeleteResponse> listener) {
+        if (modelContentHash == null) {
+            return listener;
+        }
+        return ActionListener.wrap(deleteResponse -> {
+            MLSyncUpInput syncUpInput = MLSyncUpInput.builder().removedModelContentHashes(Set.of(modelContentHash)).build();
+            MLSyncUpNodesRequest syncUpRequest = new MLSyncUpNodesRequest(nodeHelper.getAllNodes(), syncUpInput);
+            ActionListener<MLSyncUpNodesResponse> syncUpListener = ActionListener
+                .wrap(
+                    r -> log.debug("Removed cached model artifact {} from nodes", modelContentHash),
+                    e -> log.error("Failed to remove cached model artifact {} from nodes", modelContentHash, e)
+                );
+            try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+                client.execute(MLSyncUpAction.INSTANCE, syncUpRequest, syncUpListener);
+            } catch (Exception e) {
+                // the model is deleted anyway, the cached file is removed later by the LRU eviction
+                syncUpListener.onFailure(e);
+            }
+            listener.onResponse(deleteResponse);
+        }, listener::onFailure);
+    }
+
     @VisibleForTesting
     void deleteModelChunks(String modelId, Boolean isHidden, ActionListener<Boolean> actionListener) {
         DeleteByQueryRequest deleteModelsRequest = new DeleteByQueryRequest(ML_MODEL_INDEX);
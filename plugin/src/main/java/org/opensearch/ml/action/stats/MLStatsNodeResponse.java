@@ -5,9 +5,14 @@
 
 package org.opensearch.ml.action.stats;
 
+import static org.opensearch.ml.common.CommonValue.VERSION_3_7_0;
+
 import java.io.IOException;
+import java.util.EnumSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.opensearch.action.support.nodes.BaseNodeResponse;
 import org.opensearch.cluster.node.DiscoveryNode;
@@ -22,6 +27,15 @@ import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStatsInput;
 
 public class MLStatsNodeResponse extends BaseNodeResponse implements ToXContentFragment {
+    // node level stats added in 3.7.0, which older nodes can't read as they read the stats by ordinal
+    private static final Set<MLNodeLevelStat> NODE_STATS_SINCE_3_7_0 = EnumSet
+        .of(
+            MLNodeLevelStat.ML_REMOTE_HTTP_CLIENT_COUNT,
+            MLNodeLevelStat.ML_REMOTE_HTTP_CLIENT_LEASE_COUNT,
+            MLNodeLevelStat.ML_REMOTE_HTTP_IN_FLIGHT_REQUEST_COUNT,
+            MLNodeLevelStat.ML_REMOTE_HTTP_QUEUED_REQUEST_COUNT
+        );
+
     /**
      * Node level stats.
      */
@@ -94,8 +108,16 @@ public class MLStatsNodeResponse extends BaseNodeResponse implements ToXContentF
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
         if (nodeStats != null) {
+            Map<MLNodeLevelStat, Object> stats = nodeStats;
+            if (out.getVersion().before(VERSION_3_7_0)) {
+                stats = nodeStats
+                    .entrySet()
+                    .stream()
+                    .filter(entry -> !NODE_STATS_SINCE_3_7_0.contains(entry.getKey()))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            }
             out.writeBoolean(true);
-            out.writeMap(nodeStats, (stream, v) -> stream.writeEnum(v), StreamOutput::writeGenericValue);
+            out.writeMap(stats, (stream, v) -> stream.writeEnum(v), StreamOutput::writeGenericValue);
         } else {
             out.writeBoolean(false);
         }
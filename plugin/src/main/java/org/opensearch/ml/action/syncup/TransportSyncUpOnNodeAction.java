@@ -171,13 +171,32 @@ public class TransportSyncUpOnNodeAction extends
             expiredModelIds = mlModelManager.getExpiredModels();
         }
 
+        String routingTableVersion = syncUpInput.getRoutingTableVersion();
         if (syncUpInput.isClearRoutingTable()) {
-            mlModelManager.clearRoutingTable();
+            mlModelManager.clearRoutingTable(routingTableVersion);
+        } else if (syncUpInput.isRoutingTableDelta()) {
+            boolean synced = mlModelManager
+                .syncModelWorkerNodesDelta(
+                    modelRoutingTable,
+                    syncUpInput.getRemovedRoutingModelIds(),
+                    syncUpInput.getBaseRoutingTableVersion(),
+                    routingTableVersion
+                );
+            if (!synced) {
+                log.debug("Local model routing table isn't at version {}, wait for full sync", syncUpInput.getBaseRoutingTableVersion());
+            }
         } else if (modelRoutingTable != null) {
             for (Map.Entry<String, Set<String>> entry : modelRoutingTable.entrySet()) {
                 log.debug("latest routing table for model: {}:  {}", entry.getKey(), entry.getValue().toArray(new String[0]));
             }
-            mlModelManager.syncModelWorkerNodes(modelRoutingTable);
+            mlModelManager.syncModelWorkerNodes(modelRoutingTable, routingTableVersion);
+        }
+
+        Set<String> removedModelContentHashes = syncUpInput.getRemovedModelContentHashes();
+        if (removedModelContentHashes != null) {
+            for (String modelContentHash : removedModelContentHashes) {
+                mlModelManager.removeModelArtifact(modelContentHash);
+            }
         }
 
         cleanUpLocalCache(runningDeployModelTasks);
@@ -189,7 +208,8 @@ public class TransportSyncUpOnNodeAction extends
             deployedModelIds,
             runningDeployModelIds,
             runningDeployModelTaskIds,
-            expiredModelIds
+            expiredModelIds,
+            syncUpInput.isGetDeployedModels() ? mlModelManager.getRoutingTableVersion() : null
         );
     }
 
@@ -6,6 +6,7 @@
 package org.opensearch.ml.cluster;
 
 import static org.opensearch.ml.common.CommonValue.ML_JOBS_INDEX;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_7_0;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
 
 import java.util.List;
@@ -22,6 +23,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.ml.autoredeploy.MLModelAutoReDeployer;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
+import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.task.MLTaskManager;
@@ -39,6 +41,7 @@ public class MLCommonsClusterEventListener implements ClusterStateListener {
     private final MLModelAutoReDeployer mlModelAutoReDeployer;
     private final Client client;
     private final MLFeatureEnabledSetting mlFeatureEnabledSetting;
+    private final MLEngine mlEngine;
     private boolean startedStatsJob;
 
     public MLCommonsClusterEventListener(
@@ -48,7 +51,8 @@ public class MLCommonsClusterEventListener implements ClusterStateListener {
         MLModelCacheHelper modelCacheHelper,
         MLModelAutoReDeployer mlModelAutoReDeployer,
         Client client,
-        MLFeatureEnabledSetting mlFeatureEnabledSetting
+        MLFeatureEnabledSetting mlFeatureEnabledSetting,
+        MLEngine mlEngine
     ) {
         this.clusterService = clusterService;
         this.clusterService.addListener(this);
@@ -58,6 +62,7 @@ public class MLCommonsClusterEventListener implements ClusterStateListener {
         this.mlModelAutoReDeployer = mlModelAutoReDeployer;
         this.client = client;
         this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
+        this.mlEngine = mlEngine;
     }
 
     @Override
@@ -68,9 +73,11 @@ public class MLCommonsClusterEventListener implements ClusterStateListener {
         Settings settings = state.getMetadata().settings();
         long previousMonitoringReqCount = ML_COMMONS_MONITORING_REQUEST_COUNT.get(previousSettings);
         long monitoringReqCount = ML_COMMONS_MONITORING_REQUEST_COUNT.get(settings);
-        if (previousMonitoringReqCount > monitoringReqCount) {
-            modelCacheHelper.resizeMonitoringQueue(monitoringReqCount);
+        if (previousMonitoringReqCount > 0 && monitoringReqCount <= 0) {
+            modelCacheHelper.clearMonitoringStats();
         }
+        // KMeans models are stored as their centroids once every node can read them
+        mlEngine.setKMeansCentroidsFormat(state.nodes().getMinNodeVersion().onOrAfter(VERSION_3_7_0));
         DiscoveryNodes.Delta delta = event.nodesDelta();
         if (delta.removed()) {
             Set<String> removedNodeIds = delta.removedNodes().stream().map(DiscoveryNode::getId).collect(Collectors.toSet());
@@ -14,6 +14,7 @@ import static org.opensearch.ml.utils.RestActionUtils.getAllNodes;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -30,6 +31,7 @@ import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.WriteRequest;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.UUIDs;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.query.BoolQueryBuilder;
@@ -66,6 +68,8 @@ import lombok.extern.log4j.Log4j2;
 public class MLSyncUpCron implements Runnable {
 
     public static final int DEPLOY_MODEL_TASK_GRACE_TIME_IN_MS = 20_000;
+    // max number of runs between two full syncs of the model routing table
+    public static final int FULL_SYNC_INTERVAL = 30;
     private Client client;
     private final SdkClient sdkClient;
     private ClusterService clusterService;
@@ -77,6 +81,12 @@ public class MLSyncUpCron implements Runnable {
     @VisibleForTesting
     Semaphore updateModelStateSemaphore;
 
+    // last model routing table synced to nodes, its version, and the nodes in the cluster when it's fully synced
+    private Map<String, Set<String>> routingTable = Collections.emptyMap();
+    private String routingTableVersion;
+    private Set<String> routingTableNodeIds = Collections.emptySet();
+    private int runsSinceFullSync;
+
     public MLSyncUpCron(
         Client client,
         SdkClient sdkClient,
@@ -130,9 +140,14 @@ public class MLSyncUpCron implements Runnable {
             Map<String, Set<String>> deployingModels = new HashMap<>();
             // key is expired model_id, value is set of worker node ids
             Map<String, Set<String>> expiredModelToNodes = new HashMap<>();
+            // key is node id, value is version of the model routing table on the node
+            Map<String, String> nodeRoutingTableVersions = new HashMap<>();
             for (MLSyncUpNodeResponse response : responses) {
                 String nodeId = response.getNode().getId();
                 log.debug("Processing sync response from node: {}", nodeId);
+                if (response.getRoutingTableVersion() != null) {
+                    nodeRoutingTableVersions.put(nodeId, response.getRoutingTableVersion());
+                }
                 String[] expiredModelIds = response.getExpiredModelIds();
                 if (expiredModelIds != null && expiredModelIds.length > 0) {
                     Arrays
@@ -180,20 +195,14 @@ public class MLSyncUpCron implements Runnable {
             for (Map.Entry<String, Set<String>> entry : runningDeployModelTasks.entrySet()) {
                 log.debug("will sync running task: {}: {}", entry.getKey(), entry.getValue().toArray(new String[0]));
             }
-            MLSyncUpInput.MLSyncUpInputBuilder inputBuilder = MLSyncUpInput
-                .builder()
-                .syncRunningDeployModelTasks(true)
-                .runningDeployModelTasks(runningDeployModelTasks);
-            if (modelWorkerNodes.isEmpty()) {
-                log.debug("No deployed model found. Will clear model routing on all nodes");
-                inputBuilder.clearRoutingTable(true);
-            } else {
-                inputBuilder.modelRoutingTable(modelWorkerNodes);
-            }
-            MLSyncUpInput syncUpInput = inputBuilder.build();
-            MLSyncUpNodesRequest syncUpRequest = new MLSyncUpNodesRequest(allNodes, syncUpInput);
+            List<MLSyncUpNodesRequest> syncUpRequests = buildSyncUpRequests(
+                allNodes,
+                modelWorkerNodes,
+                runningDeployModelTasks,
+                nodeRoutingTableVersions
+            );
             // sync up running model/tasks on nodes
-            client.execute(MLSyncUpAction.INSTANCE, syncUpRequest, ActionListener.wrap(re -> {
+            syncUp(syncUpRequests, 0, ActionListener.wrap(re -> {
                 log.debug("sync model routing job finished");
                 if (!modelsToUndeploy.isEmpty()) {
                     // Undeploy expired models
@@ -212,6 +221,103 @@ public class MLSyncUpCron implements Runnable {
         }, e -> { log.error("Failed to sync model routing", e); }));
     }
 
+    /**
+     * Build the requests to sync the model routing table and running deploy model tasks to all nodes. Nodes which have the
+     * last synced routing table only get the changes since then, or nothing if the routing table doesn't change. Other nodes,
+     * like new nodes, nodes which missed a sync, or nodes whose routing table changed outside of the sync up job, get the
+     * full routing table. All nodes get the full routing table when the cluster nodes change, and every
+     * {@link #FULL_SYNC_INTERVAL} runs in case a change on a node is missed.
+     */
+    @VisibleForTesting
+    synchronized List<MLSyncUpNodesRequest> buildSyncUpRequests(
+        DiscoveryNode[] allNodes,
+        Map<String, Set<String>> modelWorkerNodes,
+        Map<String, Set<String>> runningDeployModelTasks,
+        Map<String, String> nodeRoutingTableVersions
+    ) {
+        Set<String> nodeIds = Arrays.stream(allNodes).map(DiscoveryNode::getId).collect(Collectors.toSet());
+        boolean fullSync = routingTableVersion == null || !nodeIds.equals(routingTableNodeIds) || ++runsSinceFullSync >= FULL_SYNC_INTERVAL;
+        String baseRoutingTableVersion = routingTableVersion;
+        Map<String, Set<String>> baseRoutingTable = routingTable;
+        boolean routingTableChanged = fullSync || !modelWorkerNodes.equals(baseRoutingTable);
+        if (routingTableChanged) {
+            routingTableVersion = UUIDs.randomBase64UUID();
+            routingTable = modelWorkerNodes;
+        }
+        if (fullSync) {
+            routingTableNodeIds = nodeIds;
+            runsSinceFullSync = 0;
+        }
+
+        List<DiscoveryNode> syncedNodes = new ArrayList<>();
+        List<DiscoveryNode> staleNodes = new ArrayList<>();
+        for (DiscoveryNode node : allNodes) {
+            if (!fullSync && baseRoutingTableVersion.equals(nodeRoutingTableVersions.get(node.getId()))) {
+                syncedNodes.add(node);
+            } else {
+                staleNodes.add(node);
+            }
+        }
+
+        List<MLSyncUpNodesRequest> syncUpRequests = new ArrayList<>();
+        if (!syncedNodes.isEmpty()) {
+            MLSyncUpInput.MLSyncUpInputBuilder inputBuilder = MLSyncUpInput
+                .builder()
+                .syncRunningDeployModelTasks(true)
+                .runningDeployModelTasks(runningDeployModelTasks);
+            if (routingTableChanged) {
+                Map<String, Set<String>> changedModelWorkerNodes = new HashMap<>();
+                modelWorkerNodes.forEach((modelId, workerNodes) -> {
+                    if (!workerNodes.equals(baseRoutingTable.get(modelId))) {
+                        changedModelWorkerNodes.put(modelId, workerNodes);
+                    }
+                });
+                Set<String> removedModelIds = new HashSet<>(baseRoutingTable.keySet());
+                removedModelIds.removeAll(modelWorkerNodes.keySet());
+                log
+                    .debug(
+                        "Sync changes of model routing table, changed models: {}, removed models: {}",
+                        changedModelWorkerNodes.keySet(),
+                        removedModelIds
+                    );
+                inputBuilder
+                    .modelRoutingTable(changedModelWorkerNodes)
+                    .removedRoutingModelIds(removedModelIds)
+                    .baseRoutingTableVersion(baseRoutingTableVersion)
+                    .routingTableVersion(routingTableVersion);
+            }
+            syncUpRequests.add(new MLSyncUpNodesRequest(syncedNodes.toArray(new DiscoveryNode[0]), inputBuilder.build()));
+        }
+        if (!staleNodes.isEmpty() || syncUpRequests.isEmpty()) {
+            MLSyncUpInput.MLSyncUpInputBuilder inputBuilder = MLSyncUpInput
+                .builder()
+                .syncRunningDeployModelTasks(true)
+                .runningDeployModelTasks(runningDeployModelTasks)
+                .routingTableVersion(routingTableVersion);
+            if (modelWorkerNodes.isEmpty()) {
+                log.debug("No deployed model found. Will clear model routing on all nodes");
+                inputBuilder.clearRoutingTable(true);
+            } else {
+                inputBuilder.modelRoutingTable(modelWorkerNodes);
+            }
+            syncUpRequests.add(new MLSyncUpNodesRequest(staleNodes.toArray(new DiscoveryNode[0]), inputBuilder.build()));
+        }
+        return syncUpRequests;
+    }
+
+    private void syncUp(List<MLSyncUpNodesRequest> syncUpRequests, int index, ActionListener<Void> listener) {
+        if (index >= syncUpRequests.size()) {
+            listener.onResponse(null);
+            return;
+        }
+        client
+            .execute(
+                MLSyncUpAction.INSTANCE,
+                syncUpRequests.get(index),
+                ActionListener.wrap(r -> syncUp(syncUpRequests, index + 1, listener), listener::onFailure)
+            );
+    }
+
     private void undeployExpiredModels(
         Set<String> expiredModels,
         Map<String, Set<String>> modelWorkerNodes,
@@ -0,0 +1,155 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+
+import lombok.Value;
+
+/**
+ * Cache of the embedding outputs of the deployed models on a node, keyed by the model id and a hash of the text docs and
+ * parameters of the input.
+ * <p>
+ * The outputs are kept serialized, which stores embeddings as compact float arrays instead of boxed numbers, bounds the
+ * cache by its size in bytes, and gives every hit its own copy of the output. All the models share the size of the cache,
+ * so it doesn't grow with the number of deployed models. The outputs of a model are invalidated when the model is
+ * undeployed, redeployed or updated.
+ * <p>
+ * Every invalidation bumps the generation of the model, and an output is only cached if the generation didn't change
+ * since the predict request read it, so a predict that finishes after an invalidation doesn't cache a stale output.
+ */
+public class MLEmbeddingCache {
+    private final Cache<Key, byte[]> outputs;
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+    public MLEmbeddingCache(long maxSizeInBytes, TimeValue ttl) {
+        this.outputs = CacheBuilder
+            .newBuilder()
+            .maximumWeight(maxSizeInBytes)
+            .weigher((Key key, byte[] output) -> output.length)
+            .expireAfterWrite(ttl.millis(), TimeUnit.MILLISECONDS)
+            .build();
+    }
+
+    /**
+     * @param mlInput the predict input
+     * @return true if the output of the input can be cached, which is the case of text docs inputs of embedding models
+     */
+    public static boolean isCacheable(MLInput mlInput) {
+        return mlInput.getInputDataset() instanceof TextDocsInputDataSet;
+    }
+
+    /**
+     * @param mlInput the predict input
+     * @return the SHA-256 hash of the text docs, result filter, algorithm and parameters of the input, which is collision
+     *         resistant so a hit never returns the output of another input
+     */
+    public static HashCode keyOf(MLInput mlInput) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            mlInput.writeTo(out);
+            return Hashing.sha256().hashBytes(BytesReference.toBytes(out.bytes()));
+        }
+    }
+
+    /**
+     * @param modelId model id
+     * @return the current generation of the model, to pass to {@link #put} after predicting
+     */
+    public long getGeneration(String modelId) {
+        return generations.getOrDefault(modelId, 0L);
+    }
+
+    /**
+     * @param modelId model id
+     * @param hash the hash of the input
+     * @return a copy of the cached output, or null if the output isn't cached
+     */
+    public MLTaskResponse get(String modelId, HashCode hash) throws IOException {
+        byte[] output = outputs.getIfPresent(new Key(modelId, hash));
+        if (output == null) {
+            return null;
+        }
+        try (StreamInput in = StreamInput.wrap(output)) {
+            return new MLTaskResponse(in);
+        }
+    }
+
+    /**
+     * Cache a successful output of the model, unless the outputs of the model were invalidated since the predict started.
+     * @param modelId model id
+     * @param hash the hash of the input
+     * @param generation the generation of the model read before predicting
+     * @param response the output of the model
+     */
+    public void put(String modelId, HashCode hash, long generation, MLTaskResponse response) throws IOException {
+        if (!isSuccessful(response)) {
+            return;
+        }
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            response.writeTo(out);
+            byte[] output = BytesReference.toBytes(out.bytes());
+            synchronized (this) {
+                if (generation == getGeneration(modelId)) {
+                    outputs.put(new Key(modelId, hash), output);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop the cached outputs of a model, and the outputs of the predict requests of the model still running.
+     * @param modelId model id
+     */
+    public synchronized void invalidate(String modelId) {
+        generations.merge(modelId, 1L, Long::sum);
+        outputs.asMap().keySet().removeIf(key -> key.getModelId().equals(modelId));
+    }
+
+    public long size() {
+        return outputs.size();
+    }
+
+    private static boolean isSuccessful(MLTaskResponse response) {
+        if (!(response.getOutput() instanceof ModelTensorOutput)) {
+            return false;
+        }
+        ModelTensorOutput output = (ModelTensorOutput) response.getOutput();
+        if (output.getMlModelOutputs() == null) {
+            return false;
+        }
+        for (ModelTensors tensors : output.getMlModelOutputs()) {
+            Integer statusCode = tensors.getStatusCode();
+            if (statusCode != null && (statusCode < 200 || statusCode >= 300)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Value
+    private static class Key {
+        String modelId;
+        HashCode hash;
+    }
+}
@@ -5,16 +5,21 @@
 
 package org.opensearch.ml.model;
 
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MONITORING_WINDOW;
+
+import java.io.Closeable;
+import java.io.IOException;
 import java.time.Instant;
-import java.util.DoubleSummaryStatistics;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.stream.DoubleStream;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
@@ -22,9 +27,13 @@ import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.profile.MLLatencyHistogram;
 import org.opensearch.ml.profile.MLPredictRequestStats;
+import org.opensearch.ml.stats.otel.counters.MLOperationalMetricsCounter;
+import org.opensearch.ml.stats.otel.metrics.OperationalMetric;
+import org.opensearch.telemetry.metrics.tags.Tags;
 
-import com.google.common.math.Quantiles;
+import com.networknt.schema.Schema;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -33,6 +42,20 @@ import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 public class MLModelCache {
+    private static final Map<OperationalMetric, Function<MLPredictRequestStats, Double>> LATENCY_GAUGES = Map
+        .of(
+            OperationalMetric.MODEL_LATENCY_P50,
+            MLPredictRequestStats::getP50,
+            OperationalMetric.MODEL_LATENCY_P90,
+            MLPredictRequestStats::getP90,
+            OperationalMetric.MODEL_LATENCY_P99,
+            MLPredictRequestStats::getP99,
+            OperationalMetric.MODEL_LATENCY_P999,
+            MLPredictRequestStats::getP999,
+            OperationalMetric.MODEL_REQUEST_RATE,
+            MLPredictRequestStats::getRate
+        );
+
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) MLModelState modelState;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) FunctionName functionName;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Predictable predictor;
@@ -43,12 +66,20 @@ public class MLModelCache {
     private final Set<String> targetWorkerNodes;
     private final Set<String> workerNodes;
     private MLModel modelInfo;
-    private final Queue<Double> modelInferenceDurationQueue;
-    private final Queue<Double> predictRequestDurationQueue;
+    // latency of the requests over the monitoring window, created on the first monitored request
+    private final AtomicReference<MLLatencyHistogram> modelInferenceLatency;
+    private final AtomicReference<MLLatencyHistogram> predictRequestLatency;
+    private volatile TimeValue monitoringWindow;
+    private final List<Closeable> latencyGauges;
+    // whether registering the latency gauges was attempted, they're not registered if the metrics counter doesn't export them
+    private volatile @Getter boolean latencyGaugesAttempted;
+    private volatile @Getter boolean latencyGaugesRegistered;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationCPU;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationGPU;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) MLGuard mlGuard;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Map<String, String> modelInterface;
+    // compiled schemas of the model interface, keyed by the interface field name like "input" and "output"
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Map<String, Schema> modelInterfaceSchemas;
 
     // In rare case, this could be null, e.g. model info not synced up yet a predict request comes in.
     @Setter
@@ -59,8 +90,10 @@ public class MLModelCache {
     public MLModelCache() {
         targetWorkerNodes = ConcurrentHashMap.newKeySet();
         workerNodes = ConcurrentHashMap.newKeySet();
-        modelInferenceDurationQueue = new ConcurrentLinkedQueue<>();
-        predictRequestDurationQueue = new ConcurrentLinkedQueue<>();
+        modelInferenceLatency = new AtomicReference<>();
+        predictRequestLatency = new AtomicReference<>();
+        monitoringWindow = ML_COMMONS_MONITORING_WINDOW.get(Settings.EMPTY);
+        latencyGauges = new ArrayList<>();
     }
 
     public void setTargetWorkerNodes(List<String> targetWorkerNodes) {
@@ -164,8 +197,8 @@ public class MLModelCache {
         functionName = null;
         workerNodes.clear();
         modelInfo = null;
-        modelInferenceDurationQueue.clear();
-        predictRequestDurationQueue.clear();
+        clearMonitoringStats();
+        closeLatencyGauges();
         if (predictor != null) {
             predictor.close();
         }
@@ -179,58 +212,98 @@ public class MLModelCache {
         userRateLimiterMap = null;
         mlGuard = null;
         modelInterface = null;
+        modelInterfaceSchemas = null;
     }
 
     public void addModelInferenceDuration(double duration, long maxRequestCount) {
-        addInferenceDuration(duration, maxRequestCount, modelInferenceDurationQueue);
+        addInferenceDuration(duration, maxRequestCount, modelInferenceLatency);
     }
 
     public void addPredictRequestDuration(double duration, long maxRequestCount) {
-        addInferenceDuration(duration, maxRequestCount, predictRequestDurationQueue);
+        addInferenceDuration(duration, maxRequestCount, predictRequestLatency);
     }
 
-    private void addInferenceDuration(double duration, long maxRequestCount, Queue<Double> queue) {
-        resizeInferenceQueue(maxRequestCount, queue);
-        if (maxRequestCount > 0) {
-            queue.add(duration);
+    private void addInferenceDuration(double duration, long maxRequestCount, AtomicReference<MLLatencyHistogram> latency) {
+        if (maxRequestCount <= 0) {
+            latency.set(null);
+            return;
         }
+        // stats may be cleared concurrently, so the histogram is recorded on the value returned by the update
+        MLLatencyHistogram histogram = latency.get();
+        if (histogram == null) {
+            histogram = latency.updateAndGet(it -> it == null ? new MLLatencyHistogram(monitoringWindow) : it);
+        }
+        histogram.record(duration);
+    }
+
+    /**
+     * Set the time window of the latency stats, which clears the stats.
+     * @param monitoringWindow the time window
+     */
+    public void setMonitoringWindow(TimeValue monitoringWindow) {
+        this.monitoringWindow = monitoringWindow;
+        clearMonitoringStats();
     }
 
-    public void resizeMonitoringQueue(long maxRequestCount) {
-        log.debug("resize inference duration monitoring queue with size {}", maxRequestCount);
-        resizeInferenceQueue(maxRequestCount, predictRequestDurationQueue);
-        resizeInferenceQueue(maxRequestCount, modelInferenceDurationQueue);
+    public void clearMonitoringStats() {
+        log.debug("clear inference duration monitoring stats");
+        modelInferenceLatency.set(null);
+        predictRequestLatency.set(null);
     }
 
-    private void resizeInferenceQueue(long maxRequestCount, Queue<Double> queue) {
-        if (maxRequestCount <= 0) {
-            queue.clear();
-        } else {
-            while (queue.size() >= maxRequestCount) {
-                queue.poll();
+    public MLPredictRequestStats getInferenceStats(boolean modelInference) {
+        MLLatencyHistogram histogram = (modelInference ? modelInferenceLatency : predictRequestLatency).get();
+        return histogram == null ? null : histogram.getStats();
+    }
+
+    /**
+     * Export the latency stats of the model as gauges of the operational metrics. Registering is only attempted once the
+     * metrics counter is initialized, and only once per model.
+     * @param modelId model id
+     */
+    public synchronized void registerLatencyGauges(String modelId) {
+        if (latencyGaugesAttempted || !MLOperationalMetricsCounter.isInitialized()) {
+            return;
+        }
+        latencyGaugesAttempted = true;
+        MLOperationalMetricsCounter metricsCounter = MLOperationalMetricsCounter.getInstance();
+        for (boolean modelInference : new boolean[] { true, false }) {
+            for (Map.Entry<OperationalMetric, Function<MLPredictRequestStats, Double>> entry : LATENCY_GAUGES.entrySet()) {
+                registerLatencyGauge(metricsCounter, entry.getKey(), modelId, modelInference, entry.getValue());
             }
         }
+        // no gauge is registered if the metrics counter doesn't collect metrics
+        latencyGaugesRegistered = !latencyGauges.isEmpty();
     }
 
-    public MLPredictRequestStats getInferenceStats(boolean modelInference) {
-        Queue<Double> queue = modelInference ? modelInferenceDurationQueue : predictRequestDurationQueue;
-        if (queue.size() > 0) {
-            MLPredictRequestStats.MLPredictRequestStatsBuilder statsBuilder = MLPredictRequestStats.builder();
-            DoubleStream doubleStream = queue.stream().mapToDouble(v -> v);
-            DoubleSummaryStatistics doubleSummaryStatistics = doubleStream.summaryStatistics();
-            statsBuilder.count(doubleSummaryStatistics.getCount());
-            statsBuilder.max(doubleSummaryStatistics.getMax());
-            statsBuilder.min(doubleSummaryStatistics.getMin());
-            statsBuilder.average(doubleSummaryStatistics.getAverage());
-
-            Quantiles.Scale percentiles = Quantiles.percentiles();
-            statsBuilder.p50(percentiles.index(50).compute(queue));
-            statsBuilder.p90(percentiles.index(90).compute(queue));
-            statsBuilder.p99(percentiles.index(99).compute(queue));
-
-            return statsBuilder.build();
+    private void registerLatencyGauge(
+        MLOperationalMetricsCounter metricsCounter,
+        OperationalMetric metric,
+        String modelId,
+        boolean modelInference,
+        Function<MLPredictRequestStats, Double> value
+    ) {
+        Tags tags = Tags.create().addTag("model_id", modelId).addTag("type", modelInference ? "model_inference" : "predict_request");
+        Closeable gauge = metricsCounter.registerGauge(metric, () -> {
+            MLPredictRequestStats stats = getInferenceStats(modelInference);
+            return stats == null ? 0.0 : value.apply(stats);
+        }, tags);
+        if (gauge != null) {
+            latencyGauges.add(gauge);
+        }
+    }
+
+    public synchronized void closeLatencyGauges() {
+        for (Closeable gauge : latencyGauges) {
+            try {
+                gauge.close();
+            } catch (IOException e) {
+                log.warn("Failed to close latency gauge", e);
+            }
         }
-        return null;
+        latencyGauges.clear();
+        latencyGaugesAttempted = false;
+        latencyGaugesRegistered = false;
     }
 
     public boolean isValidCache() {
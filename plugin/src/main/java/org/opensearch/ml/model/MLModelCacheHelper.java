@@ -5,10 +5,16 @@
 
 package org.opensearch.ml.model;
 
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_EMBEDDING_CACHE_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_EMBEDDING_CACHE_TTL;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_METRIC_COLLECTION_ENABLED;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MONITORING_WINDOW;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TRAINED_MODEL_CACHE_SIZE;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -20,7 +26,9 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang3.BooleanUtils;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.TokenBucket;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
@@ -30,6 +38,9 @@ import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.profile.MLModelProfile;
+import org.opensearch.ml.utils.MLNodeUtils;
+
+import com.networknt.schema.Schema;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -39,13 +50,43 @@ public class MLModelCacheHelper {
 
     private final Map<String, MLModel> autoDeployModels;
     private volatile Long maxRequestCount;
+    // metric collection can't be changed at runtime
+    private final boolean metricCollectionEnabled;
+    private volatile TimeValue monitoringWindow;
+    private volatile ByteSizeValue embeddingCacheSize;
+    private volatile TimeValue embeddingCacheTtl;
+    private volatile MLEmbeddingCache embeddingCache;
+    private volatile MLTrainedModelCache trainedModelCache;
 
     public MLModelCacheHelper(ClusterService clusterService, Settings settings) {
         this.modelCaches = new ConcurrentHashMap<>();
         this.autoDeployModels = new ConcurrentHashMap<>();
 
         maxRequestCount = ML_COMMONS_MONITORING_REQUEST_COUNT.get(settings);
+        metricCollectionEnabled = ML_COMMONS_METRIC_COLLECTION_ENABLED.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MONITORING_REQUEST_COUNT, it -> maxRequestCount = it);
+        monitoringWindow = ML_COMMONS_MONITORING_WINDOW.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MONITORING_WINDOW, it -> {
+            monitoringWindow = it;
+            modelCaches.values().forEach(modelCache -> modelCache.setMonitoringWindow(it));
+        });
+
+        embeddingCacheSize = ML_COMMONS_EMBEDDING_CACHE_SIZE.get(settings);
+        embeddingCacheTtl = ML_COMMONS_EMBEDDING_CACHE_TTL.get(settings);
+        embeddingCache = createEmbeddingCache(embeddingCacheSize, embeddingCacheTtl);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_EMBEDDING_CACHE_SIZE, it -> {
+            embeddingCacheSize = it;
+            embeddingCache = createEmbeddingCache(it, embeddingCacheTtl);
+        });
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_EMBEDDING_CACHE_TTL, it -> {
+            embeddingCacheTtl = it;
+            embeddingCache = createEmbeddingCache(embeddingCacheSize, it);
+        });
+
+        trainedModelCache = createTrainedModelCache(ML_COMMONS_TRAINED_MODEL_CACHE_SIZE.get(settings));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_TRAINED_MODEL_CACHE_SIZE, it -> trainedModelCache = createTrainedModelCache(it));
     }
 
     /**
@@ -197,7 +238,44 @@ public class MLModelCacheHelper {
      */
     public synchronized void setModelInterface(String modelId, Map<String, String> modelInterface) {
         log.debug("Setting ML Interface {} for Model {}", modelInterface, modelId);
-        getExistingModelCache(modelId).setModelInterface(modelInterface);
+        MLModelCache modelCache = getExistingModelCache(modelId);
+        // set the compiled schemas first, so the new interface is never validated with the schemas of the previous one
+        modelCache.setModelInterfaceSchemas(compileModelInterfaceSchemas(modelId, modelInterface));
+        modelCache.setModelInterface(modelInterface);
+    }
+
+    private Map<String, Schema> compileModelInterfaceSchemas(String modelId, Map<String, String> modelInterface) {
+        Map<String, Schema> schemas = new HashMap<>();
+        if (modelInterface == null) {
+            return schemas;
+        }
+        for (Map.Entry<String, String> entry : modelInterface.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            try {
+                schemas.put(entry.getKey(), MLNodeUtils.compileSchema(entry.getValue()));
+            } catch (Exception e) {
+                // invalid schemas are compiled again when validating, which fails the request with the same error as before
+                log.debug("Failed to compile {} schema of ML Interface for Model {}", entry.getKey(), modelId, e);
+            }
+        }
+        return schemas;
+    }
+
+    /**
+     * Get the compiled schema of the ml interface field for the model
+     *
+     * @param modelId model id
+     * @param interfaceField the field of the ml interface, like "input" and "output"
+     * @return the compiled schema, or null if the model has no valid schema for the field
+     */
+    public Schema getModelInterfaceSchema(String modelId, String interfaceField) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null || modelCache.getModelInterfaceSchemas() == null) {
+            return null;
+        }
+        return modelCache.getModelInterfaceSchemas().get(interfaceField);
     }
 
     /**
@@ -220,7 +298,9 @@ public class MLModelCacheHelper {
      */
     public synchronized void removeModelInterface(String modelId) {
         log.debug("Removing the ML Interface from Model {}", modelId);
-        getExistingModelCache(modelId).setModelInterface(null);
+        MLModelCache modelCache = getExistingModelCache(modelId);
+        modelCache.setModelInterface(null);
+        modelCache.setModelInterfaceSchemas(null);
     }
 
     /**
@@ -447,6 +527,8 @@ public class MLModelCacheHelper {
     public synchronized void setPredictor(String modelId, Predictable predictor) {
         MLModelCache modelCache = getExistingModelCache(modelId);
         modelCache.setPredictor(predictor);
+        // outputs of the previous predictor may not match the new one
+        clearEmbeddingCache(modelId);
     }
 
     public synchronized void setMLExecutor(String modelId, MLExecutable mlExecutor) {
@@ -476,6 +558,45 @@ public class MLModelCacheHelper {
         return modelCache.getPredictor();
     }
 
+    /**
+     * Get the embedding cache shared by the deployed models.
+     *
+     * @param modelId model id
+     * @return embedding cache, or null if the model isn't deployed or the embedding cache is disabled
+     */
+    public MLEmbeddingCache getEmbeddingCache(String modelId) {
+        return modelCaches.containsKey(modelId) ? embeddingCache : null;
+    }
+
+    /**
+     * Drop the cached embedding outputs of model.
+     *
+     * @param modelId model id
+     */
+    public void clearEmbeddingCache(String modelId) {
+        MLEmbeddingCache embeddingCache = this.embeddingCache;
+        if (embeddingCache != null) {
+            embeddingCache.invalidate(modelId);
+        }
+    }
+
+    private static MLEmbeddingCache createEmbeddingCache(ByteSizeValue size, TimeValue ttl) {
+        return size.getBytes() > 0 ? new MLEmbeddingCache(size.getBytes(), ttl) : null;
+    }
+
+    /**
+     * Get the cache of trained models loaded to predict without being deployed.
+     *
+     * @return trained model cache, or null if the trained model cache is disabled
+     */
+    public MLTrainedModelCache getTrainedModelCache() {
+        return trainedModelCache;
+    }
+
+    private static MLTrainedModelCache createTrainedModelCache(ByteSizeValue size) {
+        return size.getBytes() > 0 ? new MLTrainedModelCache(size.getBytes()) : null;
+    }
+
     /**
      * Set target worker nodes of model.
      * 
@@ -510,6 +631,7 @@ public class MLModelCacheHelper {
             log.debug("removing model {} from cache", modelId);
             modelCache.clear();
             modelCaches.remove(modelId);
+            clearEmbeddingCache(modelId);
         }
         autoDeployModels.remove(modelId);
     }
@@ -576,7 +698,7 @@ public class MLModelCacheHelper {
             modelCache.removeWorkerNodes(removedNodes, isFromUndeploy);
             if (!modelCache.isValidCache()) {
                 log.debug("remove model cache {}", modelId);
-                modelCaches.remove(modelId);
+                removeModelCache(modelId);
             }
         }
     }
@@ -600,7 +722,7 @@ public class MLModelCacheHelper {
             modelCache.removeWorkerNode(nodeId, isFromUndeploy);
             if (!modelCache.isValidCache()) {
                 log.debug("remove model {} from cache as no node running it", modelId);
-                modelCaches.remove(modelId);
+                removeModelCache(modelId);
             }
         }
     }
@@ -623,6 +745,21 @@ public class MLModelCacheHelper {
         });
     }
 
+    /**
+     * Sync worker nodes of the changed models only, models not in the changes keep their worker nodes.
+     *
+     * @param changedModelWorkerNodes worker nodes of the changed models
+     * @param removedModelIds         models which have no worker node now
+     */
+    public void syncWorkerNodes(Map<String, Set<String>> changedModelWorkerNodes, Set<String> removedModelIds) {
+        log.debug("sync worker nodes of changed models");
+        removedModelIds.forEach(this::clearWorkerNodes);
+        changedModelWorkerNodes.entrySet().forEach(entry -> {
+            MLModelCache modelCache = getOrCreateModelCache(entry.getKey());
+            modelCache.syncWorkerNode(entry.getValue());
+        });
+    }
+
     /**
      * Sync planning worker nodes for all models.
      *
@@ -655,7 +792,7 @@ public class MLModelCacheHelper {
             log.debug("clear worker nodes of model {}", modelId);
             modelCache.clearWorkerNodes();
             if (!modelCache.isValidCache()) {
-                modelCaches.remove(modelId);
+                removeModelCache(modelId);
             }
         }
     }
@@ -701,16 +838,25 @@ public class MLModelCacheHelper {
     public void addModelInferenceDuration(String modelId, double duration) {
         MLModelCache modelCache = getOrCreateModelCache(modelId);
         modelCache.addModelInferenceDuration(duration, maxRequestCount);
+        registerLatencyGauges(modelId, modelCache);
     }
 
     public void addPredictRequestDuration(String modelId, double duration) {
         MLModelCache modelCache = getOrCreateModelCache(modelId);
         modelCache.addPredictRequestDuration(duration, maxRequestCount);
+        registerLatencyGauges(modelId, modelCache);
     }
 
-    public void resizeMonitoringQueue(long monitoringReqCount) {
+    // only models which serve requests on this node get latency gauges, not all the models of the routing table
+    private void registerLatencyGauges(String modelId, MLModelCache modelCache) {
+        if (metricCollectionEnabled && maxRequestCount > 0 && !modelCache.isLatencyGaugesAttempted()) {
+            modelCache.registerLatencyGauges(modelId);
+        }
+    }
+
+    public void clearMonitoringStats() {
         for (Map.Entry<String, MLModelCache> entry : modelCaches.entrySet()) {
-            entry.getValue().resizeMonitoringQueue(monitoringReqCount);
+            entry.getValue().clearMonitoringStats();
         }
     }
 
@@ -769,7 +915,19 @@ public class MLModelCacheHelper {
     }
 
     private MLModelCache getOrCreateModelCache(String modelId) {
-        return modelCaches.computeIfAbsent(modelId, it -> new MLModelCache());
+        return modelCaches.computeIfAbsent(modelId, it -> {
+            MLModelCache modelCache = new MLModelCache();
+            modelCache.setMonitoringWindow(monitoringWindow);
+            return modelCache;
+        });
+    }
+
+    private void removeModelCache(String modelId) {
+        MLModelCache modelCache = modelCaches.remove(modelId);
+        if (modelCache != null) {
+            modelCache.closeLatencyGauges();
+        }
+        clearEmbeddingCache(modelId);
     }
 
     public MLModel addModelToAutoDeployCache(String modelId, MLModel model) {
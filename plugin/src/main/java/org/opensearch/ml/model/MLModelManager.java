@@ -22,11 +22,15 @@ import static org.opensearch.ml.common.MLTask.MODEL_ID_FIELD;
 import static org.opensearch.ml.common.MLTask.STATE_FIELD;
 import static org.opensearch.ml.common.MLTaskState.COMPLETED;
 import static org.opensearch.ml.common.MLTaskState.FAILED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_WAIT_TIME_MS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_BATCH_INFERENCE_TASKS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_BATCH_INGESTION_TASKS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNKS_FETCH_CONCURRENCY;
 import static org.opensearch.ml.common.utils.StringUtils.getErrorMessage;
 import static org.opensearch.ml.engine.ModelHelper.CHUNK_FILES;
 import static org.opensearch.ml.engine.ModelHelper.CHUNK_SIZE;
@@ -42,10 +46,11 @@ import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.SDK_CLIENT;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.SETTINGS;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.USER_RATE_LIMITER_MAP;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.XCONTENT_REGISTRY;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.INFERENCE_BATCH_SIZE;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.INFERENCE_BATCH_WAIT_TIME_MS;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.ML_ENGINE;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_HELPER;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_ZIP_FILE;
-import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
@@ -57,6 +62,7 @@ import static org.opensearch.ml.utils.MLNodeUtils.checkOpenCircuitBreaker;
 import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.security.PrivilegedActionException;
 import java.time.Instant;
@@ -70,7 +76,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -95,11 +100,15 @@ import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Randomness;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -127,6 +136,10 @@ import org.opensearch.ml.common.model.Guardrails;
 import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkAction;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodeResponse;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodesRequest;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodesResponse;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelAction;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelRequest;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelResponse;
@@ -138,7 +151,6 @@ import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
-import org.opensearch.ml.engine.utils.FileUtils;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
@@ -162,6 +174,7 @@ import org.opensearch.transport.client.Client;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.io.Files;
+import com.networknt.schema.Schema;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -198,6 +211,13 @@ public class MLModelManager {
     private volatile Integer maxDeployTasksPerNode;
     private volatile Integer maxBatchInferenceTasks;
     private volatile Integer maxBatchIngestionTasks;
+    private volatile Integer localModelInferenceBatchSize;
+    private volatile Integer localModelInferenceBatchWaitTime;
+    private volatile Integer modelChunksFetchConcurrency;
+    private volatile ByteSizeValue modelArtifactCacheSize;
+    private final ModelArtifactCache modelArtifactCache;
+    // version of the model routing table synced from the sync up job, null if the routing table changed outside of it
+    private volatile String routingTableVersion;
 
     public static final ImmutableSet<MLModelState> MODEL_DONE_STATES = ImmutableSet
         .of(
@@ -266,6 +286,27 @@ public class MLModelManager {
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MAX_BATCH_INGESTION_TASKS, it -> maxBatchIngestionTasks = it);
+
+        localModelInferenceBatchSize = ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_SIZE.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_SIZE, it -> localModelInferenceBatchSize = it);
+
+        localModelInferenceBatchWaitTime = ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_WAIT_TIME_MS.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_WAIT_TIME_MS, it -> localModelInferenceBatchWaitTime = it);
+
+        modelChunksFetchConcurrency = ML_COMMONS_MODEL_CHUNKS_FETCH_CONCURRENCY.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_CHUNKS_FETCH_CONCURRENCY, it -> modelChunksFetchConcurrency = it);
+
+        modelArtifactCacheSize = ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE, it -> modelArtifactCacheSize = it);
+        modelArtifactCache = new ModelArtifactCache(mlEngine.getModelArtifactCacheRootPath(), () -> modelArtifactCacheSize.getBytes());
     }
 
     public void registerModelMeta(MLRegisterModelMetaInput mlRegisterModelMetaInput, ActionListener<String> listener) {
@@ -1269,8 +1310,9 @@ public class MLModelManager {
                 deployControllerWithDeployingModel(mlModel, eligibleNodeCount);
                 // check circuit breaker before deploying custom model chunks
                 checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
-                retrieveModelChunks(mlModel, ActionListener.wrap(modelZipFile -> {// read model chunks
-                    String hash = calculateFileHash(modelZipFile);
+                retrieveModelChunks(mlModel, ActionListener.wrap(modelZip -> {// read model chunks
+                    File modelZipFile = modelZip.v1();
+                    String hash = modelZip.v2();
                     if (modelContentHash != null && !modelContentHash.equals(hash)) {
                         log.error("Model content hash can't match original hash value");
                         removeModel(modelId);
@@ -1278,7 +1320,19 @@ public class MLModelManager {
                         return;
                     }
                     log.debug("Model content matches original hash value, continue deploying");
-                    Map<String, Object> params = Map.of(MODEL_ZIP_FILE, modelZipFile, MODEL_HELPER, modelHelper, ML_ENGINE, mlEngine);
+                    Map<String, Object> params = Map
+                        .of(
+                            MODEL_ZIP_FILE,
+                            modelZipFile,
+                            MODEL_HELPER,
+                            modelHelper,
+                            ML_ENGINE,
+                            mlEngine,
+                            INFERENCE_BATCH_SIZE,
+                            localModelInferenceBatchSize,
+                            INFERENCE_BATCH_WAIT_TIME_MS,
+                            localModelInferenceBatchWaitTime
+                        );
                     if (FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())) {
                         MLExecutable mlExecutable = mlEngine.deployExecute(mlModel, params);
                         try {
@@ -1420,8 +1474,9 @@ public class MLModelManager {
                 deployControllerWithDeployingModel(mlModel, eligibleNodeCount);
                 // check circuit breaker before deploying custom model chunks
                 checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
-                retrieveModelChunks(mlModel, ActionListener.wrap(modelZipFile -> {// read model chunks
-                    String hash = calculateFileHash(modelZipFile);
+                retrieveModelChunks(mlModel, ActionListener.wrap(modelZip -> {// read model chunks
+                    File modelZipFile = modelZip.v1();
+                    String hash = modelZip.v2();
                     if (modelContentHash != null && !modelContentHash.equals(hash)) {
                         log.error("Model content hash can't match original hash value");
                         removeModel(modelId);
@@ -1429,7 +1484,19 @@ public class MLModelManager {
                         return;
                     }
                     log.debug("Model content matches original hash value, continue deploying");
-                    Map<String, Object> params = Map.of(MODEL_ZIP_FILE, modelZipFile, MODEL_HELPER, modelHelper, ML_ENGINE, mlEngine);
+                    Map<String, Object> params = Map
+                        .of(
+                            MODEL_ZIP_FILE,
+                            modelZipFile,
+                            MODEL_HELPER,
+                            modelHelper,
+                            ML_ENGINE,
+                            mlEngine,
+                            INFERENCE_BATCH_SIZE,
+                            localModelInferenceBatchSize,
+                            INFERENCE_BATCH_WAIT_TIME_MS,
+                            localModelInferenceBatchWaitTime
+                        );
                     if (FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())) {
                         MLExecutable mlExecutable = mlEngine.deployExecute(mlModel, params);
                         try {
@@ -1568,6 +1635,7 @@ public class MLModelManager {
             ActionListener<String> wrappedListener = ActionListener.runBefore(listener, context::restore);
             getModel(modelId, ActionListener.wrap(mlModel -> {
                 int eligibleNodeCount = getWorkerNodes(modelId, mlModel.getAlgorithm()).length;
+                modelCacheHelper.clearEmbeddingCache(modelId);
                 modelCacheHelper.setIsModelEnabled(modelId, mlModel.getIsEnabled());
                 setupRateLimiter(modelId, eligibleNodeCount, mlModel.getRateLimiter());
                 setupMLGuard(modelId, mlModel.getTenantId(), mlModel.getGuardrails());
@@ -1896,6 +1964,17 @@ public class MLModelManager {
         return modelCacheHelper.getModelInterface(modelId);
     }
 
+    /**
+     * Get the compiled schema of the model interface field with model id.
+     *
+     * @param modelId model id
+     * @param interfaceField the field of the model interface, like "input" and "output"
+     * @return the compiled schema, or null if it's not cached
+     */
+    public Schema getModelInterfaceSchema(String modelId, String interfaceField) {
+        return modelCacheHelper.getModelInterfaceSchema(modelId, interfaceField);
+    }
+
     /**
      * Set up ML guard with model id.
      *
@@ -2153,50 +2232,152 @@ public class MLModelManager {
     }
 
     /**
-     * Retreive a model's all chunks.
+     * Retrieve a model's all chunks into the model zip file. The model zip file is copied from the local artifact cache
+     * if it's cached, then from the artifact cache of a peer node which has it, otherwise chunks are fetched from the model
+     * index. Chunks are fetched with bounded parallelism and written into the model zip file directly.
      *
      * @param mlModelMeta model meta
-     * @param listener    action listener
+     * @param listener    action listener of the model zip file and the sha256 hash of its content
      */
-    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<File> listener) throws InterruptedException {
+    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<Tuple<File, String>> listener) {
         String modelId = mlModelMeta.getModelId();
-        String modelName = mlModelMeta.getName();
-        Integer totalChunks = mlModelMeta.getTotalChunks();
-        GetRequest getRequest = new GetRequest();
-        getRequest.index(ML_MODEL_INDEX);
-        getRequest.id();
-        Semaphore semaphore = new Semaphore(1);
-        AtomicBoolean stopNow = new AtomicBoolean(false);
-        String modelZip = mlEngine.getDeployModelZipPath(modelId, modelName);
-        ConcurrentLinkedDeque<File> chunkFiles = new ConcurrentLinkedDeque();
-        AtomicInteger retrievedChunks = new AtomicInteger(0);
-        for (int i = 0; i < totalChunks; i++) {
-            semaphore.tryAcquire(10, TimeUnit.SECONDS);
-            if (stopNow.get()) {
-                throw new MLException("Failed to deploy model");
+        String modelContentHash = mlModelMeta.getModelContentHash();
+        File modelZipFile = new File(mlEngine.getDeployModelZipPath(modelId, mlModelMeta.getName()));
+        if (modelArtifactCache.copyTo(modelContentHash, modelZipFile)) {
+            log.debug("Deploy model {} from local artifact cache", modelId);
+            listener.onResponse(Tuple.tuple(modelZipFile, modelContentHash));
+            return;
+        }
+        ActionListener<Tuple<File, String>> cachingListener = ActionListener.wrap(modelZip -> {
+            if (modelContentHash != null && modelContentHash.equals(modelZip.v2())) {
+                modelArtifactCache.put(modelContentHash, modelZip.v1());
             }
-            String modelChunkId = this.getModelChunkId(modelId, i);
-            int currentChunk = i;
-            this.getModel(modelChunkId, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(model -> {
-                Path chunkPath = mlEngine.getDeployModelChunkPath(modelId, currentChunk);
-                FileUtils.write(Base64.getDecoder().decode(model.getContent()), chunkPath.toString());
-                chunkFiles.add(new File(chunkPath.toUri()));
-                retrievedChunks.getAndIncrement();
-                if (retrievedChunks.get() == totalChunks) {
-                    File modelZipFile = new File(modelZip);
-                    FileUtils.mergeFiles(chunkFiles, modelZipFile);
-                    listener.onResponse(modelZipFile);
-                }
-                semaphore.release();
-            }, e -> {
-                stopNow.set(true);
-                semaphore.release();
-                log.error("Failed to retrieve model chunk {}", modelChunkId, e);
-                if (retrievedChunks.get() == totalChunks - 1) {
-                    listener.onFailure(new MLResourceNotFoundException("Fail to find model chunk " + modelChunkId));
-                }
-            })));
+            listener.onResponse(modelZip);
+        }, listener::onFailure);
+        String[] peerNodeIds = modelContentHash == null ? new String[0] : getArtifactPeerNodeIds(mlModelMeta);
+        if (peerNodeIds.length == 0) {
+            retrieveModelChunksFromIndex(mlModelMeta, modelZipFile, cachingListener);
+            return;
+        }
+        retrieveModelArtifactFromPeer(modelContentHash, peerNodeIds, modelZipFile, ActionListener.wrap(modelZip -> {
+            if (modelContentHash.equals(modelZip.v2())) {
+                log.debug("Deploy model {} from the artifact cache of a peer node", modelId);
+                cachingListener.onResponse(modelZip);
+            } else {
+                log.warn("Model artifact from peer node doesn't match the hash of model {}, retrieving it from model index", modelId);
+                retrieveModelChunksFromIndex(mlModelMeta, modelZipFile, cachingListener);
+            }
+        }, e -> {
+            log.debug("Failed to retrieve model {} from peer nodes, retrieving it from model index", modelId, e);
+            retrieveModelChunksFromIndex(mlModelMeta, modelZipFile, cachingListener);
+        }));
+    }
+
+    private void retrieveModelChunksFromIndex(MLModel mlModelMeta, File modelZipFile, ActionListener<Tuple<File, String>> listener) {
+        String modelId = mlModelMeta.getModelId();
+        new ModelChunksRetriever(mlModelMeta.getTotalChunks(), modelChunksFetchConcurrency, modelZipFile, (chunkNumber, chunkListener) -> {
+            String chunkId = getModelChunkId(modelId, chunkNumber);
+            getModel(
+                chunkId,
+                threadedActionListener(
+                    DEPLOY_THREAD_POOL,
+                    ActionListener
+                        .wrap(
+                            chunk -> chunkListener.onResponse(Base64.getDecoder().decode(chunk.getContent())),
+                            e -> chunkListener.onFailure(new MLResourceNotFoundException("Fail to find model chunk " + chunkId))
+                        )
+                )
+            );
+        }, listener).start();
+    }
+
+    private String[] getArtifactPeerNodeIds(MLModel mlModelMeta) {
+        String[] eligibleNodeIds = nodeHelper.getEligibleNodeIds(mlModelMeta.getAlgorithm());
+        if (eligibleNodeIds.length == 0) {
+            return eligibleNodeIds;
         }
+        String localNodeId = clusterService.localNode().getId();
+        return Arrays.stream(eligibleNodeIds).filter(nodeId -> !localNodeId.equals(nodeId)).toArray(String[]::new);
+    }
+
+    /**
+     * Copy the model zip file from the artifact cache of a peer node. All peer nodes are asked if they have the artifact,
+     * then byte ranges of the artifact are read from a random one of them. Nodes which don't have it, or don't support
+     * the action, are ignored.
+     */
+    private void retrieveModelArtifactFromPeer(
+        String modelContentHash,
+        String[] peerNodeIds,
+        File modelZipFile,
+        ActionListener<Tuple<File, String>> listener
+    ) {
+        MLModelArtifactChunkNodesRequest probeRequest = new MLModelArtifactChunkNodesRequest(peerNodeIds, modelContentHash, 0, 0);
+        executeArtifactChunkRequest(probeRequest, ActionListener.wrap(response -> {
+            List<MLModelArtifactChunkNodeResponse> cachedNodes = response
+                .getNodes()
+                .stream()
+                .filter(MLModelArtifactChunkNodeResponse::isCached)
+                .collect(Collectors.toList());
+            if (cachedNodes.isEmpty()) {
+                listener.onFailure(new MLResourceNotFoundException("No peer node has the model artifact"));
+                return;
+            }
+            MLModelArtifactChunkNodeResponse peer = cachedNodes.get(Randomness.get().nextInt(cachedNodes.size()));
+            String peerNodeId = peer.getNode().getId();
+            int totalRanges = (int) ((peer.getArtifactSize() + CHUNK_SIZE - 1) / CHUNK_SIZE);
+            new ModelChunksRetriever(totalRanges, modelChunksFetchConcurrency, modelZipFile, (rangeNumber, rangeListener) -> {
+                MLModelArtifactChunkNodesRequest rangeRequest = new MLModelArtifactChunkNodesRequest(
+                    new String[] { peerNodeId },
+                    modelContentHash,
+                    (long) rangeNumber * CHUNK_SIZE,
+                    CHUNK_SIZE
+                );
+                executeArtifactChunkRequest(rangeRequest, ActionListener.wrap(rangeResponse -> {
+                    List<MLModelArtifactChunkNodeResponse> nodes = rangeResponse.getNodes();
+                    if (nodes.isEmpty() || !nodes.get(0).isCached() || nodes.get(0).getContent() == null) {
+                        rangeListener.onFailure(new MLException("Failed to read model artifact from node " + peerNodeId));
+                        return;
+                    }
+                    rangeListener.onResponse(BytesReference.toBytes(nodes.get(0).getContent()));
+                }, rangeListener::onFailure));
+            }, listener).start();
+        }, listener::onFailure));
+    }
+
+    private void executeArtifactChunkRequest(
+        MLModelArtifactChunkNodesRequest request,
+        ActionListener<MLModelArtifactChunkNodesResponse> listener
+    ) {
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client
+                .execute(
+                    MLModelArtifactChunkAction.INSTANCE,
+                    request,
+                    threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.runBefore(listener, context::restore))
+                );
+        }
+    }
+
+    /**
+     * Read a byte range of the model zip file from the local artifact cache.
+     *
+     * @param modelContentHash sha256 hash of the model content
+     * @param offset           offset of the range
+     * @param length           max length of the range
+     * @return the size of the whole file and the bytes of the range, or null if the file isn't cached
+     * @throws IOException if failed to read the file
+     */
+    public Tuple<Long, byte[]> readModelArtifact(String modelContentHash, long offset, int length) throws IOException {
+        return modelArtifactCache.read(modelContentHash, offset, length);
+    }
+
+    /**
+     * Remove the model zip file of a deleted model from the local artifact cache.
+     *
+     * @param modelContentHash sha256 hash of the model content
+     */
+    public void removeModelArtifact(String modelContentHash) {
+        modelArtifactCache.invalidate(modelContentHash);
     }
 
     /**
@@ -2378,6 +2559,7 @@ public class MLModelManager {
             for (String nodeId : nodeIds) {
                 modelCacheHelper.addWorkerNode(modelId, nodeId);
             }
+            routingTableVersion = null;
         }
     }
 
@@ -2387,6 +2569,7 @@ public class MLModelManager {
             for (String nodeId : nodeIds) {
                 Arrays.stream(modelIds).forEach(x -> modelCacheHelper.addWorkerNode(x, nodeId));
             }
+            routingTableVersion = null;
         }
     }
 
@@ -2401,6 +2584,7 @@ public class MLModelManager {
             for (String nodeId : nodeIds) {
                 modelCacheHelper.removeWorkerNode(modelId, nodeId, isFromUndeploy);
             }
+            routingTableVersion = null;
         }
     }
 
@@ -2411,6 +2595,7 @@ public class MLModelManager {
      */
     public void removeWorkerNodes(Set<String> removedNodes, boolean isFromUndeploy) {
         modelCacheHelper.removeWorkerNodes(removedNodes, isFromUndeploy);
+        routingTableVersion = null;
     }
 
     /**
@@ -2518,6 +2703,25 @@ public class MLModelManager {
         return modelCacheHelper.getPredictor(modelId);
     }
 
+    /**
+     * Get the embedding output cache shared by the deployed models.
+     *
+     * @param modelId model id
+     * @return embedding cache, or null if the model isn't deployed or the embedding cache is disabled
+     */
+    public MLEmbeddingCache getEmbeddingCache(String modelId) {
+        return modelCacheHelper.getEmbeddingCache(modelId);
+    }
+
+    /**
+     * Get the cache of trained models loaded to predict without being deployed.
+     *
+     * @return trained model cache, or null if the trained model cache is disabled
+     */
+    public MLTrainedModelCache getTrainedModelCache() {
+        return modelCacheHelper.getTrainedModelCache();
+    }
+
     /**
      * Get all model ids in cache, both local model id and remote model in routing
      * table.
@@ -2547,9 +2751,57 @@ public class MLModelManager {
      * @param modelWorkerNodes model worker nodes
      */
     public synchronized void syncModelWorkerNodes(Map<String, Set<String>> modelWorkerNodes) {
+        syncModelWorkerNodes(modelWorkerNodes, null);
+    }
+
+    /**
+     * Sync model routing table, and record its version.
+     *
+     * @param modelWorkerNodes    model worker nodes
+     * @param routingTableVersion version of the routing table
+     */
+    public synchronized void syncModelWorkerNodes(Map<String, Set<String>> modelWorkerNodes, String routingTableVersion) {
         modelCacheHelper.syncWorkerNodes(modelWorkerNodes);
 
         syncModelPlanningWorkerNodes(modelWorkerNodes);
+        this.routingTableVersion = routingTableVersion;
+    }
+
+    /**
+     * Apply the changes of model routing table since the base version. The changes are ignored if the local routing table
+     * isn't at the base version, and the local version is reset, so the sync up job sends the full routing table next time.
+     *
+     * @param changedModelWorkerNodes worker nodes of the changed models
+     * @param removedModelIds         models which have no worker node now
+     * @param baseRoutingTableVersion version of the routing table the changes are based on
+     * @param routingTableVersion     version of the routing table after the changes
+     * @return true if the changes are applied
+     */
+    public synchronized boolean syncModelWorkerNodesDelta(
+        Map<String, Set<String>> changedModelWorkerNodes,
+        Set<String> removedModelIds,
+        String baseRoutingTableVersion,
+        String routingTableVersion
+    ) {
+        if (!baseRoutingTableVersion.equals(this.routingTableVersion)) {
+            this.routingTableVersion = null;
+            return false;
+        }
+        Map<String, Set<String>> changes = Optional.ofNullable(changedModelWorkerNodes).orElse(Collections.emptyMap());
+        modelCacheHelper.syncWorkerNodes(changes, Optional.ofNullable(removedModelIds).orElse(Collections.emptySet()));
+
+        syncModelPlanningWorkerNodes(changes);
+        this.routingTableVersion = routingTableVersion;
+        return true;
+    }
+
+    /**
+     * Get the version of the local model routing table.
+     *
+     * @return routing table version, null if it's unknown
+     */
+    public String getRoutingTableVersion() {
+        return routingTableVersion;
     }
 
     public synchronized void syncModelPlanningWorkerNodes(Map<String, Set<String>> modelWorkerNodes) {
@@ -2571,7 +2823,17 @@ public class MLModelManager {
      * Clear all model worker nodes from cache.
      */
     public void clearRoutingTable() {
+        clearRoutingTable(null);
+    }
+
+    /**
+     * Clear all model worker nodes from cache, and record the version of the empty routing table.
+     *
+     * @param routingTableVersion version of the routing table
+     */
+    public synchronized void clearRoutingTable(String routingTableVersion) {
         modelCacheHelper.clearWorkerNodes();
+        this.routingTableVersion = routingTableVersion;
     }
 
     public MLModelProfile getModelProfile(String modelId) {
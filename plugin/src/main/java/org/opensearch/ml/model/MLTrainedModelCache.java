@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.util.Set;
+
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.engine.Predictable;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Cache of the trained models, like KMeans and linear regression models, which are loaded to predict without being deployed.
+ * <p>
+ * A model is cached with the version of its document in the model index, so it's only loaded again once the document
+ * changes. The size of a model is estimated by the size of its serialized content. Only the algorithms whose prediction
+ * doesn't change the model or depend on the parameters it was loaded with are cached, as a cached model serves concurrent
+ * requests.
+ */
+public class MLTrainedModelCache {
+    private static final Set<FunctionName> CACHEABLE_ALGORITHMS = ImmutableSet
+        .of(FunctionName.KMEANS, FunctionName.LINEAR_REGRESSION, FunctionName.LOGISTIC_REGRESSION, FunctionName.AD_LIBSVM);
+
+    private final Cache<String, TrainedModel> models;
+
+    public MLTrainedModelCache(long maxSizeInBytes) {
+        this.models = CacheBuilder
+            .newBuilder()
+            // one segment, so a model can take the whole size instead of the size of a segment
+            .concurrencyLevel(1)
+            .maximumWeight(maxSizeInBytes)
+            .weigher((String modelId, TrainedModel model) -> model.weight)
+            .build();
+    }
+
+    /**
+     * @param algorithm the algorithm of the model
+     * @return true if the models of the algorithm can be cached
+     */
+    public static boolean isCacheable(FunctionName algorithm) {
+        return CACHEABLE_ALGORITHMS.contains(algorithm);
+    }
+
+    /**
+     * @param modelId model id
+     * @return true if a version of the model is cached
+     */
+    public boolean contains(String modelId) {
+        return models.getIfPresent(modelId) != null;
+    }
+
+    /**
+     * @param modelId model id
+     * @param version version of the model document
+     * @return the loaded model, or null if the model isn't cached or was cached at another version
+     */
+    public Predictable get(String modelId, long version) {
+        TrainedModel model = models.getIfPresent(modelId);
+        return model == null || model.version != version ? null : model.predictable;
+    }
+
+    /**
+     * @param modelId model id
+     * @param version version of the model document
+     * @param predictable the loaded model
+     * @param sizeInBytes the estimated size of the model
+     */
+    public void put(String modelId, long version, Predictable predictable, long sizeInBytes) {
+        models.put(modelId, new TrainedModel(version, predictable, (int) Math.min(Integer.MAX_VALUE, sizeInBytes)));
+    }
+
+    public void invalidate(String modelId) {
+        models.invalidate(modelId);
+    }
+
+    public void clear() {
+        models.invalidateAll();
+    }
+
+    public long size() {
+        return models.size();
+    }
+
+    // models aren't closed on eviction as they may still serve a request
+    private static class TrainedModel {
+        private final long version;
+        private final Predictable predictable;
+        private final int weight;
+
+        private TrainedModel(long version, Predictable predictable, int weight) {
+            this.version = version;
+            this.predictable = predictable;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.opensearch.common.collect.Tuple;
+
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Local disk cache of model zip files, addressed by the sha256 hash of the model content.
+ * <p>
+ * The cache lives outside the deploy folder, which is cleaned once a model is deployed, so redeploying a model, or
+ * deploying it again after the node restarts, can copy the zip file from local disk instead of reading all model chunks
+ * from the model index. Cached files are verified against their hash when they're used, and the least recently used
+ * files are removed once the cached files take more than the max bytes on disk. The file of a deleted model is removed
+ * with {@link #invalidate(String)}.
+ */
+@Log4j2
+public class ModelArtifactCache {
+    private static final String ARTIFACT_SUFFIX = ".zip";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final Pattern CONTENT_HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path rootPath;
+    private final LongSupplier maxBytes;
+
+    /**
+     * @param rootPath folder of the cached files
+     * @param maxBytes supplier of the max total bytes of cached files, the cache is disabled if it's not positive
+     */
+    public ModelArtifactCache(Path rootPath, LongSupplier maxBytes) {
+        this.rootPath = rootPath;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Copy the cached model zip file to the target file.
+     * @param contentHash sha256 hash of the model content
+     * @param target target file
+     * @return true if the cached file is found and its content matches the hash
+     */
+    public boolean copyTo(String contentHash, File target) {
+        if (!isEnabled(contentHash)) {
+            return false;
+        }
+        Path artifact = rootPath.resolve(contentHash + ARTIFACT_SUFFIX);
+        if (!Files.isRegularFile(artifact)) {
+            return false;
+        }
+        String hash;
+        try {
+            Files.createDirectories(target.toPath().getParent());
+            try (HashingInputStream input = new HashingInputStream(Hashing.sha256(), newInputStream(artifact))) {
+                Files.copy(input, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                hash = input.hash().toString();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to copy cached model artifact {}", contentHash, e);
+            deleteFileQuietly(target);
+            return false;
+        }
+        if (!contentHash.equals(hash)) {
+            log.warn("Cached model artifact {} doesn't match its hash value, removing it", contentHash);
+            deleteFileQuietly(artifact);
+            deleteFileQuietly(target);
+            return false;
+        }
+        touch(artifact);
+        return true;
+    }
+
+    /**
+     * Add the model zip file to the cache. The caller should have verified the file content matches the hash.
+     * @param contentHash sha256 hash of the model content
+     * @param modelZipFile model zip file
+     */
+    public void put(String contentHash, File modelZipFile) {
+        if (!isEnabled(contentHash)) {
+            return;
+        }
+        Path artifact = rootPath.resolve(contentHash + ARTIFACT_SUFFIX);
+        if (Files.isRegularFile(artifact)) {
+            touch(artifact);
+            return;
+        }
+        if (modelZipFile.length() > maxBytes.getAsLong()) {
+            log.debug("Model artifact {} is larger than the cache, not caching it", contentHash);
+            return;
+        }
+        Path tempFile = null;
+        try {
+            Files.createDirectories(rootPath);
+            // copy to a temp file first, so a partially copied file is never used
+            tempFile = Files.createTempFile(rootPath, contentHash, TEMP_SUFFIX);
+            Files.copy(modelZipFile.toPath(), tempFile, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tempFile, artifact, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            evict();
+        } catch (IOException e) {
+            log.warn("Failed to cache model artifact {}", contentHash, e);
+            if (tempFile != null) {
+                deleteFileQuietly(tempFile.toFile());
+            }
+        }
+    }
+
+    /**
+     * Read a byte range of the cached model zip file.
+     * @param contentHash sha256 hash of the model content
+     * @param offset offset of the range
+     * @param length max length of the range
+     * @return the size of the whole file and the bytes of the range, or null if the file isn't cached
+     * @throws IOException if failed to read the file
+     */
+    public Tuple<Long, byte[]> read(String contentHash, long offset, int length) throws IOException {
+        if (!isEnabled(contentHash)) {
+            return null;
+        }
+        Path artifact = rootPath.resolve(contentHash + ARTIFACT_SUFFIX);
+        if (!Files.isRegularFile(artifact)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(artifact, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (offset < 0 || offset > size || length < 0) {
+                throw new IllegalArgumentException("Invalid range of model artifact, offset: " + offset + ", length: " + length);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(length, size - offset));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new EOFException("Unexpected end of model artifact " + contentHash);
+                }
+            }
+            return Tuple.tuple(size, buffer.array());
+        }
+    }
+
+    /**
+     * Remove the cached model zip file, e.g. when the model is deleted.
+     * @param contentHash sha256 hash of the model content
+     */
+    public void invalidate(String contentHash) {
+        // removed even if the cache is disabled, so files cached before it was disabled don't stay on disk
+        if (contentHash == null || !CONTENT_HASH_PATTERN.matcher(contentHash).matches()) {
+            return;
+        }
+        Path artifact = rootPath.resolve(contentHash + ARTIFACT_SUFFIX);
+        if (Files.exists(artifact)) {
+            log.debug("Remove cached model artifact {}", contentHash);
+            deleteFileQuietly(artifact.toFile());
+        }
+    }
+
+    private boolean isEnabled(String contentHash) {
+        return maxBytes.getAsLong() > 0 && contentHash != null && CONTENT_HASH_PATTERN.matcher(contentHash).matches();
+    }
+
+    private void evict() throws IOException {
+        List<Path> artifacts;
+        try (Stream<Path> files = Files.list(rootPath)) {
+            artifacts = files.filter(file -> file.getFileName().toString().endsWith(ARTIFACT_SUFFIX)).collect(Collectors.toList());
+        }
+        long totalBytes = 0;
+        for (Path artifact : artifacts) {
+            totalBytes += size(artifact);
+        }
+        long max = maxBytes.getAsLong();
+        if (totalBytes <= max) {
+            return;
+        }
+        List<Path> leastRecentlyUsed = new ArrayList<>(artifacts);
+        leastRecentlyUsed.sort(Comparator.comparingLong(ModelArtifactCache::lastModifiedTime));
+        for (int i = 0; i < leastRecentlyUsed.size() && totalBytes > max; i++) {
+            Path artifact = leastRecentlyUsed.get(i);
+            log.debug("Remove cached model artifact {}", artifact);
+            totalBytes -= size(artifact);
+            deleteFileQuietly(artifact.toFile());
+        }
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static long lastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.debug("Failed to update last modified time of {}", file, e);
+        }
+    }
+
+    private static InputStream newInputStream(Path file) throws IOException {
+        return new BufferedInputStream(Files.newInputStream(file));
+    }
+}
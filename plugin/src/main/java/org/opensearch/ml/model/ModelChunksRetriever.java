@@ -0,0 +1,177 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.exception.MLException;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Retrieve all chunks of a model and write them into the model zip file. Chunks can be model chunks from the model index,
+ * or byte ranges of a model zip file cached on a peer node.
+ * <p>
+ * Up to {@code concurrency} chunks are fetched at the same time. A chunk is appended to the model zip file as
+ * soon as all chunks before it are written, and the sha256 hash of the model content is updated at the same time, so no
+ * chunk file is written and merged, and the zip file doesn't need to be read again to verify its content. A new chunk is
+ * only fetched once a chunk is written, so at most {@code concurrency} chunks are kept in memory.
+ */
+@Log4j2
+public class ModelChunksRetriever {
+    private final int totalChunks;
+    private final int concurrency;
+    private final File modelZipFile;
+    private final BiConsumer<Integer, ActionListener<byte[]>> chunkReader;
+    private final ActionListener<Tuple<File, String>> listener;
+
+    private final Map<Integer, byte[]> pendingChunks = new HashMap<>();
+    private final Hasher hasher = Hashing.sha256().newHasher();
+    private FileChannel channel;
+    private int nextChunkToFetch;
+    private int nextChunkToWrite;
+    private boolean stopped;
+
+    /**
+     * @param totalChunks number of model chunks
+     * @param concurrency max number of chunks fetched at the same time
+     * @param modelZipFile model zip file to write
+     * @param chunkReader function to read the content of a chunk by its number
+     * @param listener listener of the model zip file and the sha256 hash of its content
+     */
+    public ModelChunksRetriever(
+        int totalChunks,
+        int concurrency,
+        File modelZipFile,
+        BiConsumer<Integer, ActionListener<byte[]>> chunkReader,
+        ActionListener<Tuple<File, String>> listener
+    ) {
+        this.totalChunks = totalChunks;
+        this.concurrency = Math.max(1, concurrency);
+        this.modelZipFile = modelZipFile;
+        this.chunkReader = chunkReader;
+        this.listener = listener;
+    }
+
+    /**
+     * Start retrieving chunks.
+     */
+    public void start() {
+        int firstChunks;
+        synchronized (this) {
+            try {
+                Files.createDirectories(modelZipFile.toPath().getParent());
+                channel = FileChannel
+                    .open(modelZipFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            } catch (IOException e) {
+                stopped = true;
+                log.error("Failed to create model file {}", modelZipFile, e);
+                listener.onFailure(new MLException("Failed to create model file", e));
+                return;
+            }
+            if (totalChunks == 0) {
+                complete();
+                return;
+            }
+            firstChunks = Math.min(concurrency, totalChunks);
+            nextChunkToFetch = firstChunks;
+        }
+        for (int i = 0; i < firstChunks; i++) {
+            fetch(i);
+        }
+    }
+
+    private void fetch(int chunkNumber) {
+        try {
+            chunkReader.accept(chunkNumber, ActionListener.wrap(content -> onChunk(chunkNumber, content), this::fail));
+        } catch (Exception e) {
+            log.error("Failed to retrieve model chunk {}", chunkNumber, e);
+            fail(e);
+        }
+    }
+
+    private void onChunk(int chunkNumber, byte[] content) {
+        List<Integer> chunksToFetch = new ArrayList<>();
+        synchronized (this) {
+            if (stopped) {
+                return;
+            }
+            pendingChunks.put(chunkNumber, content);
+            try {
+                byte[] next;
+                while ((next = pendingChunks.remove(nextChunkToWrite)) != null) {
+                    write(next);
+                    nextChunkToWrite++;
+                    if (nextChunkToFetch < totalChunks) {
+                        chunksToFetch.add(nextChunkToFetch++);
+                    }
+                }
+            } catch (IOException e) {
+                log.error("Failed to write model file {}", modelZipFile, e);
+                fail(new MLException("Failed to write model chunks", e));
+                return;
+            }
+            if (nextChunkToWrite == totalChunks) {
+                complete();
+                return;
+            }
+        }
+        chunksToFetch.forEach(this::fetch);
+    }
+
+    private void write(byte[] content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        hasher.putBytes(content);
+    }
+
+    private synchronized void complete() {
+        stopped = true;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.error("Failed to close model file {}", modelZipFile, e);
+            deleteFileQuietly(modelZipFile);
+            listener.onFailure(new MLException("Failed to write model chunks", e));
+            return;
+        }
+        listener.onResponse(Tuple.tuple(modelZipFile, hasher.hash().toString()));
+    }
+
+    private synchronized void fail(Exception e) {
+        if (stopped) {
+            return;
+        }
+        stopped = true;
+        pendingChunks.clear();
+        try {
+            channel.close();
+        } catch (IOException closeException) {
+            log.debug("Failed to close model file {}", modelZipFile, closeException);
+        }
+        deleteFileQuietly(modelZipFile);
+        listener.onFailure(e);
+    }
+}
@@ -62,11 +62,13 @@ import org.opensearch.jobscheduler.spi.ScheduledJobRunner;
 import org.opensearch.ml.action.IndexInsight.GetIndexInsightConfigTransportAction;
 import org.opensearch.ml.action.IndexInsight.GetIndexInsightTransportAction;
 import org.opensearch.ml.action.IndexInsight.PutIndexInsightConfigTransportAction;
+import org.opensearch.ml.action.agents.AgentCacheInvalidateTransportAction;
 import org.opensearch.ml.action.agents.DeleteAgentTransportAction;
 import org.opensearch.ml.action.agents.GetAgentTransportAction;
 import org.opensearch.ml.action.agents.TransportRegisterAgentAction;
 import org.opensearch.ml.action.agents.TransportSearchAgentAction;
 import org.opensearch.ml.action.agents.UpdateAgentTransportAction;
+import org.opensearch.ml.action.artifact.ModelArtifactChunkTransportAction;
 import org.opensearch.ml.action.batch.TransportBatchIngestionAction;
 import org.opensearch.ml.action.config.GetConfigTransportAction;
 import org.opensearch.ml.action.connector.DeleteConnectorTransportAction;
@@ -154,6 +156,7 @@ import org.opensearch.ml.cluster.MLCommonsClusterEventListener;
 import org.opensearch.ml.cluster.MLCommonsClusterManagerEventListener;
 import org.opensearch.ml.common.CommonValue;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.httpclient.MLHttpClientRegistry;
 import org.opensearch.ml.common.input.execute.anomalylocalization.AnomalyLocalizationInput;
 import org.opensearch.ml.common.input.execute.metricscorrelation.MetricsCorrelationInput;
 import org.opensearch.ml.common.input.execute.samplecalculator.LocalSampleCalculatorInput;
@@ -173,11 +176,13 @@ import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.spi.MLCommonsExtension;
 import org.opensearch.ml.common.spi.tools.Tool;
 import org.opensearch.ml.common.spi.tools.ToolAnnotation;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateAction;
 import org.opensearch.ml.common.transport.agent.MLAgentDeleteAction;
 import org.opensearch.ml.common.transport.agent.MLAgentGetAction;
 import org.opensearch.ml.common.transport.agent.MLAgentUpdateAction;
 import org.opensearch.ml.common.transport.agent.MLRegisterAgentAction;
 import org.opensearch.ml.common.transport.agent.MLSearchAgentAction;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkAction;
 import org.opensearch.ml.common.transport.batch.MLBatchIngestionAction;
 import org.opensearch.ml.common.transport.config.MLConfigGetAction;
 import org.opensearch.ml.common.transport.connector.MLConnectorDeleteAction;
@@ -257,9 +262,12 @@ import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.MLEngineClassLoader;
 import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.engine.algorithms.agent.AgentCache;
 import org.opensearch.ml.engine.algorithms.agent.MLAgentExecutor;
 import org.opensearch.ml.engine.algorithms.anomalylocalization.AnomalyLocalizerImpl;
 import org.opensearch.ml.engine.algorithms.metrics_correlation.MetricsCorrelation;
+import org.opensearch.ml.engine.algorithms.remote.AdaptiveConcurrencyLimiters;
+import org.opensearch.ml.engine.algorithms.remote.RemoteEmbeddingBatchSettings;
 import org.opensearch.ml.engine.algorithms.sample.LocalSampleCalculator;
 import org.opensearch.ml.engine.algorithms.tool.MLToolExecutor;
 import org.opensearch.ml.engine.analysis.DJLUtils;
@@ -273,6 +281,7 @@ import org.opensearch.ml.engine.indices.MLIndicesHandler;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
 import org.opensearch.ml.engine.memory.AgenticConversationMemory;
 import org.opensearch.ml.engine.memory.ConversationIndexMemory;
+import org.opensearch.ml.engine.memory.ConversationTailCache;
 import org.opensearch.ml.engine.memory.MLMemoryManager;
 import org.opensearch.ml.engine.memory.RemoteAgenticConversationMemory;
 import org.opensearch.ml.engine.tools.AgentTool;
@@ -481,6 +490,7 @@ public class MachineLearningPlugin extends Plugin
     public static final String STREAM_EXECUTE_THREAD_POOL = "opensearch_ml_execute_stream";
     public static final String TRAIN_THREAD_POOL = "opensearch_ml_train";
     public static final String PREDICT_THREAD_POOL = "opensearch_ml_predict";
+    public static final String SCORE_THREAD_POOL = "opensearch_ml_score";
     public static final String STREAM_PREDICT_THREAD_POOL = "opensearch_ml_predict_stream";
     public static final String REMOTE_PREDICT_THREAD_POOL = "opensearch_ml_predict_remote";
     public static final String INGEST_THREAD_POOL = "opensearch_ml_ingest";
@@ -565,6 +575,7 @@ public class MachineLearningPlugin extends Plugin
                 new ActionHandler<>(MLUploadModelChunkAction.INSTANCE, TransportUploadModelChunkAction.class),
                 new ActionHandler<>(MLUpdateModelAction.INSTANCE, UpdateModelTransportAction.class),
                 new ActionHandler<>(MLUpdateModelCacheAction.INSTANCE, UpdateModelCacheTransportAction.class),
+                new ActionHandler<>(MLModelArtifactChunkAction.INSTANCE, ModelArtifactChunkTransportAction.class),
                 new ActionHandler<>(MLForwardAction.INSTANCE, TransportForwardAction.class),
                 new ActionHandler<>(MLSyncUpAction.INSTANCE, TransportSyncUpOnNodeAction.class),
                 new ActionHandler<>(MLRegisterModelGroupAction.INSTANCE, TransportRegisterModelGroupAction.class),
@@ -615,6 +626,7 @@ public class MachineLearningPlugin extends Plugin
                 new ActionHandler<>(MLAgentGetAction.INSTANCE, GetAgentTransportAction.class),
                 new ActionHandler<>(MLAgentDeleteAction.INSTANCE, DeleteAgentTransportAction.class),
                 new ActionHandler<>(MLAgentUpdateAction.INSTANCE, UpdateAgentTransportAction.class),
+                new ActionHandler<>(MLAgentCacheInvalidateAction.INSTANCE, AgentCacheInvalidateTransportAction.class),
                 new ActionHandler<>(UpdateConversationAction.INSTANCE, UpdateConversationTransportAction.class),
                 new ActionHandler<>(UpdateInteractionAction.INSTANCE, UpdateInteractionTransportAction.class),
                 new ActionHandler<>(GetTracesAction.INSTANCE, GetTracesTransportAction.class),
@@ -703,6 +715,7 @@ public class MachineLearningPlugin extends Plugin
         encryptor = new EncryptorImpl(clusterService, client, sdkClient, mlIndicesHandler);
 
         mlEngine = new MLEngine(dataPath, encryptor);
+        mlEngine.setScoringExecutor(threadPool.executor(SCORE_THREAD_POOL));
         nodeHelper = new DiscoveryNodeHelper(clusterService, settings);
         modelCacheHelper = new MLModelCacheHelper(clusterService, settings);
         cmHandler = new OpenSearchConversationalMemoryHandler(client, clusterService);
@@ -733,13 +746,21 @@ public class MachineLearningPlugin extends Plugin
         stats.put(MLNodeLevelStat.ML_FAILURE_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_CIRCUIT_BREAKER_TRIGGER_COUNT, new MLStat<>(false, new CounterSupplier()));
+        MLHttpClientRegistry httpClientRegistry = MLHttpClientRegistry.getInstance();
+        httpClientRegistry.initialize(clusterService, settings);
+        AdaptiveConcurrencyLimiters.getInstance().initialize(clusterService, settings);
+        RemoteEmbeddingBatchSettings.getInstance().initialize(clusterService, settings);
+        stats.put(MLNodeLevelStat.ML_REMOTE_HTTP_CLIENT_COUNT, new MLStat<>(false, () -> (long) httpClientRegistry.getClientCount()));
+        stats.put(MLNodeLevelStat.ML_REMOTE_HTTP_CLIENT_LEASE_COUNT, new MLStat<>(false, () -> (long) httpClientRegistry.getLeaseCount()));
+        stats.put(MLNodeLevelStat.ML_REMOTE_HTTP_IN_FLIGHT_REQUEST_COUNT, new MLStat<>(false, httpClientRegistry::getInFlightRequestCount));
+        stats.put(MLNodeLevelStat.ML_REMOTE_HTTP_QUEUED_REQUEST_COUNT, new MLStat<>(false, httpClientRegistry::getQueuedRequestCount));
         this.mlStats = new MLStats(stats);
 
         mlTaskManager = new MLTaskManager(client, sdkClient, threadPool, mlIndicesHandler);
         mlFeatureEnabledSetting.addListener(mlTaskManager);
         modelHelper = new ModelHelper(mlEngine);
 
-        mlInputDatasetHandler = new MLInputDatasetHandler(client);
+        mlInputDatasetHandler = new MLInputDatasetHandler(client, settings, clusterService);
         modelAccessControlHelper = new ModelAccessControlHelper(clusterService, settings);
         connectorAccessControlHelper = new ConnectorAccessControlHelper(clusterService, settings);
 
@@ -872,6 +893,7 @@ public class MachineLearningPlugin extends Plugin
         agentModelsSearcher = new AgentModelsSearcher(toolFactories);
 
         MLMemoryManager memoryManager = new MLMemoryManager(client, clusterService, new ConversationMetaIndex(client, clusterService));
+        ConversationTailCache.getInstance().initialize(clusterService, settings);
         Map<String, Memory.Factory> memoryFactoryMap = new HashMap<>();
         ConversationIndexMemory.Factory conversationIndexMemoryFactory = new ConversationIndexMemory.Factory();
         conversationIndexMemoryFactory.init(client, mlIndicesHandler, memoryManager);
@@ -898,6 +920,7 @@ public class MachineLearningPlugin extends Plugin
         );
         MLEngineClassLoader.register(FunctionName.LOCAL_SAMPLE_CALCULATOR, localSampleCalculator);
         MLEngineClassLoader.register(FunctionName.AGENT, agentExecutor);
+        AgentCache.getInstance().initialize(clusterService, settings);
 
         AnomalyLocalizerImpl anomalyLocalizer = new AnomalyLocalizerImpl(client, settings, clusterService, indexNameExpressionResolver);
         MLEngineClassLoader.register(FunctionName.ANOMALY_LOCALIZATION, anomalyLocalizer);
@@ -929,7 +952,8 @@ public class MachineLearningPlugin extends Plugin
             modelCacheHelper,
             mlModelAutoRedeployer,
             client,
-            mlFeatureEnabledSetting
+            mlFeatureEnabledSetting,
+            mlEngine
         );
         MLCommonsClusterManagerEventListener clusterManagerEventListener = new MLCommonsClusterManagerEventListener(
             clusterService,
@@ -1274,6 +1298,15 @@ public class MachineLearningPlugin extends Plugin
             ML_THREAD_POOL_PREFIX + PREDICT_THREAD_POOL,
             false
         );
+        // scores the partitions of large frames next to the train and predict threads, see BatchRandomCutForest
+        FixedExecutorBuilder scoreThreadPool = new FixedExecutorBuilder(
+            settings,
+            SCORE_THREAD_POOL,
+            Math.max(1, OpenSearchExecutors.allocatedProcessors(settings) / 2 - 1),
+            100,
+            ML_THREAD_POOL_PREFIX + SCORE_THREAD_POOL,
+            false
+        );
         FixedExecutorBuilder remotePredictThreadPool = new FixedExecutorBuilder(
             settings,
             REMOTE_PREDICT_THREAD_POOL,
@@ -1332,6 +1365,7 @@ public class MachineLearningPlugin extends Plugin
                 executeThreadPool,
                 trainThreadPool,
                 predictThreadPool,
+                scoreThreadPool,
                 remotePredictThreadPool,
                 batchIngestThreadPool,
                 sdkClientThreadPool,
@@ -1434,7 +1468,30 @@ public class MachineLearningPlugin extends Plugin
                 MLCommonsSettings.ML_COMMONS_MAX_JSON_SIZE,
                 MLCommonsSettings.ML_COMMONS_UNIFIED_AGENT_API_ENABLED,
                 MLCommonsSettings.ML_COMMONS_MCP_HEADER_PASSTHROUGH_ENABLED,
-                MLCommonsSettings.ML_COMMONS_AG_UI_ENABLED
+                MLCommonsSettings.ML_COMMONS_AG_UI_ENABLED,
+                MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_SIZE,
+                MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_WAIT_TIME_MS,
+                MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_MS,
+                MLCommonsSettings.ML_COMMONS_SEARCH_INPUT_PAGE_SIZE,
+                MLCommonsSettings.ML_COMMONS_SEARCH_INPUT_SLICES,
+                MLCommonsSettings.ML_COMMONS_MODEL_CHUNKS_FETCH_CONCURRENCY,
+                MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE,
+                MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_TRANSFER_MAX_MB_PER_SEC,
+                MLCommonsSettings.ML_COMMONS_AGENT_CACHE_SIZE,
+                MLCommonsSettings.ML_COMMONS_MEMORY_TAIL_CACHE_SIZE,
+                MLCommonsSettings.ML_COMMONS_REMOTE_CONNECTOR_SHARED_MAX_CONNECTIONS,
+                MLCommonsSettings.ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_ENABLED,
+                MLCommonsSettings.ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_LATENCY_BACKOFF_ENABLED,
+                MLCommonsSettings.ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_MAX_LIMIT,
+                MLCommonsSettings.ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_QUEUE_SIZE,
+                MLCommonsSettings.ML_COMMONS_REMOTE_CONNECTOR_ADAPTIVE_CONCURRENCY_QUEUE_TIMEOUT_MS,
+                MLCommonsSettings.ML_COMMONS_REMOTE_CONNECTOR_EMBEDDING_BATCH_LINGER_MS,
+                MLCommonsSettings.ML_COMMONS_REMOTE_CONNECTOR_EMBEDDING_BATCH_MAX_DOCS,
+                MLCommonsSettings.ML_COMMONS_REMOTE_CONNECTOR_EMBEDDING_BATCH_MAX_BYTES,
+                MLCommonsSettings.ML_COMMONS_EMBEDDING_CACHE_SIZE,
+                MLCommonsSettings.ML_COMMONS_EMBEDDING_CACHE_TTL,
+                MLCommonsSettings.ML_COMMONS_MONITORING_WINDOW,
+                MLCommonsSettings.ML_COMMONS_TRAINED_MODEL_CACHE_SIZE
             );
         return settings;
     }
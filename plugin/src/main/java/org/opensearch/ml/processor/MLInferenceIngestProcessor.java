@@ -7,13 +7,16 @@ package org.opensearch.ml.processor;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -25,6 +28,7 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 import org.opensearch.ingest.ValueSource;
 import org.opensearch.ml.common.FunctionName;
@@ -55,6 +59,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
     private final boolean ignoreFailure;
     private final boolean override;
     private final String modelInput;
+    private final int batchSize;
     private final ScriptService scriptService;
     private static Client client;
     public static final String TYPE = "ml_inference";
@@ -66,6 +71,10 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
     public static final String FUNCTION_NAME = "function_name";
     public static final String FULL_RESPONSE_PATH = "full_response_path";
     public static final String MODEL_INPUT = "model_input";
+    // max number of documents of a bulk request sent to the model in one prediction request,
+    // documents are only batched when it is larger than 1
+    public static final String BATCH_SIZE = "batch_size";
+    public static final int DEFAULT_BATCH_SIZE = 1;
     // At default, ml inference processor allows maximum 10 prediction tasks running in parallel
     // it can be overwritten using max_prediction_tasks when creating processor
     public static final int DEFAULT_MAX_PREDICTION_TASKS = 10;
@@ -86,6 +95,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         boolean ignoreFailure,
         boolean override,
         String modelInput,
+        int batchSize,
         ScriptService scriptService,
         Client client,
         NamedXContentRegistry xContentRegistry
@@ -104,6 +114,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         this.ignoreFailure = ignoreFailure;
         this.override = override;
         this.modelInput = modelInput;
+        this.batchSize = batchSize;
         this.scriptService = scriptService;
         this.client = client;
         this.xContentRegistry = xContentRegistry;
@@ -161,6 +172,222 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         throw new UnsupportedOperationException("this method should not get executed.");
     }
 
+    /**
+     * Executes inference for documents of a bulk request in batches. For each input map, the values of
+     * up to batch_size documents are collected into one list per model input field and sent in a single
+     * prediction request. Each model output field in the output map must then resolve to a list with one
+     * entry per document, which is written back to the corresponding document.
+     * Falls back to per-document execution when batch_size is 1 or when no input map or output map is
+     * configured, since the model output can't be split per document in that case.
+     *
+     * @param ingestDocumentWrappers The documents to be processed.
+     * @param handler                A consumer for handling the processed documents.
+     */
+    @Override
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        List<Map<String, String>> processInputMap = inferenceProcessorAttributes.getInputMaps();
+        List<Map<String, String>> processOutputMap = inferenceProcessorAttributes.getOutputMaps();
+        if (batchSize <= 1
+            || ingestDocumentWrappers.size() <= 1
+            || processInputMap == null
+            || processInputMap.isEmpty()
+            || processOutputMap == null
+            || processOutputMap.isEmpty()) {
+            super.batchExecute(ingestDocumentWrappers, handler);
+            return;
+        }
+
+        List<Integer> documentIndices = new ArrayList<>();
+        for (int i = 0; i < ingestDocumentWrappers.size(); i++) {
+            IngestDocumentWrapper wrapper = ingestDocumentWrappers.get(i);
+            if (wrapper.getIngestDocument() != null && wrapper.getException() == null) {
+                documentIndices.add(i);
+            }
+        }
+        int batchesPerInputMap = (documentIndices.size() + batchSize - 1) / batchSize;
+        if (batchesPerInputMap == 0) {
+            handler.accept(ingestDocumentWrappers);
+            return;
+        }
+
+        AtomicReferenceArray<Exception> failures = new AtomicReferenceArray<>(ingestDocumentWrappers.size());
+        GroupedActionListener<Void> batchPredictionListener = new GroupedActionListener<>(ActionListener.wrap(r -> {
+            List<IngestDocumentWrapper> results = new ArrayList<>(ingestDocumentWrappers.size());
+            for (int i = 0; i < ingestDocumentWrappers.size(); i++) {
+                IngestDocumentWrapper wrapper = ingestDocumentWrappers.get(i);
+                Exception failure = failures.get(i);
+                if (failure != null && !ignoreFailure) {
+                    results.add(new IngestDocumentWrapper(wrapper.getSlot(), null, failure));
+                } else {
+                    results.add(wrapper);
+                }
+            }
+            handler.accept(results);
+        }, e -> handler.accept(ingestDocumentWrappers)), processInputMap.size() * batchesPerInputMap);
+
+        for (int inputMapIndex = 0; inputMapIndex < processInputMap.size(); inputMapIndex++) {
+            for (int from = 0; from < documentIndices.size(); from += batchSize) {
+                List<Integer> batch = documentIndices.subList(from, Math.min(from + batchSize, documentIndices.size()));
+                processBatchPredictions(ingestDocumentWrappers, batch, failures, batchPredictionListener, inputMapIndex);
+            }
+        }
+    }
+
+    /**
+     * Runs one prediction request for a batch of documents with one input map and writes the
+     * per-document model outputs back. Failures are recorded per document, the listener never fails.
+     *
+     * @param ingestDocumentWrappers  All documents of the bulk request.
+     * @param batch                   Indices of the documents in this batch.
+     * @param failures                Failures of the documents, by index.
+     * @param batchPredictionListener The GroupedActionListener for batch prediction.
+     * @param inputMapIndex           The current index of the inputMap.
+     */
+    private void processBatchPredictions(
+        List<IngestDocumentWrapper> ingestDocumentWrappers,
+        List<Integer> batch,
+        AtomicReferenceArray<Exception> failures,
+        GroupedActionListener<Void> batchPredictionListener,
+        int inputMapIndex
+    ) {
+        Map<String, String> inputMapping = inferenceProcessorAttributes.getInputMaps().get(inputMapIndex);
+        Map<String, String> outputMapping = inferenceProcessorAttributes.getOutputMaps().get(inputMapIndex);
+
+        List<Integer> members = new ArrayList<>(batch.size());
+        List<Map<String, List<String>>> memberOutputMappings = new ArrayList<>(batch.size());
+        Map<String, List<Object>> modelInputValues = new HashMap<>();
+        for (int index : batch) {
+            if (failures.get(index) != null) {
+                continue;
+            }
+            IngestDocument ingestDocument = ingestDocumentWrappers.get(index).getIngestDocument();
+            try {
+                Map<String, List<String>> newOutputMapping = getNewOutputMapping(ingestDocument, outputMapping);
+                if (newOutputMapping.isEmpty()) {
+                    continue;
+                }
+                Map<String, Object> documentInputValues = new HashMap<>();
+                for (Map.Entry<String, String> entry : inputMapping.entrySet()) {
+                    // model field as key, document field as value
+                    Object value = getModelInputValueFromDocument(ingestDocument, entry.getValue());
+                    if (value != null) {
+                        documentInputValues.put(entry.getKey(), value);
+                    }
+                }
+                // a document missing some mapped fields can't be aligned with the other documents of the batch
+                if (documentInputValues.size() < inputMapping.size()) {
+                    continue;
+                }
+                for (Map.Entry<String, Object> entry : documentInputValues.entrySet()) {
+                    modelInputValues.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).add(entry.getValue());
+                }
+                members.add(index);
+                memberOutputMappings.add(newOutputMapping);
+            } catch (Exception e) {
+                failures.set(index, e);
+            }
+        }
+        if (members.isEmpty()) {
+            batchPredictionListener.onResponse(null);
+            return;
+        }
+
+        try {
+            Map<String, String> modelParameters = new HashMap<>();
+            Map<String, String> modelConfigs = new HashMap<>();
+            if (inferenceProcessorAttributes.getModelConfigMaps() != null) {
+                modelParameters.putAll(inferenceProcessorAttributes.getModelConfigMaps());
+                modelConfigs.putAll(inferenceProcessorAttributes.getModelConfigMaps());
+            }
+            Map<String, String> inputMappings = new HashMap<>();
+            for (Map.Entry<String, List<Object>> entry : modelInputValues.entrySet()) {
+                String values = toString(entry.getValue());
+                modelParameters.put(entry.getKey(), values);
+                inputMappings.put(entry.getKey(), values);
+            }
+            ActionRequest request = getMLModelInferenceRequest(
+                xContentRegistry,
+                modelParameters,
+                modelConfigs,
+                inputMappings,
+                inferenceProcessorAttributes.getModelId(),
+                functionName,
+                modelInput
+            );
+
+            client.execute(MLPredictionTaskAction.INSTANCE, request, new ActionListener<>() {
+
+                @Override
+                public void onResponse(MLTaskResponse mlTaskResponse) {
+                    try {
+                        MLOutput mlOutput = mlTaskResponse.getOutput();
+                        writeBatchOutputValues(mlOutput, ingestDocumentWrappers, members, memberOutputMappings, outputMapping);
+                    } catch (Exception e) {
+                        members.forEach(index -> failures.set(index, e));
+                    }
+                    batchPredictionListener.onResponse(null);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    members.forEach(index -> failures.set(index, e));
+                    batchPredictionListener.onResponse(null);
+                }
+            });
+        } catch (Exception e) {
+            members.forEach(index -> failures.set(index, e));
+            batchPredictionListener.onResponse(null);
+        }
+    }
+
+    /**
+     * Splits the model output of a batch prediction and writes each entry to its document.
+     *
+     * @param mlOutput               the MLOutput of the batch prediction
+     * @param ingestDocumentWrappers all documents of the bulk request
+     * @param members                indices of the documents sent in the batch, in request order
+     * @param memberOutputMappings   output fields to write for each of the documents
+     * @param outputMapping          the output mapping of the current input map
+     */
+    private void writeBatchOutputValues(
+        MLOutput mlOutput,
+        List<IngestDocumentWrapper> ingestDocumentWrappers,
+        List<Integer> members,
+        List<Map<String, List<String>>> memberOutputMappings,
+        Map<String, String> outputMapping
+    ) {
+        if (mlOutput == null) {
+            throw new RuntimeException("model inference output is null");
+        }
+        for (Map.Entry<String, String> entry : outputMapping.entrySet()) {
+            // document field as key, model field as value
+            String newDocumentFieldName = entry.getKey();
+            String modelOutputFieldName = entry.getValue();
+            String baseFieldName = OutputTransformations.getBaseFieldName(modelOutputFieldName);
+            Object modelOutputValue = getModelOutputValue(mlOutput, baseFieldName, ignoreMissing, fullResponsePath);
+            if (!(modelOutputValue instanceof List) || ((List<?>) modelOutputValue).size() != members.size()) {
+                throw new IllegalArgumentException(
+                    "the prediction field: "
+                        + modelOutputFieldName
+                        + " must be an array with one entry per document in batch of size "
+                        + members.size()
+                );
+            }
+            List<?> modelOutputValues = (List<?>) modelOutputValue;
+            for (int i = 0; i < members.size(); i++) {
+                if (!memberOutputMappings.get(i).containsKey(newDocumentFieldName)) {
+                    continue;
+                }
+                Object documentOutputValue = modelOutputValues.get(i);
+                if (OutputTransformations.hasTransformation(modelOutputFieldName)) {
+                    documentOutputValue = OutputTransformations.applyTransformation(modelOutputFieldName, documentOutputValue);
+                }
+                IngestDocument ingestDocument = ingestDocumentWrappers.get(members.get(i)).getIngestDocument();
+                setModelOutputValue(documentOutputValue, modelOutputFieldName, newDocumentFieldName, ingestDocument);
+            }
+        }
+    }
+
     /**
      * process predictions for one model for multiple rounds of predictions
      * ingest documents after prediction rounds are completed,
@@ -191,39 +418,12 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
             modelConfigs.putAll(inferenceProcessorAttributes.getModelConfigMaps());
         }
 
-        Map<String, Object> ingestDocumentSourceAndMetaData = new HashMap<>();
-        ingestDocumentSourceAndMetaData.putAll(ingestDocument.getSourceAndMetadata());
-        ingestDocumentSourceAndMetaData.put(IngestDocument.INGEST_KEY, ingestDocument.getIngestMetadata());
-
-        Map<String, List<String>> newOutputMapping = new HashMap<>();
-        if (processOutputMap != null) {
-
-            Map<String, String> outputMapping = processOutputMap.get(inputMapIndex);
-            for (Map.Entry<String, String> entry : outputMapping.entrySet()) {
-                String newDocumentFieldName = entry.getKey();
-                List<String> dotPathsInArray = writeNewDotPathForNestedObject(ingestDocumentSourceAndMetaData, newDocumentFieldName);
-                newOutputMapping.put(newDocumentFieldName, dotPathsInArray);
-            }
-
-            for (Map.Entry<String, String> entry : outputMapping.entrySet()) {
-                String newDocumentFieldName = entry.getKey();
-                List<String> dotPaths = newOutputMapping.get(newDocumentFieldName);
-
-                int existingFields = 0;
-                for (String path : dotPaths) {
-                    if (ingestDocument.hasField(path)) {
-                        existingFields++;
-                    }
-                }
-                if (!override && existingFields == dotPaths.size()) {
-                    logger.debug("{} already exists in the ingest document. Removing it from output mapping", newDocumentFieldName);
-                    newOutputMapping.remove(newDocumentFieldName);
-                }
-            }
-            if (newOutputMapping.size() == 0) {
-                batchPredictionListener.onResponse(null);
-                return;
-            }
+        Map<String, List<String>> newOutputMapping = processOutputMap == null
+            ? new HashMap<>()
+            : getNewOutputMapping(ingestDocument, processOutputMap.get(inputMapIndex));
+        if (processOutputMap != null && newOutputMapping.size() == 0) {
+            batchPredictionListener.onResponse(null);
+            return;
         }
         // when no input mapping is provided, default to read all fields from documents as model input
         if (inputMapSize == 0) {
@@ -292,6 +492,70 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
 
     }
 
+    /**
+     * Resolves the document fields of an output mapping to dot paths, leaving out fields that
+     * already exist in the document when override is false.
+     *
+     * @param ingestDocument The IngestDocument to write the model output to.
+     * @param outputMapping  The output mapping, document field as key, model field as value.
+     * @return the document fields to write, mapped to their dot paths
+     */
+    private Map<String, List<String>> getNewOutputMapping(IngestDocument ingestDocument, Map<String, String> outputMapping) {
+        Map<String, Object> ingestDocumentSourceAndMetaData = new HashMap<>();
+        ingestDocumentSourceAndMetaData.putAll(ingestDocument.getSourceAndMetadata());
+        ingestDocumentSourceAndMetaData.put(IngestDocument.INGEST_KEY, ingestDocument.getIngestMetadata());
+
+        Map<String, List<String>> newOutputMapping = new HashMap<>();
+        for (Map.Entry<String, String> entry : outputMapping.entrySet()) {
+            String newDocumentFieldName = entry.getKey();
+            List<String> dotPathsInArray = writeNewDotPathForNestedObject(ingestDocumentSourceAndMetaData, newDocumentFieldName);
+            newOutputMapping.put(newDocumentFieldName, dotPathsInArray);
+        }
+
+        for (Map.Entry<String, String> entry : outputMapping.entrySet()) {
+            String newDocumentFieldName = entry.getKey();
+            List<String> dotPaths = newOutputMapping.get(newDocumentFieldName);
+
+            int existingFields = 0;
+            for (String path : dotPaths) {
+                if (ingestDocument.hasField(path)) {
+                    existingFields++;
+                }
+            }
+            if (!override && existingFields == dotPaths.size()) {
+                logger.debug("{} already exists in the ingest document. Removing it from output mapping", newDocumentFieldName);
+                newOutputMapping.remove(newDocumentFieldName);
+            }
+        }
+        return newOutputMapping;
+    }
+
+    /**
+     * Retrieves the value of a mapped document field, using the dot path first and JSON path for nested arrays.
+     *
+     * @param ingestDocument    The IngestDocument object containing the data.
+     * @param documentFieldName The name of the field in the IngestDocument.
+     * @return the field value, or null if the field is missing and ignoreMissing is true
+     */
+    private Object getModelInputValueFromDocument(IngestDocument ingestDocument, String documentFieldName) {
+        String originalFieldPath = getFieldPath(ingestDocument, documentFieldName);
+        if (originalFieldPath != null) {
+            return ingestDocument.getFieldValue(originalFieldPath, Object.class);
+        }
+        if (!StringUtils.isValidJSONPath(documentFieldName)) {
+            throw new IllegalArgumentException("Cannot find field name defined from input map: " + documentFieldName);
+        }
+        Map<String, Object> sourceObject = ingestDocument.getSourceAndMetadata();
+        Object fieldValue = JsonPath.using(suppressExceptionConfiguration).parse(sourceObject).read(documentFieldName);
+        if (fieldValue instanceof List && ((List<?>) fieldValue).isEmpty()) {
+            fieldValue = null;
+        }
+        if (fieldValue == null && !ignoreMissing) {
+            throw new IllegalArgumentException("Cannot find field name defined from input map: " + documentFieldName);
+        }
+        return fieldValue;
+    }
+
     /**
      * Retrieves the mapped model input from the IngestDocument and updates the model parameters.
      *
@@ -403,7 +667,24 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         if (OutputTransformations.hasTransformation(modelOutputFieldName)) {
             modelOutputValue = OutputTransformations.applyTransformation(modelOutputFieldName, modelOutputValue);
         }
+        setModelOutputValue(modelOutputValue, modelOutputFieldName, newDocumentFieldName, ingestDocument);
+    }
 
+    /**
+     * Writes a model output value to the specified field in the IngestDocument, spreading array values
+     * over nested document arrays.
+     *
+     * @param modelOutputValue     the model output value
+     * @param modelOutputFieldName the name of the field in the model output
+     * @param newDocumentFieldName the name of the field in the IngestDocument to write the value to
+     * @param ingestDocument       the IngestDocument to write the value to
+     */
+    private void setModelOutputValue(
+        Object modelOutputValue,
+        String modelOutputFieldName,
+        String newDocumentFieldName,
+        IngestDocument ingestDocument
+    ) {
         Map<String, Object> ingestDocumentSourceAndMetaData = new HashMap<>();
         ingestDocumentSourceAndMetaData.putAll(ingestDocument.getSourceAndMetadata());
         ingestDocumentSourceAndMetaData.put(IngestDocument.INGEST_KEY, ingestDocument.getIngestMetadata());
@@ -496,6 +777,10 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
                 .readStringProperty(TYPE, processorTag, config, FUNCTION_NAME, FunctionName.REMOTE.name());
 
             String modelInput = ConfigurationUtils.readOptionalStringProperty(TYPE, processorTag, config, MODEL_INPUT);
+            int batchSize = ConfigurationUtils.readIntProperty(TYPE, processorTag, config, BATCH_SIZE, DEFAULT_BATCH_SIZE);
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("The batch_size of ML inference processor must be a positive integer.");
+            }
 
             // if model input is not provided for remote models, use default value
             if (functionName.equalsIgnoreCase("remote")) {
@@ -543,6 +828,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
                 ignoreFailure,
                 override,
                 modelInput,
+                batchSize,
                 scriptService,
                 client,
                 xContentRegistry
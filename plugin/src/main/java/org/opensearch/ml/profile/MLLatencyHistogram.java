@@ -0,0 +1,187 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.opensearch.common.unit.TimeValue;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Fixed-memory, lock-free latency histogram over a sliding time window.
+ * <p>
+ * Durations are counted in log-linear buckets of microseconds: every power of two is split in {@value #SUB_BUCKETS}
+ * sub-buckets, so a percentile is off by at most half a sub-bucket, about 6%, from the recorded duration. The window is
+ * split in {@value #SLOTS} time slots which are reset in turn as time goes by, and the buckets of a slot are striped by
+ * thread so concurrent predict requests of similar durations don't all update the same counter. Recording a duration is
+ * a few atomic increments whatever the size of the window; a few durations racing with the reset of their slot may be
+ * lost.
+ */
+public class MLLatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // durations above ~19 hours are counted as ~19 hours
+    private static final int MAX_EXPONENT = 36;
+    private static final long MAX_MICROS = (1L << MAX_EXPONENT) - 1;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    private static final int STRIPES = 4;
+    private static final int SLOTS = 6;
+
+    private final long slotMillis;
+    private final long createdMillis;
+    private final LongSupplier clock;
+    private final Slot[] slots;
+
+    public MLLatencyHistogram(TimeValue window) {
+        this(window, System::currentTimeMillis);
+    }
+
+    @VisibleForTesting
+    MLLatencyHistogram(TimeValue window, LongSupplier clock) {
+        this.slotMillis = Math.max(1, window.millis() / SLOTS);
+        this.clock = clock;
+        this.createdMillis = clock.getAsLong();
+        this.slots = new Slot[SLOTS];
+        for (int i = 0; i < SLOTS; i++) {
+            slots[i] = new Slot();
+        }
+    }
+
+    /**
+     * @param durationInMillis the duration to record, in milliseconds
+     */
+    public void record(double durationInMillis) {
+        long micros = Math.min(MAX_MICROS, Math.max(0, Math.round(durationInMillis * 1000)));
+        long epoch = clock.getAsLong() / slotMillis;
+        Slot slot = slots[(int) (epoch % SLOTS)];
+        long slotEpoch = slot.epoch.get();
+        if (slotEpoch != epoch) {
+            if (slotEpoch > epoch) {
+                // the slot was already reset for a later epoch by a thread with a more recent time
+                return;
+            }
+            if (slot.epoch.compareAndSet(slotEpoch, epoch)) {
+                slot.reset();
+            }
+        }
+        int stripe = (int) (Thread.currentThread().threadId() % STRIPES);
+        slot.counts.incrementAndGet(stripe * BUCKETS + bucketOf(micros));
+        slot.sum.add(micros);
+        slot.min.accumulateAndGet(micros, Math::min);
+        slot.max.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Clear all the recorded durations.
+     */
+    public void clear() {
+        for (Slot slot : slots) {
+            slot.epoch.set(-1);
+            slot.reset();
+        }
+    }
+
+    /**
+     * @return the stats of the durations recorded in the window, or null if none was recorded
+     */
+    public MLPredictRequestStats getStats() {
+        long now = clock.getAsLong();
+        long epoch = now / slotMillis;
+        long[] counts = new long[BUCKETS];
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        for (Slot slot : slots) {
+            long slotEpoch = slot.epoch.get();
+            if (slotEpoch <= epoch - SLOTS || slotEpoch > epoch) {
+                continue;
+            }
+            for (int i = 0; i < STRIPES * BUCKETS; i++) {
+                counts[i % BUCKETS] += slot.counts.get(i);
+            }
+            sum += slot.sum.sum();
+            min = Math.min(min, slot.min.get());
+            max = Math.max(max, slot.max.get());
+        }
+        long count = 0;
+        for (long bucketCount : counts) {
+            count += bucketCount;
+        }
+        if (count == 0) {
+            return null;
+        }
+        // the window starts at the earliest slot still in use, or at the creation of the histogram
+        long windowMillis = Math.min(now - createdMillis, (SLOTS - 1) * slotMillis + now % slotMillis);
+        return MLPredictRequestStats
+            .builder()
+            .count(count)
+            .max(toMillis(max))
+            .min(toMillis(min))
+            .average(toMillis(sum) / count)
+            .p50(percentile(counts, count, 0.5, min, max))
+            .p90(percentile(counts, count, 0.9, min, max))
+            .p99(percentile(counts, count, 0.99, min, max))
+            .p999(percentile(counts, count, 0.999, min, max))
+            .rate(count * 1000.0 / Math.max(1, windowMillis))
+            .build();
+    }
+
+    @VisibleForTesting
+    static int bucketOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (micros >> shift) - SUB_BUCKETS;
+    }
+
+    private static double percentile(long[] counts, long count, double quantile, long min, long max) {
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        int bucket = 0;
+        for (; bucket < BUCKETS - 1; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                break;
+            }
+        }
+        double micros;
+        if (bucket < SUB_BUCKETS) {
+            micros = bucket;
+        } else {
+            int shift = bucket / SUB_BUCKETS - 1;
+            long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+            micros = lowest + ((1L << shift) - 1) / 2.0;
+        }
+        return toMillis(Math.min(max, Math.max(min, micros)));
+    }
+
+    private static double toMillis(double micros) {
+        return micros / TimeUnit.MILLISECONDS.toMicros(1);
+    }
+
+    private static class Slot {
+        private final AtomicLong epoch = new AtomicLong(-1);
+        private final AtomicIntegerArray counts = new AtomicIntegerArray(STRIPES * BUCKETS);
+        private final LongAdder sum = new LongAdder();
+        private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong max = new AtomicLong();
+
+        private void reset() {
+            for (int i = 0; i < counts.length(); i++) {
+                counts.set(i, 0);
+            }
+            sum.reset();
+            min.set(Long.MAX_VALUE);
+            max.set(0);
+        }
+    }
+}
@@ -5,6 +5,8 @@
 
 package org.opensearch.ml.profile;
 
+import static org.opensearch.ml.common.CommonValue.VERSION_3_7_0;
+
 import java.io.IOException;
 
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -28,9 +30,22 @@ public class MLPredictRequestStats implements ToXContentFragment, Writeable {
     private final Double p50;
     private final Double p90;
     private final Double p99;
+    private final Double p999;
+    // requests per second over the monitoring window
+    private final Double rate;
 
     @Builder
-    public MLPredictRequestStats(Long count, Double max, Double min, Double average, Double p50, Double p90, Double p99) {
+    public MLPredictRequestStats(
+        Long count,
+        Double max,
+        Double min,
+        Double average,
+        Double p50,
+        Double p90,
+        Double p99,
+        Double p999,
+        Double rate
+    ) {
         this.count = count;
         this.max = max;
         this.min = min;
@@ -38,6 +53,8 @@ public class MLPredictRequestStats implements ToXContentFragment, Writeable {
         this.p50 = p50;
         this.p90 = p90;
         this.p99 = p99;
+        this.p999 = p999;
+        this.rate = rate;
     }
 
     @Override
@@ -64,6 +81,12 @@ public class MLPredictRequestStats implements ToXContentFragment, Writeable {
         if (p99 != null) {
             builder.field("p99", p99);
         }
+        if (p999 != null) {
+            builder.field("p999", p999);
+        }
+        if (rate != null) {
+            builder.field("rate", rate);
+        }
         builder.endObject();
         return builder;
     }
@@ -76,6 +99,13 @@ public class MLPredictRequestStats implements ToXContentFragment, Writeable {
         this.p50 = in.readOptionalDouble();
         this.p90 = in.readOptionalDouble();
         this.p99 = in.readOptionalDouble();
+        if (in.getVersion().onOrAfter(VERSION_3_7_0)) {
+            this.p999 = in.readOptionalDouble();
+            this.rate = in.readOptionalDouble();
+        } else {
+            this.p999 = null;
+            this.rate = null;
+        }
     }
 
     @Override
@@ -87,5 +117,9 @@ public class MLPredictRequestStats implements ToXContentFragment, Writeable {
         out.writeOptionalDouble(p50);
         out.writeOptionalDouble(p90);
         out.writeOptionalDouble(p99);
+        if (out.getVersion().onOrAfter(VERSION_3_7_0)) {
+            out.writeOptionalDouble(p999);
+            out.writeOptionalDouble(rate);
+        }
     }
 }
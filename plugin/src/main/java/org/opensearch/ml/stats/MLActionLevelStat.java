@@ -13,7 +13,10 @@ package org.opensearch.ml.stats;
  */
 public enum MLActionLevelStat {
     ML_ACTION_REQUEST_COUNT,
-    ML_ACTION_FAILURE_COUNT;
+    ML_ACTION_FAILURE_COUNT,
+    ML_ACTION_CONCURRENCY_LIMIT, // Adaptive concurrency limit of the remote endpoint of a model
+    ML_ACTION_EMBEDDING_CACHE_HIT_COUNT,
+    ML_ACTION_EMBEDDING_CACHE_MISS_COUNT;
 
     public static MLActionLevelStat from(String value) {
         try {
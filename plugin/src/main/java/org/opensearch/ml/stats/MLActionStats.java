@@ -5,9 +5,14 @@
 
 package org.opensearch.ml.stats;
 
+import static org.opensearch.ml.common.CommonValue.VERSION_3_7_0;
+
 import java.io.IOException;
+import java.util.EnumSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -16,6 +21,13 @@ import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 
 public class MLActionStats implements ToXContentFragment, Writeable {
+    // action level stats added in 3.7.0, which older nodes can't read as they read the stats by ordinal
+    private static final Set<MLActionLevelStat> ACTION_STATS_SINCE_3_7_0 = EnumSet
+        .of(
+            MLActionLevelStat.ML_ACTION_CONCURRENCY_LIMIT,
+            MLActionLevelStat.ML_ACTION_EMBEDDING_CACHE_HIT_COUNT,
+            MLActionLevelStat.ML_ACTION_EMBEDDING_CACHE_MISS_COUNT
+        );
 
     /**
      * Action level stats.
@@ -36,7 +48,15 @@ public class MLActionStats implements ToXContentFragment, Writeable {
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
-        out.writeMap(actionStats, (stream, v) -> stream.writeEnum(v), StreamOutput::writeGenericValue);
+        Map<MLActionLevelStat, Object> stats = actionStats;
+        if (out.getVersion().before(VERSION_3_7_0)) {
+            stats = actionStats
+                .entrySet()
+                .stream()
+                .filter(entry -> !ACTION_STATS_SINCE_3_7_0.contains(entry.getKey()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        }
+        out.writeMap(stats, (stream, v) -> stream.writeEnum(v), StreamOutput::writeGenericValue);
     }
 
     @Override
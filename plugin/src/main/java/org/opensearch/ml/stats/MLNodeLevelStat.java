@@ -16,7 +16,12 @@ public enum MLNodeLevelStat {
     ML_REQUEST_COUNT,
     ML_FAILURE_COUNT,
     ML_DEPLOYED_MODEL_COUNT,
-    ML_CIRCUIT_BREAKER_TRIGGER_COUNT;
+    ML_CIRCUIT_BREAKER_TRIGGER_COUNT,
+    // shared HTTP clients of remote connectors, see MLHttpClientRegistry
+    ML_REMOTE_HTTP_CLIENT_COUNT,
+    ML_REMOTE_HTTP_CLIENT_LEASE_COUNT, // How many remote connectors use the shared HTTP clients
+    ML_REMOTE_HTTP_IN_FLIGHT_REQUEST_COUNT,
+    ML_REMOTE_HTTP_QUEUED_REQUEST_COUNT; // How many requests are waiting for the connection quota of their connector
 
     public static MLNodeLevelStat from(String value) {
         try {
@@ -70,6 +70,20 @@ public class MLStats {
         return createAlgoStatIfAbsent(algoActionStats, stat, () -> new MLStat<>(false, new CounterSupplier()));
     }
 
+    /**
+     * Get model stat or create if absent.
+     * @param modelId model id
+     * @param action action name
+     * @param stat stat key
+     * @param supplier supplier to create MLStat, like a gauge reading the current value
+     * @return existing MLStat or new MLStat
+     */
+    public MLStat<?> createModelStatIfAbsent(String modelId, ActionName action, MLActionLevelStat stat, Supplier<MLStat> supplier) {
+        Map<ActionName, Map<MLActionLevelStat, MLStat>> actionStats = modelStats.computeIfAbsent(modelId, it -> new ConcurrentHashMap<>());
+        Map<MLActionLevelStat, MLStat> algoActionStats = actionStats.computeIfAbsent(action, it -> new ConcurrentHashMap<>());
+        return createAlgoStatIfAbsent(algoActionStats, stat, supplier);
+    }
+
     public synchronized MLStat<?> createAlgoStatIfAbsent(
         Map<MLActionLevelStat, MLStat> algoActionStats,
         MLActionLevelStat key,
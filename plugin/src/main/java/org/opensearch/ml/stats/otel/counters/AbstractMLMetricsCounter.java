@@ -5,8 +5,10 @@
 
 package org.opensearch.ml.stats.otel.counters;
 
+import java.io.Closeable;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
@@ -79,6 +81,22 @@ public abstract class AbstractMLMetricsCounter<T extends Enum<T>> {
         histogram.record(value, metricsTags);
     }
 
+    /**
+     * Register a gauge whose value is read by the metrics exporter.
+     * @param metric the gauge metric
+     * @param valueProvider the provider of the value of the gauge
+     * @param customTags the tags of the gauge
+     * @return the handle to close to remove the gauge, or null if metric collection is disabled
+     */
+    public Closeable registerGauge(T metric, Supplier<Double> valueProvider, Tags customTags) {
+        if (!mlFeatureEnabledSetting.isMetricCollectionEnabled()) {
+            return null;
+        }
+
+        Tags metricsTags = (customTags == null ? Tags.create() : customTags).addTag(CLUSTER_NAME_TAG, clusterName);
+        return metricsRegistry.createGauge(PREFIX + metric.name(), getMetricDescription(metric), UNIT, valueProvider, metricsTags);
+    }
+
     private Counter createMetricCounter(T metric) {
         return metricsRegistry.createCounter(PREFIX + metric.name(), getMetricDescription(metric), UNIT);
     }
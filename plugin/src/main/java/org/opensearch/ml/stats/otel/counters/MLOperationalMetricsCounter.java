@@ -38,6 +38,10 @@ public class MLOperationalMetricsCounter extends AbstractMLMetricsCounter<Operat
         return instance;
     }
 
+    public static synchronized boolean isInitialized() {
+        return instance != null;
+    }
+
     /**
      * Resets the singleton instance. This method is only for testing purposes.
      */
@@ -7,7 +7,8 @@ package org.opensearch.ml.stats.otel.metrics;
 
 public enum MetricType {
     HISTOGRAM,
-    COUNTER;
+    COUNTER,
+    GAUGE;
 
     MetricType() {}
 }
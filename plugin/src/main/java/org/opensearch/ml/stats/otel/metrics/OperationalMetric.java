@@ -10,7 +10,12 @@ import lombok.Getter;
 @Getter
 public enum OperationalMetric {
     MODEL_PREDICT_COUNT("Total number of predict calls made", MetricType.COUNTER),
-    MODEL_PREDICT_LATENCY("Latency for model predict", MetricType.HISTOGRAM);
+    MODEL_PREDICT_LATENCY("Latency for model predict", MetricType.HISTOGRAM),
+    MODEL_LATENCY_P50("Median latency of the model in milliseconds over the monitoring window", MetricType.GAUGE),
+    MODEL_LATENCY_P90("90th percentile latency of the model in milliseconds over the monitoring window", MetricType.GAUGE),
+    MODEL_LATENCY_P99("99th percentile latency of the model in milliseconds over the monitoring window", MetricType.GAUGE),
+    MODEL_LATENCY_P999("99.9th percentile latency of the model in milliseconds over the monitoring window", MetricType.GAUGE),
+    MODEL_REQUEST_RATE("Requests per second to the model over the monitoring window", MetricType.GAUGE);
 
     private final String description;
     private final MetricType type;
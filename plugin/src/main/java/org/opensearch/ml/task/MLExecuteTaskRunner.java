@@ -123,7 +123,7 @@ public class MLExecuteTaskRunner extends MLTaskRunner<MLExecuteTaskRequest, MLEx
     }
 
     @Override
-    protected TransportResponseHandler<MLExecuteTaskResponse> getResponseStreamHandler(MLExecuteTaskRequest request) {
+    protected TransportResponseHandler<MLExecuteTaskResponse> getResponseStreamHandler(MLExecuteTaskRequest request, Runnable onCompleted) {
         TransportChannel channel = request.getStreamingChannel();
         return new StreamTransportResponseHandler<MLExecuteTaskResponse>() {
             @Override
@@ -137,6 +137,8 @@ public class MLExecuteTaskRunner extends MLTaskRunner<MLExecuteTaskRequest, MLEx
                     streamResponse.close();
                 } catch (Exception e) {
                     streamResponse.cancel("Stream error", e);
+                } finally {
+                    onCompleted.run();
                 }
             }
 
@@ -146,6 +148,8 @@ public class MLExecuteTaskRunner extends MLTaskRunner<MLExecuteTaskRequest, MLEx
                     channel.sendResponse(exp);
                 } catch (IOException e) {
                     throw new RuntimeException(e);
+                } finally {
+                    onCompleted.run();
                 }
             }
 
@@ -8,6 +8,8 @@ package org.opensearch.ml.task;
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.common.MLModel.ALGORITHM_FIELD;
+import static org.opensearch.ml.common.MLModel.MODEL_CONTENT_FIELD;
+import static org.opensearch.ml.common.MLModel.OLD_MODEL_CONTENT_FIELD;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE;
 import static org.opensearch.ml.common.utils.StringUtils.getErrorMessage;
 import static org.opensearch.ml.permission.AccessController.checkUserPermissions;
@@ -33,17 +35,18 @@ import org.opensearch.action.support.ThreadedActionListener;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.RunOnce;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
-import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
-import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.breaker.BreakerName;
+import org.opensearch.ml.breaker.CircuitBreaker;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.FunctionName;
@@ -69,15 +72,21 @@ import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.algorithms.remote.AdaptiveConcurrencyLimiters;
+import org.opensearch.ml.engine.algorithms.remote.RemoteModel;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
+import org.opensearch.ml.model.MLEmbeddingCache;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLTrainedModelCache;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
 import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.stats.MLStat;
 import org.opensearch.ml.stats.MLStats;
 import org.opensearch.ml.stats.otel.counters.MLOperationalMetricsCounter;
 import org.opensearch.ml.stats.otel.metrics.OperationalMetric;
 import org.opensearch.ml.utils.MLNodeUtils;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.StreamTransportResponseHandler;
 import org.opensearch.transport.TransportChannel;
@@ -89,6 +98,8 @@ import org.opensearch.transport.client.Client;
 import org.opensearch.transport.stream.StreamTransportResponse;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
+import com.networknt.schema.Schema;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -156,7 +167,7 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
     }
 
     @Override
-    protected TransportResponseHandler<MLTaskResponse> getResponseStreamHandler(MLPredictionTaskRequest request) {
+    protected TransportResponseHandler<MLTaskResponse> getResponseStreamHandler(MLPredictionTaskRequest request, Runnable onCompleted) {
         TransportChannel channel = request.getStreamingChannel();
         return new StreamTransportResponseHandler<MLTaskResponse>() {
             @Override
@@ -170,6 +181,8 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                     streamResponse.close();
                 } catch (Exception e) {
                     streamResponse.cancel("Stream error", e);
+                } finally {
+                    onCompleted.run();
                 }
             }
 
@@ -179,6 +192,8 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                     channel.sendResponse(exp);
                 } catch (IOException e) {
                     throw new RuntimeException(e);
+                } finally {
+                    onCompleted.run();
                 }
             }
 
@@ -221,10 +236,12 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
 
         try {
             ActionListener<DiscoveryNode> actionListener = ActionListener.wrap(node -> {
+                ActionListener<MLTaskResponse> taskListener = ActionListener
+                    .runAfter(listener, () -> mlTaskDispatcher.onTaskCompleted(node.getId()));
                 if (clusterService.localNode().getId().equals(node.getId())) {
                     log.debug("Execute ML predict request {} locally on node {}", request.getRequestID(), node.getId());
                     request.setDispatchTask(false);
-                    checkCBAndExecute(functionName, request, listener);
+                    checkCBAndExecute(functionName, request, taskListener);
                 } else {
                     log.debug("Execute ML predict request {} remotely on node {}", request.getRequestID(), node.getId());
                     request.setDispatchTask(false);
@@ -237,10 +254,10 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                                 getTransportStreamActionName(),
                                 request,
                                 TransportRequestOptions.builder().withType(TransportRequestOptions.Type.STREAM).build(),
-                                getResponseStreamHandler(request)
+                                getResponseStreamHandler(request, new RunOnce(() -> mlTaskDispatcher.onTaskCompleted(node.getId())))
                             );
                     } else {
-                        transportService.sendRequest(node, getTransportActionName(), request, getResponseHandler(listener));
+                        transportService.sendRequest(node, getTransportActionName(), request, getResponseHandler(taskListener));
                     }
                 }
             }, listener::onFailure);
@@ -409,6 +426,11 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         return mlModel.getDeploySetting().getIsAutoDeployEnabled();
     }
 
+    private Integer getConcurrencyLimit(String modelId) {
+        Predictable predictor = mlModelManager.getPredictor(modelId);
+        return predictor instanceof RemoteModel ? ((RemoteModel) predictor).getConcurrencyLimit() : null;
+    }
+
     private String getPredictThreadPool(FunctionName functionName) {
         return functionName == FunctionName.REMOTE ? REMOTE_PREDICT_THREAD_POOL : PREDICT_THREAD_POOL;
     }
@@ -435,6 +457,15 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
 
         FunctionName functionName = mlInput.getFunctionName();
         Predictable predictor = mlModelManager.getPredictor(modelId);
+        if (predictor instanceof RemoteModel && AdaptiveConcurrencyLimiters.getInstance().isEnabled()) {
+            mlStats
+                .createModelStatIfAbsent(
+                    modelId,
+                    actionName,
+                    MLActionLevelStat.ML_ACTION_CONCURRENCY_LIMIT,
+                    () -> new MLStat<>(false, () -> getConcurrencyLimit(modelId))
+                );
+        }
         boolean modelReady = predictor != null && predictor.isModelReady();
         if (!modelReady && FunctionName.isAutoDeployEnabled(autoDeploymentEnabled, functionName)) {
             log.info("Auto deploy model {} to local node", modelId);
@@ -459,9 +490,54 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             }));
             return;
         }
+        MLEmbeddingCache embeddingCache = modelReady && channel == null ? mlModelManager.getEmbeddingCache(modelId) : null;
+        if (embeddingCache != null && MLEmbeddingCache.isCacheable(mlInput)) {
+            runPredictWithEmbeddingCache(embeddingCache, modelId, tenantId, mlTask, mlInput, functionName, actionName, internalListener);
+            return;
+        }
         runPredict(modelId, tenantId, mlTask, mlInput, functionName, actionName, internalListener, channel);
     }
 
+    private void runPredictWithEmbeddingCache(
+        MLEmbeddingCache embeddingCache,
+        String modelId,
+        String tenantId,
+        MLTask mlTask,
+        MLInput mlInput,
+        FunctionName functionName,
+        ActionName actionName,
+        ActionListener<MLTaskResponse> internalListener
+    ) {
+        // read before the cache, so an invalidation during the predict keeps its output out of the cache
+        long generation = embeddingCache.getGeneration(modelId);
+        HashCode key;
+        MLTaskResponse cachedResponse;
+        try {
+            key = MLEmbeddingCache.keyOf(mlInput);
+            cachedResponse = embeddingCache.get(modelId, key);
+        } catch (IOException e) {
+            log.warn("Failed to read the embedding cache of model {}", modelId, e);
+            runPredict(modelId, tenantId, mlTask, mlInput, functionName, actionName, internalListener, null);
+            return;
+        }
+        if (cachedResponse != null) {
+            mlStats.createModelCounterStatIfAbsent(modelId, actionName, MLActionLevelStat.ML_ACTION_EMBEDDING_CACHE_HIT_COUNT).increment();
+            handleAsyncMLTaskComplete(mlTask);
+            internalListener.onResponse(cachedResponse);
+            return;
+        }
+        mlStats.createModelCounterStatIfAbsent(modelId, actionName, MLActionLevelStat.ML_ACTION_EMBEDDING_CACHE_MISS_COUNT).increment();
+        ActionListener<MLTaskResponse> cachingListener = ActionListener.wrap(response -> {
+            try {
+                embeddingCache.put(modelId, key, generation, response);
+            } catch (IOException e) {
+                log.warn("Failed to cache the embedding output of model {}", modelId, e);
+            }
+            internalListener.onResponse(response);
+        }, internalListener::onFailure);
+        runPredict(modelId, tenantId, mlTask, mlInput, functionName, actionName, cachingListener, null);
+    }
+
     // todo: add setting to control this as it can impact predict latency
     private void recordPredictMetrics(
         String modelId,
@@ -614,74 +690,126 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             }
 
             // search model by model id.
-            try (ThreadContext.StoredContext context = threadPool.getThreadContext().stashContext()) {
-                ActionListener<GetResponse> getModelListener = ActionListener.wrap(r -> {
-                    if (r == null || !r.isExists()) {
-                        internalListener.onFailure(new ResourceNotFoundException("No model found, please check the modelId."));
+            MLTrainedModelCache trainedModelCache = MLTrainedModelCache.isCacheable(algorithm)
+                ? mlModelManager.getTrainedModelCache()
+                : null;
+            getModelAndPredict(modelId, tenantId, mlTask, mlInput, actionName, internalListener, trainedModelCache);
+        } else {
+            IllegalArgumentException e = new IllegalArgumentException("ModelId is invalid");
+            log.error("ModelId is invalid", e);
+            handlePredictFailure(mlTask, internalListener, e, false, modelId, actionName);
+        }
+    }
+
+    private void getModelAndPredict(
+        String modelId,
+        String tenantId,
+        MLTask mlTask,
+        MLInput mlInput,
+        ActionName actionName,
+        ActionListener<MLTaskResponse> internalListener,
+        MLTrainedModelCache trainedModelCache
+    ) {
+        // the content of a model in the trained model cache isn't loaded again, its document is only read for the owner and
+        // version of the model
+        boolean skipContent = trainedModelCache != null && trainedModelCache.contains(modelId);
+        try (ThreadContext.StoredContext context = threadPool.getThreadContext().stashContext()) {
+            ActionListener<GetResponse> getModelListener = ActionListener.wrap(r -> {
+                if (r == null || !r.isExists()) {
+                    internalListener.onFailure(new ResourceNotFoundException("No model found, please check the modelId."));
+                    return;
+                }
+                try (
+                    XContentParser xContentParser = XContentType.JSON
+                        .xContent()
+                        .createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, r.getSourceAsString())
+                ) {
+                    ensureExpectedToken(XContentParser.Token.START_OBJECT, xContentParser.nextToken(), xContentParser);
+                    GetResponse getResponse = r;
+                    String algorithmName = getResponse.getSource().get(ALGORITHM_FIELD).toString();
+                    MLModel mlModel = MLModel.parse(xContentParser, algorithmName);
+                    mlModel.setModelId(modelId);
+                    User resourceUser = mlModel.getUser();
+                    User requestUser = getUserContext(client);
+                    if (!checkUserPermissions(requestUser, resourceUser, modelId)) {
+                        // The backend roles of request user and resource user doesn't have intersection
+                        OpenSearchException e = new OpenSearchException(
+                            "User: " + requestUser.getName() + " does not have permissions to run predict by model: " + modelId
+                        );
+                        handlePredictFailure(mlTask, internalListener, e, false, modelId, actionName);
                         return;
                     }
-                    try (
-                        XContentParser xContentParser = XContentType.JSON
-                            .xContent()
-                            .createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, r.getSourceAsString())
-                    ) {
-                        ensureExpectedToken(XContentParser.Token.START_OBJECT, xContentParser.nextToken(), xContentParser);
-                        GetResponse getResponse = r;
-                        String algorithmName = getResponse.getSource().get(ALGORITHM_FIELD).toString();
-                        MLModel mlModel = MLModel.parse(xContentParser, algorithmName);
-                        mlModel.setModelId(modelId);
-                        User resourceUser = mlModel.getUser();
-                        User requestUser = getUserContext(client);
-                        if (!checkUserPermissions(requestUser, resourceUser, modelId)) {
-                            // The backend roles of request user and resource user doesn't have intersection
-                            OpenSearchException e = new OpenSearchException(
-                                "User: " + requestUser.getName() + " does not have permissions to run predict by model: " + modelId
-                            );
-                            handlePredictFailure(mlTask, internalListener, e, false, modelId, actionName);
-                            return;
-                        }
-                        // run predict
-                        if (mlTaskManager.contains(mlTask.getTaskId())) {
-                            mlTaskManager.updateTaskStateAsRunning(mlTask.getTaskId(), tenantId, mlTask.isAsync());
-                        }
-                        MLOutput output = mlEngine.predict(mlInput, mlModel);
-                        if (output instanceof MLPredictionOutput) {
-                            ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
-                        }
-                        if (output instanceof ModelTensorOutput) {
-                            validateOutputSchema(modelId, (ModelTensorOutput) output);
-                        }
-                        // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
-                        handleAsyncMLTaskComplete(mlTask);
-                        MLTaskResponse response = MLTaskResponse.builder().output(output).build();
-                        internalListener.onResponse(response);
-                    } catch (Exception e) {
-                        log.error("Failed to predict model " + modelId, e);
-                        internalListener.onFailure(e);
+                    Predictable predictable = trainedModelCache == null ? null : trainedModelCache.get(modelId, r.getVersion());
+                    if (predictable == null && skipContent) {
+                        // the model changed since it was cached, load its new content
+                        trainedModelCache.invalidate(modelId);
+                        getModelAndPredict(modelId, tenantId, mlTask, mlInput, actionName, internalListener, trainedModelCache);
+                        return;
+                    }
+                    // run predict
+                    if (mlTaskManager.contains(mlTask.getTaskId())) {
+                        mlTaskManager.updateTaskStateAsRunning(mlTask.getTaskId(), tenantId, mlTask.isAsync());
+                    }
+                    MLOutput output;
+                    if (predictable != null) {
+                        output = mlEngine.predict(mlInput, predictable);
+                    } else if (trainedModelCache != null) {
+                        predictable = loadTrainedModel(mlModel, r.getVersion(), trainedModelCache);
+                        output = mlEngine.predict(mlInput, predictable);
+                    } else {
+                        output = mlEngine.predict(mlInput, mlModel);
+                    }
+                    if (output instanceof MLPredictionOutput) {
+                        ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
+                    }
+                    if (output instanceof ModelTensorOutput) {
+                        validateOutputSchema(modelId, (ModelTensorOutput) output);
                     }
+                    // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
+                    handleAsyncMLTaskComplete(mlTask);
+                    MLTaskResponse response = MLTaskResponse.builder().output(output).build();
+                    internalListener.onResponse(response);
+                } catch (Exception e) {
+                    log.error("Failed to predict model " + modelId, e);
+                    internalListener.onFailure(e);
+                }
 
-                }, e -> {
-                    log.error("Failed to predict " + mlInput.getAlgorithm() + ", modelId: " + mlTask.getModelId(), e);
-                    handlePredictFailure(mlTask, internalListener, e, true, modelId, actionName);
-                });
-                GetRequest getRequest = new GetRequest(ML_MODEL_INDEX, mlTask.getModelId());
-                client
-                    .get(
-                        getRequest,
-                        threadedActionListener(
-                            mlTask.getFunctionName(),
-                            ActionListener.runBefore(getModelListener, () -> context.restore())
-                        )
-                    );
-            } catch (Exception e) {
-                log.error("Failed to get model " + mlTask.getModelId(), e);
+            }, e -> {
+                log.error("Failed to predict " + mlInput.getAlgorithm() + ", modelId: " + mlTask.getModelId(), e);
                 handlePredictFailure(mlTask, internalListener, e, true, modelId, actionName);
+            });
+            GetRequest getRequest = new GetRequest(ML_MODEL_INDEX, mlTask.getModelId());
+            if (skipContent) {
+                getRequest
+                    .fetchSourceContext(
+                        new FetchSourceContext(true, null, new String[] { MODEL_CONTENT_FIELD, OLD_MODEL_CONTENT_FIELD })
+                    );
             }
+            client
+                .get(
+                    getRequest,
+                    threadedActionListener(
+                        mlTask.getFunctionName(),
+                        ActionListener.runBefore(getModelListener, () -> context.restore())
+                    )
+                );
+        } catch (Exception e) {
+            log.error("Failed to get model " + mlTask.getModelId(), e);
+            handlePredictFailure(mlTask, internalListener, e, true, modelId, actionName);
+        }
+    }
+
+    private Predictable loadTrainedModel(MLModel mlModel, long version, MLTrainedModelCache trainedModelCache) {
+        Predictable predictable = mlEngine.deploy(mlModel, null);
+        // don't keep more models in the heap once it's nearly full
+        CircuitBreaker memoryBreaker = mlCircuitBreakerService.getBreaker(BreakerName.MEMORY);
+        if (memoryBreaker != null && memoryBreaker.isOpen()) {
+            trainedModelCache.clear();
         } else {
-            IllegalArgumentException e = new IllegalArgumentException("ModelId is invalid");
-            log.error("ModelId is invalid", e);
-            handlePredictFailure(mlTask, internalListener, e, false, modelId, actionName);
+            long contentSize = mlModel.getContent() == null ? 0 : mlModel.getContent().length();
+            trainedModelCache.put(mlModel.getModelId(), version, predictable, contentSize);
         }
+        return predictable;
     }
 
     private <T> ThreadedActionListener<T> threadedActionListener(FunctionName functionName, ActionListener<T> listener) {
@@ -715,14 +843,15 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
     }
 
     public void validateOutputSchema(String modelId, ModelTensorOutput output) {
-        if (mlModelManager.getModelInterface(modelId) != null && mlModelManager.getModelInterface(modelId).get("output") != null) {
-            String outputSchemaString = mlModelManager.getModelInterface(modelId).get("output");
+        Map<String, String> modelInterface = mlModelManager.getModelInterface(modelId);
+        if (modelInterface != null && modelInterface.get("output") != null) {
+            String outputSchemaString = modelInterface.get("output");
             try {
-                MLNodeUtils
-                    .validateSchema(
-                        outputSchemaString,
-                        output.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS).toString()
-                    );
+                Schema outputSchema = mlModelManager.getModelInterfaceSchema(modelId, "output");
+                if (outputSchema == null) {
+                    outputSchema = MLNodeUtils.compileSchema(outputSchemaString);
+                }
+                MLNodeUtils.validateSchema(outputSchema, outputSchemaString, MLNodeUtils.toJsonNode(output));
             } catch (Exception e) {
                 throw new OpenSearchStatusException(
                     "Error validating output schema, if you think this is expected, please update your 'output' field in the 'interface' field for this model: "
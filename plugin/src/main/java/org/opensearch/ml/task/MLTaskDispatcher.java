@@ -6,17 +6,26 @@
 package org.opensearch.ml.task;
 
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_MS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import javax.naming.LimitExceededException;
 
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Randomness;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.action.stats.MLStatsNodeResponse;
@@ -33,6 +42,8 @@ import lombok.extern.log4j.Log4j2;
 
 /**
  * MLTaskDispatcher is responsible for dispatching the ml tasks.
+ * Least load dispatching reads node load from a local view which is refreshed from node stats at most once per refresh
+ * interval, and updated in between as tasks are dispatched and completed.
  * TODO: Add more test
  */
 @Log4j2
@@ -41,12 +52,21 @@ public class MLTaskDispatcher {
     private final short DEFAULT_JVM_HEAP_USAGE_THRESHOLD = 85;
     private final String ROUND_ROBIN = "round_robin";
     private final String LEAST_LOAD = "least_load";
+    private final String POWER_OF_TWO_CHOICES = "power_of_two_choices";
+    // cached node load older than this many refresh intervals is not used for dispatching
+    private static final int MAX_NODE_LOAD_STALENESS_FACTOR = 10;
+    private static final Comparator<NodeLoad> NODE_LOAD_COMPARATOR = Comparator
+        .comparingLong(NodeLoad::getExecutingTaskCount)
+        .thenComparingLong(nodeLoad -> nodeLoad.jvmHeapUsage);
     private final ClusterService clusterService;
     private final Client client;
     private AtomicInteger nextNode;
     private volatile Integer maxMLBatchTaskPerNode;
     private volatile String dispatchPolicy;
+    private volatile Integer loadRefreshIntervalInMillis;
     private DiscoveryNodeHelper nodeHelper;
+    private final Map<String, NodeLoad> nodeLoads = new ConcurrentHashMap<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
 
     public MLTaskDispatcher(ClusterService clusterService, Client client, Settings settings, DiscoveryNodeHelper nodeHelper) {
         this.clusterService = clusterService;
@@ -57,6 +77,10 @@ public class MLTaskDispatcher {
         this.dispatchPolicy = ML_COMMONS_TASK_DISPATCH_POLICY.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_TASK_DISPATCH_POLICY, it -> dispatchPolicy = it);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MAX_ML_TASK_PER_NODE, it -> maxMLBatchTaskPerNode = it);
+        this.loadRefreshIntervalInMillis = ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_MS.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_MS, it -> loadRefreshIntervalInMillis = it);
     }
 
     /**
@@ -67,7 +91,7 @@ public class MLTaskDispatcher {
     public void dispatch(FunctionName functionName, ActionListener<DiscoveryNode> actionListener) {
         if (ROUND_ROBIN.equals(dispatchPolicy)) {
             dispatchTaskWithRoundRobin(functionName, actionListener);
-        } else if (LEAST_LOAD.equals(dispatchPolicy)) {
+        } else if (LEAST_LOAD.equals(dispatchPolicy) || POWER_OF_TWO_CHOICES.equals(dispatchPolicy)) {
             dispatchTaskWithLeastLoad(functionName, actionListener);
         } else {
             throw new IllegalArgumentException("Unknown policy");
@@ -83,7 +107,7 @@ public class MLTaskDispatcher {
                 nodeIds,
                 ActionListener.wrap(nodeId -> actionListener.onResponse(nodeHelper.getNode(nodeId)), e -> actionListener.onFailure(e))
             );
-        } else if (LEAST_LOAD.equals(dispatchPolicy)) {
+        } else if (LEAST_LOAD.equals(dispatchPolicy) || POWER_OF_TWO_CHOICES.equals(dispatchPolicy)) {
             dispatchTaskWithLeastLoad(nodeIds, actionListener);
         } else {
             throw new IllegalArgumentException("Unknown policy");
@@ -105,58 +129,135 @@ public class MLTaskDispatcher {
     }
 
     private void dispatchTaskWithLeastLoad(DiscoveryNode[] nodes, ActionListener<DiscoveryNode> listener) {
+        if (loadRefreshIntervalInMillis > 0) {
+            List<NodeLoad> cachedNodeLoads = getCachedNodeLoads(nodes);
+            if (cachedNodeLoads.size() > 0) {
+                selectNode(cachedNodeLoads, listener);
+                return;
+            }
+        }
+        fetchNodeLoads(nodes, ActionListener.wrap(nodeLoads -> selectNode(nodeLoads, listener), exception -> {
+            log.error("Failed to get node's task stats", exception);
+            listener.onFailure(exception);
+        }));
+    }
+
+    /**
+     * Read the load of the given nodes from the local load view. Entries older than the refresh interval are still served, but
+     * trigger a background refresh; entries too old to be trusted are skipped.
+     * @param nodes candidate nodes
+     * @return cached load of candidate nodes, empty if the nodes' stats need to be fetched before dispatching
+     */
+    private List<NodeLoad> getCachedNodeLoads(DiscoveryNode[] nodes) {
+        long now = System.nanoTime();
+        long refreshIntervalInNanos = TimeUnit.MILLISECONDS.toNanos(loadRefreshIntervalInMillis);
+        List<NodeLoad> cachedNodeLoads = new ArrayList<>(nodes.length);
+        boolean needRefresh = false;
+        for (DiscoveryNode node : nodes) {
+            NodeLoad nodeLoad = nodeLoads.get(node.getId());
+            if (nodeLoad == null) {
+                needRefresh = true;
+                continue;
+            }
+            long age = now - nodeLoad.refreshTime;
+            if (age >= refreshIntervalInNanos) {
+                needRefresh = true;
+            }
+            if (age < refreshIntervalInNanos * MAX_NODE_LOAD_STALENESS_FACTOR) {
+                cachedNodeLoads.add(nodeLoad);
+            }
+        }
+        if (needRefresh && cachedNodeLoads.size() > 0 && refreshing.compareAndSet(false, true)) {
+            fetchNodeLoads(nodes, ActionListener.runAfter(ActionListener.wrap(r -> {}, exception -> {
+                log.warn("Failed to refresh node's task stats", exception);
+            }), () -> refreshing.set(false)));
+        }
+        return cachedNodeLoads;
+    }
+
+    private void fetchNodeLoads(DiscoveryNode[] nodes, ActionListener<List<NodeLoad>> listener) {
         MLStatsNodesRequest MLStatsNodesRequest = new MLStatsNodesRequest(nodes);
         MLStatsNodesRequest.addNodeLevelStats(ImmutableSet.of(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, MLNodeLevelStat.ML_JVM_HEAP_USAGE));
 
         client.execute(MLStatsNodesAction.INSTANCE, MLStatsNodesRequest, ActionListener.wrap(mlStatsResponse -> {
-            // Check JVM pressure
-            List<MLStatsNodeResponse> candidateNodeResponse = mlStatsResponse
-                .getNodes()
-                .stream()
-                .filter(stat -> (long) stat.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE) < DEFAULT_JVM_HEAP_USAGE_THRESHOLD)
-                .collect(Collectors.toList());
-
-            if (candidateNodeResponse.size() == 0) {
-                String errorMessage = "All nodes' memory usage exceeds limitation "
-                    + DEFAULT_JVM_HEAP_USAGE_THRESHOLD
-                    + ". No eligible node available to run ml jobs ";
-                log.warn(errorMessage);
-                listener.onFailure(new LimitExceededException(errorMessage));
-                return;
+            long refreshTime = System.nanoTime();
+            List<NodeLoad> fetchedNodeLoads = new ArrayList<>(mlStatsResponse.getNodes().size());
+            for (MLStatsNodeResponse stat : mlStatsResponse.getNodes()) {
+                NodeLoad nodeLoad = new NodeLoad(
+                    stat.getNode(),
+                    (Long) stat.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT),
+                    (Long) stat.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE),
+                    refreshTime
+                );
+                fetchedNodeLoads.add(nodeLoad);
+            }
+            for (NodeLoad nodeLoad : fetchedNodeLoads) {
+                nodeLoads.put(nodeLoad.node.getId(), nodeLoad);
             }
+            listener.onResponse(fetchedNodeLoads);
+        }, listener::onFailure));
+    }
 
-            // Check # of executing ML task
-            candidateNodeResponse = candidateNodeResponse
-                .stream()
-                .filter(stat -> (Long) stat.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT) < maxMLBatchTaskPerNode)
-                .collect(Collectors.toList());
-            if (candidateNodeResponse.size() == 0) {
-                String errorMessage = "All nodes' executing ML task count reach limitation.";
-                log.warn(errorMessage);
-                listener.onFailure(new LimitExceededException(errorMessage));
-                return;
+    private void selectNode(List<NodeLoad> nodeLoads, ActionListener<DiscoveryNode> listener) {
+        // Check JVM pressure
+        List<NodeLoad> candidateNodes = nodeLoads
+            .stream()
+            .filter(nodeLoad -> nodeLoad.jvmHeapUsage < DEFAULT_JVM_HEAP_USAGE_THRESHOLD)
+            .collect(Collectors.toList());
+
+        if (candidateNodes.size() == 0) {
+            String errorMessage = "All nodes' memory usage exceeds limitation "
+                + DEFAULT_JVM_HEAP_USAGE_THRESHOLD
+                + ". No eligible node available to run ml jobs ";
+            log.warn(errorMessage);
+            listener.onFailure(new LimitExceededException(errorMessage));
+            return;
+        }
+
+        // Check # of executing ML task
+        candidateNodes = candidateNodes
+            .stream()
+            .filter(nodeLoad -> nodeLoad.getExecutingTaskCount() < maxMLBatchTaskPerNode)
+            .collect(Collectors.toList());
+        if (candidateNodes.size() == 0) {
+            String errorMessage = "All nodes' executing ML task count reach limitation.";
+            log.warn(errorMessage);
+            listener.onFailure(new LimitExceededException(errorMessage));
+            return;
+        }
+
+        NodeLoad targetNode;
+        if (POWER_OF_TWO_CHOICES.equals(dispatchPolicy) && candidateNodes.size() > 2) {
+            // sample two distinct nodes and take the less loaded one, which avoids sending every concurrent dispatch
+            // to the same node while the load view is catching up
+            Random random = Randomness.get();
+            int first = random.nextInt(candidateNodes.size());
+            int second = random.nextInt(candidateNodes.size() - 1);
+            if (second >= first) {
+                second++;
             }
+            NodeLoad firstNode = candidateNodes.get(first);
+            NodeLoad secondNode = candidateNodes.get(second);
+            targetNode = NODE_LOAD_COMPARATOR.compare(firstNode, secondNode) <= 0 ? firstNode : secondNode;
+        } else {
+            // choose the node with least executing ML task, then least JVM heap usage
+            targetNode = candidateNodes.stream().min(NODE_LOAD_COMPARATOR).get();
+        }
+        // count the dispatched task right away, so following dispatches see it before the next refresh
+        targetNode.executingTaskCount.incrementAndGet();
+        listener.onResponse(targetNode.node);
+    }
 
-            // sort nodes by JVM usage percentage and # of executing ML task
-            Optional<MLStatsNodeResponse> targetNode = candidateNodeResponse
-                .stream()
-                .sorted((MLStatsNodeResponse r1, MLStatsNodeResponse r2) -> {
-                    int result = ((Long) r1.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT))
-                        .compareTo((Long) r2.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT));
-                    if (result == 0) {
-                        // if multiple nodes have same running task count, choose the one with least
-                        // JVM heap usage.
-                        return ((Long) r1.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE))
-                            .compareTo((Long) r2.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE));
-                    }
-                    return result;
-                })
-                .findFirst();
-            listener.onResponse(targetNode.get().getNode());
-        }, exception -> {
-            log.error("Failed to get node's task stats", exception);
-            listener.onFailure(exception);
-        }));
+    /**
+     * Notify the dispatcher that a task dispatched to a node has completed, so the load view doesn't need to wait for
+     * the next refresh to see the node's executing task count go down.
+     * @param nodeId id of the node which executed the task
+     */
+    public void onTaskCompleted(String nodeId) {
+        NodeLoad nodeLoad = nodeLoads.get(nodeId);
+        if (nodeLoad != null) {
+            nodeLoad.executingTaskCount.updateAndGet(count -> Math.max(0, count - 1));
+        }
     }
 
     private void dispatchTaskWithLeastLoad(FunctionName functionName, ActionListener<DiscoveryNode> listener) {
@@ -177,4 +278,24 @@ public class MLTaskDispatcher {
         dispatchTaskWithRoundRobin(eligibleNodes, listener);
     }
 
+    /**
+     * Load of one node as last reported by its stats, plus the tasks dispatched to and completed on it since then.
+     */
+    private static class NodeLoad {
+        private final DiscoveryNode node;
+        private final AtomicLong executingTaskCount;
+        private final long jvmHeapUsage;
+        private final long refreshTime;
+
+        NodeLoad(DiscoveryNode node, long executingTaskCount, long jvmHeapUsage, long refreshTime) {
+            this.node = node;
+            this.executingTaskCount = new AtomicLong(executingTaskCount);
+            this.jvmHeapUsage = jvmHeapUsage;
+            this.refreshTime = refreshTime;
+        }
+
+        long getExecutingTaskCount() {
+            return executingTaskCount.get();
+        }
+    }
 }
@@ -11,6 +11,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.util.concurrent.RunOnce;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.transport.TransportResponse;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
@@ -110,10 +111,11 @@ public abstract class MLTaskRunner<Request extends MLTaskRequest, Response exten
     ) {
         mlTaskDispatcher.dispatch(functionName, ActionListener.wrap(node -> {
             String nodeId = node.getId();
+            ActionListener<Response> taskListener = ActionListener.runAfter(listener, () -> mlTaskDispatcher.onTaskCompleted(nodeId));
             if (clusterService.localNode().getId().equals(nodeId)) {
                 // Execute ML task locally
                 log.debug("Execute ML request {} locally on node {}", request.getRequestID(), nodeId);
-                checkCBAndExecute(functionName, request, listener);
+                checkCBAndExecute(functionName, request, taskListener);
             } else {
                 // Execute ML task remotely
                 log.debug("Execute ML request {} remotely on node {}", request.getRequestID(), nodeId);
@@ -126,10 +128,10 @@ public abstract class MLTaskRunner<Request extends MLTaskRequest, Response exten
                             getTransportStreamActionName(),
                             request,
                             TransportRequestOptions.builder().withType(TransportRequestOptions.Type.STREAM).build(),
-                            getResponseStreamHandler(request)
+                            getResponseStreamHandler(request, new RunOnce(() -> mlTaskDispatcher.onTaskCompleted(nodeId)))
                         );
                 } else {
-                    transportService.sendRequest(node, getTransportActionName(), request, getResponseHandler(listener));
+                    transportService.sendRequest(node, getTransportActionName(), request, getResponseHandler(taskListener));
                 }
             }
         }, listener::onFailure));
@@ -141,7 +143,12 @@ public abstract class MLTaskRunner<Request extends MLTaskRequest, Response exten
 
     protected abstract TransportResponseHandler<Response> getResponseHandler(ActionListener<Response> listener);
 
-    protected TransportResponseHandler<Response> getResponseStreamHandler(Request request) {
+    /**
+     * @param request the streaming request
+     * @param onCompleted to run once the stream completes or fails
+     * @return the handler of the streamed responses
+     */
+    protected TransportResponseHandler<Response> getResponseStreamHandler(Request request, Runnable onCompleted) {
         throw new UnsupportedOperationException("Streaming is not supported.");
     }
 
@@ -9,8 +9,14 @@ import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedTok
 import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_ROLE_NAME;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -26,6 +32,9 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.breaker.ThresholdCircuitBreaker;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStats;
 
@@ -38,10 +47,13 @@ import lombok.experimental.UtilityClass;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ArrayNode;
 import tools.jackson.databind.node.ObjectNode;
 
 @UtilityClass
 public class MLNodeUtils {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     public boolean isMLNode(DiscoveryNode node) {
         return node.getRoles().stream().anyMatch(role -> role.roleName().equalsIgnoreCase(ML_ROLE_NAME));
     }
@@ -70,28 +82,156 @@ public class MLNodeUtils {
     }
 
     public static void validateSchema(String schemaString, String instanceString) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
         // parse the schema JSON as string
-        JsonNode schemaNode = mapper.readTree(schemaString);
-        Schema schema = SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12).getSchema(schemaNode);
+        Schema schema = compileSchema(schemaString);
 
         // JSON data to validate
-        JsonNode jsonNode = mapper.readTree(instanceString);
+        JsonNode jsonNode = MAPPER.readTree(instanceString);
+
+        validateSchema(schema, schemaString, jsonNode);
+    }
 
-        // Validate JSON node against the schema
-        List<Error> errors = schema.validate(jsonNode);
+    /**
+     * Validate the JSON node against the compiled schema.
+     * @param schema the compiled schema
+     * @param schemaString the schema JSON string, only used in the error message
+     * @param instance the JSON node to validate
+     */
+    public static void validateSchema(Schema schema, String schemaString, JsonNode instance) {
+        List<Error> errors = schema.validate(instance);
         if (!errors.isEmpty()) {
             throw new OpenSearchParseException(
                 "Validation failed: "
                     + Arrays.toString(errors.toArray(new Error[0]))
                     + " for instance: "
-                    + instanceString
+                    + instance
                     + " with schema: "
                     + schemaString
             );
         }
     }
 
+    /**
+     * Compile the JSON schema, the compiled schema is thread safe and can be reused to validate many instances.
+     * @param schemaString the schema JSON string
+     * @return the compiled schema
+     */
+    public static Schema compileSchema(String schemaString) {
+        JsonNode schemaNode = MAPPER.readTree(schemaString);
+        return SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_2020_12).getSchema(schemaNode);
+    }
+
+    /**
+     * Build the JSON tree of the model tensor output directly, the tree is the same as parsing the XContent of the output.
+     * @param output model tensor output
+     * @return the JSON tree of the output
+     * @throws IOException if a tensor of the output can't be written
+     */
+    public static JsonNode toJsonNode(ModelTensorOutput output) throws IOException {
+        ObjectNode outputNode = MAPPER.createObjectNode();
+        if (output.getMlModelOutputs() == null || output.getMlModelOutputs().isEmpty()) {
+            return outputNode;
+        }
+        ArrayNode inferenceResults = outputNode.putArray(ModelTensorOutput.INFERENCE_RESULT_FIELD);
+        for (ModelTensors modelTensors : output.getMlModelOutputs()) {
+            ObjectNode modelTensorsNode = inferenceResults.addObject();
+            if (modelTensors.getMlModelTensors() != null && !modelTensors.getMlModelTensors().isEmpty()) {
+                ArrayNode tensors = modelTensorsNode.putArray(ModelTensors.OUTPUT_FIELD);
+                for (ModelTensor modelTensor : modelTensors.getMlModelTensors()) {
+                    modelTensor.writeFields(new JsonNodeFieldWriter(tensors.addObject()));
+                }
+            }
+            if (modelTensors.getStatusCode() != null) {
+                modelTensorsNode.put(ModelTensors.STATUS_CODE_FIELD, modelTensors.getStatusCode());
+            }
+        }
+        return outputNode;
+    }
+
+    private static class JsonNodeFieldWriter implements ModelTensor.FieldWriter {
+        private final Deque<ObjectNode> objects = new ArrayDeque<>();
+
+        private JsonNodeFieldWriter(ObjectNode tensorNode) {
+            objects.push(tensorNode);
+        }
+
+        @Override
+        public void field(String name, String value) {
+            objects.peek().put(name, value);
+        }
+
+        @Override
+        public void field(String name, long[] values) {
+            ArrayNode array = objects.peek().putArray(name);
+            for (long value : values) {
+                array.add(value);
+            }
+        }
+
+        @Override
+        public void field(String name, float[] values) {
+            ArrayNode array = objects.peek().putArray(name);
+            for (float value : values) {
+                array.add(value);
+            }
+        }
+
+        @Override
+        public void field(String name, int[] values) {
+            ArrayNode array = objects.peek().putArray(name);
+            for (int value : values) {
+                array.add(value);
+            }
+        }
+
+        @Override
+        public void field(String name, Number[] values) {
+            ArrayNode array = objects.peek().putArray(name);
+            for (Number value : values) {
+                addNumber(array, value);
+            }
+        }
+
+        @Override
+        public void field(String name, byte[] value) {
+            // binary values are written as base64 strings in JSON
+            objects.peek().put(name, Base64.getEncoder().encodeToString(value));
+        }
+
+        @Override
+        public void field(String name, Map<String, ?> value) {
+            objects.peek().set(name, MAPPER.valueToTree(value));
+        }
+
+        @Override
+        public void startObject(String name) {
+            objects.push(objects.peek().putObject(name));
+        }
+
+        @Override
+        public void endObject() {
+            objects.pop();
+        }
+    }
+
+    private static void addNumber(ArrayNode arrayNode, Number number) {
+        if (number == null) {
+            arrayNode.addNull();
+        } else if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            arrayNode.add(number.intValue());
+        } else if (number instanceof Long) {
+            arrayNode.add(number.longValue());
+        } else if (number instanceof Float) {
+            arrayNode.add(number.floatValue());
+        } else if (number instanceof BigInteger) {
+            arrayNode.add((BigInteger) number);
+        } else if (number instanceof BigDecimal) {
+            arrayNode.add((BigDecimal) number);
+        } else {
+            arrayNode.add(number.doubleValue());
+        }
+    }
+
     /**
      * This method processes the input JSON string and replaces the string values of the parameters with JSON objects if the string is a valid JSON, unless the schema defines the value as a string.
      * @param inputJson The input JSON string
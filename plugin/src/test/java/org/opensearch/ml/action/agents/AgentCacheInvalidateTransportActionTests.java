@@ -0,0 +1,178 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.agents;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_AGENT_CACHE_SIZE;
+
+import java.net.InetAddress;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opensearch.Version;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.ml.common.agent.MLAgent;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateAction;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodeRequest;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodeResponse;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodesRequest;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodesResponse;
+import org.opensearch.ml.engine.algorithms.agent.AgentCache;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+import org.opensearch.transport.client.Client;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AgentCacheInvalidateTransportActionTests {
+
+    @Mock
+    private TransportService transportService;
+
+    @Mock
+    private ActionFilters actionFilters;
+
+    @Mock
+    private ClusterService clusterService;
+
+    @Mock
+    private Client client;
+
+    @Mock
+    private ThreadPool threadPool;
+
+    @Mock
+    private ActionListener<String> listener;
+
+    private AgentCacheInvalidateTransportAction action;
+
+    private DiscoveryNode localNode;
+
+    @Before
+    public void setUp() {
+        action = new AgentCacheInvalidateTransportAction(transportService, actionFilters, clusterService, null);
+        localNode = new DiscoveryNode(
+            "foo0",
+            "foo0",
+            new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+            Collections.emptyMap(),
+            Collections.singleton(CLUSTER_MANAGER_ROLE),
+            Version.CURRENT
+        );
+    }
+
+    @Test
+    public void testNodeOperation() {
+        Settings settings = Settings.builder().put(ML_COMMONS_AGENT_CACHE_SIZE.getKey(), 10).build();
+        ClusterSettings clusterSettings = new ClusterSettings(settings, Set.of(ML_COMMONS_AGENT_CACHE_SIZE));
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        when(clusterService.localNode()).thenReturn(localNode);
+        AgentCache agentCache = AgentCache.getInstance();
+        agentCache.initialize(clusterService, settings);
+        MLAgent agent = MLAgent.builder().name("test_agent").type("flow").build();
+        agentCache.putAgent("agent_id", null, agent, agentCache.getVersion());
+        agentCache.putAgent("other_agent_id", null, agent, agentCache.getVersion());
+
+        MLAgentCacheInvalidateNodeResponse response = action
+            .nodeOperation(new MLAgentCacheInvalidateNodeRequest(MLAgentCacheInvalidateNodesRequest.forAgent("agent_id")));
+        assertEquals(localNode, response.getNode());
+        assertNull(agentCache.getAgent("agent_id", null));
+        assertSame(agent, agentCache.getAgent("other_agent_id", null));
+
+        // disable the shared cache again
+        clusterSettings.applySettings(Settings.builder().put(ML_COMMONS_AGENT_CACHE_SIZE.getKey(), 0).build());
+        assertNull(agentCache.getAgent("other_agent_id", null));
+    }
+
+    @Test
+    public void testNewResponse() {
+        when(clusterService.getClusterName()).thenReturn(new ClusterName("test"));
+        MLAgentCacheInvalidateNodesResponse response = action
+            .newResponse(
+                MLAgentCacheInvalidateNodesRequest.forAgent("agent_id"),
+                List.of(new MLAgentCacheInvalidateNodeResponse(localNode)),
+                List.of()
+            );
+        assertEquals(1, response.getNodes().size());
+    }
+
+    @Test
+    public void testInvalidateBefore() {
+        mockClient();
+        doAnswer(invocation -> {
+            ActionListener<MLAgentCacheInvalidateNodesResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(new MLAgentCacheInvalidateNodesResponse(new ClusterName("test"), List.of(), List.of()));
+            return null;
+        }).when(client).execute(eq(MLAgentCacheInvalidateAction.INSTANCE), any(), any());
+
+        AgentCacheInvalidateTransportAction
+            .invalidateBefore(client, MLAgentCacheInvalidateNodesRequest.forConnector("connector_id"), listener)
+            .onResponse("updated");
+        verify(listener).onResponse("updated");
+    }
+
+    @Test
+    public void testInvalidateBefore_InvalidationFailure() {
+        mockClient();
+        doAnswer(invocation -> {
+            ActionListener<MLAgentCacheInvalidateNodesResponse> actionListener = invocation.getArgument(2);
+            actionListener
+                .onResponse(
+                    new MLAgentCacheInvalidateNodesResponse(
+                        new ClusterName("test"),
+                        List.of(),
+                        List.of(new FailedNodeException("foo1", "failed", new RuntimeException("failed")))
+                    )
+                );
+            return null;
+        }).when(client).execute(eq(MLAgentCacheInvalidateAction.INSTANCE), any(), any());
+
+        // the update succeeded, so the failure to invalidate the cache is only logged
+        AgentCacheInvalidateTransportAction
+            .invalidateBefore(client, MLAgentCacheInvalidateNodesRequest.forAgent("agent_id"), listener)
+            .onResponse("updated");
+        verify(listener).onResponse("updated");
+        verify(listener, never()).onFailure(any());
+    }
+
+    @Test
+    public void testInvalidateBefore_UpdateFailure() {
+        RuntimeException exception = new RuntimeException("update failed");
+        AgentCacheInvalidateTransportAction
+            .invalidateBefore(client, MLAgentCacheInvalidateNodesRequest.forAgent("agent_id"), listener)
+            .onFailure(exception);
+        verify(listener).onFailure(exception);
+        verify(client, never()).execute(any(), any(), any());
+    }
+
+    private void mockClient() {
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+    }
+}
@@ -27,6 +27,7 @@ import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -46,6 +47,8 @@ import org.opensearch.ml.common.agent.MLAgent;
 import org.opensearch.ml.common.agent.MLMemorySpec;
 import org.opensearch.ml.common.agent.MLToolSpec;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateAction;
+import org.opensearch.ml.common.transport.agent.MLAgentCacheInvalidateNodesResponse;
 import org.opensearch.ml.common.transport.agent.MLAgentDeleteRequest;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.client.impl.SdkClientFactory;
@@ -103,6 +106,11 @@ public class DeleteAgentTransportActionTests {
         when(client.threadPool()).thenReturn(threadPool);
         when(clusterService.getSettings()).thenReturn(settings);
         when(threadPool.getThreadContext()).thenReturn(threadContext);
+        doAnswer(invocation -> {
+            ActionListener<MLAgentCacheInvalidateNodesResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new MLAgentCacheInvalidateNodesResponse(ClusterName.DEFAULT, List.of(), List.of()));
+            return null;
+        }).when(client).execute(eq(MLAgentCacheInvalidateAction.INSTANCE), any(), any());
 
         deleteResponse = new DeleteResponse(new ShardId(ML_AGENT_INDEX, "_na_", 0), "AGENT_ID", 1, 0, 2, true);
     }
@@ -0,0 +1,138 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.artifact;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_TRANSFER_MAX_MB_PER_SEC;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opensearch.Version;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodeRequest;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodeResponse;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodesRequest;
+import org.opensearch.ml.common.transport.artifact.MLModelArtifactChunkNodesResponse;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.transport.TransportService;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ModelArtifactChunkTransportActionTests {
+
+    private static final String CONTENT_HASH = "c446f747520bcc6af053813cb1e8d34944a7c4686bbb405aeaa23883b5a806c8";
+
+    @Mock
+    private TransportService transportService;
+
+    @Mock
+    private ActionFilters actionFilters;
+
+    @Mock
+    private MLModelManager mlModelManager;
+
+    @Mock
+    private ClusterService clusterService;
+
+    private ModelArtifactChunkTransportAction action;
+
+    private DiscoveryNode localNode;
+
+    @Before
+    public void setUp() {
+        Settings settings = Settings.builder().put(ML_COMMONS_MODEL_ARTIFACT_TRANSFER_MAX_MB_PER_SEC.getKey(), 0).build();
+        ClusterSettings clusterSettings = new ClusterSettings(settings, Set.of(ML_COMMONS_MODEL_ARTIFACT_TRANSFER_MAX_MB_PER_SEC));
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+        action = new ModelArtifactChunkTransportAction(transportService, actionFilters, mlModelManager, clusterService, null, settings);
+
+        localNode = new DiscoveryNode(
+            "foo0",
+            "foo0",
+            new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+            Collections.emptyMap(),
+            Collections.singleton(CLUSTER_MANAGER_ROLE),
+            Version.CURRENT
+        );
+    }
+
+    @Test
+    public void testNodeOperation_Probe() throws IOException {
+        when(clusterService.localNode()).thenReturn(localNode);
+        when(mlModelManager.readModelArtifact(CONTENT_HASH, 0, 0)).thenReturn(Tuple.tuple(100L, new byte[0]));
+
+        MLModelArtifactChunkNodeResponse response = action.nodeOperation(nodeRequest(0, 0));
+        assertTrue(response.isCached());
+        assertEquals(100L, response.getArtifactSize());
+        assertNull(response.getContent());
+    }
+
+    @Test
+    public void testNodeOperation_ReadRange() throws IOException {
+        when(clusterService.localNode()).thenReturn(localNode);
+        byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+        when(mlModelManager.readModelArtifact(CONTENT_HASH, 10, 7)).thenReturn(Tuple.tuple(100L, content));
+
+        MLModelArtifactChunkNodeResponse response = action.nodeOperation(nodeRequest(10, 7));
+        assertEquals(100L, response.getArtifactSize());
+        assertEquals("content", response.getContent().utf8ToString());
+    }
+
+    @Test
+    public void testNodeOperation_NotCached() throws IOException {
+        when(clusterService.localNode()).thenReturn(localNode);
+        when(mlModelManager.readModelArtifact(CONTENT_HASH, 0, 0)).thenReturn(null);
+
+        MLModelArtifactChunkNodeResponse response = action.nodeOperation(nodeRequest(0, 0));
+        assertFalse(response.isCached());
+    }
+
+    @Test
+    public void testNodeOperation_ReadFailure() throws IOException {
+        when(mlModelManager.readModelArtifact(CONTENT_HASH, 0, 10)).thenThrow(new IOException("read failure"));
+
+        MLException exception = assertThrows(MLException.class, () -> action.nodeOperation(nodeRequest(0, 10)));
+        assertEquals("Failed to read model artifact", exception.getMessage());
+    }
+
+    @Test
+    public void testNewResponse() {
+        when(clusterService.getClusterName()).thenReturn(new ClusterName("Local Cluster"));
+        MLModelArtifactChunkNodesRequest nodesRequest = new MLModelArtifactChunkNodesRequest(new String[] { "foo0" }, CONTENT_HASH, 0, 0);
+        MLModelArtifactChunkNodeResponse nodeResponse = new MLModelArtifactChunkNodeResponse(localNode, 100L, null);
+
+        MLModelArtifactChunkNodesResponse response = action.newResponse(nodesRequest, List.of(nodeResponse), Collections.emptyList());
+        assertEquals(1, response.getNodes().size());
+    }
+
+    private MLModelArtifactChunkNodeRequest nodeRequest(long offset, int length) {
+        return new MLModelArtifactChunkNodeRequest(
+            new MLModelArtifactChunkNodesRequest(new String[] { "foo0" }, CONTENT_HASH, offset, length)
+        );
+    }
+}
@@ -71,12 +71,15 @@ import org.opensearch.index.get.GetResult;
 import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.DeleteByQueryAction;
 import org.opensearch.index.reindex.ScrollableHitSource;
+import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.agent.MLAgent;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.model.MLModelDeleteRequest;
+import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.engine.utils.AgentModelsSearcher;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
@@ -132,6 +135,9 @@ public class DeleteModelTransportActionTests extends OpenSearchTestCase {
     @Mock
     private MLFeatureEnabledSetting mlFeatureEnabledSetting;
 
+    @Mock
+    private DiscoveryNodeHelper nodeHelper;
+
     DeleteModelTransportAction deleteModelTransportAction;
     MLModelDeleteRequest mlModelDeleteRequest;
     ThreadContext threadContext;
@@ -182,7 +188,8 @@ public class DeleteModelTransportActionTests extends OpenSearchTestCase {
                 clusterService,
                 modelAccessControlHelper,
                 agentModelsSearcher,
-                mlFeatureEnabledSetting
+                mlFeatureEnabledSetting,
+                nodeHelper
             )
         );
 
@@ -235,6 +242,36 @@ public class DeleteModelTransportActionTests extends OpenSearchTestCase {
         assertEquals(deleteResponse.getResult(), actualResponse.getResult());
     }
 
+    @Test
+    public void testDeleteModel_RemoveModelArtifact() throws IOException {
+        String modelContentHash = "c446f747520bcc6af053813cb1e8d34944a7c4686bbb405aeaa23883b5a806c8";
+        MLModel mlModel = MLModel
+            .builder()
+            .modelId("test_id")
+            .modelState(MLModelState.REGISTERED)
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .modelContentHash(modelContentHash)
+            .build();
+        GetResponse getResponse = buildResponse(mlModel);
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(getResponse);
+            return null;
+        }).when(client).get(any(), any());
+
+        doAnswer(invocation -> {
+            ActionListener<DeleteResponse> listener = invocation.getArgument(1);
+            listener.onResponse(deleteResponse);
+            return null;
+        }).when(client).delete(any(), any());
+
+        deleteModelTransportAction.doExecute(null, mlModelDeleteRequest, actionListener);
+        verify(actionListener).onResponse(any(DeleteResponse.class));
+        ArgumentCaptor<MLSyncUpNodesRequest> captor = forClass(MLSyncUpNodesRequest.class);
+        verify(client).execute(eq(MLSyncUpAction.INSTANCE), captor.capture(), any());
+        assertEquals(Set.of(modelContentHash), captor.getValue().getSyncUpInput().getRemovedModelContentHashes());
+    }
+
     @Test
     public void testDeleteRemoteModel_Success() throws IOException, InterruptedException {
         doAnswer(invocation -> {
@@ -935,7 +972,8 @@ public class DeleteModelTransportActionTests extends OpenSearchTestCase {
                 clusterService,
                 modelAccessControlHelper,
                 agentModelsSearcher,
-                mlFeatureEnabledSetting
+                mlFeatureEnabledSetting,
+                nodeHelper
             )
         );
 
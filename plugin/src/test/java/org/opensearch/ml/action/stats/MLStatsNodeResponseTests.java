@@ -16,6 +16,7 @@ import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ml.common.FunctionName;
@@ -57,6 +58,27 @@ public class MLStatsNodeResponseTests extends OpenSearchTestCase {
         Assert.assertEquals(newResponse.getNodeLevelStatSize(), response.getNodeLevelStatSize());
     }
 
+    public void testWriteTo_NodeStatsBeforeVersion3_7() throws IOException {
+        Map<MLNodeLevelStat, Object> statsToValues = new HashMap<>();
+        statsToValues.put(MLNodeLevelStat.ML_REQUEST_COUNT, 10l);
+        statsToValues.put(MLNodeLevelStat.ML_REMOTE_HTTP_CLIENT_COUNT, 1l);
+        statsToValues.put(MLNodeLevelStat.ML_REMOTE_HTTP_QUEUED_REQUEST_COUNT, 2l);
+        MLStatsNodeResponse response = new MLStatsNodeResponse(node, statsToValues);
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.V_3_0_0);
+        response.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.V_3_0_0);
+        MLStatsNodeResponse newResponse = new MLStatsNodeResponse(input);
+        assertEquals(1, newResponse.getNodeLevelStatSize());
+
+        output = new BytesStreamOutput();
+        response.writeTo(output);
+        newResponse = new MLStatsNodeResponse(output.bytes().streamInput());
+        assertEquals(3, newResponse.getNodeLevelStatSize());
+    }
+
     public void testToXContent_NodeLevelStats() throws IOException {
         XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
         builder.startObject();
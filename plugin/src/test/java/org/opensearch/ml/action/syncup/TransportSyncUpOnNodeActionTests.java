@@ -264,6 +264,66 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
         testFolder.delete();
     }
 
+    @Test
+    public void testNodeOperation_RoutingTableDelta() throws IOException {
+        testFolder.create();
+        File folder = testFolder.newFolder();
+        DiscoveryNode localNode = new DiscoveryNode(
+            "foo0",
+            "foo0",
+            new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+            Collections.emptyMap(),
+            Collections.singleton(CLUSTER_MANAGER_ROLE),
+            Version.CURRENT
+        );
+        when(clusterService.localNode()).thenReturn(localNode);
+        when(mlEngine.getRegisterModelRootPath()).thenReturn(Paths.get(folder.getCanonicalPath()));
+        when(mlEngine.getDeployModelRootPath()).thenReturn(Paths.get(folder.getCanonicalPath()));
+        when(mlEngine.getModelCacheRootPath()).thenReturn(Paths.get(folder.getCanonicalPath()));
+        when(mlModelManager.syncModelWorkerNodesDelta(any(), any(), any(), any())).thenReturn(true);
+        when(mlModelManager.getRoutingTableVersion()).thenReturn("version2");
+
+        Map<String, Set<String>> changedModelWorkerNodes = Map.of("modelId1", Set.of("nodeId1"));
+        MLSyncUpInput syncUpInput = MLSyncUpInput
+            .builder()
+            .getDeployedModels(true)
+            .modelRoutingTable(changedModelWorkerNodes)
+            .removedRoutingModelIds(Set.of("modelId2"))
+            .baseRoutingTableVersion("version1")
+            .routingTableVersion("version2")
+            .build();
+        final MLSyncUpNodeRequest request = action.newNodeRequest(new MLSyncUpNodesRequest(new String[] {}, syncUpInput));
+        final MLSyncUpNodeResponse response = action.nodeOperation(request);
+        verify(mlModelManager).syncModelWorkerNodesDelta(changedModelWorkerNodes, Set.of("modelId2"), "version1", "version2");
+        verify(mlModelManager, never()).syncModelWorkerNodes(any(), any());
+        assertEquals("version2", response.getRoutingTableVersion());
+        testFolder.delete();
+    }
+
+    @Test
+    public void testNodeOperation_RemovedModelContentHashes() throws IOException {
+        testFolder.create();
+        File folder = testFolder.newFolder();
+        DiscoveryNode localNode = new DiscoveryNode(
+            "foo0",
+            "foo0",
+            new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+            Collections.emptyMap(),
+            Collections.singleton(CLUSTER_MANAGER_ROLE),
+            Version.CURRENT
+        );
+        when(clusterService.localNode()).thenReturn(localNode);
+        when(mlEngine.getRegisterModelRootPath()).thenReturn(Paths.get(folder.getCanonicalPath()));
+        when(mlEngine.getDeployModelRootPath()).thenReturn(Paths.get(folder.getCanonicalPath()));
+        when(mlEngine.getModelCacheRootPath()).thenReturn(Paths.get(folder.getCanonicalPath()));
+
+        MLSyncUpInput syncUpInput = MLSyncUpInput.builder().removedModelContentHashes(Set.of("hash1")).build();
+        final MLSyncUpNodeRequest request = action.newNodeRequest(new MLSyncUpNodesRequest(new String[] {}, syncUpInput));
+        action.nodeOperation(request);
+        verify(mlModelManager).removeModelArtifact("hash1");
+        testFolder.delete();
+    }
+
     @Test
     public void testCleanUpLocalCache_NoTasks() {
         when(mlTaskManager.getAllTaskIds()).thenReturn(null);
@@ -11,6 +11,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.CommonValue.ML_JOBS_INDEX;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_7_0;
 
 import java.util.Collections;
 
@@ -27,6 +28,7 @@ import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.ml.autoredeploy.MLModelAutoReDeployer;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
+import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.task.MLTaskManager;
@@ -50,6 +52,8 @@ public class MLCommonsClusterEventListenerTests extends OpenSearchTestCase {
     @Mock
     private MLFeatureEnabledSetting mlFeatureEnabledSetting;
     @Mock
+    private MLEngine mlEngine;
+    @Mock
     private ClusterChangedEvent event;
     @Mock
     private ClusterState clusterState;
@@ -68,7 +72,8 @@ public class MLCommonsClusterEventListenerTests extends OpenSearchTestCase {
             modelCacheHelper,
             mlModelAutoReDeployer,
             client,
-            mlFeatureEnabledSetting
+            mlFeatureEnabledSetting,
+            mlEngine
         );
     }
 
@@ -120,6 +125,16 @@ public class MLCommonsClusterEventListenerTests extends OpenSearchTestCase {
         verify(mlTaskManager, never()).indexStatsCollectorJob(anyBoolean());
     }
 
+    public void testClusterChanged_KMeansCentroidsFormat() {
+        setupClusterState(createDataNode(Version.V_3_1_0), true);
+        listener.clusterChanged(event);
+        verify(mlEngine).setKMeansCentroidsFormat(false);
+
+        setupClusterState(createDataNode(VERSION_3_7_0), true);
+        listener.clusterChanged(event);
+        verify(mlEngine).setKMeansCentroidsFormat(true);
+    }
+
     private DiscoveryNode createDataNode(Version version) {
         return new DiscoveryNode(
             "dataNode",
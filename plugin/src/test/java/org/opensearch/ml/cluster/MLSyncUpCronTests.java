@@ -69,7 +69,9 @@ import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
+import org.opensearch.ml.common.transport.sync.MLSyncUpInput;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodeResponse;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodesResponse;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
@@ -239,6 +241,61 @@ public class MLSyncUpCronTests extends OpenSearchTestCase {
         verify(client, times(1)).execute(eq(MLSyncUpAction.INSTANCE), any(), any());
     }
 
+    public void testBuildSyncUpRequests_RoutingTableDelta() {
+        DiscoveryNode[] allNodes = new DiscoveryNode[] { mlNode1, mlNode2 };
+        Map<String, Set<String>> routingTable = Map.of("model1", Set.of(mlNode1Id), "model2", Set.of(mlNode1Id, mlNode2Id));
+        Map<String, Set<String>> runningDeployModelTasks = Map.of();
+
+        // the first sync sends the full routing table to all nodes
+        List<MLSyncUpNodesRequest> requests = syncUpCron.buildSyncUpRequests(allNodes, routingTable, runningDeployModelTasks, Map.of());
+        assertEquals(1, requests.size());
+        assertEquals(2, requests.get(0).concreteNodes().length);
+        MLSyncUpInput fullInput = requests.get(0).getSyncUpInput();
+        assertFalse(fullInput.isRoutingTableDelta());
+        assertEquals(routingTable, fullInput.getModelRoutingTable());
+        String version = fullInput.getRoutingTableVersion();
+        assertNotNull(version);
+
+        // nothing is sent if the routing table doesn't change
+        Map<String, String> nodeVersions = Map.of(mlNode1Id, version, mlNode2Id, version);
+        requests = syncUpCron.buildSyncUpRequests(allNodes, routingTable, runningDeployModelTasks, nodeVersions);
+        assertEquals(1, requests.size());
+        assertNull(requests.get(0).getSyncUpInput().getModelRoutingTable());
+        assertNull(requests.get(0).getSyncUpInput().getRoutingTableVersion());
+        assertFalse(requests.get(0).getSyncUpInput().isClearRoutingTable());
+
+        // synced node gets the changes only, the node with unknown version gets the full routing table
+        Map<String, Set<String>> newRoutingTable = Map.of("model1", Set.of(mlNode1Id, mlNode2Id), "model3", Set.of(mlNode2Id));
+        requests = syncUpCron.buildSyncUpRequests(allNodes, newRoutingTable, runningDeployModelTasks, Map.of(mlNode1Id, version));
+        assertEquals(2, requests.size());
+        assertEquals(mlNode1Id, requests.get(0).concreteNodes()[0].getId());
+        MLSyncUpInput deltaInput = requests.get(0).getSyncUpInput();
+        assertTrue(deltaInput.isRoutingTableDelta());
+        assertEquals(version, deltaInput.getBaseRoutingTableVersion());
+        assertEquals(newRoutingTable, deltaInput.getModelRoutingTable());
+        assertEquals(Set.of("model2"), deltaInput.getRemovedRoutingModelIds());
+        assertEquals(mlNode2Id, requests.get(1).concreteNodes()[0].getId());
+        MLSyncUpInput newFullInput = requests.get(1).getSyncUpInput();
+        assertFalse(newFullInput.isRoutingTableDelta());
+        assertEquals(newRoutingTable, newFullInput.getModelRoutingTable());
+        assertEquals(deltaInput.getRoutingTableVersion(), newFullInput.getRoutingTableVersion());
+        assertNotEquals(version, newFullInput.getRoutingTableVersion());
+    }
+
+    public void testBuildSyncUpRequests_FullSyncWhenNodesChange() {
+        Map<String, Set<String>> routingTable = Map.of("model1", Set.of(mlNode1Id));
+        List<MLSyncUpNodesRequest> requests = syncUpCron
+            .buildSyncUpRequests(new DiscoveryNode[] { mlNode1 }, routingTable, Map.of(), Map.of());
+        String version = requests.get(0).getSyncUpInput().getRoutingTableVersion();
+
+        DiscoveryNode[] allNodes = new DiscoveryNode[] { mlNode1, mlNode2 };
+        requests = syncUpCron.buildSyncUpRequests(allNodes, routingTable, Map.of(), Map.of(mlNode1Id, version));
+        assertEquals(1, requests.size());
+        assertEquals(2, requests.get(0).concreteNodes().length);
+        assertFalse(requests.get(0).getSyncUpInput().isRoutingTableDelta());
+        assertEquals(routingTable, requests.get(0).getSyncUpInput().getModelRoutingTable());
+    }
+
     public void testRefreshModelState_NoSemaphore() throws InterruptedException {
         syncUpCron.updateModelStateSemaphore.acquire();
         syncUpCron.refreshModelState(null, null);
@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.MLInputDataset;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbeddingParameters;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.test.OpenSearchTestCase;
+
+import com.google.common.hash.HashCode;
+
+public class MLEmbeddingCacheTests extends OpenSearchTestCase {
+
+    private final MLEmbeddingCache embeddingCache = new MLEmbeddingCache(1024 * 1024, TimeValue.timeValueMinutes(10));
+
+    public void testKeyOf() throws IOException {
+        HashCode key = MLEmbeddingCache.keyOf(input(List.of("hello"), null));
+        assertEquals(key, MLEmbeddingCache.keyOf(input(List.of("hello"), null)));
+        assertNotEquals(key, MLEmbeddingCache.keyOf(input(List.of("hello world"), null)));
+        AsymmetricTextEmbeddingParameters query = AsymmetricTextEmbeddingParameters
+            .builder()
+            .embeddingContentType(AsymmetricTextEmbeddingParameters.EmbeddingContentType.QUERY)
+            .build();
+        assertNotEquals(key, MLEmbeddingCache.keyOf(input(List.of("hello"), query)));
+    }
+
+    public void testGetAndPut() throws IOException {
+        HashCode key = MLEmbeddingCache.keyOf(input(List.of("hello"), null));
+        assertNull(embeddingCache.get("model1", key));
+
+        embeddingCache.put("model1", key, 0, response(null));
+        MLTaskResponse cached = embeddingCache.get("model1", key);
+        ModelTensor tensor = ((ModelTensorOutput) cached.getOutput()).getMlModelOutputs().get(0).getMlModelTensors().get(0);
+        assertEquals("sentence_embedding", tensor.getName());
+        assertArrayEquals(new Number[] { 0.1f, 0.2f, 0.3f }, tensor.getData());
+        // every hit gets its own copy
+        assertNotSame(cached, embeddingCache.get("model1", key));
+    }
+
+    public void testInvalidate() throws IOException {
+        HashCode key = MLEmbeddingCache.keyOf(input(List.of("hello"), null));
+        embeddingCache.put("model1", key, 0, response(null));
+        embeddingCache.put("model2", key, 0, response(null));
+        assertEquals(2, embeddingCache.size());
+
+        embeddingCache.invalidate("model1");
+        assertNull(embeddingCache.get("model1", key));
+        assertNotNull(embeddingCache.get("model2", key));
+    }
+
+    public void testPut_InvalidatedDuringPredict() throws IOException {
+        HashCode key = MLEmbeddingCache.keyOf(input(List.of("hello"), null));
+        long generation = embeddingCache.getGeneration("model1");
+        embeddingCache.invalidate("model1");
+
+        // the output of a predict started before the invalidation isn't cached
+        embeddingCache.put("model1", key, generation, response(null));
+        assertNull(embeddingCache.get("model1", key));
+        embeddingCache.put("model1", key, embeddingCache.getGeneration("model1"), response(null));
+        assertNotNull(embeddingCache.get("model1", key));
+    }
+
+    public void testPut_Failure() throws IOException {
+        HashCode key = MLEmbeddingCache.keyOf(input(List.of("hello"), null));
+        embeddingCache.put("model1", key, 0, response(500));
+        assertNull(embeddingCache.get("model1", key));
+        assertEquals(0, embeddingCache.size());
+    }
+
+    public void testIsCacheable() {
+        assertTrue(MLEmbeddingCache.isCacheable(input(List.of("hello"), null)));
+        MLInputDataset remoteInput = RemoteInferenceInputDataSet.builder().build();
+        assertFalse(MLEmbeddingCache.isCacheable(MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(remoteInput).build()));
+    }
+
+    private MLInput input(List<String> docs, AsymmetricTextEmbeddingParameters parameters) {
+        return MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .parameters(parameters)
+            .inputDataset(TextDocsInputDataSet.builder().docs(docs).build())
+            .build();
+    }
+
+    private MLTaskResponse response(Integer statusCode) {
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .dataType(MLResultDataType.FLOAT32)
+            .shape(new long[] { 3 })
+            .data(new Number[] { 0.1f, 0.2f, 0.3f })
+            .build();
+        ModelTensors tensors = new ModelTensors(List.of(tensor));
+        tensors.setStatusCode(statusCode);
+        return new MLTaskResponse(new ModelTensorOutput(List.of(tensors)));
+    }
+}
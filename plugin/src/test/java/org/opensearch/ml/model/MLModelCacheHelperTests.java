@@ -5,14 +5,23 @@
 
 package org.opensearch.ml.model;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_EMBEDDING_CACHE_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_EMBEDDING_CACHE_TTL;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_METRIC_COLLECTION_ENABLED;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MONITORING_WINDOW;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TRAINED_MODEL_CACHE_SIZE;
 import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -31,16 +40,26 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
+import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.profile.MLPredictRequestStats;
+import org.opensearch.ml.stats.otel.counters.MLOperationalMetricsCounter;
+import org.opensearch.telemetry.metrics.MetricsRegistry;
 import org.opensearch.test.OpenSearchTestCase;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.HashCode;
 
 public class MLModelCacheHelperTests extends OpenSearchTestCase {
     @Rule
@@ -72,8 +91,19 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
     public void setup() {
         MockitoAnnotations.openMocks(this);
         maxMonitoringRequests = 10;
-        settings = Settings.builder().put(ML_COMMONS_MONITORING_REQUEST_COUNT.getKey(), maxMonitoringRequests).build();
-        ClusterSettings clusterSettings = clusterSetting(settings, ML_COMMONS_MONITORING_REQUEST_COUNT);
+        settings = Settings
+            .builder()
+            .put(ML_COMMONS_MONITORING_REQUEST_COUNT.getKey(), maxMonitoringRequests)
+            .put(ML_COMMONS_EMBEDDING_CACHE_SIZE.getKey(), "1mb")
+            .build();
+        ClusterSettings clusterSettings = clusterSetting(
+            settings,
+            ML_COMMONS_MONITORING_REQUEST_COUNT,
+            ML_COMMONS_MONITORING_WINDOW,
+            ML_COMMONS_EMBEDDING_CACHE_SIZE,
+            ML_COMMONS_EMBEDDING_CACHE_TTL,
+            ML_COMMONS_TRAINED_MODEL_CACHE_SIZE
+        );
         clusterService = spy(new ClusterService(settings, clusterSettings, null, clusterApplierService));
 
         when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
@@ -97,6 +127,38 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertEquals(FunctionName.TEXT_EMBEDDING, cacheHelper.getFunctionName(modelId));
     }
 
+    public void testEmbeddingCache() throws IOException {
+        assertNull(cacheHelper.getEmbeddingCache(modelId));
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        cacheHelper.initModelState("model2", MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        MLEmbeddingCache embeddingCache = cacheHelper.getEmbeddingCache(modelId);
+        assertNotNull(embeddingCache);
+        // all the models share one cache bounded by the node size
+        assertSame(embeddingCache, cacheHelper.getEmbeddingCache("model2"));
+
+        HashCode hash = MLEmbeddingCache.keyOf(embeddingInput());
+        embeddingCache.put(modelId, hash, embeddingCache.getGeneration(modelId), embeddingResponse());
+        embeddingCache.put("model2", hash, embeddingCache.getGeneration("model2"), embeddingResponse());
+        assertEquals(2, embeddingCache.size());
+
+        // a new predictor drops the outputs of the previous one
+        cacheHelper.setPredictor(modelId, predictor);
+        assertNull(embeddingCache.get(modelId, hash));
+        assertNotNull(embeddingCache.get("model2", hash));
+
+        cacheHelper.removeModel("model2");
+        assertNull(embeddingCache.get("model2", hash));
+        assertNull(cacheHelper.getEmbeddingCache("model2"));
+        assertSame(embeddingCache, cacheHelper.getEmbeddingCache(modelId));
+    }
+
+    public void testTrainedModelCache() {
+        // enabled by default
+        MLTrainedModelCache trainedModelCache = cacheHelper.getTrainedModelCache();
+        assertNotNull(trainedModelCache);
+        assertSame(trainedModelCache, cacheHelper.getTrainedModelCache());
+    }
+
     public void testMemSizeEstimationCPU() {
         cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
         assertTrue(cacheHelper.getMemEstCPU(modelId) == null);
@@ -125,6 +187,24 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertTrue(cacheHelper.getMemEstGPU(modelId) == 1500L);
     }
 
+    public void testModelInterfaceSchema() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.REMOTE, targetWorkerNodes, true);
+        assertNull(cacheHelper.getModelInterfaceSchema(modelId, "output"));
+
+        cacheHelper.setModelInterface(modelId, Map.of("input", "{\"type\":\"object\"}", "output", "{\"type\":\"object\""));
+        assertNotNull(cacheHelper.getModelInterfaceSchema(modelId, "input"));
+        // invalid schema isn't cached
+        assertNull(cacheHelper.getModelInterfaceSchema(modelId, "output"));
+
+        cacheHelper.setModelInterface(modelId, Map.of("output", "{\"type\":\"string\"}"));
+        assertNull(cacheHelper.getModelInterfaceSchema(modelId, "input"));
+        assertNotNull(cacheHelper.getModelInterfaceSchema(modelId, "output"));
+
+        cacheHelper.removeModelInterface(modelId);
+        assertNull(cacheHelper.getModelInterfaceSchema(modelId, "output"));
+        assertNull(cacheHelper.getModelInterfaceSchema("wrong_model_id", "output"));
+    }
+
     public void testModelState_DuplicateError() {
         expectedEx.expect(MLLimitExceededException.class);
         expectedEx.expectMessage("Duplicate deploy model task");
@@ -353,6 +433,22 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertNull(cacheHelper.getWorkerNodes(modelId));
     }
 
+    public void testSyncWorkerNodes_Delta() {
+        String modelId2 = "model_id2";
+        String modelId3 = "model_id3";
+        cacheHelper.addWorkerNode(modelId, nodeId);
+        cacheHelper.addWorkerNode(modelId2, nodeId);
+
+        String newNodeId = "new_node_id";
+        Map<String, Set<String>> changedModelWorkerNodes = new HashMap<>();
+        changedModelWorkerNodes.put(modelId3, ImmutableSet.of(newNodeId));
+        cacheHelper.syncWorkerNodes(changedModelWorkerNodes, ImmutableSet.of(modelId2));
+        // models which aren't changed keep their worker nodes
+        assertArrayEquals(new String[] { nodeId }, cacheHelper.getWorkerNodes(modelId));
+        assertNull(cacheHelper.getWorkerNodes(modelId2));
+        assertArrayEquals(new String[] { newNodeId }, cacheHelper.getWorkerNodes(modelId3));
+    }
+
     public void testGetModelProfile_WrongModelId() {
         MLModelProfile modelProfile = cacheHelper.getModelProfile(modelId);
         assertNull(modelProfile);
@@ -375,10 +471,16 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         }
         MLPredictRequestStats predictStats = cacheHelper.getModelProfile(modelId).getModelInferenceStats();
         assertNotNull(predictStats);
-        assertEquals(maxMonitoringRequests + 1, predictStats.getMin(), 1e-5);
+        assertEquals(1, predictStats.getMin(), 1e-5);
         assertEquals(maxMonitoringRequests * 2, predictStats.getMax(), 1e-5);
-        assertEquals((maxMonitoringRequests + 1 + maxMonitoringRequests * 2) / 2.0, predictStats.getAverage(), 1e-5);
-        assertEquals(maxMonitoringRequests, predictStats.getCount().longValue());
+        assertEquals((1 + maxMonitoringRequests * 2) / 2.0, predictStats.getAverage(), 1e-5);
+        assertEquals(maxMonitoringRequests * 2, predictStats.getCount().longValue());
+        assertNotNull(predictStats.getP999());
+        assertNotNull(predictStats.getRate());
+        assertNull(cacheHelper.getModelProfile(modelId).getPredictRequestStats());
+
+        cacheHelper.clearMonitoringStats();
+        assertNull(cacheHelper.getModelProfile(modelId).getModelInferenceStats());
     }
 
     public void testGetModelProfile_Deploying() {
@@ -415,4 +517,69 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertEquals("mockId", cacheHelper.getModelInfo(modelId).getModelId());
     }
 
+    public void testRegisterLatencyGauges_MetricsDisabled() {
+        MLFeatureEnabledSetting mlFeatureEnabledSetting = mock(MLFeatureEnabledSetting.class);
+        MetricsRegistry metricsRegistry = mock(MetricsRegistry.class);
+        when(metricsRegistry.createGauge(any(), any(), any(), any(), any())).thenReturn(mock(Closeable.class));
+        MLOperationalMetricsCounter.reset();
+        MLOperationalMetricsCounter.initialize("test-cluster", metricsRegistry, mlFeatureEnabledSetting);
+        try {
+            MLModelCache modelCache = new MLModelCache();
+            when(mlFeatureEnabledSetting.isMetricCollectionEnabled()).thenReturn(false);
+            modelCache.registerLatencyGauges(modelId);
+            assertTrue(modelCache.isLatencyGaugesAttempted());
+            assertFalse(modelCache.isLatencyGaugesRegistered());
+
+            // registering is only attempted once
+            when(mlFeatureEnabledSetting.isMetricCollectionEnabled()).thenReturn(true);
+            modelCache.registerLatencyGauges(modelId);
+            assertFalse(modelCache.isLatencyGaugesRegistered());
+            modelCache.closeLatencyGauges();
+            modelCache.registerLatencyGauges(modelId);
+            assertTrue(modelCache.isLatencyGaugesRegistered());
+            modelCache.closeLatencyGauges();
+            assertFalse(modelCache.isLatencyGaugesRegistered());
+        } finally {
+            MLOperationalMetricsCounter.reset();
+        }
+    }
+
+    public void testAddInferenceDuration_LatencyGauges() {
+        MLFeatureEnabledSetting mlFeatureEnabledSetting = mock(MLFeatureEnabledSetting.class);
+        when(mlFeatureEnabledSetting.isMetricCollectionEnabled()).thenReturn(true);
+        MetricsRegistry metricsRegistry = mock(MetricsRegistry.class);
+        when(metricsRegistry.createGauge(any(), any(), any(), any(), any())).thenReturn(mock(Closeable.class));
+        MLOperationalMetricsCounter.reset();
+        MLOperationalMetricsCounter.initialize("test-cluster", metricsRegistry, mlFeatureEnabledSetting);
+        try {
+            // metric collection is disabled in the settings of the cache helper, so no gauge is registered
+            cacheHelper.initModelState(modelId, MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+            cacheHelper.addModelInferenceDuration(modelId, 1);
+            cacheHelper.addPredictRequestDuration(modelId, 1);
+            verify(metricsRegistry, never()).createGauge(any(), any(), any(), any(), any());
+
+            Settings metricsSettings = Settings.builder().put(settings).put(ML_COMMONS_METRIC_COLLECTION_ENABLED.getKey(), true).build();
+            MLModelCacheHelper metricsCacheHelper = new MLModelCacheHelper(clusterService, metricsSettings);
+            metricsCacheHelper.initModelState(modelId, MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+            metricsCacheHelper.addModelInferenceDuration(modelId, 1);
+            metricsCacheHelper.addPredictRequestDuration(modelId, 1);
+            // the gauges of both the model inference and the predict request latency, registered on the first request
+            verify(metricsRegistry, times(10)).createGauge(any(), any(), any(), any(), any());
+        } finally {
+            MLOperationalMetricsCounter.reset();
+        }
+    }
+
+    private MLInput embeddingInput() {
+        return MLInput
+            .builder()
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .inputDataset(TextDocsInputDataSet.builder().docs(List.of("hello")).build())
+            .build();
+    }
+
+    private MLTaskResponse embeddingResponse() {
+        ModelTensor tensor = ModelTensor.builder().name("sentence_embedding").data(new Number[] { 0.1f, 0.2f }).build();
+        return new MLTaskResponse(new ModelTensorOutput(List.of(new ModelTensors(List.of(tensor)))));
+    }
 }
@@ -24,11 +24,15 @@ import static org.mockito.Mockito.when;
 import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
 import static org.opensearch.ml.common.MLTask.FUNCTION_NAME_FIELD;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_BATCH_INGESTION_BULK_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_WAIT_TIME_MS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_BATCH_INFERENCE_TASKS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_BATCH_INGESTION_TASKS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNKS_FETCH_CONCURRENCY;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
 import static org.opensearch.ml.engine.ModelHelper.CHUNK_FILES;
 import static org.opensearch.ml.engine.ModelHelper.MODEL_FILE_HASH;
@@ -226,7 +230,11 @@ public class MLModelManagerTests extends OpenSearchTestCase {
             ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE,
             ML_COMMONS_MAX_BATCH_INFERENCE_TASKS,
             ML_COMMONS_MAX_BATCH_INGESTION_TASKS,
-            ML_COMMONS_BATCH_INGESTION_BULK_SIZE
+            ML_COMMONS_BATCH_INGESTION_BULK_SIZE,
+            ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_SIZE,
+            ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_WAIT_TIME_MS,
+            ML_COMMONS_MODEL_CHUNKS_FETCH_CONCURRENCY,
+            ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE
         );
         clusterService = spy(new ClusterService(settings, clusterSettings, null, clusterApplierService));
         xContentRegistry = NamedXContentRegistry.EMPTY;
@@ -285,6 +293,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         when(threadPool.getThreadContext()).thenReturn(threadContext);
         when(mlFeatureEnabledSetting.isControllerEnabled()).thenReturn(true);
         when(mlFeatureEnabledSetting.isConnectorPrivateIpEnabled()).thenReturn(false);
+        when(nodeHelper.getEligibleNodeIds(any())).thenReturn(new String[] {});
 
         modelManager = spy(
             new MLModelManager(
@@ -1018,6 +1027,34 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         verify(modelCacheHelper).clearWorkerNodes();
     }
 
+    public void testSyncModelWorkerNodesDelta() {
+        Map<String, Set<String>> modelWorkerNodes = ImmutableMap.of(modelId, ImmutableSet.of("node1"));
+        modelManager.syncModelWorkerNodes(modelWorkerNodes, "version1");
+        assertEquals("version1", modelManager.getRoutingTableVersion());
+
+        Map<String, Set<String>> changedModelWorkerNodes = ImmutableMap.of(modelId, ImmutableSet.of("node1", "node2"));
+        Set<String> removedModelIds = ImmutableSet.of("removedModelId");
+        assertTrue(modelManager.syncModelWorkerNodesDelta(changedModelWorkerNodes, removedModelIds, "version1", "version2"));
+        verify(modelCacheHelper).syncWorkerNodes(eq(changedModelWorkerNodes), eq(removedModelIds));
+        assertEquals("version2", modelManager.getRoutingTableVersion());
+
+        // changes of another version are ignored, and the local version is reset to get a full sync
+        assertFalse(modelManager.syncModelWorkerNodesDelta(changedModelWorkerNodes, removedModelIds, "version1", "version3"));
+        verify(modelCacheHelper, times(1)).syncWorkerNodes(any(), any());
+        assertNull(modelManager.getRoutingTableVersion());
+    }
+
+    public void testRoutingTableVersion_ResetByWorkerNodeChange() {
+        modelManager.clearRoutingTable("version1");
+        assertEquals("version1", modelManager.getRoutingTableVersion());
+        modelManager.addModelWorkerNode(modelId, "node1");
+        assertNull(modelManager.getRoutingTableVersion());
+
+        modelManager.syncModelWorkerNodes(ImmutableMap.of(modelId, ImmutableSet.of("node1")), "version2");
+        modelManager.removeModelWorkerNode(modelId, false, "node1");
+        assertNull(modelManager.getRoutingTableVersion());
+    }
+
     public void testGetWorkerNodes() {
         String[] nodes = new String[] { "node1", "node2" };
         when(modelCacheHelper.getWorkerNodes(anyString())).thenReturn(nodes);
@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.Mockito.mock;
+
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.engine.Predictable;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLTrainedModelCacheTests extends OpenSearchTestCase {
+
+    private final MLTrainedModelCache trainedModelCache = new MLTrainedModelCache(1000);
+
+    public void testGetAndPut() {
+        String modelId = "model_id";
+        Predictable predictable = mock(Predictable.class);
+        assertFalse(trainedModelCache.contains(modelId));
+        assertNull(trainedModelCache.get(modelId, 1));
+
+        trainedModelCache.put(modelId, 1, predictable, 100);
+        assertTrue(trainedModelCache.contains(modelId));
+        assertSame(predictable, trainedModelCache.get(modelId, 1));
+        // the model document changed since the model was cached
+        assertNull(trainedModelCache.get(modelId, 2));
+
+        Predictable newPredictable = mock(Predictable.class);
+        trainedModelCache.put(modelId, 2, newPredictable, 100);
+        assertSame(newPredictable, trainedModelCache.get(modelId, 2));
+        assertEquals(1, trainedModelCache.size());
+
+        trainedModelCache.invalidate(modelId);
+        assertFalse(trainedModelCache.contains(modelId));
+    }
+
+    public void testPut_MaxSize() {
+        trainedModelCache.put("model_id1", 1, mock(Predictable.class), 600);
+        trainedModelCache.put("model_id2", 1, mock(Predictable.class), 600);
+        assertEquals(1, trainedModelCache.size());
+        assertTrue(trainedModelCache.contains("model_id2"));
+
+        trainedModelCache.clear();
+        assertEquals(0, trainedModelCache.size());
+    }
+
+    public void testIsCacheable() {
+        assertTrue(MLTrainedModelCache.isCacheable(FunctionName.KMEANS));
+        assertTrue(MLTrainedModelCache.isCacheable(FunctionName.LINEAR_REGRESSION));
+        // predicting with a RCF model updates the model
+        assertFalse(MLTrainedModelCache.isCacheable(FunctionName.FIT_RCF));
+        assertFalse(MLTrainedModelCache.isCacheable(FunctionName.REMOTE));
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.ml.engine.utils.FileUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ModelArtifactCacheTests extends OpenSearchTestCase {
+
+    private Path rootPath;
+    private AtomicLong maxBytes;
+    private ModelArtifactCache cache;
+
+    @Before
+    public void setup() {
+        rootPath = createTempDir().resolve("artifacts");
+        // room for two "model content <i>" files
+        maxBytes = new AtomicLong(30);
+        cache = new ModelArtifactCache(rootPath, maxBytes::get);
+    }
+
+    public void testPutAndCopy() throws IOException {
+        File modelZipFile = createModelFile("model content");
+        String hash = FileUtils.calculateFileHash(modelZipFile);
+        File target = createTempDir().resolve("deploy").resolve("model.zip").toFile();
+        assertFalse(cache.copyTo(hash, target));
+
+        cache.put(hash, modelZipFile);
+        assertTrue(cache.copyTo(hash, target));
+        assertEquals("model content", Files.readString(target.toPath(), StandardCharsets.UTF_8));
+    }
+
+    public void testCopy_HashMismatch() throws IOException {
+        File modelZipFile = createModelFile("model content");
+        String hash = FileUtils.calculateFileHash(modelZipFile);
+        cache.put(hash, modelZipFile);
+        Files.writeString(rootPath.resolve(hash + ".zip"), "changed content", StandardCharsets.UTF_8);
+
+        File target = createTempDir().resolve("model.zip").toFile();
+        assertFalse(cache.copyTo(hash, target));
+        assertFalse(target.exists());
+        assertFalse(Files.exists(rootPath.resolve(hash + ".zip")));
+    }
+
+    public void testRead() throws IOException {
+        File modelZipFile = createModelFile("model content");
+        String hash = FileUtils.calculateFileHash(modelZipFile);
+        assertNull(cache.read(hash, 0, 5));
+        cache.put(hash, modelZipFile);
+
+        Tuple<Long, byte[]> range = cache.read(hash, 6, 5);
+        assertEquals(13L, range.v1().longValue());
+        assertEquals("conte", new String(range.v2(), StandardCharsets.UTF_8));
+        // the last range is shorter than the requested length
+        assertEquals("ent", new String(cache.read(hash, 10, 5).v2(), StandardCharsets.UTF_8));
+        assertEquals(0, cache.read(hash, 0, 0).v2().length);
+        assertThrows(IllegalArgumentException.class, () -> cache.read(hash, 14, 5));
+    }
+
+    public void testEvictLeastRecentlyUsed() throws IOException {
+        String[] hashes = new String[3];
+        for (int i = 0; i < hashes.length; i++) {
+            File modelZipFile = createModelFile("model content " + i);
+            hashes[i] = FileUtils.calculateFileHash(modelZipFile);
+            cache.put(hashes[i], modelZipFile);
+            Files.setLastModifiedTime(rootPath.resolve(hashes[i] + ".zip"), FileTime.fromMillis(1000L * (i + 1)));
+            if (i == 1) {
+                // use the first model, so the second model is the least recently used one
+                assertTrue(cache.copyTo(hashes[0], createTempDir().resolve("model.zip").toFile()));
+            }
+        }
+        assertTrue(Files.exists(rootPath.resolve(hashes[0] + ".zip")));
+        assertFalse(Files.exists(rootPath.resolve(hashes[1] + ".zip")));
+        assertTrue(Files.exists(rootPath.resolve(hashes[2] + ".zip")));
+    }
+
+    public void testPut_LargerThanCache() throws IOException {
+        File modelZipFile = createModelFile("model content larger than the cache");
+        String hash = FileUtils.calculateFileHash(modelZipFile);
+        cache.put(hash, modelZipFile);
+        assertFalse(Files.exists(rootPath.resolve(hash + ".zip")));
+    }
+
+    public void testInvalidate() throws IOException {
+        File modelZipFile = createModelFile("model content");
+        String hash = FileUtils.calculateFileHash(modelZipFile);
+        cache.put(hash, modelZipFile);
+        assertTrue(Files.exists(rootPath.resolve(hash + ".zip")));
+
+        // files cached before the cache is disabled are removed too
+        maxBytes.set(0);
+        cache.invalidate(hash);
+        assertFalse(Files.exists(rootPath.resolve(hash + ".zip")));
+        cache.invalidate("../model");
+        cache.invalidate(null);
+    }
+
+    public void testDisabled() throws IOException {
+        File modelZipFile = createModelFile("model content");
+        String hash = FileUtils.calculateFileHash(modelZipFile);
+        maxBytes.set(0);
+        cache.put(hash, modelZipFile);
+        assertFalse(Files.exists(rootPath.resolve(hash + ".zip")));
+
+        // only sha256 hash values are used as file names
+        maxBytes.set(30);
+        cache.put("../model", modelZipFile);
+        cache.put(null, modelZipFile);
+        assertFalse(Files.exists(rootPath));
+    }
+
+    private File createModelFile(String content) throws IOException {
+        Path file = createTempDir().resolve("model.zip");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file.toFile();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mockito.ArgumentCaptor;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.engine.utils.FileUtils;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ModelChunksRetrieverTests extends OpenSearchTestCase {
+
+    private static final String[] CHUNKS = new String[] { "chunk0,", "chunk1,", "chunk2,", "chunk3,", "chunk4" };
+
+    public void testRetrieveChunks_OutOfOrder() throws Exception {
+        File modelZipFile = createTempDir().resolve("model").resolve("model.zip").toFile();
+        Map<Integer, ActionListener<byte[]>> pendingReads = new HashMap<>();
+        List<Integer> requestedChunks = new ArrayList<>();
+        ActionListener<Tuple<File, String>> listener = mock(ActionListener.class);
+
+        new ModelChunksRetriever(CHUNKS.length, 2, modelZipFile, (chunkNumber, chunkListener) -> {
+            requestedChunks.add(chunkNumber);
+            pendingReads.put(chunkNumber, chunkListener);
+        }, listener).start();
+        // only the first two chunks are fetched at the same time
+        assertEquals(List.of(0, 1), requestedChunks);
+
+        // the second chunk can't be written before the first one, so no new chunk is fetched
+        pendingReads.remove(1).onResponse(chunk(1));
+        assertEquals(2, requestedChunks.size());
+
+        pendingReads.remove(0).onResponse(chunk(0));
+        assertEquals(List.of(0, 1, 2, 3), requestedChunks);
+        pendingReads.remove(3).onResponse(chunk(3));
+        pendingReads.remove(2).onResponse(chunk(2));
+        verify(listener, never()).onResponse(any());
+        pendingReads.remove(4).onResponse(chunk(4));
+
+        ArgumentCaptor<Tuple<File, String>> response = ArgumentCaptor.forClass(Tuple.class);
+        verify(listener).onResponse(response.capture());
+        assertEquals(modelZipFile, response.getValue().v1());
+        assertEquals(String.join("", CHUNKS), Files.readString(modelZipFile.toPath(), StandardCharsets.UTF_8));
+        assertEquals(FileUtils.calculateFileHash(modelZipFile), response.getValue().v2());
+        verify(listener, never()).onFailure(any());
+    }
+
+    public void testRetrieveChunks_Failure() {
+        File modelZipFile = createTempDir().resolve("model.zip").toFile();
+        Map<Integer, ActionListener<byte[]>> pendingReads = new HashMap<>();
+        ActionListener<Tuple<File, String>> listener = mock(ActionListener.class);
+
+        new ModelChunksRetriever(CHUNKS.length, 3, modelZipFile, pendingReads::put, listener).start();
+        pendingReads.remove(0).onResponse(chunk(0));
+        pendingReads.remove(1).onFailure(new MLResourceNotFoundException("Fail to find model chunk model_1"));
+        // late responses are ignored
+        pendingReads.remove(2).onResponse(chunk(2));
+
+        ArgumentCaptor<Exception> failure = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(failure.capture());
+        assertTrue(failure.getValue() instanceof MLResourceNotFoundException);
+        assertEquals("Fail to find model chunk model_1", failure.getValue().getMessage());
+        verify(listener, never()).onResponse(any());
+        assertFalse(modelZipFile.exists());
+    }
+
+    public void testRetrieveChunks_Empty() throws Exception {
+        File modelZipFile = createTempDir().resolve("model.zip").toFile();
+        ActionListener<Tuple<File, String>> listener = mock(ActionListener.class);
+
+        new ModelChunksRetriever(0, 2, modelZipFile, (chunkNumber, chunkListener) -> fail("no chunk to read"), listener).start();
+
+        ArgumentCaptor<Tuple<File, String>> response = ArgumentCaptor.forClass(Tuple.class);
+        verify(listener).onResponse(response.capture());
+        assertEquals(0, Files.size(modelZipFile.toPath()));
+    }
+
+    private byte[] chunk(int chunkNumber) {
+        return CHUNKS[chunkNumber].getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -5,6 +5,7 @@
 package org.opensearch.ml.processor;
 
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.*;
+import static org.opensearch.ml.processor.MLInferenceIngestProcessor.BATCH_SIZE;
 import static org.opensearch.ml.processor.MLInferenceIngestProcessor.FULL_RESPONSE_PATH;
 import static org.opensearch.ml.processor.MLInferenceIngestProcessor.FUNCTION_NAME;
 import static org.opensearch.ml.processor.MLInferenceIngestProcessor.MODEL_INPUT;
@@ -86,6 +87,19 @@ public class MLInferenceIngestProcessorFactoryTests extends OpenSearchTestCase {
         }
     }
 
+    public void testInvalidBatchSize() throws Exception {
+        Map<String, Processor.Factory> registry = new HashMap<>();
+        Map<String, Object> config = new HashMap<>();
+        config.put(MODEL_ID, "model1");
+        config.put(BATCH_SIZE, 0);
+        try {
+            factory.create(registry, randomAlphaOfLength(10), null, config);
+            fail("factory create should have failed");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The batch_size of ML inference processor must be a positive integer.", e.getMessage());
+        }
+    }
+
     public void testExceedMaxPredictionTasks() throws Exception {
         Map<String, Processor.Factory> registry = new HashMap<>();
         Map<String, Object> config = new HashMap<>();
@@ -7,6 +7,7 @@ package org.opensearch.ml.processor;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.opensearch.ml.common.utils.StringUtils.gson;
 import static org.opensearch.ml.common.utils.StringUtils.toJson;
 import static org.opensearch.ml.processor.MLInferenceIngestProcessor.DEFAULT_OUTPUT_FIELD_NAME;
 
@@ -30,6 +31,7 @@ import org.mockito.MockitoAnnotations;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
@@ -95,6 +97,34 @@ public class MLInferenceIngestProcessorTests extends OpenSearchTestCase {
         boolean ignoreFailure,
         boolean override,
         String modelInput
+    ) {
+        return createMLInferenceProcessor(
+            modelId,
+            inputMaps,
+            outputMaps,
+            modelConfigMaps,
+            ignoreMissing,
+            functionName,
+            fullResponsePath,
+            ignoreFailure,
+            override,
+            modelInput,
+            MLInferenceIngestProcessor.DEFAULT_BATCH_SIZE
+        );
+    }
+
+    private MLInferenceIngestProcessor createMLInferenceProcessor(
+        String modelId,
+        List<Map<String, String>> inputMaps,
+        List<Map<String, String>> outputMaps,
+        Map<String, String> modelConfigMaps,
+        boolean ignoreMissing,
+        String functionName,
+        boolean fullResponsePath,
+        boolean ignoreFailure,
+        boolean override,
+        String modelInput,
+        int batchSize
     ) {
         functionName = functionName != null ? functionName : "remote";
         modelInput = modelInput != null ? modelInput : "{ \"parameters\": ${ml_inference.parameters} }";
@@ -113,6 +143,7 @@ public class MLInferenceIngestProcessorTests extends OpenSearchTestCase {
             ignoreFailure,
             override,
             modelInput,
+            batchSize,
             scriptService,
             client,
             xContentRegistry
@@ -2146,6 +2177,161 @@ public class MLInferenceIngestProcessorTests extends OpenSearchTestCase {
         assertEquals(6.0, meanPooled.get(2), 0.001); // (3+6+9)/3
     }
 
+    public void testBatchExecute_BatchesDocumentsPerInputMap() {
+        MLInferenceIngestProcessor processor = createMLInferenceProcessor(
+            "model1",
+            getInputMapsForNestedObjectChunks("key1"),
+            List.of(Map.of("embedding", "response")),
+            null,
+            false,
+            "remote",
+            false,
+            false,
+            false,
+            null,
+            2
+        );
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest request = invocation.getArgument(1);
+            RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) request.getMlInput().getInputDataset();
+            List<String> inputs = gson.fromJson(inputDataSet.getParameters().get("inputs"), List.class);
+            List<String> embeddings = new ArrayList<>();
+            inputs.forEach(input -> embeddings.add("embedding of " + input));
+            ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", embeddings)).build();
+            ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+            ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        List<IngestDocumentWrapper> wrappers = createIngestDocumentWrappers("doc1", "doc2", "doc3");
+        List<List<IngestDocumentWrapper>> results = new ArrayList<>();
+        processor.batchExecute(wrappers, results::add);
+
+        verify(client, times(2)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        assertEquals(1, results.size());
+        assertEquals(3, results.get(0).size());
+        for (int i = 0; i < 3; i++) {
+            IngestDocumentWrapper result = results.get(0).get(i);
+            assertEquals(i, result.getSlot());
+            assertNull(result.getException());
+            assertEquals("embedding of doc" + (i + 1), result.getIngestDocument().getFieldValue("embedding", String.class));
+        }
+    }
+
+    public void testBatchExecute_OutputSizeMismatch() {
+        MLInferenceIngestProcessor processor = createMLInferenceProcessor(
+            "model1",
+            getInputMapsForNestedObjectChunks("key1"),
+            List.of(Map.of("embedding", "response")),
+            null,
+            false,
+            "remote",
+            false,
+            false,
+            false,
+            null,
+            2
+        );
+        ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", Arrays.asList("embedding"))).build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+        ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        List<IngestDocumentWrapper> wrappers = createIngestDocumentWrappers("doc1", "doc2");
+        List<List<IngestDocumentWrapper>> results = new ArrayList<>();
+        processor.batchExecute(wrappers, results::add);
+
+        verify(client, times(1)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        assertEquals(2, results.get(0).size());
+        for (IngestDocumentWrapper result : results.get(0)) {
+            assertNull(result.getIngestDocument());
+            assertEquals(
+                "the prediction field: response must be an array with one entry per document in batch of size 2",
+                result.getException().getMessage()
+            );
+        }
+    }
+
+    public void testBatchExecute_PredictionFailureIgnored() {
+        MLInferenceIngestProcessor processor = createMLInferenceProcessor(
+            "model1",
+            getInputMapsForNestedObjectChunks("key1"),
+            List.of(Map.of("embedding", "response")),
+            null,
+            false,
+            "remote",
+            false,
+            true,
+            false,
+            null,
+            2
+        );
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onFailure(new RuntimeException("prediction failed"));
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        List<IngestDocumentWrapper> wrappers = createIngestDocumentWrappers("doc1", "doc2");
+        List<List<IngestDocumentWrapper>> results = new ArrayList<>();
+        processor.batchExecute(wrappers, results::add);
+
+        assertEquals(2, results.get(0).size());
+        for (IngestDocumentWrapper result : results.get(0)) {
+            assertNull(result.getException());
+            assertFalse(result.getIngestDocument().hasField("embedding"));
+        }
+    }
+
+    public void testBatchExecute_BatchSizeOneExecutesPerDocument() {
+        MLInferenceIngestProcessor processor = createMLInferenceProcessor(
+            "model1",
+            getInputMapsForNestedObjectChunks("key1"),
+            List.of(Map.of("embedding", "response")),
+            null,
+            false,
+            "remote",
+            false,
+            false,
+            false,
+            null
+        );
+        ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", "embedding")).build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+        ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        List<IngestDocumentWrapper> wrappers = createIngestDocumentWrappers("doc1", "doc2", "doc3");
+        List<List<IngestDocumentWrapper>> results = new ArrayList<>();
+        processor.batchExecute(wrappers, results::add);
+
+        verify(client, times(3)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        assertEquals(3, results.get(0).size());
+        for (IngestDocumentWrapper result : results.get(0)) {
+            assertEquals("embedding", result.getIngestDocument().getFieldValue("embedding", String.class));
+        }
+    }
+
+    private static List<IngestDocumentWrapper> createIngestDocumentWrappers(String... values) {
+        List<IngestDocumentWrapper> wrappers = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            Map<String, Object> sourceAndMetadata = new HashMap<>();
+            sourceAndMetadata.put("key1", values[i]);
+            wrappers.add(new IngestDocumentWrapper(i, new IngestDocument(sourceAndMetadata, new HashMap<>()), null));
+        }
+        return wrappers;
+    }
+
     private static List<Map<String, String>> getInputMapsForNestedObjectChunks(String documentFieldPath) {
         List<Map<String, String>> inputMap = new ArrayList<>();
         Map<String, String> input = new HashMap<>();
@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.profile;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLLatencyHistogramTests extends OpenSearchTestCase {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final MLLatencyHistogram histogram = new MLLatencyHistogram(TimeValue.timeValueSeconds(60), clock::get);
+
+    public void testGetStats_Empty() {
+        assertNull(histogram.getStats());
+    }
+
+    public void testGetStats() {
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        clock.addAndGet(10_000);
+        MLPredictRequestStats stats = histogram.getStats();
+        assertEquals(1000, stats.getCount().longValue());
+        assertEquals(1.0, stats.getMin(), 1e-5);
+        assertEquals(1000.0, stats.getMax(), 1e-5);
+        assertEquals(500.5, stats.getAverage(), 1e-5);
+        assertEquals(500, stats.getP50(), 500 * 0.07);
+        assertEquals(900, stats.getP90(), 900 * 0.07);
+        assertEquals(990, stats.getP99(), 990 * 0.07);
+        assertEquals(999, stats.getP999(), 999 * 0.07);
+        assertTrue(stats.getP999() <= stats.getMax());
+        // 1000 requests in the 10 seconds since the histogram was created
+        assertEquals(100.0, stats.getRate(), 1e-5);
+    }
+
+    public void testGetStats_SlidingWindow() {
+        histogram.record(100);
+        clock.addAndGet(30_000);
+        histogram.record(10);
+        assertEquals(2, histogram.getStats().getCount().longValue());
+
+        // the first duration leaves the window, the second one is still in it
+        clock.addAndGet(40_000);
+        MLPredictRequestStats stats = histogram.getStats();
+        assertEquals(1, stats.getCount().longValue());
+        assertEquals(10.0, stats.getMax(), 1e-5);
+
+        clock.addAndGet(60_000);
+        assertNull(histogram.getStats());
+        histogram.record(5);
+        assertEquals(5.0, histogram.getStats().getP50(), 1e-5);
+    }
+
+    public void testRecord_SubMillisecond() {
+        histogram.record(0.25);
+        histogram.record(0.75);
+        MLPredictRequestStats stats = histogram.getStats();
+        assertEquals(0.25, stats.getMin(), 1e-5);
+        assertEquals(0.75, stats.getMax(), 1e-5);
+        assertEquals(0.25, stats.getP50(), 0.25 * 0.07);
+    }
+
+    public void testBucketOf() {
+        int previous = -1;
+        for (long micros = 0; micros < 1L << 36; micros = micros * 2 + 1) {
+            int bucket = MLLatencyHistogram.bucketOf(micros);
+            assertTrue(bucket > previous);
+            previous = bucket;
+        }
+        assertEquals(7, MLLatencyHistogram.bucketOf(7));
+        assertEquals(8, MLLatencyHistogram.bucketOf(8));
+        assertEquals(16, MLLatencyHistogram.bucketOf(16));
+        assertEquals(16, MLLatencyHistogram.bucketOf(17));
+        assertEquals(17, MLLatencyHistogram.bucketOf(18));
+    }
+}
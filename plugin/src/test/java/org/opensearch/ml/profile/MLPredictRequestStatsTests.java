@@ -11,6 +11,7 @@ import static org.junit.Assert.assertNull;
 import java.io.IOException;
 
 import org.junit.Test;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -30,6 +31,8 @@ public class MLPredictRequestStatsTests extends OpenSearchTestCase {
             .p50(20.0)
             .p90(40.0)
             .p99(48.0)
+            .p999(49.5)
+            .rate(1.5)
             .build();
 
         assertEquals(Long.valueOf(100L), stats.getCount());
@@ -39,6 +42,8 @@ public class MLPredictRequestStatsTests extends OpenSearchTestCase {
         assertEquals(Double.valueOf(20.0), stats.getP50());
         assertEquals(Double.valueOf(40.0), stats.getP90());
         assertEquals(Double.valueOf(48.0), stats.getP99());
+        assertEquals(Double.valueOf(49.5), stats.getP999());
+        assertEquals(Double.valueOf(1.5), stats.getRate());
     }
 
     @Test
@@ -52,6 +57,8 @@ public class MLPredictRequestStatsTests extends OpenSearchTestCase {
         assertNull(stats.getP50());
         assertNull(stats.getP90());
         assertNull(stats.getP99());
+        assertNull(stats.getP999());
+        assertNull(stats.getRate());
     }
 
     @Test
@@ -65,6 +72,8 @@ public class MLPredictRequestStatsTests extends OpenSearchTestCase {
             .p50(20.0)
             .p90(40.0)
             .p99(48.0)
+            .p999(49.5)
+            .rate(1.5)
             .build();
 
         XContentBuilder builder = XContentFactory.jsonBuilder();
@@ -78,6 +87,8 @@ public class MLPredictRequestStatsTests extends OpenSearchTestCase {
         assertTrue(json.contains("\"p50\":20.0"));
         assertTrue(json.contains("\"p90\":40.0"));
         assertTrue(json.contains("\"p99\":48.0"));
+        assertTrue(json.contains("\"p999\":49.5"));
+        assertTrue(json.contains("\"rate\":1.5"));
     }
 
     @Test
@@ -102,6 +113,8 @@ public class MLPredictRequestStatsTests extends OpenSearchTestCase {
             .p50(20.0)
             .p90(40.0)
             .p99(48.0)
+            .p999(49.5)
+            .rate(1.5)
             .build();
 
         BytesStreamOutput output = new BytesStreamOutput();
@@ -117,6 +130,26 @@ public class MLPredictRequestStatsTests extends OpenSearchTestCase {
         assertEquals(original.getP50(), deserialized.getP50());
         assertEquals(original.getP90(), deserialized.getP90());
         assertEquals(original.getP99(), deserialized.getP99());
+        assertEquals(original.getP999(), deserialized.getP999());
+        assertEquals(original.getRate(), deserialized.getRate());
+    }
+
+    @Test
+    public void testStreamSerializationWithOldVersion() throws IOException {
+        MLPredictRequestStats original = MLPredictRequestStats.builder().count(100L).p99(48.0).p999(49.5).rate(1.5).build();
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.V_3_0_0);
+        original.writeTo(output);
+
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.V_3_0_0);
+        MLPredictRequestStats deserialized = new MLPredictRequestStats(input);
+
+        assertEquals(original.getCount(), deserialized.getCount());
+        assertEquals(original.getP99(), deserialized.getP99());
+        assertNull(deserialized.getP999());
+        assertNull(deserialized.getRate());
     }
 
     @Test
@@ -136,5 +169,7 @@ public class MLPredictRequestStatsTests extends OpenSearchTestCase {
         assertNull(deserialized.getP50());
         assertNull(deserialized.getP90());
         assertNull(deserialized.getP99());
+        assertNull(deserialized.getP999());
+        assertNull(deserialized.getRate());
     }
 }
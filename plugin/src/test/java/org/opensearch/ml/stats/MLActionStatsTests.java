@@ -6,6 +6,9 @@
 package org.opensearch.ml.stats;
 
 import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
+import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_CONCURRENCY_LIMIT;
+import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_EMBEDDING_CACHE_HIT_COUNT;
+import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_EMBEDDING_CACHE_MISS_COUNT;
 import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_FAILURE_COUNT;
 import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_REQUEST_COUNT;
 
@@ -15,8 +18,10 @@ import java.util.Map;
 import java.util.Set;
 
 import org.junit.Before;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ml.utils.TestHelper;
 import org.opensearch.test.OpenSearchTestCase;
@@ -46,6 +51,32 @@ public class MLActionStatsTests extends OpenSearchTestCase {
         assertEquals(failureCount, parsedMLActionStats.getActionStat(ML_ACTION_FAILURE_COUNT));
     }
 
+    public void testSerializationDeserialization_BeforeVersion3_7() throws IOException {
+        Map<MLActionLevelStat, Object> actionStats = new HashMap<>();
+        actionStats.put(ML_ACTION_REQUEST_COUNT, requestCount);
+        actionStats.put(ML_ACTION_CONCURRENCY_LIMIT, 16);
+        actionStats.put(ML_ACTION_EMBEDDING_CACHE_HIT_COUNT, 3L);
+        actionStats.put(ML_ACTION_EMBEDDING_CACHE_MISS_COUNT, 4L);
+        MLActionStats stats = new MLActionStats(actionStats);
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.V_3_0_0);
+        stats.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.V_3_0_0);
+        MLActionStats parsedStats = new MLActionStats(input);
+        assertEquals(1, parsedStats.getActionStatSize());
+        assertNull(parsedStats.getActionStat(ML_ACTION_CONCURRENCY_LIMIT));
+        assertNull(parsedStats.getActionStat(ML_ACTION_EMBEDDING_CACHE_HIT_COUNT));
+
+        output = new BytesStreamOutput();
+        stats.writeTo(output);
+        parsedStats = new MLActionStats(output.bytes().streamInput());
+        assertEquals(16, parsedStats.getActionStat(ML_ACTION_CONCURRENCY_LIMIT));
+        assertEquals(3L, parsedStats.getActionStat(ML_ACTION_EMBEDDING_CACHE_HIT_COUNT));
+        assertEquals(4L, parsedStats.getActionStat(ML_ACTION_EMBEDDING_CACHE_MISS_COUNT));
+    }
+
     public void testToXContent() throws IOException {
         XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
         builder.startObject();
@@ -13,7 +13,9 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.Closeable;
 import java.util.Arrays;
+import java.util.function.Supplier;
 
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
@@ -107,4 +109,21 @@ public class MLOperationalMetricsCounterTests extends OpenSearchTestCase {
         instance.incrementCounter(OperationalMetric.MODEL_PREDICT_COUNT);
         verify(mockCounter, times(4)).add(eq(1.0), any(Tags.class));
     }
+
+    public void testRegisterGauge() {
+        Closeable gauge = mock(Closeable.class);
+        MetricsRegistry metricsRegistry = mock(MetricsRegistry.class);
+        when(metricsRegistry.createGauge(any(), any(), any(), any(), any())).thenReturn(gauge);
+
+        MLOperationalMetricsCounter.initialize(CLUSTER_NAME, metricsRegistry, mlFeatureEnabledSetting);
+        assertTrue(MLOperationalMetricsCounter.isInitialized());
+        MLOperationalMetricsCounter instance = MLOperationalMetricsCounter.getInstance();
+
+        Supplier<Double> value = () -> 12.5;
+        assertSame(gauge, instance.registerGauge(OperationalMetric.MODEL_LATENCY_P99, value, Tags.create().addTag("model_id", "id")));
+        verify(metricsRegistry).createGauge(eq("ml.commons.MODEL_LATENCY_P99"), any(), eq("1"), eq(value), any(Tags.class));
+
+        when(mlFeatureEnabledSetting.isMetricCollectionEnabled()).thenReturn(false);
+        assertNull(instance.registerGauge(OperationalMetric.MODEL_LATENCY_P99, value, null));
+    }
 }
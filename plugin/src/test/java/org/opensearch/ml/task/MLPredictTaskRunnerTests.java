@@ -31,6 +31,7 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.Version;
+import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.cluster.ClusterName;
@@ -62,12 +63,14 @@ import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.MLTask;
 import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.dataframe.DefaultDataFrame;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
 import org.opensearch.ml.common.input.parameter.rcf.BatchRCFParams;
 import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.common.output.model.ModelTensor;
@@ -78,10 +81,12 @@ import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.algorithms.clustering.KMeans;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLTrainedModelCache;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStat;
 import org.opensearch.ml.stats.MLStats;
@@ -91,6 +96,8 @@ import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportChannel;
+import org.opensearch.transport.TransportException;
+import org.opensearch.transport.TransportResponseHandler;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
 
@@ -268,6 +275,64 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         verify(mlTaskManager).remove(anyString());
     }
 
+    public void testExecuteTask_OnLocalNode_TrainedModelCache() throws IOException {
+        setupMocks(true, false, false, false);
+        MLInput kMeansInput = MLInput
+            .builder()
+            .algorithm(FunctionName.KMEANS)
+            .parameters(KMeansParams.builder().centroids(2).build())
+            .inputDataset(new DataFrameInputDataset(dataFrame))
+            .build();
+        MLModel kMeansModel = new KMeans(kMeansInput.getParameters()).train(kMeansInput).toBuilder().user(User.parse(USER_STRING)).build();
+        BytesReference source = BytesReference.bytes(kMeansModel.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS));
+        getResponse = new GetResponse(new GetResult(indexName, "111", 111l, 111l, 111l, true, source, null, null));
+        MLTrainedModelCache trainedModelCache = new MLTrainedModelCache(1024 * 1024);
+        when(mlModelManager.getTrainedModelCache()).thenReturn(trainedModelCache);
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder().modelId("111").mlInput(kMeansInput).build();
+
+        taskRunner.dispatchTask(FunctionName.KMEANS, request, transportService, listener);
+        assertEquals(1, trainedModelCache.size());
+
+        taskRunner.dispatchTask(FunctionName.KMEANS, request, transportService, listener);
+        ArgumentCaptor<GetRequest> getRequestCaptor = ArgumentCaptor.forClass(GetRequest.class);
+        verify(client, times(2)).get(getRequestCaptor.capture(), any());
+        assertNull(getRequestCaptor.getAllValues().get(0).fetchSourceContext());
+        // the content of the cached model isn't loaded again
+        assertArrayEquals(
+            new String[] { MLModel.MODEL_CONTENT_FIELD, MLModel.OLD_MODEL_CONTENT_FIELD },
+            getRequestCaptor.getAllValues().get(1).fetchSourceContext().excludes()
+        );
+        assertEquals(1, trainedModelCache.size());
+    }
+
+    public void testExecuteTask_OnLocalNode_TrainedModelCache_EmptyDataFrame() throws IOException {
+        setupMocks(true, false, false, false);
+        MLInput kMeansInput = MLInput
+            .builder()
+            .algorithm(FunctionName.KMEANS)
+            .parameters(KMeansParams.builder().centroids(2).build())
+            .inputDataset(new DataFrameInputDataset(dataFrame))
+            .build();
+        MLModel kMeansModel = new KMeans(kMeansInput.getParameters()).train(kMeansInput).toBuilder().user(User.parse(USER_STRING)).build();
+        BytesReference source = BytesReference.bytes(kMeansModel.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS));
+        getResponse = new GetResponse(new GetResult(indexName, "111", 111l, 111l, 111l, true, source, null, null));
+        MLTrainedModelCache trainedModelCache = new MLTrainedModelCache(1024 * 1024);
+        when(mlModelManager.getTrainedModelCache()).thenReturn(trainedModelCache);
+        DataFrame emptyDataFrame = new DefaultDataFrame(dataFrame.columnMetas());
+        MLInput emptyInput = kMeansInput.toBuilder().inputDataset(new DataFrameInputDataset(emptyDataFrame)).build();
+
+        // the input is checked before predicting with the loaded and the cached model
+        for (int i = 1; i <= 2; i++) {
+            MLPredictionTaskRequest request = MLPredictionTaskRequest.builder().modelId("111").mlInput(emptyInput).build();
+            taskRunner.dispatchTask(FunctionName.KMEANS, request, transportService, listener);
+            ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+            verify(listener, times(i)).onFailure(argumentCaptor.capture());
+            assertTrue(argumentCaptor.getValue() instanceof IllegalArgumentException);
+            assertEquals("Input data frame should not be null or empty", argumentCaptor.getValue().getMessage());
+            assertEquals(1, trainedModelCache.size());
+        }
+    }
+
     public void testExecuteTask_OnLocalNode_RemoteModelAutoDeploy() {
         setupMocks(true, false, false, false);
         doAnswer(invocation -> {
@@ -309,6 +374,22 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         verify(transportService).sendRequest(eq(remoteNode), eq(MLPredictionTaskAction.NAME), eq(requestWithDataFrame), any());
     }
 
+    public void testExecuteTask_OnRemoteNode_Streaming() {
+        setupMocks(false, false, false, false);
+        TransportChannel channel = mock(TransportChannel.class);
+        requestWithDataFrame.setStreamingChannel(channel);
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+
+        ArgumentCaptor<TransportResponseHandler> handlerCaptor = ArgumentCaptor.forClass(TransportResponseHandler.class);
+        verify(transportService).sendRequest(eq(remoteNode), any(), eq(requestWithDataFrame), any(), handlerCaptor.capture());
+        verify(mlTaskDispatcher, never()).onTaskCompleted(any());
+
+        TransportResponseHandler handler = handlerCaptor.getValue();
+        handler.handleException(new TransportException("stream failed"));
+        handler.handleException(new TransportException("stream failed again"));
+        verify(mlTaskDispatcher, times(1)).onTaskCompleted(remoteNode.getId());
+    }
+
     public void testExecuteTask_OnLocalNode_GetModelFail() {
         setupMocks(true, false, true, false);
 
@@ -8,16 +8,21 @@ package org.opensearch.ml.task;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.breaker.MemoryCircuitBreaker.DEFAULT_JVM_HEAP_USAGE_THRESHOLD;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_ONLY_RUN_ON_ML_NODE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_MS;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_ROLE_NAME;
 import static org.opensearch.ml.utils.TestHelper.ML_ROLE;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -33,6 +38,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.action.stats.MLStatsNodeResponse;
@@ -73,6 +79,7 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
     public void setup() {
         settings = Settings.builder().put(ML_COMMONS_ONLY_RUN_ON_ML_NODE.getKey(), false).build();
         MockitoAnnotations.openMocks(this);
+        when(clusterService.getClusterSettings()).thenReturn(createClusterSettings(settings));
 
         taskDispatcher = spy(new MLTaskDispatcher(clusterService, client, settings, nodeHelper));
         nodeHelper = spy(new DiscoveryNodeHelper(clusterService, settings));
@@ -158,6 +165,123 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
         }
     }
 
+    public void testDispatchPredictTask_LeastLoad_UseCachedNodeLoad() {
+        MLTaskDispatcher dispatcher = createDispatcher("least_load", 1000, 10);
+        mlStatsNodesResponse = getNodesResponse(getNodeStats(dataNode1, 5L, 50L), getNodeStats(dataNode2, 3L, 50L));
+        List<DiscoveryNode> dispatchedNodes = new ArrayList<>();
+
+        dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, ActionListener.wrap(dispatchedNodes::add, e -> fail()));
+        dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, ActionListener.wrap(dispatchedNodes::add, e -> fail()));
+
+        verify(client, times(1)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+        assertEquals(List.of(dataNode2, dataNode2), dispatchedNodes);
+    }
+
+    public void testDispatchPredictTask_LeastLoad_TrackDispatchedAndCompletedTasks() {
+        MLTaskDispatcher dispatcher = createDispatcher("least_load", 1000, 10);
+        mlStatsNodesResponse = getNodesResponse(getNodeStats(dataNode1, 0L, 40L), getNodeStats(dataNode2, 0L, 50L));
+        List<DiscoveryNode> dispatchedNodes = new ArrayList<>();
+
+        dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, ActionListener.wrap(dispatchedNodes::add, e -> fail()));
+        dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, ActionListener.wrap(dispatchedNodes::add, e -> fail()));
+        dispatcher.onTaskCompleted("node1");
+        dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, ActionListener.wrap(dispatchedNodes::add, e -> fail()));
+
+        verify(client, times(1)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+        assertEquals(List.of(dataNode1, dataNode2, dataNode1), dispatchedNodes);
+    }
+
+    public void testDispatchPredictTask_LeastLoad_RefreshIntervalZero() {
+        MLTaskDispatcher dispatcher = createDispatcher("least_load", 0, 10);
+        mlStatsNodesResponse = getNodesResponse(getNodeStats(dataNode1, 0L, 40L), getNodeStats(dataNode2, 0L, 50L));
+        List<DiscoveryNode> dispatchedNodes = new ArrayList<>();
+
+        dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, ActionListener.wrap(dispatchedNodes::add, e -> fail()));
+        dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, ActionListener.wrap(dispatchedNodes::add, e -> fail()));
+
+        verify(client, times(2)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+        assertEquals(List.of(dataNode1, dataNode1), dispatchedNodes);
+    }
+
+    public void testDispatchPredictTask_LeastLoad_TaskCountExceedLimitWithCachedNodeLoad() {
+        MLTaskDispatcher dispatcher = createDispatcher("least_load", 1000, 1);
+        mlStatsNodesResponse = getNodesResponse(getNodeStats(dataNode1, 0L, 50L));
+        when(nodeHelper.getNodes(any())).thenReturn(new DiscoveryNode[] { dataNode1 });
+
+        dispatcher.dispatchPredictTask(new String[] { "node1" }, listener);
+        dispatcher.dispatchPredictTask(new String[] { "node1" }, listener);
+
+        verify(listener).onResponse(dataNode1);
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("All nodes' executing ML task count reach limitation.", argumentCaptor.getValue().getMessage());
+    }
+
+    public void testDispatchPredictTask_LeastLoad_FailToGetNodeStats() {
+        MLTaskDispatcher dispatcher = createDispatcher("least_load", 1000, 10);
+        doAnswer(invocation -> {
+            ActionListener<MLStatsNodesResponse> actionListener = invocation.getArgument(2);
+            actionListener.onFailure(new RuntimeException("stats failure"));
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        dispatcher.dispatchPredictTask(new String[] { "node1", "node2" }, listener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("stats failure", argumentCaptor.getValue().getMessage());
+    }
+
+    public void testDispatchPredictTask_PowerOfTwoChoices() {
+        MLTaskDispatcher dispatcher = createDispatcher("power_of_two_choices", 1000, 10);
+        mlStatsNodesResponse = getNodesResponse(
+            getNodeStats(dataNode1, 0L, 50L),
+            getNodeStats(dataNode2, 0L, 50L),
+            getNodeStats(mlNode, 9L, 50L)
+        );
+        when(nodeHelper.getNodes(any())).thenReturn(new DiscoveryNode[] { dataNode1, dataNode2, mlNode });
+        List<DiscoveryNode> dispatchedNodes = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            dispatcher
+                .dispatchPredictTask(new String[] { "node1", "node2", "mlNode" }, ActionListener.wrap(dispatchedNodes::add, e -> fail()));
+        }
+
+        verify(client, times(1)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+        assertEquals(5, dispatchedNodes.size());
+        assertFalse(dispatchedNodes.contains(mlNode));
+    }
+
+    private MLTaskDispatcher createDispatcher(String policy, int loadRefreshIntervalInMillis, int maxTaskPerNode) {
+        Settings dispatcherSettings = Settings
+            .builder()
+            .put(ML_COMMONS_TASK_DISPATCH_POLICY.getKey(), policy)
+            .put(ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_MS.getKey(), loadRefreshIntervalInMillis)
+            .put(ML_COMMONS_MAX_ML_TASK_PER_NODE.getKey(), maxTaskPerNode)
+            .build();
+        when(clusterService.getClusterSettings()).thenReturn(createClusterSettings(dispatcherSettings));
+        when(nodeHelper.getNodes(any())).thenReturn(new DiscoveryNode[] { dataNode1, dataNode2 });
+        return new MLTaskDispatcher(clusterService, client, dispatcherSettings, nodeHelper);
+    }
+
+    private ClusterSettings createClusterSettings(Settings settings) {
+        return new ClusterSettings(
+            settings,
+            Set.of(ML_COMMONS_TASK_DISPATCH_POLICY, ML_COMMONS_MAX_ML_TASK_PER_NODE, ML_COMMONS_TASK_DISPATCH_LOAD_REFRESH_INTERVAL_MS)
+        );
+    }
+
+    private MLStatsNodeResponse getNodeStats(DiscoveryNode node, Long executingTaskCount, Long jvmHeapUsage) {
+        Map<MLNodeLevelStat, Object> nodeStats = new HashMap<>();
+        nodeStats.put(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, executingTaskCount);
+        nodeStats.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, jvmHeapUsage);
+        return new MLStatsNodeResponse(node, nodeStats);
+    }
+
+    private MLStatsNodesResponse getNodesResponse(MLStatsNodeResponse... nodeResponses) {
+        return new MLStatsNodesResponse(new ClusterName(clusterName), Arrays.asList(nodeResponses), new ArrayList<>());
+    }
+
     private MLStatsNodesResponse getMlStatsNodesResponse() {
         Map<MLNodeLevelStat, Object> nodeStats = new HashMap<>();
         nodeStats.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, 50l);
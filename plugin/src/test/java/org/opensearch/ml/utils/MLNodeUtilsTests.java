@@ -12,11 +12,18 @@ import static org.opensearch.ml.common.utils.ModelInterfaceUtils.BEDROCK_TITAN_E
 import static org.opensearch.ml.utils.TestHelper.ML_ROLE;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.opensearch.OpenSearchParseException;
 import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
@@ -27,9 +34,17 @@ import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.test.OpenSearchTestCase;
 
+import com.networknt.schema.Schema;
+
 import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
 
 public class MLNodeUtilsTests extends OpenSearchTestCase {
 
@@ -208,4 +223,77 @@ public class MLNodeUtilsTests extends OpenSearchTestCase {
         String processedJson = MLNodeUtils.processRemoteInferenceInputDataSetParametersValue(json, schema);
         assertEquals(json, processedJson);
     }
+
+    @Test
+    public void testToJsonNode_SameAsXContent() throws IOException {
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .dataType(MLResultDataType.FLOAT32)
+            .shape(new long[] { 1, 3 })
+            .data(new Number[] { 1.5f, 2, 3L })
+            .byteBuffer(ByteBuffer.wrap(new byte[] { 1, 2, 3 }))
+            .result("result")
+            .dataAsMap(Map.of("response", "hello", "usage", Map.of("tokens", 10), "list", List.of(1.5, "a")))
+            .build();
+        ModelTensorOutput output = ModelTensorOutput
+            .builder()
+            .mlModelOutputs(
+                List
+                    .of(
+                        ModelTensors.builder().mlModelTensors(List.of(tensor)).statusCode(200).build(),
+                        ModelTensors.builder().build()
+                    )
+            )
+            .build();
+        String expected = output.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS).toString();
+
+        // number nodes may differ in type, like float and double, so compare the JSON
+        assertEquals(new ObjectMapper().readTree(expected).toString(), MLNodeUtils.toJsonNode(output).toString());
+        assertEquals("{}", MLNodeUtils.toJsonNode(ModelTensorOutput.builder().build()).toString());
+    }
+
+    @Test
+    public void testToJsonNode_DataAsMapValues() throws IOException {
+        Map<String, Object> dataAsMap = new HashMap<>();
+        dataAsMap.put("bytes", new byte[] { 1, 2, 3 });
+        dataAsMap.put("date", new Date(1700000000000L));
+        dataAsMap.put("instant", Instant.ofEpochMilli(1700000000000L));
+        ModelTensorOutput output = ModelTensorOutput
+            .builder()
+            .mlModelOutputs(
+                List.of(ModelTensors.builder().mlModelTensors(List.of(ModelTensor.builder().dataAsMap(dataAsMap).build())).build())
+            )
+            .build();
+
+        JsonNode dataAsMapNode = MLNodeUtils
+            .toJsonNode(output)
+            .get("inference_results")
+            .get(0)
+            .get("output")
+            .get(0)
+            .get(ModelTensor.DATA_AS_MAP_FIELD);
+        // binary values are base64 strings and dates are strings, like in XContent
+        assertEquals("\"AQID\"", dataAsMapNode.get("bytes").toString());
+        assertTrue(dataAsMapNode.get("date").isTextual());
+        assertTrue(dataAsMapNode.get("instant").isTextual());
+    }
+
+    @Test
+    public void testValidateSchema_CompiledSchema() throws IOException {
+        String schemaString = "{\"type\":\"object\",\"properties\":{\"inference_results\":{\"type\":\"string\"}}}";
+        Schema schema = MLNodeUtils.compileSchema(schemaString);
+        ModelTensorOutput output = ModelTensorOutput
+            .builder()
+            .mlModelOutputs(List.of(ModelTensors.builder().mlModelTensors(List.of(ModelTensor.builder().result("a").build())).build()))
+            .build();
+
+        OpenSearchParseException e = assertThrows(
+            OpenSearchParseException.class,
+            () -> MLNodeUtils.validateSchema(schema, schemaString, MLNodeUtils.toJsonNode(output))
+        );
+        assertTrue(e.getMessage().contains("for instance: {\"inference_results\":[{\"output\":[{\"result\":\"a\"}]}]}"));
+        assertTrue(e.getMessage().endsWith("with schema: " + schemaString));
+        MLNodeUtils.validateSchema(schema, schemaString, MLNodeUtils.toJsonNode(ModelTensorOutput.builder().build()));
+    }
 }